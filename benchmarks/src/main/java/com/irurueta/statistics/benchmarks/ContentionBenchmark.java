@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics.benchmarks;
+
+import com.irurueta.statistics.GaussianRandomizer;
+import com.irurueta.statistics.UniformRandomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares multithreaded throughput of randomizers sharing a single
+ * {@link Random} instance, whose state is updated atomically and whose
+ * Gaussian method is synchronized, against randomizers owned by each thread.
+ * Each thread owns its own {@link Random} instance, so that only sharing
+ * differs between both cases and not the generation algorithm.
+ * Single-threaded numbers of the same paths are measured by
+ * {@link RandomizerBenchmark} and {@link GaussianRandomizerBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ContentionBenchmark {
+
+    /**
+     * Seeds of generators owned by each thread.
+     */
+    private static final AtomicLong SEEDS = new AtomicLong(1234L);
+
+    /**
+     * Randomizers shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedState {
+
+        private UniformRandomizer uniform;
+
+        private GaussianRandomizer gaussian;
+
+        @Setup
+        public void setup() {
+            final var random = new Random(1234L);
+            uniform = new UniformRandomizer(random);
+            gaussian = new GaussianRandomizer(random, 0.0, 1.0);
+        }
+    }
+
+    /**
+     * Randomizers owned by each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private UniformRandomizer uniform;
+
+        private GaussianRandomizer gaussian;
+
+        @Setup
+        public void setup() {
+            final var random = new Random(SEEDS.getAndIncrement());
+            uniform = new UniformRandomizer(random);
+            gaussian = new GaussianRandomizer(random, 0.0, 1.0);
+        }
+    }
+
+    @Benchmark
+    public double sharedUniform(final SharedState state) {
+        return state.uniform.nextDouble();
+    }
+
+    @Benchmark
+    public double threadUniform(final ThreadState state) {
+        return state.uniform.nextDouble();
+    }
+
+    @Benchmark
+    public double sharedGaussian(final SharedState state) {
+        return state.gaussian.nextDouble();
+    }
+
+    @Benchmark
+    public double threadGaussian(final ThreadState state) {
+        return state.gaussian.nextDouble();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics.benchmarks;
+
+import com.irurueta.statistics.GaussianRandomizer;
+import com.irurueta.statistics.GaussianSamplingMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures single-threaded throughput of scalar and bulk paths of Gaussian
+ * randomizers for different internal generators and sampling methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GaussianRandomizerBenchmark {
+
+    /**
+     * Number of values generated by bulk benchmarks.
+     */
+    private static final int LENGTH = 4096;
+
+    /**
+     * Internal generator used by randomizers.
+     */
+    @Param({"RANDOM", "SPLITTABLE", "BULK"})
+    public String generator;
+
+    /**
+     * Method used to generate Gaussian values.
+     */
+    @Param({"GENERATOR", "ZIGGURAT", "INVERSION"})
+    public String gaussianMethod;
+
+    private GaussianRandomizer gaussian;
+
+    private double[] doubles;
+
+    @Setup
+    public void setup() {
+        gaussian = new GaussianRandomizer(RandomizerBenchmark.createGenerator(generator), 0.0, 1.0);
+        gaussian.setMethod(GaussianSamplingMethod.valueOf(gaussianMethod));
+        doubles = new double[LENGTH];
+    }
+
+    @Benchmark
+    public double gaussianNextDouble() {
+        return gaussian.nextDouble();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] gaussianFill() {
+        gaussian.fill(doubles);
+        return doubles;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics.benchmarks;
+
+import com.irurueta.statistics.BulkRandomGenerator;
+import com.irurueta.statistics.UniformRandomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Measures single-threaded throughput of scalar and bulk paths of uniform
+ * randomizers for different internal generators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomizerBenchmark {
+
+    /**
+     * Number of values generated by bulk benchmarks.
+     */
+    private static final int LENGTH = 4096;
+
+    /**
+     * Internal generator used by randomizers.
+     */
+    @Param({"RANDOM", "SPLITTABLE", "BULK"})
+    public String generator;
+
+    private UniformRandomizer uniform;
+
+    private double[] doubles;
+
+    private int[] ints;
+
+    @Setup
+    public void setup() {
+        uniform = new UniformRandomizer(createGenerator(generator));
+        doubles = new double[LENGTH];
+        ints = new int[LENGTH];
+    }
+
+    @Benchmark
+    public double uniformNextDouble() {
+        return uniform.nextDouble(-1.0, 1.0);
+    }
+
+    @Benchmark
+    public int uniformNextInt() {
+        return uniform.nextInt(0, 1000);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] uniformFillDoubles() {
+        uniform.fill(doubles, -1.0, 1.0);
+        return doubles;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public int[] uniformFillInts() {
+        uniform.fill(ints, 0, 1000);
+        return ints;
+    }
+
+    /**
+     * Creates an internal generator.
+     *
+     * @param name name of generator.
+     * @return a new generator.
+     */
+    static RandomGenerator createGenerator(final String name) {
+        switch (name) {
+            case "SPLITTABLE":
+                return new SplittableRandom(1234L);
+            case "BULK":
+                return new BulkRandomGenerator(1234L);
+            case "RANDOM":
+            default:
+                return new Random(1234L);
+        }
+    }
+}
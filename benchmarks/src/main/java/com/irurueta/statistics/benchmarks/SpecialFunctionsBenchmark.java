@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics.benchmarks;
+
+import com.irurueta.statistics.AccuracyMode;
+import com.irurueta.statistics.ChiSqDist;
+import com.irurueta.statistics.ChiSqQuantileTable;
+import com.irurueta.statistics.Erf;
+import com.irurueta.statistics.Gamma;
+import com.irurueta.statistics.MaxIterationsExceededException;
+import com.irurueta.statistics.NormalDist;
+import com.irurueta.statistics.QuantileCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of special functions and distributions, comparing
+ * scalar and bulk paths, accuracy modes, and exact, tabulated and cached
+ * quantiles.
+ * Array benchmarks report the average time per evaluated value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpecialFunctionsBenchmark {
+
+    /**
+     * Number of values evaluated by array benchmarks.
+     */
+    private static final int LENGTH = 1024;
+
+    /**
+     * Mask to cycle through evaluated values.
+     */
+    private static final int MASK = LENGTH - 1;
+
+    /**
+     * Degrees of freedom of chi square benchmarks.
+     */
+    private static final double NU = 3.0;
+
+    /**
+     * Evaluator of cached chi square quantiles, kept in a constant so that
+     * cached values are found on every lookup.
+     */
+    private static final QuantileCache.Evaluator CHI_SQ_INVCDF = ChiSqDist::invcdf;
+
+    private double[] x;
+
+    private double[] p;
+
+    private double[] result;
+
+    private ChiSqQuantileTable table;
+
+    private QuantileCache cache;
+
+    private int index;
+
+    @Setup
+    public void setup() throws MaxIterationsExceededException {
+        final var random = new SplittableRandom(1234L);
+        x = new double[LENGTH];
+        p = new double[LENGTH];
+        result = new double[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            x[i] = random.nextDouble(-5.0, 5.0);
+            p[i] = random.nextDouble(1e-6, 1.0 - 1e-6);
+        }
+        table = new ChiSqQuantileTable(NU);
+        cache = new QuantileCache(16);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] erfcScalar() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = Erf.erfc(x[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] erfcBulk() {
+        Erf.erfc(x, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] erfcMedium() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = Erf.erfc(x[i], AccuracyMode.MEDIUM);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] erfcLow() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = Erf.erfc(x[i], AccuracyMode.LOW);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] inverfcScalar() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = Erf.inverfc(p[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] inverfcBulk() {
+        Erf.inverfc(p, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] gammln() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = Gamma.gammln(p[i] * 100.0);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] gammlnMedium() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = Gamma.gammln(p[i] * 100.0, AccuracyMode.MEDIUM);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double regularizedGammaP() throws MaxIterationsExceededException {
+        return Gamma.regularizedGammaP(0.5 * NU, 10.0 * p[next()]);
+    }
+
+    @Benchmark
+    public double chiSqInvcdfExact() throws MaxIterationsExceededException {
+        return ChiSqDist.invcdf(p[next()], NU);
+    }
+
+    @Benchmark
+    public double chiSqInvcdfTable() throws MaxIterationsExceededException {
+        return table.invcdf(p[next()]);
+    }
+
+    @Benchmark
+    public double chiSqInvcdfCached() throws MaxIterationsExceededException {
+        // same threshold requested repeatedly
+        return cache.get(0.99, NU, CHI_SQ_INVCDF);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] normalCdfScalar() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = NormalDist.cdf(x[i], 0.0, 1.0);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] normalCdfBatch() {
+        NormalDist.cdf(x, 0.0, 1.0, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] normalCdfMedium() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = NormalDist.cdf(x[i], 0.0, 1.0, AccuracyMode.MEDIUM);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] normalInvcdfScalar() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = NormalDist.invcdf(p[i], 0.0, 1.0);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] normalInvcdfBatch() {
+        NormalDist.invcdf(p, 0.0, 1.0, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public double[] normalInvcdfMedium() {
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = NormalDist.invcdf(p[i], 0.0, 1.0, AccuracyMode.MEDIUM);
+        }
+        return result;
+    }
+
+    /**
+     * Returns position of next value to be evaluated by scalar benchmarks.
+     *
+     * @return position of next value.
+     */
+    private int next() {
+        index = (index + 1) & MASK;
+        return index;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+/**
+ * Indicates the accuracy required when evaluating special functions, so that
+ * callers not requiring full double precision can use cheaper
+ * approximations.
+ * The maximum error of each approximation is documented on each method
+ * accepting an accuracy mode.
+ */
+public enum AccuracyMode {
+
+    /**
+     * Full double precision.
+     */
+    FULL,
+
+    /**
+     * Approximations having absolute errors of about 1e-7 or less, which is
+     * similar to single precision.
+     */
+    MEDIUM,
+
+    /**
+     * Cheapest approximations, having absolute errors of about 1e-4 or less.
+     * Functions not having a cheaper approximation than the one used for
+     * {@link #MEDIUM} (e.g. {@link Gamma#gammln(double, AccuracyMode)} and
+     * {@link NormalDist#invcdf(double, double, double, AccuracyMode)}) behave
+     * exactly as with {@link #MEDIUM}.
+     */
+    LOW
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws categories of a discrete distribution defined by a vector of weights,
+ * where the probability of category i is proportional to its weight.
+ * An alias table is built once using Vose's method in O(n) time, and then
+ * each category is drawn in O(1) time using a single uniform random value,
+ * regardless of the number of categories.
+ * Weights can be updated without reallocating memory as long as the number of
+ * categories does not exceed the largest number of categories used before.
+ * This class is based on: M. D. Vose, "A linear algorithm for generating
+ * random numbers with a given distribution", IEEE Transactions on Software
+ * Engineering, 17(9), 1991.
+ */
+public class AliasSampler {
+
+    /**
+     * Probability of keeping each column instead of using its alias.
+     */
+    private double[] probabilities;
+
+    /**
+     * Alias of each column.
+     */
+    private int[] aliases;
+
+    /**
+     * Work list used while building the alias table.
+     */
+    private int[] workList;
+
+    /**
+     * Number of categories.
+     */
+    private int numberOfCategories;
+
+    /**
+     * Internal generator in charge of generating uniform random values.
+     */
+    private RandomGenerator internalGenerator;
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     *
+     * @param weights weights of each category. Must be non-negative and
+     *                finite, and at least one of them must be positive.
+     * @throws IllegalArgumentException if provided weights are not valid.
+     * @throws NullPointerException     if provided weights are null.
+     */
+    public AliasSampler(final double[] weights) {
+        this(weights, new Random());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param weights           weights of each category. Must be non-negative
+     *                          and finite, and at least one of them must be
+     *                          positive.
+     * @param internalGenerator generator in charge of generating uniform
+     *                          random values.
+     * @throws IllegalArgumentException if provided weights are not valid.
+     * @throws NullPointerException     if any of provided values is null.
+     */
+    public AliasSampler(final double[] weights, final RandomGenerator internalGenerator) {
+        setInternalGenerator(internalGenerator);
+        setWeights(weights);
+    }
+
+    /**
+     * Gets internal generator in charge of generating uniform random values.
+     *
+     * @return internal generator.
+     */
+    public RandomGenerator getInternalGenerator() {
+        return internalGenerator;
+    }
+
+    /**
+     * Sets internal generator in charge of generating uniform random values.
+     *
+     * @param internalGenerator internal generator.
+     * @throws NullPointerException if provided value is null.
+     */
+    public final void setInternalGenerator(final RandomGenerator internalGenerator) {
+        if (internalGenerator == null) {
+            throw new NullPointerException();
+        }
+        this.internalGenerator = internalGenerator;
+    }
+
+    /**
+     * Gets number of categories.
+     *
+     * @return number of categories.
+     */
+    public int getNumberOfCategories() {
+        return numberOfCategories;
+    }
+
+    /**
+     * Sets weights of each category and rebuilds the alias table.
+     * Existing arrays are reused when they are large enough.
+     *
+     * @param weights weights of each category. Must be non-negative and
+     *                finite, and at least one of them must be positive.
+     * @throws IllegalArgumentException if provided weights are empty, contain
+     *                                  negative or non-finite values or add up
+     *                                  to zero.
+     * @throws NullPointerException     if provided weights are null.
+     */
+    public final void setWeights(final double[] weights) {
+        final var n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("at least one weight is required");
+        }
+
+        var sum = 0.0;
+        for (final var weight : weights) {
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weights must be non-negative and finite");
+            }
+            sum += weight;
+        }
+        if (!(sum > 0.0) || Double.isInfinite(sum)) {
+            throw new IllegalArgumentException("sum of weights must be positive and finite");
+        }
+
+        if (probabilities == null || probabilities.length < n) {
+            probabilities = new double[n];
+            aliases = new int[n];
+            workList = new int[n];
+        }
+        numberOfCategories = n;
+
+        // small columns are pushed at the beginning of the work list and
+        // large ones at its end
+        final var scale = n / sum;
+        var small = 0;
+        var large = n;
+        for (int i = 0; i < n; i++) {
+            final var p = weights[i] * scale;
+            probabilities[i] = p;
+            aliases[i] = i;
+            if (p < 1.0) {
+                workList[small++] = i;
+            } else {
+                workList[--large] = i;
+            }
+        }
+
+        while (small > 0 && large < n) {
+            final var s = workList[--small];
+            final var l = workList[large++];
+
+            aliases[s] = l;
+            final var p = (probabilities[l] + probabilities[s]) - 1.0;
+            probabilities[l] = p;
+            if (p < 1.0) {
+                workList[small++] = l;
+            } else {
+                workList[--large] = l;
+            }
+        }
+
+        // remaining columns are full up to rounding errors
+        while (large < n) {
+            probabilities[workList[large++]] = 1.0;
+        }
+        while (small > 0) {
+            probabilities[workList[--small]] = 1.0;
+        }
+    }
+
+    /**
+     * Draws a category.
+     *
+     * @return index of drawn category, between 0 and the number of categories
+     * minus one.
+     */
+    public int next() {
+        return next(internalGenerator.nextDouble(), probabilities, aliases, numberOfCategories);
+    }
+
+    /**
+     * Fills provided array with drawn categories.
+     *
+     * @param array array to be filled.
+     */
+    public void fill(final int[] array) {
+        final var generator = internalGenerator;
+        final var p = probabilities;
+        final var a = aliases;
+        final var n = numberOfCategories;
+        for (int i = 0; i < array.length; i++) {
+            array[i] = next(generator.nextDouble(), p, a, n);
+        }
+    }
+
+    /**
+     * Returns array of drawn categories.
+     *
+     * @param length length of array to be returned.
+     * @return array of drawn categories.
+     * @throws IllegalArgumentException if provided length is zero or negative.
+     */
+    public int[] next(final int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final var array = new int[length];
+        fill(array);
+        return array;
+    }
+
+    /**
+     * Draws a category from a uniform value.
+     * The integer part of the scaled uniform value selects a column, and its
+     * fractional part decides whether the column or its alias is returned.
+     *
+     * @param u             uniform value between 0.0 and 1.0.
+     * @param probabilities probability of keeping each column.
+     * @param aliases       alias of each column.
+     * @param n             number of categories.
+     * @return index of drawn category.
+     */
+    private static int next(final double u, final double[] probabilities, final int[] aliases, final int n) {
+        final var x = u * n;
+        final var column = Math.min((int) x, n - 1);
+        return x - column < probabilities[column] ? column : aliases[column];
+    }
+}
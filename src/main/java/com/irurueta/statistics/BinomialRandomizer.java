@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates pseudo-random integer values following a binomial distribution,
+ * which is the number of successes in the specified number of independent
+ * trials having the specified probability of success. By default, number of
+ * trials is equal to DEFAULT_TRIALS and probability is equal to
+ * DEFAULT_PROBABILITY.
+ * Each value is generated at a constant expected cost regardless of the
+ * number of trials, except when the expected number of successes or failures
+ * is small, where inversion is cheaper.
+ */
+public class BinomialRandomizer extends Randomizer {
+
+    /**
+     * Specifies number of trials to be used for random value generation if
+     * none is provided.
+     */
+    public static final int DEFAULT_TRIALS = 1;
+
+    /**
+     * Specifies probability of success to be used for random value generation
+     * if none is provided.
+     */
+    public static final double DEFAULT_PROBABILITY = 0.5;
+
+    /**
+     * Sampler of values having the parameters of this randomizer.
+     */
+    private BinomialSampler sampler;
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     */
+    public BinomialRandomizer() {
+        this(new Random());
+    }
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     *
+     * @param trials      number of trials.
+     * @param probability probability of success of each trial.
+     * @throws IllegalArgumentException if number of trials is negative or if
+     *                                  probability is not between 0.0 and 1.0.
+     */
+    public BinomialRandomizer(final int trials, final double probability) {
+        this(new Random(), trials, probability);
+    }
+
+    /**
+     * Constructor.
+     * Because neither number of trials nor probability are provided, values
+     * DEFAULT_TRIALS and DEFAULT_PROBABILITY will be used instead.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @throws NullPointerException if provided internal random is null.
+     */
+    public BinomialRandomizer(final Random internalRandom) {
+        this((RandomGenerator) internalRandom);
+    }
+
+    /**
+     * Constructor.
+     * Because neither number of trials nor probability are provided, values
+     * DEFAULT_TRIALS and DEFAULT_PROBABILITY will be used instead.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @throws NullPointerException if provided internal generator is null.
+     */
+    public BinomialRandomizer(final RandomGenerator internalGenerator) {
+        this(internalGenerator, DEFAULT_TRIALS, DEFAULT_PROBABILITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @param trials         number of trials.
+     * @param probability    probability of success of each trial.
+     * @throws IllegalArgumentException if number of trials is negative or if
+     *                                  probability is not between 0.0 and 1.0.
+     * @throws NullPointerException     if provided internal random is null.
+     */
+    public BinomialRandomizer(final Random internalRandom, final int trials, final double probability) {
+        this((RandomGenerator) internalRandom, trials, probability);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @param trials            number of trials.
+     * @param probability       probability of success of each trial.
+     * @throws IllegalArgumentException if number of trials is negative or if
+     *                                  probability is not between 0.0 and 1.0.
+     * @throws NullPointerException     if provided internal generator is null.
+     */
+    public BinomialRandomizer(final RandomGenerator internalGenerator, final int trials,
+                              final double probability) {
+        super(internalGenerator);
+        setParameters(trials, probability);
+    }
+
+    /**
+     * Returns number of trials.
+     *
+     * @return number of trials.
+     */
+    public int getTrials() {
+        return sampler.getTrials();
+    }
+
+    /**
+     * Returns probability of success of each trial.
+     *
+     * @return probability of success.
+     */
+    public double getProbability() {
+        return sampler.getProbability();
+    }
+
+    /**
+     * Sets number of trials and probability of success of each trial.
+     *
+     * @param trials      number of trials.
+     * @param probability probability of success of each trial.
+     * @throws IllegalArgumentException if number of trials is negative or if
+     *                                  probability is not between 0.0 and 1.0.
+     */
+    public final void setParameters(final int trials, final double probability) {
+        sampler = new BinomialSampler(trials, probability);
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the mean (trials * probability).
+     *
+     * @return Next boolean value.
+     */
+    @Override
+    public boolean nextBoolean() {
+        return nextBoolean(sampler.getTrials() * sampler.getProbability());
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the provided threshold, which is
+     * equal to the binomial c.d.f. at such threshold.
+     *
+     * @param threshold Threshold to determine whether returned values will be
+     *                  true or false.
+     * @return Next random boolean value.
+     */
+    public boolean nextBoolean(final double threshold) {
+        return nextInt() < threshold;
+    }
+
+    /**
+     * Returns next random binomial value.
+     *
+     * @return Next random integer value.
+     */
+    @Override
+    public int nextInt() {
+        return sampler.next(getInternalGenerator());
+    }
+
+    /**
+     * Fills provided array with random binomial values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final int[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sampler.next(generator);
+        }
+    }
+
+    /**
+     * Returns next random binomial value as a long.
+     *
+     * @return Next random long value.
+     */
+    @Override
+    public long nextLong() {
+        return nextInt();
+    }
+
+    /**
+     * Fills provided array with random binomial values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final long[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sampler.next(generator);
+        }
+    }
+
+    /**
+     * Returns next random binomial value as a floating-point value.
+     *
+     * @return Next random floating-point value.
+     */
+    @Override
+    public float nextFloat() {
+        return nextInt();
+    }
+
+    /**
+     * Returns next random binomial value as a double precision floating-point
+     * value.
+     *
+     * @return Next random double precision floating-point value.
+     */
+    @Override
+    public double nextDouble() {
+        return nextInt();
+    }
+
+    /**
+     * Fills provided array with random binomial values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final double[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sampler.next(generator);
+        }
+    }
+
+    /**
+     * Returns the randomizer type of this instance.
+     *
+     * @return Randomizer type.
+     */
+    @Override
+    public RandomizerType getType() {
+        return RandomizerType.BINOMIAL_RANDOMIZER;
+    }
+
+    /**
+     * Creates a new binomial randomizer having the same parameters as this
+     * instance and using provided internal generator.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values for the new instance.
+     * @return a new binomial randomizer.
+     */
+    @Override
+    protected BinomialRandomizer newInstance(final RandomGenerator internalGenerator) {
+        return new BinomialRandomizer(internalGenerator, sampler.getTrials(), sampler.getProbability());
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates values following a binomial distribution, which is the number
+ * of successes in a given number of independent trials having the same
+ * probability of success.
+ * When the mean of the number of successes or failures (whichever is
+ * smaller) is small, values are obtained by sequential inversion of the
+ * c.d.f., whose expected cost is proportional to such mean. Otherwise, the
+ * transformed rejection with decomposition method (BTRD) is used, which has
+ * a constant expected cost regardless of the number of trials.
+ * Constants depending on the parameters are computed once on construction,
+ * and instances are immutable, so they can be safely shared among threads.
+ * This class is based on: W. Hormann, "The generation of binomial random
+ * variates", Journal of Statistical Computation and Simulation, 1993.
+ */
+final class BinomialSampler {
+
+    /**
+     * Smallest mean of the number of successes or failures handled by
+     * transformed rejection instead of inversion.
+     */
+    static final double INVERSION_LIMIT = 10.0;
+
+    /**
+     * Number of trials.
+     */
+    private final int trials;
+
+    /**
+     * Probability of success of each trial.
+     */
+    private final double probability;
+
+    /**
+     * Indicates whether failures are generated instead of successes, so that
+     * the generated probability is never greater than 0.5.
+     */
+    private final boolean flipped;
+
+    /**
+     * Probability used for generation, which is never greater than 0.5.
+     */
+    private final double p;
+
+    /**
+     * Ratio p / (1 - p).
+     */
+    private final double r;
+
+    /**
+     * Probability of value 0, used for inversion.
+     */
+    private final double p0;
+
+    /**
+     * Value (trials + 1) * r.
+     */
+    private final double nr;
+
+    /**
+     * Variance of the distribution.
+     */
+    private final double npq;
+
+    /**
+     * Mode of the distribution.
+     */
+    private final int m;
+
+    /**
+     * Constant a of transformed rejection.
+     */
+    private final double a;
+
+    /**
+     * Constant b of transformed rejection.
+     */
+    private final double b;
+
+    /**
+     * Constant c of transformed rejection.
+     */
+    private final double c;
+
+    /**
+     * Constant alpha of transformed rejection.
+     */
+    private final double alpha;
+
+    /**
+     * Constant vr of transformed rejection.
+     */
+    private final double vr;
+
+    /**
+     * Product 0.86 * vr, below which values are accepted immediately.
+     */
+    private final double urvr;
+
+    /**
+     * Logarithm of the probability of the mode except for a normalization
+     * factor shared by all values.
+     */
+    private final double logModeProbability;
+
+    /**
+     * Logarithm of r.
+     */
+    private final double logR;
+
+    /**
+     * Constructor.
+     *
+     * @param trials      number of trials.
+     * @param probability probability of success of each trial.
+     * @throws IllegalArgumentException if number of trials is negative or if
+     *                                  probability is not between 0.0 and 1.0.
+     */
+    BinomialSampler(final int trials, final double probability) {
+        if (trials < 0) {
+            throw new IllegalArgumentException("trials must be positive or zero");
+        }
+        if (!(probability >= 0.0 && probability <= 1.0)) {
+            throw new IllegalArgumentException("probability must be between 0.0 and 1.0");
+        }
+
+        this.trials = trials;
+        this.probability = probability;
+        flipped = probability > 0.5;
+        p = flipped ? 1.0 - probability : probability;
+        final var q = 1.0 - p;
+        r = p / q;
+        p0 = Math.pow(q, trials);
+        nr = (trials + 1) * r;
+        npq = trials * p * q;
+        m = (int) Math.floor((trials + 1) * p);
+
+        final var sqrtNpq = Math.sqrt(npq);
+        b = 1.15 + 2.53 * sqrtNpq;
+        a = -0.0873 + 0.0248 * b + 0.01 * p;
+        c = trials * p + 0.5;
+        alpha = (2.83 + 5.1 / b) * sqrtNpq;
+        vr = 0.92 - 4.2 / b;
+        urvr = 0.86 * vr;
+        logR = Math.log(r);
+        logModeProbability = -Gamma.factln(m) - Gamma.factln(trials - m) + m * logR;
+    }
+
+    /**
+     * Gets number of trials.
+     *
+     * @return number of trials.
+     */
+    int getTrials() {
+        return trials;
+    }
+
+    /**
+     * Gets probability of success of each trial.
+     *
+     * @return probability of success.
+     */
+    double getProbability() {
+        return probability;
+    }
+
+    /**
+     * Returns next value following a binomial distribution having the
+     * parameters of this instance.
+     *
+     * @param generator generator of uniform values.
+     * @return next binomial value.
+     */
+    int next(final RandomGenerator generator) {
+        if (p == 0.0) {
+            return flipped ? trials : 0;
+        }
+
+        final var k = trials * p < INVERSION_LIMIT ? nextInversion(generator) : nextTransformedRejection(generator);
+        return flipped ? trials - k : k;
+    }
+
+    /**
+     * Returns next value by sequential inversion of the c.d.f.
+     *
+     * @param generator generator of uniform values.
+     * @return next binomial value.
+     */
+    private int nextInversion(final RandomGenerator generator) {
+        for (; ; ) {
+            var u = generator.nextDouble();
+            var f = p0;
+            var k = 0;
+            while (u > f) {
+                u -= f;
+                k++;
+                if (k > trials) {
+                    // round-off error exhausted the c.d.f., try again
+                    break;
+                }
+                f *= nr / k - r;
+            }
+            if (k <= trials) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * Returns next value using transformed rejection with decomposition.
+     *
+     * @param generator generator of uniform values.
+     * @return next binomial value.
+     */
+    private int nextTransformedRejection(final RandomGenerator generator) {
+        for (; ; ) {
+            var v = generator.nextDouble();
+            double u;
+            if (v <= urvr) {
+                // region where values are immediately accepted
+                u = v / vr - 0.43;
+                return (int) Math.floor((2.0 * a / (0.5 - Math.abs(u)) + b) * u + c);
+            }
+
+            if (v >= vr) {
+                u = generator.nextDouble() - 0.5;
+            } else {
+                u = v / vr - 0.93;
+                u = (u < 0.0 ? -0.5 : 0.5) - u;
+                v = generator.nextDouble() * vr;
+            }
+
+            final var us = 0.5 - Math.abs(u);
+            final var kd = Math.floor((2.0 * a / us + b) * u + c);
+            if (kd < 0.0 || kd > trials) {
+                continue;
+            }
+            final var k = (int) kd;
+
+            v = v * alpha / (a / (us * us) + b);
+            final var km = Math.abs(k - m);
+            if (km <= 15) {
+                // recursive evaluation of f(k) / f(m)
+                var f = 1.0;
+                if (m < k) {
+                    for (int i = m + 1; i <= k; i++) {
+                        f *= nr / i - r;
+                    }
+                } else if (m > k) {
+                    for (int i = k + 1; i <= m; i++) {
+                        v *= nr / i - r;
+                    }
+                }
+                if (v <= f) {
+                    return k;
+                }
+            } else {
+                // squeeze using normal approximation before exact test
+                v = Math.log(v);
+                final var rho = (km / npq) * (((km / 3.0 + 0.625) * km + 1.0 / 6.0) * km / npq + 0.5);
+                final var t = -0.5 * km * km / npq;
+                if (v < t - rho) {
+                    return k;
+                }
+                if (v <= t + rho && v <= -Gamma.factln(k) - Gamma.factln(trials - k) + k * logR
+                        - logModeProbability) {
+                    return k;
+                }
+            }
+        }
+    }
+}
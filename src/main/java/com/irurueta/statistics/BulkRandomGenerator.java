@@ -0,0 +1,365 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+/**
+ * Generator intended for bulk generation of large arrays of values.
+ * This generator runs {@link #LANES} independent xoshiro256++ generators in
+ * lockstep. Their states are stored as separate arrays (one per state word),
+ * so that each step updates all lanes with simple loops over primitive arrays
+ * that the JIT compiler can turn into SIMD instructions, and the resulting
+ * values are buffered.
+ * Bulk methods such as {@link #fillDoubles(double[], int, int, double, double)}
+ * or {@link #fillGaussians(double[], int, int, double, double)} additionally
+ * convert whole blocks of buffered bits into floating point values at once.
+ * Randomizers using an instance of this class as their internal generator
+ * take advantage of it in their bulk fill methods.
+ * This generator is not thread safe and it is not suitable for cryptographic
+ * purposes.
+ *
+ * @see <a href="https://prng.di.unimi.it/">xoshiro / xoroshiro generators</a>
+ */
+public class BulkRandomGenerator implements RandomGenerator.SplittableGenerator {
+
+    /**
+     * Number of generators running in lockstep, which is also the number of
+     * values generated on each step.
+     */
+    public static final int LANES = 64;
+
+    /**
+     * Scale to convert 53 random bits into a double value between 0.0 and 1.0.
+     */
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /**
+     * Scale to convert 24 random bits into a float value between 0.0 and 1.0.
+     */
+    private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+    /**
+     * First state word of each lane.
+     */
+    private final long[] s0 = new long[LANES];
+
+    /**
+     * Second state word of each lane.
+     */
+    private final long[] s1 = new long[LANES];
+
+    /**
+     * Third state word of each lane.
+     */
+    private final long[] s2 = new long[LANES];
+
+    /**
+     * Fourth state word of each lane.
+     */
+    private final long[] s3 = new long[LANES];
+
+    /**
+     * Values generated on last step.
+     */
+    private final long[] buffer = new long[LANES];
+
+    /**
+     * Copy of the bits converted into Gaussian values on last block.
+     */
+    private final long[] gaussianBits = new long[LANES];
+
+    /**
+     * Position of next buffered value to be returned.
+     */
+    private int index;
+
+    /**
+     * Constructor.
+     * Initializes this generator with a non-deterministic seed.
+     */
+    public BulkRandomGenerator() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param seed seed to initialize the state of all lanes.
+     */
+    public BulkRandomGenerator(final long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Resets the state of all lanes using provided seed and discards any
+     * buffered value.
+     * Each state word is derived from provided seed using SplitMix64, hence
+     * lanes are statistically independent.
+     *
+     * @param seed seed to initialize the state of all lanes.
+     */
+    public void setSeed(final long seed) {
+        for (int i = 0; i < LANES; i++) {
+            final var base = 4L * i;
+            s0[i] = RandomizerFactory.deriveSeed(seed, base);
+            s1[i] = RandomizerFactory.deriveSeed(seed, base + 1);
+            s2[i] = RandomizerFactory.deriveSeed(seed, base + 2);
+            s3[i] = RandomizerFactory.deriveSeed(seed, base + 3);
+        }
+        index = LANES;
+    }
+
+    /**
+     * Returns next 64-bit random value.
+     *
+     * @return next 64-bit random value.
+     */
+    @Override
+    public long nextLong() {
+        if (index == LANES) {
+            step();
+        }
+        return buffer[index++];
+    }
+
+    /**
+     * Fills provided range of an array with 64-bit random values.
+     * Values are the same as the ones that would be obtained by successive
+     * calls to {@link #nextLong()}.
+     *
+     * @param array     array to be filled.
+     * @param fromIndex first position to be filled (inclusive).
+     * @param toIndex   last position to be filled (exclusive).
+     * @throws ArrayIndexOutOfBoundsException if range is not valid.
+     */
+    public void fill(final long[] array, final int fromIndex, final int toIndex) {
+        checkRange(array.length, fromIndex, toIndex);
+
+        var i = fromIndex;
+        while (i < toIndex) {
+            if (index == LANES) {
+                step();
+            }
+            final var n = Math.min(LANES - index, toIndex - i);
+            System.arraycopy(buffer, index, array, i, n);
+            index += n;
+            i += n;
+        }
+    }
+
+    /**
+     * Fills provided range of an array with uniform double precision values
+     * between provided origin (inclusive) and bound (exclusive).
+     * Each value consumes one 64-bit random value.
+     *
+     * @param array     array to be filled.
+     * @param fromIndex first position to be filled (inclusive).
+     * @param toIndex   last position to be filled (exclusive).
+     * @param origin    minimum value (inclusive).
+     * @param bound     maximum value (exclusive).
+     * @throws ArrayIndexOutOfBoundsException if range is not valid.
+     */
+    public void fillDoubles(final double[] array, final int fromIndex, final int toIndex,
+                            final double origin, final double bound) {
+        checkRange(array.length, fromIndex, toIndex);
+
+        final var scale = (bound - origin) * DOUBLE_UNIT;
+        // rounding may produce the bound, which is exclusive
+        final var max = Math.nextDown(bound);
+        var i = fromIndex;
+        while (i < toIndex) {
+            if (index == LANES) {
+                step();
+            }
+            final var n = Math.min(LANES - index, toIndex - i);
+            for (int k = 0; k < n; k++) {
+                array[i + k] = Math.min((buffer[index + k] >>> 11) * scale + origin, max);
+            }
+            index += n;
+            i += n;
+        }
+    }
+
+    /**
+     * Fills provided range of an array with uniform floating point values
+     * between provided origin (inclusive) and bound (exclusive).
+     * Each value consumes one 64-bit random value.
+     *
+     * @param array     array to be filled.
+     * @param fromIndex first position to be filled (inclusive).
+     * @param toIndex   last position to be filled (exclusive).
+     * @param origin    minimum value (inclusive).
+     * @param bound     maximum value (exclusive).
+     * @throws ArrayIndexOutOfBoundsException if range is not valid.
+     */
+    public void fillFloats(final float[] array, final int fromIndex, final int toIndex,
+                           final float origin, final float bound) {
+        checkRange(array.length, fromIndex, toIndex);
+
+        final var scale = (bound - origin) * FLOAT_UNIT;
+        // rounding may produce the bound, which is exclusive
+        final var max = Math.nextDown(bound);
+        var i = fromIndex;
+        while (i < toIndex) {
+            if (index == LANES) {
+                step();
+            }
+            final var n = Math.min(LANES - index, toIndex - i);
+            for (int k = 0; k < n; k++) {
+                array[i + k] = Math.min((int) (buffer[index + k] >>> 40) * scale + origin, max);
+            }
+            index += n;
+            i += n;
+        }
+    }
+
+    /**
+     * Fills provided range of an array with Gaussian values having provided
+     * mean and standard deviation, generated using the Ziggurat method.
+     * Whole blocks of buffered bits are converted at once using the
+     * rectangular part of the Ziggurat layers, and only the few values
+     * falling outside (about 1%) are generated one at a time.
+     *
+     * @param array             array to be filled.
+     * @param fromIndex         first position to be filled (inclusive).
+     * @param toIndex           last position to be filled (exclusive).
+     * @param mean              mean of generated values.
+     * @param standardDeviation standard deviation of generated values.
+     * @throws ArrayIndexOutOfBoundsException if range is not valid.
+     */
+    public void fillGaussians(final double[] array, final int fromIndex, final int toIndex,
+                              final double mean, final double standardDeviation) {
+        checkRange(array.length, fromIndex, toIndex);
+
+        var i = fromIndex;
+        while (i < toIndex) {
+            if (index == LANES) {
+                step();
+            }
+            final var n = Math.min(LANES - index, toIndex - i);
+            // bits are copied because completing rejected values may refill
+            // the buffer
+            System.arraycopy(buffer, index, gaussianBits, 0, n);
+            index += n;
+            ZigguratNormalSampler.fastGaussians(gaussianBits, 0, array, i, n);
+
+            for (int k = 0; k < n; k++) {
+                final var value = array[i + k];
+                array[i + k] = standardDeviation
+                        * (Double.isNaN(value) ? ZigguratNormalSampler.nextGaussian(gaussianBits[k], this) : value)
+                        + mean;
+            }
+            i += n;
+        }
+    }
+
+    /**
+     * Returns a new generator whose lanes are seeded from a value of this
+     * generator.
+     *
+     * @return a new generator.
+     */
+    @Override
+    public BulkRandomGenerator split() {
+        return new BulkRandomGenerator(nextLong());
+    }
+
+    /**
+     * Returns a new generator whose lanes are seeded from a value of provided
+     * source.
+     *
+     * @param source source of the seed of the new generator.
+     * @return a new generator.
+     */
+    @Override
+    public BulkRandomGenerator split(final SplittableGenerator source) {
+        return new BulkRandomGenerator(source.nextLong());
+    }
+
+    /**
+     * Returns a stream of generators split from this one.
+     *
+     * @param streamSize number of generators.
+     * @return a stream of generators.
+     */
+    @Override
+    public Stream<SplittableGenerator> splits(final long streamSize) {
+        return splits(streamSize, this);
+    }
+
+    /**
+     * Returns an unlimited stream of generators split from provided source.
+     *
+     * @param source source of the seeds of the new generators.
+     * @return a stream of generators.
+     */
+    @Override
+    public Stream<SplittableGenerator> splits(final SplittableGenerator source) {
+        return Stream.generate(() -> split(source));
+    }
+
+    /**
+     * Returns a stream of generators split from provided source.
+     *
+     * @param streamSize number of generators.
+     * @param source     source of the seeds of the new generators.
+     * @return a stream of generators.
+     */
+    @Override
+    public Stream<SplittableGenerator> splits(final long streamSize, final SplittableGenerator source) {
+        if (streamSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        return splits(source).limit(streamSize);
+    }
+
+    /**
+     * Advances all lanes one step and stores their outputs into the buffer.
+     */
+    private void step() {
+        for (int i = 0; i < LANES; i++) {
+            final var a = s0[i];
+            final var b = s1[i];
+            final var c = s2[i] ^ a;
+            final var d = s3[i] ^ b;
+
+            buffer[i] = Long.rotateLeft(a + s3[i], 23) + a;
+
+            s0[i] = a ^ d;
+            s1[i] = b ^ c;
+            s2[i] = c ^ (b << 17);
+            s3[i] = Long.rotateLeft(d, 45);
+        }
+        index = 0;
+    }
+
+    /**
+     * Checks that provided range is within an array.
+     *
+     * @param length    length of array.
+     * @param fromIndex first position (inclusive).
+     * @param toIndex   last position (exclusive).
+     * @throws ArrayIndexOutOfBoundsException if range is not valid.
+     */
+    private static void checkRange(final int length, final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+    }
+}
@@ -18,10 +18,26 @@ package com.irurueta.statistics;
 /**
  * Contains methods to work with Chi squared distributions.
  * Methods of this class use methods of the Gamma class.
+ * Instances of this class do not keep any state other than their nu
+ * parameter and configuration, so they can be safely shared among threads as
+ * long as such parameters are not modified.
  * This class is based in code of Numerical Recipes 3rd ed. section 6.14.8.
  */
 public class ChiSqDist {
 
+    /**
+     * Optional cache of inverse c.d.f. values shared by all distributions, or
+     * null if disabled.
+     */
+    private static volatile QuantileCache invcdfCache;
+
+    /**
+     * Evaluator of inverse c.d.f. values not found in the cache, which
+     * identifies cached values of this class when a cache is shared with
+     * other functions.
+     */
+    private static final QuantileCache.Evaluator INVCDF_EVALUATOR = ChiSqDist::computeInvcdf;
+
     /**
      * Nu parameter of chi square distribution.
      * Typically, this parameter is provided as an integer value indicating the
@@ -36,9 +52,10 @@ public class ChiSqDist {
     private double fac;
 
     /**
-     * A gamma function instance to be reused for memory efficiency.
+     * Configuration of incomplete gamma functions used to evaluate c.d.f. and
+     * inverse c.d.f.
      */
-    private final Gamma gamma;
+    private GammaConfiguration configuration = GammaConfiguration.DEFAULT;
 
     /**
      * Constructor.
@@ -48,7 +65,6 @@ public class ChiSqDist {
      *                                  zero.
      */
     public ChiSqDist(final double nu) {
-        gamma = new Gamma();
         setNu(nu);
     }
 
@@ -81,6 +97,75 @@ public class ChiSqDist {
         fac = fac(nu);
     }
 
+    /**
+     * Gets configuration of incomplete gamma functions used to evaluate
+     * c.d.f. and inverse c.d.f. of this distribution.
+     *
+     * @return configuration of incomplete gamma functions.
+     */
+    public GammaConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Sets configuration of incomplete gamma functions used to evaluate
+     * c.d.f. and inverse c.d.f. of this distribution.
+     * Limiting the number of iterations or increasing the tolerance trades
+     * accuracy for throughput.
+     *
+     * @param configuration configuration of incomplete gamma functions.
+     * @throws NullPointerException if provided configuration is null.
+     */
+    public void setConfiguration(final GammaConfiguration configuration) {
+        if (configuration == null) {
+            throw new NullPointerException();
+        }
+        this.configuration = configuration;
+    }
+
+    /**
+     * Gets optional cache of inverse c.d.f. values shared by all Chi squared
+     * distributions.
+     *
+     * @return cache of inverse c.d.f. values or null if disabled.
+     */
+    public static QuantileCache getInvcdfCache() {
+        return invcdfCache;
+    }
+
+    /**
+     * Sets optional cache of inverse c.d.f. values shared by all Chi squared
+     * distributions.
+     * When enabled, values of {@link #invcdf(double, double)} and
+     * {@link #invcdf(double)} are cached using the exact probability and nu
+     * values as key, so that repeated calls using the same arguments (e.g. the
+     * same confidence and degrees of freedom) return without any computation.
+     * Only values computed using the default {@link GammaConfiguration} are
+     * cached. The same cache can also be used by other functions, such as
+     * {@link Gamma#setInvgammpCache(QuantileCache)}.
+     * By default, no cache is used.
+     *
+     * @param invcdfCache cache of inverse c.d.f. values or null to disable it.
+     */
+    public static void setInvcdfCache(final QuantileCache invcdfCache) {
+        ChiSqDist.invcdfCache = invcdfCache;
+    }
+
+    /**
+     * Returns a precomputed table to evaluate quantiles of this distribution
+     * much faster than {@link #invcdf(double)}.
+     * Tables are shared among all distributions having the same integer nu
+     * parameter up to {@link ChiSqQuantileTable#MAX_SHARED_NU}, and they are
+     * built on first use. Otherwise, a new table is built on every call.
+     *
+     * @return table to evaluate quantiles of this distribution.
+     * @throws MaxIterationsExceededException if convergence of inverse
+     *                                        incomplete gamma function cannot be reached while building the table.
+     */
+    public ChiSqQuantileTable getQuantileTable() throws MaxIterationsExceededException {
+        return ChiSqQuantileTable.getInstance(nu);
+    }
+
     /**
      * Evaluates the probability density function (p.d.f.) of a Chi square
      * distribution.
@@ -132,11 +217,38 @@ public class ChiSqDist {
      */
     public static double cdf(final double x2, final double nu)
             throws MaxIterationsExceededException {
+        return cdf(x2, nu, GammaConfiguration.DEFAULT);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function (c.d.f.) of a Chi-squared
+     * distribution having parameter nu using provided configuration of
+     * incomplete gamma functions.
+     *
+     * @param x2            chi square value where c.d.f. is evaluated. Must be
+     *                      positive or zero.
+     * @param nu            nu parameter of chi square distribution. Typically, this
+     *                      is an integer value indicating the number of degrees of freedom.
+     *                      Must be greater than 0.0.
+     * @param configuration configuration of incomplete gamma functions.
+     * @return evaluation of c.d.f.
+     * @throws IllegalArgumentException       if provided chi square value is negative
+     *                                        or if provided nu parameter is negative or zero.
+     * @throws NullPointerException           if provided configuration is null.
+     * @throws MaxIterationsExceededException if convergence of incomplete
+     *                                        gamma function cannot be reached and configuration requires an
+     *                                        exception to be thrown.
+     */
+    public static double cdf(final double x2, final double nu, final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
+        if (configuration == null) {
+            throw new NullPointerException();
+        }
         if (nu <= 0.0) {
             throw new IllegalArgumentException("nu must be greater than 0.0");
         }
 
-        return internalCdf(x2, nu, new Gamma());
+        return internalCdf(x2, nu, configuration);
     }
 
     /**
@@ -153,7 +265,7 @@ public class ChiSqDist {
      *                                        numerically unstable input values.
      */
     public double cdf(final double x2) throws MaxIterationsExceededException {
-        return internalCdf(x2, nu, gamma);
+        return internalCdf(x2, nu, configuration);
     }
 
     /**
@@ -176,11 +288,40 @@ public class ChiSqDist {
      *                                        happens usually for numerically unstable values.
      */
     public static double invcdf(final double p, final double nu) throws MaxIterationsExceededException {
+        return invcdf(p, nu, GammaConfiguration.DEFAULT);
+    }
+
+    /**
+     * Evaluates the inverse cumulative distribution function of a Chi squared
+     * distribution having parameter nu using provided configuration of
+     * incomplete gamma functions.
+     * The optional cache of inverse c.d.f. values is only used with the
+     * default configuration.
+     *
+     * @param p             value to evaluate the inverse c.d.f. at. This value is
+     *                      equivalent to a probability and must be between 0.0 and 1.0.
+     * @param nu            nu parameter of chi square distribution. Typically, this
+     *                      is an integer value indicating the number of degrees of freedom.
+     *                      Must be greater than 0.0.
+     * @param configuration configuration of incomplete gamma functions.
+     * @return the value x2 for which the c.d.f. has value p.
+     * @throws IllegalArgumentException       if provided probability value is not
+     *                                        between 0.0 and 1.0 of if provided nu parameter is negative or zero.
+     * @throws NullPointerException           if provided configuration is null.
+     * @throws MaxIterationsExceededException if convergence of inverse
+     *                                        incomplete gamma function cannot be reached and configuration requires
+     *                                        an exception to be thrown.
+     */
+    public static double invcdf(final double p, final double nu, final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
+        if (configuration == null) {
+            throw new NullPointerException();
+        }
         if (nu <= 0.0) {
             throw new IllegalArgumentException("nu must be greater than 0.0");
         }
 
-        return internalInvcdf(p, nu, new Gamma());
+        return internalInvcdf(p, nu, configuration);
     }
 
     /**
@@ -200,7 +341,7 @@ public class ChiSqDist {
      *                                        happens usually for numerically unstable values.
      */
     public double invcdf(final double p) throws MaxIterationsExceededException {
-        return internalInvcdf(p, nu, gamma);
+        return internalInvcdf(p, nu, configuration);
     }
 
     /**
@@ -231,12 +372,12 @@ public class ChiSqDist {
      * distribution having parameter nu.
      * This method is used internally.
      *
-     * @param x2    chi square value where c.d.f. is evaluated. Must be positive
-     *              or zero.
-     * @param nu    nu parameter of chi square distribution. Typically, this is an
-     *              integer value indicating the number of degrees of freedom. Must be
-     *              greater than 0.0.
-     * @param gamma a gamma instance to evaluate the incomplete gamma function.
+     * @param x2            chi square value where c.d.f. is evaluated. Must be
+     *                      positive or zero.
+     * @param nu            nu parameter of chi square distribution. Typically, this
+     *                      is an integer value indicating the number of degrees of freedom.
+     *                      Must be greater than 0.0.
+     * @param configuration configuration of incomplete gamma functions.
      * @return evaluation of c.d.f.
      * @throws IllegalArgumentException       if provided chi square value is
      *                                        negative.
@@ -244,13 +385,13 @@ public class ChiSqDist {
      *                                        function cannot be reached. This is rarely thrown and happens usually for
      *                                        numerically unstable values.
      */
-    private static double internalCdf(final double x2, final double nu, final Gamma gamma)
+    private static double internalCdf(final double x2, final double nu, final GammaConfiguration configuration)
             throws MaxIterationsExceededException {
         if (x2 < 0.0) {
             throw new IllegalArgumentException("chi square must be positive or zero");
         }
 
-        return gamma.gammp(0.5 * nu, 0.5 * x2);
+        return Gamma.regularizedGammaP(0.5 * nu, 0.5 * x2, configuration);
     }
 
     /**
@@ -261,13 +402,12 @@ public class ChiSqDist {
      * of values.
      * This method is used internally.
      *
-     * @param p     value to evaluate the inverse c.d.f. at. This value is
-     *              equivalent to a probability and must be between 0.0 and 1.0.
-     * @param nu    nu parameter of chi square distribution. Typically, this is an
-     *              integer value indicating the number of degrees of freedom. Must be
-     *              greater than 0.0.
-     * @param gamma a gamma instance to evaluate the inverse incomplete gamma
-     *              function.
+     * @param p             value to evaluate the inverse c.d.f. at. This value is
+     *                      equivalent to a probability and must be between 0.0 and 1.0.
+     * @param nu            nu parameter of chi square distribution. Typically, this
+     *                      is an integer value indicating the number of degrees of freedom.
+     *                      Must be greater than 0.0.
+     * @param configuration configuration of incomplete gamma functions.
      * @return the value x2 for which the c.d.f. has value p.
      * @throws IllegalArgumentException       if provided probability value is not
      *                                        between 0.0 and 1.0.
@@ -275,14 +415,33 @@ public class ChiSqDist {
      *                                        incomplete gamma function cannot be reached. This is rarely thrown and
      *                                        happens usually for numerically unstable values.
      */
-    private static double internalInvcdf(final double p, final double nu, final Gamma gamma)
+    private static double internalInvcdf(final double p, final double nu, final GammaConfiguration configuration)
             throws MaxIterationsExceededException {
 
         if (p < 0.0 || p >= 1.0) {
             throw new IllegalArgumentException("probability value must be between 0.0 and 1.0");
         }
 
-        return 2.0 * gamma.invgammp(p, 0.5 * nu);
+        if (!GammaConfiguration.DEFAULT.equals(configuration)) {
+            return 2.0 * Gamma.inverseRegularizedGammaP(p, 0.5 * nu, configuration);
+        }
+
+        final var cache = invcdfCache;
+        return cache != null ? cache.get(p, nu, INVCDF_EVALUATOR) : computeInvcdf(p, nu);
+    }
+
+    /**
+     * Computes the inverse cumulative distribution function of a Chi squared
+     * distribution having parameter nu for valid arguments.
+     *
+     * @param p  value to evaluate the inverse c.d.f. at.
+     * @param nu nu parameter of chi square distribution.
+     * @return the value x2 for which the c.d.f. has value p.
+     * @throws MaxIterationsExceededException if convergence of inverse
+     *                                        incomplete gamma function cannot be reached.
+     */
+    private static double computeInvcdf(final double p, final double nu) throws MaxIterationsExceededException {
+        return 2.0 * Gamma.inverseRegularizedGammaP(p, 0.5 * nu);
     }
 
     /**
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Precomputed table to evaluate the inverse c.d.f. (i.e. quantiles) of a Chi
+ * squared distribution having a fixed nu parameter much faster than
+ * {@link ChiSqDist#invcdf(double, double)}, which requires several iterations
+ * of the inverse incomplete gamma function.
+ * Quantiles are tabulated as the logarithm of the chi square value in terms of
+ * the standard normal quantile z of the probability, which is a smooth
+ * function close to a polynomial of low degree (Wilson-Hilferty), even at the
+ * tails. Once the table is built, each quantile only requires one standard
+ * normal quantile, one cubic Hermite interpolation and one exponential.
+ * Probabilities whose standard normal quantile is outside tabulated range
+ * (i.e. below about 1e-9 or above about 1 - 1e-9) are computed using the
+ * exact method.
+ * No strict error bound is guaranteed. The interpolation error itself is
+ * negligible (about 1e-12 or lower), but tabulated values are computed using
+ * {@link ChiSqDist#invcdf(double, double)}, whose own accuracy is limited by
+ * the tolerance of the inverse incomplete gamma function. Instead, the
+ * maximum relative error respect to the exact method is measured when the
+ * table is built and it is available through {@link #getMaxRelativeError()}.
+ * Typical measured errors are about 1e-9 to 4e-9 for nu parameters between
+ * 0.5 and 1000, and errors between measured points may be a few times
+ * larger.
+ * Instances of this class are immutable and thread safe, and tables for
+ * integer nu parameters up to {@link #MAX_SHARED_NU} can be shared using
+ * {@link #getInstance(double)}.
+ */
+public class ChiSqQuantileTable {
+
+    /**
+     * Maximum nu parameter whose table is shared by
+     * {@link #getInstance(double)}.
+     * Only integer nu parameters are shared, so that the memory used by
+     * shared tables is bounded (each table takes about 6 KB).
+     */
+    public static final int MAX_SHARED_NU = 256;
+
+    /**
+     * Minimum tabulated standard normal quantile.
+     */
+    private static final double MIN_Z = -6.0;
+
+    /**
+     * Maximum tabulated standard normal quantile.
+     */
+    private static final double MAX_Z = 6.0;
+
+    /**
+     * Number of tabulated points for each unit of standard normal quantile.
+     */
+    private static final int POINTS_PER_UNIT = 32;
+
+    /**
+     * Distance between tabulated standard normal quantiles.
+     */
+    private static final double STEP = 1.0 / POINTS_PER_UNIT;
+
+    /**
+     * Number of tabulated points.
+     */
+    private static final int NUM_POINTS = (int) ((MAX_Z - MIN_Z) * POINTS_PER_UNIT) + 1;
+
+    /**
+     * Logarithm of the square root of 2 * pi.
+     */
+    private static final double LOG_SQRT_TWO_PI = 0.5 * Math.log(2.0 * Math.PI);
+
+    /**
+     * Minimum probability computed using the table.
+     */
+    private static final double MIN_P = NormalDist.cdf(MIN_Z, 0.0, 1.0);
+
+    /**
+     * Maximum probability computed using the table.
+     */
+    private static final double MAX_P = NormalDist.cdf(MAX_Z, 0.0, 1.0);
+
+    /**
+     * Tables shared among callers, indexed by integer nu parameter.
+     */
+    private static final AtomicReferenceArray<ChiSqQuantileTable> INSTANCES =
+            new AtomicReferenceArray<>(MAX_SHARED_NU + 1);
+
+    /**
+     * Nu parameter of chi square distribution.
+     */
+    private final double nu;
+
+    /**
+     * Logarithm of chi square value at each tabulated point.
+     */
+    private final double[] values = new double[NUM_POINTS];
+
+    /**
+     * Derivative of the logarithm of chi square value respect to the standard
+     * normal quantile at each tabulated point, multiplied by the distance
+     * between points.
+     */
+    private final double[] slopes = new double[NUM_POINTS];
+
+    /**
+     * Maximum relative error of tabulated quantiles measured when building
+     * the table.
+     */
+    private final double maxRelativeError;
+
+    /**
+     * Constructor.
+     * Builds the table, which requires evaluating about 800 exact quantiles.
+     *
+     * @param nu nu parameter of chi square distribution.
+     * @throws IllegalArgumentException       if provided nu parameter is
+     *                                        negative, zero, NaN or infinite.
+     * @throws MaxIterationsExceededException if convergence of inverse
+     *                                        incomplete gamma function cannot be reached while building the table.
+     */
+    public ChiSqQuantileTable(final double nu) throws MaxIterationsExceededException {
+        if (!(nu > 0.0) || Double.isInfinite(nu)) {
+            throw new IllegalArgumentException("nu must be finite and greater than 0.0");
+        }
+        this.nu = nu;
+
+        final var fac = 0.693147180559945309 * (0.5 * nu) + Gamma.gammln(0.5 * nu);
+        for (int i = 0; i < NUM_POINTS; i++) {
+            final var z = MIN_Z + i * STEP;
+            final var x2 = ChiSqDist.invcdf(NormalDist.cdf(z, 0.0, 1.0), nu);
+            final var logX2 = Math.log(x2);
+            values[i] = logX2;
+
+            // d(log(x2))/dz = normal p.d.f.(z) / (x2 * chi square p.d.f.(x2))
+            slopes[i] = STEP * Math.exp(-0.5 * z * z - LOG_SQRT_TWO_PI + 0.5 * x2 - 0.5 * nu * logX2 + fac);
+        }
+
+        // interpolation error is largest near the middle of each interval
+        var maxError = 0.0;
+        for (int i = 0; i < NUM_POINTS - 1; i++) {
+            final var p = NormalDist.cdf(MIN_Z + (i + 0.5) * STEP, 0.0, 1.0);
+            maxError = Math.max(maxError, Math.abs(interpolate(p) / ChiSqDist.invcdf(p, nu) - 1.0));
+        }
+        maxRelativeError = maxError;
+    }
+
+    /**
+     * Returns a table for provided nu parameter.
+     * Tables for integer nu parameters up to {@link #MAX_SHARED_NU} (i.e. the
+     * usual degrees of freedom) are built on first use and shared afterwards,
+     * whereas a new table is built on every call for any other nu parameter.
+     *
+     * @param nu nu parameter of chi square distribution.
+     * @return table for provided nu parameter.
+     * @throws IllegalArgumentException       if provided nu parameter is
+     *                                        negative, zero, NaN or infinite.
+     * @throws MaxIterationsExceededException if convergence of inverse
+     *                                        incomplete gamma function cannot be reached while building the table.
+     */
+    public static ChiSqQuantileTable getInstance(final double nu) throws MaxIterationsExceededException {
+        if (nu != Math.rint(nu) || nu > MAX_SHARED_NU) {
+            return new ChiSqQuantileTable(nu);
+        }
+
+        final var index = (int) nu;
+        final var table = index > 0 ? INSTANCES.get(index) : null;
+        if (table != null) {
+            return table;
+        }
+
+        final var newTable = new ChiSqQuantileTable(nu);
+        return INSTANCES.compareAndSet(index, null, newTable) ? newTable : INSTANCES.get(index);
+    }
+
+    /**
+     * Returns nu parameter of chi square distribution.
+     *
+     * @return nu parameter of chi square distribution.
+     */
+    public double getNu() {
+        return nu;
+    }
+
+    /**
+     * Returns maximum relative error of tabulated quantiles respect to
+     * {@link ChiSqDist#invcdf(double, double)}.
+     * This error is measured when the table is built at the middle of every
+     * interval between tabulated points, which is where cubic Hermite
+     * interpolation usually has its largest error. Hence, it is a measured
+     * estimate rather than a strict bound.
+     *
+     * @return maximum relative error of tabulated quantiles.
+     */
+    public double getMaxRelativeError() {
+        return maxRelativeError;
+    }
+
+    /**
+     * Evaluates the inverse cumulative distribution function of the Chi
+     * squared distribution of this table.
+     *
+     * @param p value to evaluate the inverse c.d.f. at. This value is
+     *          equivalent to a probability and must be between 0.0 and 1.0.
+     * @return the value x2 for which the c.d.f. has value p.
+     * @throws IllegalArgumentException       if provided probability value is
+     *                                        not between 0.0 and 1.0.
+     * @throws MaxIterationsExceededException if provided probability is outside
+     *                                        tabulated range and convergence of inverse incomplete gamma function
+     *                                        cannot be reached.
+     */
+    public double invcdf(final double p) throws MaxIterationsExceededException {
+        if (p < 0.0 || p >= 1.0) {
+            throw new IllegalArgumentException("probability value must be between 0.0 and 1.0");
+        }
+        if (p < MIN_P || p > MAX_P) {
+            return ChiSqDist.invcdf(p, nu);
+        }
+        return interpolate(p);
+    }
+
+    /**
+     * Interpolates the quantile of a probability within tabulated range.
+     *
+     * @param p probability value within tabulated range.
+     * @return interpolated quantile.
+     */
+    private double interpolate(final double p) {
+        final var t = (NormalDist.invcdf(p, 0.0, 1.0) - MIN_Z) * POINTS_PER_UNIT;
+        final var i = Math.max(0, Math.min((int) t, NUM_POINTS - 2));
+        final var s = t - i;
+        final var s1 = 1.0 - s;
+
+        // cubic Hermite basis
+        final var h00 = (1.0 + 2.0 * s) * s1 * s1;
+        final var h10 = s * s1 * s1;
+        final var h01 = s * s * (3.0 - 2.0 * s);
+        final var h11 = -s * s * s1;
+
+        return Math.exp(h00 * values[i] + h10 * slopes[i] + h01 * values[i + 1] + h11 * slopes[i + 1]);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates pseudo-random values following a Chi squared distribution having
+ * the specified nu parameter (degrees of freedom). By default, nu is equal to
+ * DEFAULT_NU.
+ * Because a Chi squared distribution having parameter nu is a Gamma
+ * distribution having shape nu / 2 and scale 2, each value is generated at a
+ * constant expected cost instead of summing nu squared Gaussian values.
+ */
+public class ChiSqRandomizer extends Randomizer {
+
+    /**
+     * Specifies nu parameter to be used for random value generation if none
+     * is provided.
+     */
+    public static final double DEFAULT_NU = 1.0;
+
+    /**
+     * Sampler of Gamma values having shape nu / 2 and unit scale.
+     */
+    private GammaSampler sampler;
+
+    /**
+     * Nu parameter of chi square distribution.
+     */
+    private double nu;
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     */
+    public ChiSqRandomizer() {
+        this(new Random());
+    }
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     *
+     * @param nu nu parameter of chi square distribution.
+     * @throws IllegalArgumentException if provided nu parameter is negative or
+     *                                  zero.
+     */
+    public ChiSqRandomizer(final double nu) {
+        this(new Random(), nu);
+    }
+
+    /**
+     * Constructor.
+     * Because nu is not provided, DEFAULT_NU will be used instead.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @throws NullPointerException if provided internal random is null.
+     */
+    public ChiSqRandomizer(final Random internalRandom) {
+        this((RandomGenerator) internalRandom);
+    }
+
+    /**
+     * Constructor.
+     * Because nu is not provided, DEFAULT_NU will be used instead.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @throws NullPointerException if provided internal generator is null.
+     */
+    public ChiSqRandomizer(final RandomGenerator internalGenerator) {
+        this(internalGenerator, DEFAULT_NU);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @param nu             nu parameter of chi square distribution.
+     * @throws IllegalArgumentException if provided nu parameter is negative or
+     *                                  zero.
+     * @throws NullPointerException     if provided internal random is null.
+     */
+    public ChiSqRandomizer(final Random internalRandom, final double nu) {
+        this((RandomGenerator) internalRandom, nu);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @param nu                nu parameter of chi square distribution.
+     * @throws IllegalArgumentException if provided nu parameter is negative or
+     *                                  zero.
+     * @throws NullPointerException     if provided internal generator is null.
+     */
+    public ChiSqRandomizer(final RandomGenerator internalGenerator, final double nu) {
+        super(internalGenerator);
+        setNu(nu);
+    }
+
+    /**
+     * Returns nu parameter of chi square distribution.
+     * Typically, this parameter is an integer value indicating the number of
+     * degrees of freedom.
+     *
+     * @return nu parameter of chi square distribution.
+     */
+    public double getNu() {
+        return nu;
+    }
+
+    /**
+     * Sets nu parameter of chi square distribution.
+     * Typically, this parameter is an integer value indicating the number of
+     * degrees of freedom.
+     *
+     * @param nu nu parameter of chi square distribution.
+     * @throws IllegalArgumentException if provided nu parameter is negative or
+     *                                  zero.
+     */
+    public final void setNu(final double nu) {
+        if (!(nu > 0.0)) {
+            throw new IllegalArgumentException();
+        }
+        sampler = new GammaSampler(0.5 * nu);
+        this.nu = nu;
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the mean (nu).
+     *
+     * @return Next boolean value.
+     */
+    @Override
+    public boolean nextBoolean() {
+        return nextBoolean(nu);
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the provided threshold, which is
+     * equal to the chi square c.d.f. at such threshold.
+     *
+     * @param threshold Threshold to determine whether returned values will be
+     *                  true or false.
+     * @return Next random boolean value.
+     */
+    public boolean nextBoolean(final double threshold) {
+        return nextDouble() < threshold;
+    }
+
+    /**
+     * Returns next random chi square value truncated to an integer.
+     *
+     * @return Next random integer value.
+     */
+    @Override
+    public int nextInt() {
+        return (int) nextDouble();
+    }
+
+    /**
+     * Returns next random chi square value truncated to a long.
+     *
+     * @return Next random long value.
+     */
+    @Override
+    public long nextLong() {
+        return (long) nextDouble();
+    }
+
+    /**
+     * Returns next random chi square floating-point value.
+     *
+     * @return Next random floating-point value.
+     */
+    @Override
+    public float nextFloat() {
+        return (float) nextDouble();
+    }
+
+    /**
+     * Returns next random chi square double precision floating-point value.
+     *
+     * @return Next random double precision floating-point value.
+     */
+    @Override
+    public double nextDouble() {
+        return 2.0 * sampler.next(getInternalGenerator());
+    }
+
+    /**
+     * Fills provided array with random chi square double precision
+     * floating-point values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final double[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = 2.0 * sampler.next(generator);
+        }
+    }
+
+    /**
+     * Returns the randomizer type of this instance.
+     *
+     * @return Randomizer type.
+     */
+    @Override
+    public RandomizerType getType() {
+        return RandomizerType.CHI_SQ_RANDOMIZER;
+    }
+
+    /**
+     * Creates a new chi square randomizer having the same nu parameter as this
+     * instance and using provided internal generator.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values for the new instance.
+     * @return a new chi square randomizer.
+     */
+    @Override
+    protected ChiSqRandomizer newInstance(final RandomGenerator internalGenerator) {
+        return new ChiSqRandomizer(internalGenerator, nu);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+/**
+ * Indicates what iterative methods do when the maximum number of iterations
+ * is reached before converging to the required tolerance.
+ */
+public enum ConvergencePolicy {
+
+    /**
+     * A {@link MaxIterationsExceededException} is thrown.
+     */
+    THROW,
+
+    /**
+     * The estimation obtained at the last iteration is returned, which might
+     * be less accurate than required.
+     */
+    RETURN_ESTIMATE
+}
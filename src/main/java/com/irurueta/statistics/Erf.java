@@ -15,6 +15,8 @@
  */
 package com.irurueta.statistics;
 
+import java.util.Objects;
+
 /**
  * Defines the error function and methods related to it.
  * The error function (or Gaussian function) is a special function typically
@@ -61,6 +63,42 @@ public class Erf {
             -6.886027e-12, 8.94487e-13, 3.13092e-13, -1.12708e-13, 3.81e-16,
             7.106e-15, -1.523e-15, -9.4e-17, 1.21e-16, -2.8e-17};
 
+    /**
+     * Number of values evaluated in lockstep by bulk methods.
+     */
+    private static final int BLOCK_SIZE = 256;
+
+    /**
+     * Scratch arrays of each thread used by bulk methods, so that they do not
+     * allocate memory on each call.
+     */
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    /**
+     * Coefficient of rational term of approximation 7.1.26 of Abramowitz and
+     * Stegun.
+     */
+    private static final double MEDIUM_P = 0.3275911;
+
+    /**
+     * Polynomial coefficients of approximation 7.1.26 of Abramowitz and
+     * Stegun, in increasing degree starting at degree one.
+     */
+    private static final double[] MEDIUM_COF = {0.254829592, -0.284496736, 1.421413741, -1.453152027,
+            1.061405429};
+
+    /**
+     * Coefficient of rational term of approximation 7.1.25 of Abramowitz and
+     * Stegun.
+     */
+    private static final double LOW_P = 0.47047;
+
+    /**
+     * Polynomial coefficients of approximation 7.1.25 of Abramowitz and
+     * Stegun, in increasing degree starting at degree one.
+     */
+    private static final double[] LOW_COF = {0.3480242, -0.0958798, 0.7478556};
+
     /**
      * Empty constructor.
      */
@@ -95,6 +133,53 @@ public class Erf {
         }
     }
 
+    /**
+     * Evaluates the error function at x using provided accuracy mode.
+     * When accuracy mode is {@link AccuracyMode#MEDIUM}, approximation 7.1.26
+     * of Abramowitz and Stegun is used, which has an absolute error less than
+     * 1.5e-7. When accuracy mode is {@link AccuracyMode#LOW}, approximation
+     * 7.1.25 of Abramowitz and Stegun is used, which has an absolute error
+     * less than 2.5e-5. Both approximations only require one exponential.
+     *
+     * @param x    value to evaluate the error function at.
+     * @param mode accuracy mode.
+     * @return value of the error function.
+     * @throws NullPointerException if provided accuracy mode is null.
+     */
+    public static double erf(final double x, final AccuracyMode mode) {
+        return mode == AccuracyMode.FULL ? erf(x) : 1.0 - erfc(x, mode);
+    }
+
+    /**
+     * Evaluates the complementary error function at x using provided accuracy
+     * mode.
+     * When accuracy mode is {@link AccuracyMode#MEDIUM}, approximation 7.1.26
+     * of Abramowitz and Stegun is used, which has an absolute error less than
+     * 1.5e-7. When accuracy mode is {@link AccuracyMode#LOW}, approximation
+     * 7.1.25 of Abramowitz and Stegun is used, which has an absolute error
+     * less than 2.5e-5. Both approximations only require one exponential.
+     *
+     * @param x    value to evaluate the complementary error function at.
+     * @param mode accuracy mode.
+     * @return value of the complementary error function.
+     * @throws NullPointerException if provided accuracy mode is null.
+     */
+    public static double erfc(final double x, final AccuracyMode mode) {
+        final double r;
+        switch (mode) {
+            case MEDIUM:
+                r = erfcApproximation(Math.abs(x), MEDIUM_P, MEDIUM_COF);
+                break;
+            case LOW:
+                r = erfcApproximation(Math.abs(x), LOW_P, LOW_COF);
+                break;
+            case FULL:
+            default:
+                return erfc(x);
+        }
+        return x >= 0.0 ? r : 2.0 - r;
+    }
+
     /**
      * Evaluates the inverse of the complementary error function at p.
      * Then:
@@ -136,6 +221,256 @@ public class Erf {
         return inverfc(1.0 - p);
     }
 
+    /**
+     * Evaluates the error function at each of provided values.
+     * Results are equal to the ones obtained with {@link #erf(double)}.
+     *
+     * @param x      values to evaluate the error function at.
+     * @param result instance where values of the error function are stored.
+     *               It can be the same array as x.
+     * @throws IndexOutOfBoundsException if result array is shorter than x
+     *                                   array.
+     */
+    public static void erf(final double[] x, final double[] result) {
+        erf(x, result, 0, x.length);
+    }
+
+    /**
+     * Evaluates the error function at a range of provided values.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      values to evaluate the error function at.
+     * @param result instance where values of the error function are stored.
+     *               It can be the same array as x.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void erf(final double[] x, final double[] result, final int offset, final int length) {
+        checkRange(x, result, offset, length);
+
+        final var w = WORKSPACE.get();
+        final var end = offset + length;
+        for (int from = offset; from < end; from += BLOCK_SIZE) {
+            final var to = Math.min(from + BLOCK_SIZE, end);
+            erfcchebBlock(x, from, to, w);
+            for (int i = from, k = 0; i < to; i++, k++) {
+                final var c = erfcchebBlockResult(x[i], w.t[k], w.ty[k], w.d[k], w.dd[k]);
+                result[i] = x[i] >= 0.0 ? 1.0 - c : c - 1.0;
+            }
+        }
+    }
+
+    /**
+     * Evaluates the complementary error function at each of provided values.
+     * Results are equal to the ones obtained with {@link #erfc(double)}.
+     *
+     * @param x      values to evaluate the complementary error function at.
+     * @param result instance where values of the complementary error function
+     *               are stored. It can be the same array as x.
+     * @throws IndexOutOfBoundsException if result array is shorter than x
+     *                                   array.
+     */
+    public static void erfc(final double[] x, final double[] result) {
+        erfc(x, result, 0, x.length);
+    }
+
+    /**
+     * Evaluates the complementary error function at a range of provided
+     * values.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      values to evaluate the complementary error function at.
+     * @param result instance where values of the complementary error function
+     *               are stored. It can be the same array as x.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void erfc(final double[] x, final double[] result, final int offset, final int length) {
+        checkRange(x, result, offset, length);
+
+        final var w = WORKSPACE.get();
+        final var end = offset + length;
+        for (int from = offset; from < end; from += BLOCK_SIZE) {
+            erfcBlock(x, result, from, Math.min(from + BLOCK_SIZE, end), w);
+        }
+    }
+
+    /**
+     * Evaluates the inverse of the complementary error function at each of
+     * provided values.
+     * Results are equal to the ones obtained with {@link #inverfc(double)}.
+     *
+     * @param p      values to evaluate the inverse erfc function at.
+     * @param result instance where results are stored. It can be the same
+     *               array as p.
+     * @throws IndexOutOfBoundsException if result array is shorter than p
+     *                                   array.
+     */
+    public static void inverfc(final double[] p, final double[] result) {
+        inverfc(p, result, 0, p.length);
+    }
+
+    /**
+     * Evaluates the inverse of the complementary error function at a range of
+     * provided values.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param p      values to evaluate the inverse erfc function at.
+     * @param result instance where results are stored. It can be the same
+     *               array as p.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void inverfc(final double[] p, final double[] result, final int offset, final int length) {
+        checkRange(p, result, offset, length);
+
+        final var w = WORKSPACE.get();
+        final var x = w.x;
+        final var pp = w.pp;
+        final var err = w.err;
+        final var end = offset + length;
+        for (int from = offset; from < end; from += BLOCK_SIZE) {
+            final var to = Math.min(from + BLOCK_SIZE, end);
+            final var n = to - from;
+
+            // initial guess
+            for (int i = from, k = 0; i < to; i++, k++) {
+                final var pi = p[i];
+                final var ppk = pi < 1.0 ? pi : 2.0 - pi;
+                final var tk = Math.sqrt(-2.0 * Math.log(ppk / 2.0));
+                pp[k] = ppk;
+                x[k] = -0.70711 * ((2.30753 + tk * 0.27061) / (1.0 + tk * (0.99229 + tk * 0.04481)) - tk);
+            }
+
+            // Newton iterations
+            for (int j = 0; j < 2; j++) {
+                erfcBlock(x, err, 0, n, w);
+                for (int k = 0; k < n; k++) {
+                    final var e = err[k] - pp[k];
+                    final var xk = x[k];
+                    x[k] = xk + e / (1.12837916709551257 * Math.exp(-xk * xk) - xk * e);
+                }
+            }
+
+            for (int i = from, k = 0; i < to; i++, k++) {
+                final var pi = p[i];
+                final var xk = pi < 1.0 ? x[k] : -x[k];
+                result[i] = pi >= 2.0 ? -100.0 : (pi <= 0.0 ? 100.0 : xk);
+            }
+        }
+    }
+
+    /**
+     * Evaluates the complementary error function at a block of values.
+     * The sign of each value is handled by selecting the result instead of
+     * branching.
+     *
+     * @param x      values to evaluate the complementary error function at.
+     * @param result instance where results are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     * @param w      scratch arrays.
+     */
+    private static void erfcBlock(
+            final double[] x, final double[] result, final int from, final int to, final Workspace w) {
+        erfcchebBlock(x, from, to, w);
+        for (int i = from, k = 0; i < to; i++, k++) {
+            final var c = erfcchebBlockResult(x[i], w.t[k], w.ty[k], w.d[k], w.dd[k]);
+            result[i] = x[i] >= 0.0 ? c : 2.0 - c;
+        }
+    }
+
+    /**
+     * Runs the Clenshaw recurrence of the Chebychev approximation for the
+     * absolute values of a block of values in lockstep, so that each step of
+     * the recurrence is a loop over all values of the block.
+     *
+     * @param x    values to evaluate the function at.
+     * @param from first position to be evaluated (inclusive).
+     * @param to   last position to be evaluated (exclusive).
+     * @param w    instance where the t, ty, d and dd terms of each value are
+     *             stored.
+     */
+    private static void erfcchebBlock(final double[] x, final int from, final int to, final Workspace w) {
+        final var n = to - from;
+        final var t = w.t;
+        final var ty = w.ty;
+        final var d = w.d;
+        final var dd = w.dd;
+        for (int k = 0; k < n; k++) {
+            final var tk = 2.0 / (2.0 + Math.abs(x[from + k]));
+            t[k] = tk;
+            ty[k] = 4.0 * tk - 2.;
+            d[k] = 0.0;
+            dd[k] = 0.0;
+        }
+        for (int j = N_COF - 1; j > 0; j--) {
+            final var cof = COF[j];
+            for (int k = 0; k < n; k++) {
+                final var tmp = d[k];
+                d[k] = ty[k] * tmp - dd[k] + cof;
+                dd[k] = tmp;
+            }
+        }
+    }
+
+    /**
+     * Obtains the complementary error function of the absolute value of x
+     * once the Clenshaw recurrence has been run.
+     *
+     * @param x  value to evaluate the function at.
+     * @param t  t term of provided value.
+     * @param ty ty term of provided value.
+     * @param d  d term of provided value.
+     * @param dd dd term of provided value.
+     * @return evaluation of erfc at the absolute value of x.
+     */
+    private static double erfcchebBlockResult(
+            final double x, final double t, final double ty, final double d, final double dd) {
+        final var z = Math.abs(x);
+        return t * Math.exp(-z * z + 0.5 * (COF[0] + ty * d) - dd);
+    }
+
+    /**
+     * Evaluates an approximation of the complementary error function of the
+     * form t * (a1 + t * (a2 + ...)) * exp(-z^2), where t = 1 / (1 + p * z).
+     *
+     * @param z            non-negative value to evaluate the function at.
+     * @param p            coefficient of rational term.
+     * @param coefficients polynomial coefficients in increasing degree
+     *                     starting at degree one.
+     * @return evaluation of erfc at z.
+     */
+    private static double erfcApproximation(final double z, final double p, final double[] coefficients) {
+        final var t = 1.0 / (1.0 + p * z);
+        var poly = coefficients[coefficients.length - 1];
+        for (int j = coefficients.length - 2; j >= 0; j--) {
+            poly = poly * t + coefficients[j];
+        }
+        return t * poly * Math.exp(-z * z);
+    }
+
+    /**
+     * Checks that a range is within provided arrays.
+     *
+     * @param x      array of values to be evaluated.
+     * @param result array where evaluations are stored.
+     * @param offset position of first value.
+     * @param length number of values.
+     * @throws IndexOutOfBoundsException if range is not within provided
+     *                                   arrays.
+     */
+    private static void checkRange(final double[] x, final double[] result, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, x.length);
+        Objects.checkFromIndexSize(offset, length, result.length);
+    }
+
     /**
      * Computes the complementary error function by using the Chebychev method
      * approximation.
@@ -164,4 +499,45 @@ public class Erf {
         }
         return t * Math.exp(-z * z + 0.5 * (COF[0] + ty * d) - dd);
     }
+
+    /**
+     * Scratch arrays used by bulk methods to evaluate a block of values.
+     */
+    private static final class Workspace {
+
+        /**
+         * t term of the Chebychev approximation.
+         */
+        private final double[] t = new double[BLOCK_SIZE];
+
+        /**
+         * ty term of the Chebychev approximation.
+         */
+        private final double[] ty = new double[BLOCK_SIZE];
+
+        /**
+         * d term of the Clenshaw recurrence.
+         */
+        private final double[] d = new double[BLOCK_SIZE];
+
+        /**
+         * dd term of the Clenshaw recurrence.
+         */
+        private final double[] dd = new double[BLOCK_SIZE];
+
+        /**
+         * Current estimates of inverse erfc.
+         */
+        private final double[] x = new double[BLOCK_SIZE];
+
+        /**
+         * Values of erfc to be inverted mapped into range (0, 1].
+         */
+        private final double[] pp = new double[BLOCK_SIZE];
+
+        /**
+         * Values of erfc at current estimates.
+         */
+        private final double[] err = new double[BLOCK_SIZE];
+    }
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates pseudo-random values following an exponential distribution
+ * having the specified rate, such as waiting times between events of a
+ * Poisson process. By default, rate is equal to DEFAULT_RATE.
+ * Values are generated by {@link RandomGenerator#nextExponential()}, which
+ * uses a Ziggurat method.
+ */
+public class ExponentialRandomizer extends Randomizer {
+
+    /**
+     * Specifies rate to be used for random value generation if none is
+     * provided.
+     */
+    public static final double DEFAULT_RATE = 1.0;
+
+    /**
+     * Rate (inverse of mean) of generated values.
+     */
+    private double rate;
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     */
+    public ExponentialRandomizer() {
+        this(new Random());
+    }
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     *
+     * @param rate rate (inverse of mean) of generated values.
+     * @throws IllegalArgumentException if provided rate is negative or zero.
+     */
+    public ExponentialRandomizer(final double rate) {
+        this(new Random(), rate);
+    }
+
+    /**
+     * Constructor.
+     * Because rate is not provided, DEFAULT_RATE will be used instead.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @throws NullPointerException if provided internal random is null.
+     */
+    public ExponentialRandomizer(final Random internalRandom) {
+        this((RandomGenerator) internalRandom);
+    }
+
+    /**
+     * Constructor.
+     * Because rate is not provided, DEFAULT_RATE will be used instead.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @throws NullPointerException if provided internal generator is null.
+     */
+    public ExponentialRandomizer(final RandomGenerator internalGenerator) {
+        this(internalGenerator, DEFAULT_RATE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @param rate           rate (inverse of mean) of generated values.
+     * @throws IllegalArgumentException if provided rate is negative or zero.
+     * @throws NullPointerException     if provided internal random is null.
+     */
+    public ExponentialRandomizer(final Random internalRandom, final double rate) {
+        this((RandomGenerator) internalRandom, rate);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @param rate              rate (inverse of mean) of generated values.
+     * @throws IllegalArgumentException if provided rate is negative or zero.
+     * @throws NullPointerException     if provided internal generator is null.
+     */
+    public ExponentialRandomizer(final RandomGenerator internalGenerator, final double rate) {
+        super(internalGenerator);
+        setRate(rate);
+    }
+
+    /**
+     * Returns rate (inverse of mean) of generated values.
+     *
+     * @return rate of generated values.
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Sets rate (inverse of mean) of generated values.
+     *
+     * @param rate rate of generated values.
+     * @throws IllegalArgumentException if provided rate is negative or zero.
+     */
+    public final void setRate(final double rate) {
+        if (!(rate > 0.0)) {
+            throw new IllegalArgumentException();
+        }
+        this.rate = rate;
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the mean, which is 1 - e^-1 (about
+     * 63%).
+     *
+     * @return Next boolean value.
+     */
+    @Override
+    public boolean nextBoolean() {
+        return nextBoolean(1.0 / rate);
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the provided threshold, which is
+     * equal to the exponential c.d.f. at such threshold.
+     *
+     * @param threshold Threshold to determine whether returned values will be
+     *                  true or false.
+     * @return Next random boolean value.
+     */
+    public boolean nextBoolean(final double threshold) {
+        return nextDouble() < threshold;
+    }
+
+    /**
+     * Returns next random exponential value truncated to an integer.
+     *
+     * @return Next random integer value.
+     */
+    @Override
+    public int nextInt() {
+        return (int) nextDouble();
+    }
+
+    /**
+     * Returns next random exponential value truncated to a long.
+     *
+     * @return Next random long value.
+     */
+    @Override
+    public long nextLong() {
+        return (long) nextDouble();
+    }
+
+    /**
+     * Returns next random exponential floating-point value.
+     *
+     * @return Next random floating-point value.
+     */
+    @Override
+    public float nextFloat() {
+        return (float) nextDouble();
+    }
+
+    /**
+     * Returns next random exponential double precision floating-point value.
+     *
+     * @return Next random double precision floating-point value.
+     */
+    @Override
+    public double nextDouble() {
+        return getInternalGenerator().nextExponential() / rate;
+    }
+
+    /**
+     * Fills provided array with random exponential double precision
+     * floating-point values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final double[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = generator.nextExponential() / rate;
+        }
+    }
+
+    /**
+     * Returns the randomizer type of this instance.
+     *
+     * @return Randomizer type.
+     */
+    @Override
+    public RandomizerType getType() {
+        return RandomizerType.EXPONENTIAL_RANDOMIZER;
+    }
+
+    /**
+     * Creates a new exponential randomizer having the same rate as this
+     * instance and using provided internal generator.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values for the new instance.
+     * @return a new exponential randomizer.
+     */
+    @Override
+    protected ExponentialRandomizer newInstance(final RandomGenerator internalGenerator) {
+        return new ExponentialRandomizer(internalGenerator, rate);
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.irurueta.statistics;
 
+import java.util.Arrays;
+
 /**
  * Defines the gamma function, which is a function that extends the concept of
  * factorials from natural to real and complex numbers (except zero and negative
@@ -26,7 +28,7 @@ package com.irurueta.statistics;
 public class Gamma extends GaussLegendreQuadrature {
 
     /**
-     * Maximum number of logarithm of factorials cached.
+     * Default maximum number of logarithm of factorials cached.
      */
     protected static final int MAX_CACHED_LOG_FACTORIALS = 2000;
 
@@ -50,11 +52,6 @@ public class Gamma extends GaussLegendreQuadrature {
      */
     private static final int MAX_FACTORIALS = 170;
 
-    /**
-     * Default number of maximum iterations to compute incomplete gamma functions.
-     */
-    private static final int DEFAULT_MAX_ITERATIONS = 100;
-
     /**
      * Coefficients for computation of logarithm of gamma function.
      */
@@ -65,41 +62,92 @@ public class Gamma extends GaussLegendreQuadrature {
             .844182239838527433e-4, -.261908384015814087e-4, .368991826595316234e-5};
 
     /**
-     * Indicates whether factorials have been initialized and stored in a table
-     * for future faster access.
+     * Coefficients for a faster but less accurate computation of logarithm of
+     * gamma function.
      */
-    private static boolean factorialsInitialized;
+    private static final double[] FAST_COF = {76.18009172947146, -86.50532032941677,
+            24.01409824083091, -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5};
 
     /**
-     * Table where factorials are cached for faster future access.
+     * Table where logarithms of factorials are cached for faster future access.
+     * The table is never modified once published. When more values are
+     * needed, a larger copy is built and published instead.
      */
-    private static double[] factorialsTable;
+    private static volatile double[] logarithmOfFactorialsTable = new double[0];
 
     /**
-     * Indicates whether logarithm of factorials has been initialized and
-     * stored in a table for future faster access.
+     * Maximum number of logarithm of factorials cached.
      */
-    private static boolean logarithmOfFactorialsInitialized;
+    private static volatile int maxCachedLogFactorials = MAX_CACHED_LOG_FACTORIALS;
 
     /**
-     * Table where logarithms of factorials are cached for faster future access.
+     * Optional cache of inverse values of P(a, x), or null if disabled.
      */
-    private static double[] logarithmOfFactorialsTable;
+    private static volatile QuantileCache invgammpCache;
+
+    /**
+     * Evaluator of inverse values of P(a, x) not found in the cache, which
+     * identifies cached values of this class when a cache is shared with
+     * other functions.
+     */
+    private static final QuantileCache.Evaluator INVGAMMP_EVALUATOR = Gamma::computeInvgammp;
 
     /**
      * Logarithm of gamma function.
      */
     private double gln;
 
+    /**
+     * Parameter a whose logarithm of gamma function has not been computed
+     * yet, or NaN if gln is up-to-date. This allows cached inverse values to
+     * be returned without evaluating the logarithm of gamma function.
+     */
+    private double pendingGlnA = Double.NaN;
+
+    /**
+     * Configuration of iterative evaluation of incomplete gamma functions.
+     */
+    private GammaConfiguration configuration = GammaConfiguration.DEFAULT;
+
     /**
      * Returns logarithm of gamma function.
      *
      * @return logarithm of gamma function.
      */
     public double getGln() {
+        if (!Double.isNaN(pendingGlnA)) {
+            gln = gammln(pendingGlnA);
+            pendingGlnA = Double.NaN;
+        }
         return gln;
     }
 
+    /**
+     * Gets configuration of iterative evaluation of incomplete gamma functions
+     * used by {@link #gammp(double, double)}, {@link #gammq(double, double)}
+     * and {@link #invgammp(double, double)}.
+     *
+     * @return configuration of incomplete gamma functions.
+     */
+    public GammaConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Sets configuration of iterative evaluation of incomplete gamma functions
+     * used by {@link #gammp(double, double)}, {@link #gammq(double, double)}
+     * and {@link #invgammp(double, double)}.
+     *
+     * @param configuration configuration of incomplete gamma functions.
+     * @throws NullPointerException if provided configuration is null.
+     */
+    public void setConfiguration(final GammaConfiguration configuration) {
+        if (configuration == null) {
+            throw new NullPointerException();
+        }
+        this.configuration = configuration;
+    }
+
     /**
      * Returns the value ln(gamma(xx)) for xx &gt; 0.
      *
@@ -128,6 +176,41 @@ public class Gamma extends GaussLegendreQuadrature {
         return tmp + Math.log(2.5066282746310005 * ser / x);
     }
 
+    /**
+     * Returns the value ln(gamma(xx)) for xx &gt; 0 using provided accuracy
+     * mode.
+     * When accuracy mode is {@link AccuracyMode#MEDIUM} or
+     * {@link AccuracyMode#LOW}, a Lanczos approximation with 6 terms instead
+     * of 14 is used (Numerical Recipes 2nd ed. section 6.1), which has an
+     * absolute error less than 2e-10.
+     *
+     * @param xx   a value.
+     * @param mode accuracy mode.
+     * @return the logarithm of gamma function.
+     * @throws IllegalArgumentException if value is negative.
+     * @throws NullPointerException     if provided accuracy mode is null.
+     */
+    public static double gammln(final double xx, final AccuracyMode mode) {
+        if (mode == null) {
+            throw new NullPointerException();
+        }
+        if (mode == AccuracyMode.FULL) {
+            return gammln(xx);
+        }
+        if (xx <= 0.0) {
+            throw new IllegalArgumentException("bad arg in gammln");
+        }
+
+        var y = xx;
+        var tmp = xx + 5.5;
+        tmp -= (xx + 0.5) * Math.log(tmp);
+        var ser = 1.000000000190015;
+        for (final var cof : FAST_COF) {
+            ser += cof / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * ser / xx);
+    }
+
     /**
      * Returns the factorial of n (n!) as a floating-point number.
      * Factorials up to 22! have exact double precision representations.
@@ -145,16 +228,7 @@ public class Gamma extends GaussLegendreQuadrature {
             throw new IllegalArgumentException("factrl out of range");
         }
 
-        if (!factorialsInitialized) {
-            factorialsInitialized = true;
-            factorialsTable = new double[171];
-            factorialsTable[0] = 1.;
-            for (int i = 1; i < (MAX_FACTORIALS + 1); i++) {
-                factorialsTable[i] = i * factorialsTable[i - 1];
-            }
-        }
-
-        return factorialsTable[n];
+        return FactorialsHolder.TABLE[n];
     }
 
     /**
@@ -169,19 +243,70 @@ public class Gamma extends GaussLegendreQuadrature {
             throw new IllegalArgumentException("negative arg in factln");
         }
 
-        if (!logarithmOfFactorialsInitialized) {
-            logarithmOfFactorialsInitialized = true;
-            logarithmOfFactorialsTable = new double[MAX_CACHED_LOG_FACTORIALS];
-            for (int i = 0; i < MAX_CACHED_LOG_FACTORIALS; i++) {
-                logarithmOfFactorialsTable[i] = gammln(i + 1.);
-            }
+        final var table = logarithmOfFactorialsTable;
+        if (n < table.length) {
+            return table[n];
         }
-        if (n < MAX_CACHED_LOG_FACTORIALS) {
-            return logarithmOfFactorialsTable[n];
+        if (n < maxCachedLogFactorials) {
+            return extendLogarithmOfFactorials(n + 1)[n];
         }
         return gammln(n + 1.);
     }
 
+    /**
+     * Gets maximum number of logarithm of factorials cached by
+     * {@link #factln(int)}.
+     * By default, up to 2000 values are cached.
+     *
+     * @return maximum number of logarithm of factorials cached.
+     */
+    public static int getMaxCachedLogFactorials() {
+        return maxCachedLogFactorials;
+    }
+
+    /**
+     * Sets maximum number of logarithm of factorials cached by
+     * {@link #factln(int)}.
+     * Values are cached on demand, hence increasing this value only uses more
+     * memory if larger values are requested. Values that are already cached
+     * are kept when this value is reduced.
+     *
+     * @param maxCachedLogFactorials maximum number of logarithm of factorials
+     *                               cached.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public static void setMaxCachedLogFactorials(final int maxCachedLogFactorials) {
+        if (maxCachedLogFactorials < 0) {
+            throw new IllegalArgumentException();
+        }
+        Gamma.maxCachedLogFactorials = maxCachedLogFactorials;
+    }
+
+    /**
+     * Extends the table of logarithm of factorials so that it contains at
+     * least provided number of values.
+     * The table grows geometrically up to the maximum number of cached values
+     * and is published only once it is completely filled.
+     *
+     * @param length required number of values.
+     * @return extended table.
+     */
+    private static synchronized double[] extendLogarithmOfFactorials(final int length) {
+        final var table = logarithmOfFactorialsTable;
+        if (length <= table.length) {
+            return table;
+        }
+
+        final var newLength = Math.max(length, Math.min(maxCachedLogFactorials,
+                Math.max(2 * table.length, MAX_CACHED_LOG_FACTORIALS)));
+        final var result = Arrays.copyOf(table, newLength);
+        for (int i = table.length; i < newLength; i++) {
+            result[i] = gammln(i + 1.);
+        }
+        logarithmOfFactorialsTable = result;
+        return result;
+    }
+
     /**
      * Returns the binomial coefficient (n k) as a floating-point number, which
      * indicates the discrete probability distribution of getting exactly k
@@ -220,129 +345,336 @@ public class Gamma extends GaussLegendreQuadrature {
 
     /**
      * Returns the incomplete gamma function P(a,x).
+     * This method also stores the logarithm of gamma function of a, which can
+     * be retrieved using {@link #getGln()}. Hence, instances of this class
+     * must not be shared among threads when calling this method.
      *
      * @param a a parameter.
      * @param x x parameter.
      * @return value of incomplete gamma function.
      * @throws IllegalArgumentException       if provided values are invalid.
      * @throws MaxIterationsExceededException if convergence cannot be reached.
+     * @see #regularizedGammaP(double, double)
      */
     public double gammp(final double a, final double x) throws MaxIterationsExceededException {
         if (x < 0.0 || a <= 0.0) {
             throw new IllegalArgumentException("bad args in gammp");
         }
 
-        if (x == 0.0) {
-            return 0.0;
-        } else if ((int) a >= ASWITCH) {
-            return gammpapprox(a, x, 1);
-        } else if (x < a + 1.0) {
-            return gser(a, x);
-        } else {
-            return 1.0 - gcf(a, x);
+        gln = gammln(a);
+        pendingGlnA = Double.NaN;
+        return internalGammp(a, x, gln, configuration);
+    }
+
+    /**
+     * Returns the incomplete gamma function P(a,x).
+     * This method does not modify any state and can be safely called
+     * concurrently from multiple threads.
+     *
+     * @param a a parameter.
+     * @param x x parameter.
+     * @return value of incomplete gamma function.
+     * @throws IllegalArgumentException       if provided values are invalid.
+     * @throws MaxIterationsExceededException if convergence cannot be reached.
+     */
+    public static double regularizedGammaP(final double a, final double x) throws MaxIterationsExceededException {
+        return regularizedGammaP(a, x, GammaConfiguration.DEFAULT);
+    }
+
+    /**
+     * Returns the incomplete gamma function P(a,x) using provided
+     * configuration to limit the amount of iterations.
+     * This method does not modify any state and can be safely called
+     * concurrently from multiple threads.
+     *
+     * @param a             a parameter.
+     * @param x             x parameter.
+     * @param configuration configuration of iterative evaluation.
+     * @return value of incomplete gamma function.
+     * @throws IllegalArgumentException       if provided values are invalid.
+     * @throws NullPointerException           if provided configuration is null.
+     * @throws MaxIterationsExceededException if convergence cannot be reached
+     *                                        and configuration requires an exception to be thrown.
+     */
+    public static double regularizedGammaP(final double a, final double x, final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
+        if (configuration == null) {
+            throw new NullPointerException();
+        }
+        if (x < 0.0 || a <= 0.0) {
+            throw new IllegalArgumentException("bad args in gammp");
         }
+
+        return internalGammp(a, x, gammln(a), configuration);
     }
 
     /**
      * Returns the incomplete gamma function Q(a, x) = 1 - P(a, x).
+     * This method also stores the logarithm of gamma function of a, which can
+     * be retrieved using {@link #getGln()}. Hence, instances of this class
+     * must not be shared among threads when calling this method.
      *
      * @param a a parameter.
      * @param x x parameter.
      * @return value of incomplete gamma function.
      * @throws IllegalArgumentException       if provided values are invalid.
      * @throws MaxIterationsExceededException if convergence cannot be reached.
+     * @see #regularizedGammaQ(double, double)
      */
     public double gammq(final double a, final double x) throws MaxIterationsExceededException {
         if (x < 0.0 || a <= 0.0) {
             throw new IllegalArgumentException("bad args in gammq");
         }
 
+        gln = gammln(a);
+        pendingGlnA = Double.NaN;
+        return internalGammq(a, x, gln, configuration);
+    }
+
+    /**
+     * Returns the incomplete gamma function Q(a, x) = 1 - P(a, x).
+     * This method does not modify any state and can be safely called
+     * concurrently from multiple threads.
+     *
+     * @param a a parameter.
+     * @param x x parameter.
+     * @return value of incomplete gamma function.
+     * @throws IllegalArgumentException       if provided values are invalid.
+     * @throws MaxIterationsExceededException if convergence cannot be reached.
+     */
+    public static double regularizedGammaQ(final double a, final double x) throws MaxIterationsExceededException {
+        return regularizedGammaQ(a, x, GammaConfiguration.DEFAULT);
+    }
+
+    /**
+     * Returns the incomplete gamma function Q(a, x) = 1 - P(a, x) using
+     * provided configuration to limit the amount of iterations.
+     * This method does not modify any state and can be safely called
+     * concurrently from multiple threads.
+     *
+     * @param a             a parameter.
+     * @param x             x parameter.
+     * @param configuration configuration of iterative evaluation.
+     * @return value of incomplete gamma function.
+     * @throws IllegalArgumentException       if provided values are invalid.
+     * @throws NullPointerException           if provided configuration is null.
+     * @throws MaxIterationsExceededException if convergence cannot be reached
+     *                                        and configuration requires an exception to be thrown.
+     */
+    public static double regularizedGammaQ(final double a, final double x, final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
+        if (configuration == null) {
+            throw new NullPointerException();
+        }
+        if (x < 0.0 || a <= 0.0) {
+            throw new IllegalArgumentException("bad args in gammq");
+        }
+
+        return internalGammq(a, x, gammln(a), configuration);
+    }
+
+    /**
+     * Inverse function on x of P(a, x).
+     * Returns x such that P(a,x) = p for an argument p between 0 and 1.
+     * This method also stores the logarithm of gamma function of a, which can
+     * be retrieved using {@link #getGln()}. Hence, instances of this class
+     * must not be shared among threads when calling this method.
+     *
+     * @param p argument p.
+     * @param a a parameter.
+     * @return inverse value.
+     * @throws IllegalArgumentException       if arguments are invalid.
+     * @throws MaxIterationsExceededException if maximum number of iterations is
+     *                                        exceeded.
+     * @see #inverseRegularizedGammaP(double, double)
+     */
+    public double invgammp(final double p, final double a) throws MaxIterationsExceededException {
+        if (a <= 0.) {
+            throw new IllegalArgumentException("a must be pos in invgammap");
+        }
+
+        pendingGlnA = a;
+        return cachedInvgammp(p, a, configuration);
+    }
+
+    /**
+     * Inverse function on x of P(a, x).
+     * Returns x such that P(a,x) = p for an argument p between 0 and 1.
+     * This method does not modify any state and can be safely called
+     * concurrently from multiple threads.
+     *
+     * @param p argument p.
+     * @param a a parameter.
+     * @return inverse value.
+     * @throws IllegalArgumentException       if arguments are invalid.
+     * @throws MaxIterationsExceededException if maximum number of iterations is
+     *                                        exceeded.
+     */
+    public static double inverseRegularizedGammaP(final double p, final double a)
+            throws MaxIterationsExceededException {
+        return inverseRegularizedGammaP(p, a, GammaConfiguration.DEFAULT);
+    }
+
+    /**
+     * Inverse function on x of P(a, x) using provided configuration to limit
+     * the amount of iterations when evaluating P(a, x).
+     * Returns x such that P(a,x) = p for an argument p between 0 and 1.
+     * This method does not modify any state and can be safely called
+     * concurrently from multiple threads.
+     * The optional cache of inverse values is only used with the default
+     * configuration.
+     *
+     * @param p             argument p.
+     * @param a             a parameter.
+     * @param configuration configuration of iterative evaluation.
+     * @return inverse value.
+     * @throws IllegalArgumentException       if arguments are invalid.
+     * @throws NullPointerException           if provided configuration is null.
+     * @throws MaxIterationsExceededException if maximum number of iterations is
+     *                                        exceeded and configuration requires an exception to be thrown.
+     */
+    public static double inverseRegularizedGammaP(final double p, final double a,
+                                                  final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
+        if (configuration == null) {
+            throw new NullPointerException();
+        }
+        if (a <= 0.) {
+            throw new IllegalArgumentException("a must be pos in invgammap");
+        }
+
+        return cachedInvgammp(p, a, configuration);
+    }
+
+    /**
+     * Gets optional cache of inverse values of P(a, x).
+     *
+     * @return cache of inverse values of P(a, x) or null if disabled.
+     */
+    public static QuantileCache getInvgammpCache() {
+        return invgammpCache;
+    }
+
+    /**
+     * Sets optional cache of inverse values of P(a, x).
+     * When enabled, values of {@link #invgammp(double, double)} and
+     * {@link #inverseRegularizedGammaP(double, double)} are cached using the
+     * exact values of p and a as key, so that repeated calls using the same
+     * arguments return without any iteration.
+     * Only values computed using the default {@link GammaConfiguration} are
+     * cached. The same cache can also be used by other functions, such as
+     * {@link ChiSqDist#setInvcdfCache(QuantileCache)}.
+     * By default, no cache is used.
+     *
+     * @param invgammpCache cache of inverse values of P(a, x) or null to
+     *                      disable it.
+     */
+    public static void setInvgammpCache(final QuantileCache invgammpCache) {
+        Gamma.invgammpCache = invgammpCache;
+    }
+
+    /**
+     * Returns the incomplete gamma function P(a,x) for valid arguments.
+     *
+     * @param a             a parameter.
+     * @param x             x parameter.
+     * @param gln           logarithm of gamma function of a.
+     * @param configuration configuration of iterative evaluation.
+     * @return value of incomplete gamma function.
+     * @throws MaxIterationsExceededException if convergence cannot be reached.
+     */
+    private static double internalGammp(final double a, final double x, final double gln,
+                                        final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
         if (x == 0.0) {
-            return 1.0;
+            return 0.0;
         } else if ((int) a >= ASWITCH) {
-            return gammpapprox(a, x, 0);
+            return gammpapprox(a, x, 1, gln);
         } else if (x < a + 1.0) {
-            return 1.0 - gser(a, x);
+            return gser(a, x, gln, configuration);
         } else {
-            return gcf(a, x);
+            return 1.0 - gcf(a, x, gln, configuration);
         }
     }
 
     /**
-     * Returns the incomplete gamma function P(a, x) evaluated by its series
-     * representation.
+     * Returns the incomplete gamma function Q(a,x) for valid arguments.
      *
-     * @param a a parameter to obtain its gamma logarithm.
-     * @param x x parameter.
-     * @return incomplete gamma function.
-     * @throws MaxIterationsExceededException if maximum number of iterations is
-     *                                        exceeded.
+     * @param a             a parameter.
+     * @param x             x parameter.
+     * @param gln           logarithm of gamma function of a.
+     * @param configuration configuration of iterative evaluation.
+     * @return value of incomplete gamma function.
+     * @throws MaxIterationsExceededException if convergence cannot be reached.
      */
-    private double gser(final double a, final double x) throws MaxIterationsExceededException {
-        return gser(a, x, DEFAULT_MAX_ITERATIONS);
+    private static double internalGammq(final double a, final double x, final double gln,
+                                        final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
+        if (x == 0.0) {
+            return 1.0;
+        } else if ((int) a >= ASWITCH) {
+            return gammpapprox(a, x, 0, gln);
+        } else if (x < a + 1.0) {
+            return 1.0 - gser(a, x, gln, configuration);
+        } else {
+            return gcf(a, x, gln, configuration);
+        }
     }
 
     /**
      * Returns the incomplete gamma function P(a, x) evaluated by its series
      * representation.
      *
-     * @param a             a parameter to obtain its gamma logarithm.
+     * @param a             a parameter.
      * @param x             x parameter.
-     * @param maxIterations maximum number of iterations.
+     * @param gln           logarithm of gamma function of a.
+     * @param configuration configuration of iterative evaluation.
      * @return incomplete gamma function.
      * @throws MaxIterationsExceededException if maximum number of iterations is
-     *                                        exceeded.
+     *                                        exceeded and configuration requires an exception to be thrown.
      */
-    @SuppressWarnings("SameParameterValue")
-    private double gser(final double a, final double x, final int maxIterations) throws MaxIterationsExceededException {
+    private static double gser(final double a, final double x, final double gln,
+                               final GammaConfiguration configuration) throws MaxIterationsExceededException {
         double sum;
         double del;
         double ap;
+        final var maxIterations = configuration.getMaxIterations();
+        final var tolerance = configuration.getRelativeTolerance();
 
-        gln = gammln(a);
         ap = a;
         del = sum = 1.0 / a;
-        for (; ; ) {
+        for (int i = 1; ; i++) {
             ++ap;
             del *= x / ap;
             sum += del;
-            if (Math.abs(del) < Math.abs(sum) * EPS) {
-                return sum * Math.exp(-x + a * Math.log(x) - gln);
+            if (Math.abs(del) < Math.abs(sum) * tolerance) {
+                break;
             }
 
-            if (ap >= maxIterations) {
-                throw new MaxIterationsExceededException();
+            if (i >= maxIterations) {
+                if (configuration.getConvergencePolicy() == ConvergencePolicy.THROW) {
+                    throw new MaxIterationsExceededException();
+                }
+                break;
             }
         }
+        return sum * Math.exp(-x + a * Math.log(x) - gln);
     }
 
     /**
      * Returns the incomplete gamma function Q(a, x) evaluated by its continued
      * fraction representation.
      *
-     * @param a a parameter to obtain its gamma logarithm.
-     * @param x x parameter.
-     * @return incomplete gamma function.
-     * @throws MaxIterationsExceededException if maximum number of iterations is
-     *                                        exceeded.
-     */
-    private double gcf(final double a, final double x) throws MaxIterationsExceededException {
-        return gcf(a, x, DEFAULT_MAX_ITERATIONS);
-    }
-
-    /**
-     * Returns the incomplete gamma function Q(a, x) evaluated by its continued
-     * fraction representation.
-     *
-     * @param a             a parameter to obtain its gamma logarithm.
+     * @param a             a parameter.
      * @param x             x parameter.
-     * @param maxIterations maximum number of iterations.
+     * @param gln           logarithm of gamma function of a.
+     * @param configuration configuration of iterative evaluation.
      * @return incomplete gamma function.
      * @throws MaxIterationsExceededException if maximum number of iterations is
-     *                                        exceeded.
+     *                                        exceeded and configuration requires an exception to be thrown.
      */
-    @SuppressWarnings("SameParameterValue")
-    private double gcf(final double a, final double x, final int maxIterations) throws MaxIterationsExceededException {
+    private static double gcf(final double a, final double x, final double gln,
+                              final GammaConfiguration configuration) throws MaxIterationsExceededException {
         int i;
         double an;
         double b;
@@ -350,7 +682,8 @@ public class Gamma extends GaussLegendreQuadrature {
         double d;
         double del;
         double h;
-        gln = gammln(a);
+        final var maxIterations = configuration.getMaxIterations();
+        final var tolerance = configuration.getRelativeTolerance();
         b = x + 1.0 - a;
         c = 1.0 / FPMIN;
         d = 1.0 / b;
@@ -369,11 +702,14 @@ public class Gamma extends GaussLegendreQuadrature {
             d = 1.0 / d;
             del = d * c;
             h *= del;
-            if (Math.abs(del - 1.0) <= EPS) {
+            if (Math.abs(del - 1.0) <= tolerance) {
                 break;
             }
             if (i >= maxIterations) {
-                throw new MaxIterationsExceededException();
+                if (configuration.getConvergencePolicy() == ConvergencePolicy.THROW) {
+                    throw new MaxIterationsExceededException();
+                }
+                break;
             }
         }
         return Math.exp(-x + a * Math.log(x) - gln) * h;
@@ -386,9 +722,10 @@ public class Gamma extends GaussLegendreQuadrature {
      * @param a    a parameter.
      * @param x    x parameter.
      * @param psig a flag.
+     * @param gln  logarithm of gamma function of a.
      * @return incomplete gamma by quadrature.
      */
-    private double gammpapprox(final double a, final double x, final int psig) {
+    private static double gammpapprox(final double a, final double x, final int psig, final double gln) {
         int j;
         final double xu;
         double t;
@@ -397,7 +734,6 @@ public class Gamma extends GaussLegendreQuadrature {
         final double a1 = a - 1.0;
         final double lna1 = Math.log(a1);
         final double sqrta1 = Math.sqrt(a1);
-        gln = gammln(a);
         if (x > a1) {
             xu = Math.max(a1 + 11.5 * sqrta1, x + 6.0 * sqrta1);
         } else {
@@ -418,17 +754,58 @@ public class Gamma extends GaussLegendreQuadrature {
     }
 
     /**
-     * Inverse function on x of P(a, x).
-     * Returns x such that P(a,x) = p for an argument p between 0 and 1.
+     * Inverse function on x of P(a, x) for a valid parameter a, using the
+     * optional cache of inverse values if enabled and default configuration
+     * is used.
+     *
+     * The logarithm of gamma function of a is only evaluated when the value is
+     * not cached.
+     *
+     * @param p             argument p.
+     * @param a             a parameter.
+     * @param configuration configuration of iterative evaluation.
+     * @return inverse value.
+     * @throws MaxIterationsExceededException if maximum number of iterations is
+     *                                        exceeded.
+     */
+    private static double cachedInvgammp(final double p, final double a, final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
+        final var cache = invgammpCache;
+        if (cache == null || !GammaConfiguration.DEFAULT.equals(configuration)) {
+            return internalInvgammp(p, a, gammln(a), configuration);
+        }
+        return cache.get(p, a, INVGAMMP_EVALUATOR);
+    }
+
+    /**
+     * Inverse function on x of P(a, x) using default configuration, which is
+     * used to compute values not found in the cache.
      *
      * @param p argument p.
      * @param a a parameter.
      * @return inverse value.
-     * @throws IllegalArgumentException       if arguments are invalid.
      * @throws MaxIterationsExceededException if maximum number of iterations is
      *                                        exceeded.
      */
-    public double invgammp(final double p, final double a) throws MaxIterationsExceededException {
+    private static double computeInvgammp(final double p, final double a) throws MaxIterationsExceededException {
+        return internalInvgammp(p, a, gammln(a), GammaConfiguration.DEFAULT);
+    }
+
+    /**
+     * Inverse function on x of P(a, x) for provided logarithm of gamma
+     * function of a.
+     *
+     * @param p             argument p.
+     * @param a             a parameter.
+     * @param gln           logarithm of gamma function of a.
+     * @param configuration configuration of iterative evaluation.
+     * @return inverse value.
+     * @throws MaxIterationsExceededException if maximum number of iterations is
+     *                                        exceeded.
+     */
+    private static double internalInvgammp(final double p, final double a, final double gln,
+                                           final GammaConfiguration configuration)
+            throws MaxIterationsExceededException {
         int j;
         double x;
         double err;
@@ -438,10 +815,6 @@ public class Gamma extends GaussLegendreQuadrature {
         double lna1 = 0.0;
         double afac = 0.0;
         final double a1 = a - 1.0;
-        gln = gammln(a);
-        if (a <= 0.) {
-            throw new IllegalArgumentException("a must be pos in invgammap");
-        }
         if (p >= 1.) {
             return Math.max(100., a + 100. * Math.sqrt(a));
         }
@@ -470,7 +843,7 @@ public class Gamma extends GaussLegendreQuadrature {
             if (x <= 0.0) {
                 return 0.0;
             }
-            err = gammp(a, x) - p;
+            err = internalGammp(a, x, gln, configuration) - p;
             if (a > 1.) {
                 t = afac * Math.exp(-(x - a1) + a1 * (Math.log(x) - lna1));
             } else {
@@ -481,10 +854,36 @@ public class Gamma extends GaussLegendreQuadrature {
             if (x <= 0.) {
                 x = 0.5 * (x + t);
             }
-            if (Math.abs(t) < EPS * x) {
+            if (Math.abs(t) < configuration.getRelativeTolerance() * x) {
                 break;
             }
         }
         return x;
     }
+
+    /**
+     * Holds the table of factorials, which is initialized by the class loader
+     * the first time it is needed, hence it is safely published to all
+     * threads.
+     */
+    private static final class FactorialsHolder {
+
+        /**
+         * Table where factorials are cached.
+         */
+        static final double[] TABLE = new double[MAX_FACTORIALS + 1];
+
+        static {
+            TABLE[0] = 1.;
+            for (int i = 1; i < (MAX_FACTORIALS + 1); i++) {
+                TABLE[i] = i * TABLE[i - 1];
+            }
+        }
+
+        /**
+         * Prevents instantiation.
+         */
+        private FactorialsHolder() {
+        }
+    }
 }
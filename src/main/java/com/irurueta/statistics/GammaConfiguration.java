@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Objects;
+
+/**
+ * Configuration of iterative evaluation of incomplete gamma functions.
+ * Allows limiting the amount of work done on each evaluation by setting the
+ * maximum number of iterations and the relative tolerance, and choosing
+ * whether an exception is thrown or the last estimation is returned when
+ * convergence is not reached.
+ * Instances of this class are immutable, hence they can be safely shared
+ * among threads.
+ */
+public class GammaConfiguration {
+
+    /**
+     * Default maximum number of iterations.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    /**
+     * Default relative tolerance, which is related to machine precision.
+     */
+    public static final double DEFAULT_RELATIVE_TOLERANCE = Math.ulp(1.0);
+
+    /**
+     * Default convergence policy.
+     */
+    public static final ConvergencePolicy DEFAULT_CONVERGENCE_POLICY = ConvergencePolicy.THROW;
+
+    /**
+     * Default configuration, which provides full double precision and throws
+     * {@link MaxIterationsExceededException} when convergence is not reached.
+     */
+    public static final GammaConfiguration DEFAULT = new GammaConfiguration();
+
+    /**
+     * Maximum number of iterations.
+     */
+    private final int maxIterations;
+
+    /**
+     * Relative tolerance.
+     */
+    private final double relativeTolerance;
+
+    /**
+     * Convergence policy.
+     */
+    private final ConvergencePolicy convergencePolicy;
+
+    /**
+     * Constructor using default values.
+     */
+    public GammaConfiguration() {
+        this(DEFAULT_MAX_ITERATIONS, DEFAULT_RELATIVE_TOLERANCE, DEFAULT_CONVERGENCE_POLICY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxIterations     maximum number of iterations.
+     * @param relativeTolerance relative tolerance.
+     * @param convergencePolicy policy to follow when convergence is not
+     *                          reached.
+     * @throws IllegalArgumentException if maximum number of iterations is less
+     *                                  than 1 or if relative tolerance is not positive.
+     * @throws NullPointerException     if provided convergence policy is null.
+     */
+    public GammaConfiguration(final int maxIterations, final double relativeTolerance,
+                              final ConvergencePolicy convergencePolicy) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("maxIterations must be at least 1");
+        }
+        if (!(relativeTolerance > 0.0)) {
+            throw new IllegalArgumentException("relativeTolerance must be greater than 0.0");
+        }
+        if (convergencePolicy == null) {
+            throw new NullPointerException();
+        }
+
+        this.maxIterations = maxIterations;
+        this.relativeTolerance = relativeTolerance;
+        this.convergencePolicy = convergencePolicy;
+    }
+
+    /**
+     * Gets maximum number of iterations.
+     *
+     * @return maximum number of iterations.
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Gets relative tolerance.
+     * Iterations stop once the relative change of the estimation is below
+     * this value.
+     *
+     * @return relative tolerance.
+     */
+    public double getRelativeTolerance() {
+        return relativeTolerance;
+    }
+
+    /**
+     * Gets policy to follow when convergence is not reached.
+     *
+     * @return convergence policy.
+     */
+    public ConvergencePolicy getConvergencePolicy() {
+        return convergencePolicy;
+    }
+
+    /**
+     * Indicates whether provided object is a configuration having the same
+     * values as this instance.
+     *
+     * @param obj object to be compared.
+     * @return true if both configurations are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof GammaConfiguration)) {
+            return false;
+        }
+        final var other = (GammaConfiguration) obj;
+        return maxIterations == other.maxIterations
+                && Double.compare(relativeTolerance, other.relativeTolerance) == 0
+                && convergencePolicy == other.convergencePolicy;
+    }
+
+    /**
+     * Computes hash code of this configuration.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxIterations, relativeTolerance, convergencePolicy);
+    }
+}
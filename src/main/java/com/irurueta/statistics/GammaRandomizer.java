@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates pseudo-random values following a Gamma distribution having the
+ * specified shape and scale. By default, shape is equal to DEFAULT_SHAPE and
+ * scale is equal to DEFAULT_SCALE.
+ * Values are generated using the method of Marsaglia and Tsang, which has a
+ * constant expected cost regardless of the shape.
+ */
+public class GammaRandomizer extends Randomizer {
+
+    /**
+     * Specifies shape to be used for random value generation if none is
+     * provided.
+     */
+    public static final double DEFAULT_SHAPE = 1.0;
+
+    /**
+     * Specifies scale to be used for random value generation if none is
+     * provided.
+     */
+    public static final double DEFAULT_SCALE = 1.0;
+
+    /**
+     * Sampler of values having unit scale and the shape of this randomizer.
+     */
+    private GammaSampler sampler;
+
+    /**
+     * Scale of generated values.
+     */
+    private double scale;
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     */
+    public GammaRandomizer() {
+        this(new Random());
+    }
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     *
+     * @param shape shape of generated values.
+     * @param scale scale of generated values.
+     * @throws IllegalArgumentException if provided shape or scale are negative
+     *                                  or zero.
+     */
+    public GammaRandomizer(final double shape, final double scale) {
+        this(new Random(), shape, scale);
+    }
+
+    /**
+     * Constructor.
+     * Because neither shape nor scale are provided, values DEFAULT_SHAPE and
+     * DEFAULT_SCALE will be used instead.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @throws NullPointerException if provided internal random is null.
+     */
+    public GammaRandomizer(final Random internalRandom) {
+        this((RandomGenerator) internalRandom);
+    }
+
+    /**
+     * Constructor.
+     * Because neither shape nor scale are provided, values DEFAULT_SHAPE and
+     * DEFAULT_SCALE will be used instead.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @throws NullPointerException if provided internal generator is null.
+     */
+    public GammaRandomizer(final RandomGenerator internalGenerator) {
+        this(internalGenerator, DEFAULT_SHAPE, DEFAULT_SCALE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @param shape          shape of generated values.
+     * @param scale          scale of generated values.
+     * @throws IllegalArgumentException if provided shape or scale are negative
+     *                                  or zero.
+     * @throws NullPointerException     if provided internal random is null.
+     */
+    public GammaRandomizer(final Random internalRandom, final double shape, final double scale) {
+        this((RandomGenerator) internalRandom, shape, scale);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @param shape             shape of generated values.
+     * @param scale             scale of generated values.
+     * @throws IllegalArgumentException if provided shape or scale are negative
+     *                                  or zero.
+     * @throws NullPointerException     if provided internal generator is null.
+     */
+    public GammaRandomizer(final RandomGenerator internalGenerator, final double shape, final double scale) {
+        super(internalGenerator);
+        setShape(shape);
+        setScale(scale);
+    }
+
+    /**
+     * Returns shape of generated values.
+     *
+     * @return shape of generated values.
+     */
+    public double getShape() {
+        return sampler.getShape();
+    }
+
+    /**
+     * Sets shape of generated values.
+     *
+     * @param shape shape of generated values.
+     * @throws IllegalArgumentException if provided shape is negative or zero.
+     */
+    public final void setShape(final double shape) {
+        sampler = new GammaSampler(shape);
+    }
+
+    /**
+     * Returns scale of generated values.
+     *
+     * @return scale of generated values.
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Sets scale of generated values.
+     *
+     * @param scale scale of generated values.
+     * @throws IllegalArgumentException if provided scale is negative or zero.
+     */
+    public final void setScale(final double scale) {
+        if (!(scale > 0.0)) {
+            throw new IllegalArgumentException();
+        }
+        this.scale = scale;
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the mean (shape * scale).
+     *
+     * @return Next boolean value.
+     */
+    @Override
+    public boolean nextBoolean() {
+        return nextBoolean(sampler.getShape() * scale);
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the provided threshold, which is
+     * equal to the Gamma c.d.f. at such threshold.
+     *
+     * @param threshold Threshold to determine whether returned values will be
+     *                  true or false.
+     * @return Next random boolean value.
+     */
+    public boolean nextBoolean(final double threshold) {
+        return nextDouble() < threshold;
+    }
+
+    /**
+     * Returns next random Gamma value truncated to an integer.
+     *
+     * @return Next random integer value.
+     */
+    @Override
+    public int nextInt() {
+        return (int) nextDouble();
+    }
+
+    /**
+     * Returns next random Gamma value truncated to a long.
+     *
+     * @return Next random long value.
+     */
+    @Override
+    public long nextLong() {
+        return (long) nextDouble();
+    }
+
+    /**
+     * Returns next random Gamma floating-point value.
+     *
+     * @return Next random floating-point value.
+     */
+    @Override
+    public float nextFloat() {
+        return (float) nextDouble();
+    }
+
+    /**
+     * Returns next random Gamma double precision floating-point value.
+     *
+     * @return Next random double precision floating-point value.
+     */
+    @Override
+    public double nextDouble() {
+        return scale * sampler.next(getInternalGenerator());
+    }
+
+    /**
+     * Fills provided array with random Gamma double precision floating-point
+     * values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final double[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = scale * sampler.next(generator);
+        }
+    }
+
+    /**
+     * Returns the randomizer type of this instance.
+     *
+     * @return Randomizer type.
+     */
+    @Override
+    public RandomizerType getType() {
+        return RandomizerType.GAMMA_RANDOMIZER;
+    }
+
+    /**
+     * Creates a new Gamma randomizer having the same shape and scale as this
+     * instance and using provided internal generator.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values for the new instance.
+     * @return a new Gamma randomizer.
+     */
+    @Override
+    protected GammaRandomizer newInstance(final RandomGenerator internalGenerator) {
+        return new GammaRandomizer(internalGenerator, sampler.getShape(), scale);
+    }
+}
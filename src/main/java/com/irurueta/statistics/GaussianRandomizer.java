@@ -15,13 +15,22 @@
  */
 package com.irurueta.statistics;
 
+import java.util.Arrays;
 import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
 
 /**
  * Generates pseudo-random values following a Gaussian distribution having
  * the specified mMean and standard deviation. By default, mMean is equal to
  * DEFAULT_MEAN and the standard deviation is equal to
  * DEFAULT_STANDARD_DEVIATION.
+ * Generated values can optionally be truncated to an interval by setting
+ * lower and/or upper bounds. Truncated values are generated directly within
+ * the interval (using normal, uniform or exponential proposals depending on
+ * where the interval is located), so that generation remains fast even when
+ * the interval lies far in a tail, where drawing Gaussian values until one
+ * falls within bounds would require thousands of attempts per value.
  */
 public class GaussianRandomizer extends Randomizer {
 
@@ -37,6 +46,32 @@ public class GaussianRandomizer extends Randomizer {
      */
     public static final double DEFAULT_STANDARD_DEVIATION = 1.0;
 
+    /**
+     * Specifies method used to generate normally distributed values if none
+     * is provided.
+     */
+    public static final GaussianSamplingMethod DEFAULT_METHOD = GaussianSamplingMethod.GENERATOR;
+
+    /**
+     * Lower bound of generated values if none is provided, which means that
+     * values are not truncated from below.
+     */
+    public static final double DEFAULT_LOWER_BOUND = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Upper bound of generated values if none is provided, which means that
+     * values are not truncated from above.
+     */
+    public static final double DEFAULT_UPPER_BOUND = Double.POSITIVE_INFINITY;
+
+    /**
+     * Maximum absolute value of standardized bounds collapsing into a single
+     * point for which the density within bounds is considered flat.
+     * Collapsed bounds are less than one ulp apart, hence the density changes
+     * less than a factor exp(a * a * 2^-52) within them.
+     */
+    private static final double FLAT_DENSITY_THRESHOLD = 0x1.0p26;
+
     /**
      * Contains mMean value to be used for random value generation.
      */
@@ -47,6 +82,33 @@ public class GaussianRandomizer extends Randomizer {
      */
     private double standardDeviation;
 
+    /**
+     * Method used to generate normally distributed values.
+     */
+    private GaussianSamplingMethod method = DEFAULT_METHOD;
+
+    /**
+     * Lower bound of generated values.
+     */
+    private double lowerBound = DEFAULT_LOWER_BOUND;
+
+    /**
+     * Upper bound of generated values.
+     */
+    private double upperBound = DEFAULT_UPPER_BOUND;
+
+    /**
+     * Sampler of truncated standard normal values for current mean, standard
+     * deviation and bounds, or null if values are not truncated.
+     */
+    private TruncatedNormalSampler truncatedSampler;
+
+    /**
+     * Value returned when values are truncated to an interval that collapses
+     * into a single point once standardized, or NaN otherwise.
+     */
+    private double collapsedValue = Double.NaN;
+
     /**
      * Constructor.
      * Uses default {@link Random} implementation.
@@ -79,7 +141,21 @@ public class GaussianRandomizer extends Randomizer {
      * @throws NullPointerException thrown if provided internal random is null.
      */
     public GaussianRandomizer(final Random internalRandom) {
-        super(internalRandom);
+        this((RandomGenerator) internalRandom);
+    }
+
+    /**
+     * Constructor.
+     * Because neither mean nor standard deviation are provided, values
+     * DEFAULT_MEAN and DEFAULT_STANDARD_DEVIATION will be used instead.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @throws NullPointerException thrown if provided internal generator is
+     *                              null.
+     */
+    public GaussianRandomizer(final RandomGenerator internalGenerator) {
+        super(internalGenerator);
         mean = DEFAULT_MEAN;
         standardDeviation = DEFAULT_STANDARD_DEVIATION;
     }
@@ -96,7 +172,23 @@ public class GaussianRandomizer extends Randomizer {
      * @throws NullPointerException     if provided internal Random instance is null.
      */
     public GaussianRandomizer(final Random internalRandom, final double mean, final double standardDeviation) {
-        super(internalRandom);
+        this((RandomGenerator) internalRandom, mean, standardDeviation);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @param mean              Mean value of generated Gaussian values.
+     * @param standardDeviation Standard deviation of generated Gaussian values.
+     * @throws IllegalArgumentException thrown if provided standard deviation
+     *                                  is negative or zero.
+     * @throws NullPointerException     if provided internal generator is null.
+     */
+    public GaussianRandomizer(final RandomGenerator internalGenerator, final double mean,
+                              final double standardDeviation) {
+        super(internalGenerator);
 
         if (standardDeviation <= 0.0) {
             throw new IllegalArgumentException();
@@ -121,6 +213,7 @@ public class GaussianRandomizer extends Randomizer {
      */
     public void setMean(final double mean) {
         this.mean = mean;
+        updateTruncatedSampler();
     }
 
     /**
@@ -145,6 +238,88 @@ public class GaussianRandomizer extends Randomizer {
             throw new IllegalArgumentException();
         }
         this.standardDeviation = standardDeviation;
+        updateTruncatedSampler();
+    }
+
+    /**
+     * Returns lower bound of generated values.
+     * By default, values are not truncated and this is negative infinity.
+     *
+     * @return lower bound.
+     */
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Returns upper bound of generated values.
+     * By default, values are not truncated and this is positive infinity.
+     *
+     * @return upper bound.
+     */
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Sets bounds of generated values, so that generated values follow a
+     * Gaussian distribution truncated to interval [lowerBound, upperBound].
+     * Infinite bounds can be used to truncate only one side, or to disable
+     * truncation.
+     * When values are truncated, the sampling method is ignored.
+     * If the standard deviation is so large (or small) respect to the
+     * interval width that both bounds become the same value once standardized,
+     * the distribution within the interval cannot be sampled, and then the
+     * midpoint of the interval (or the bound closest to the mean) is always
+     * returned.
+     *
+     * @param lowerBound lower bound.
+     * @param upperBound upper bound.
+     * @throws IllegalArgumentException if lower bound is not smaller than upper
+     *                                  bound or if any bound is NaN.
+     */
+    public void setBounds(final double lowerBound, final double upperBound) {
+        if (!(lowerBound < upperBound)) {
+            throw new IllegalArgumentException();
+        }
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        updateTruncatedSampler();
+    }
+
+    /**
+     * Indicates whether generated values are truncated because a finite lower
+     * or upper bound has been set.
+     *
+     * @return true if generated values are truncated, false otherwise.
+     */
+    public boolean isTruncated() {
+        return lowerBound != Double.NEGATIVE_INFINITY || upperBound != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns method used to generate normally distributed values.
+     *
+     * @return method used to generate normally distributed values.
+     */
+    public GaussianSamplingMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Sets method used to generate normally distributed values.
+     * {@link GaussianSamplingMethod#ZIGGURAT} is usually several times faster
+     * than {@link GaussianSamplingMethod#GENERATOR}, particularly when the
+     * internal generator is a {@link Random}.
+     *
+     * @param method method used to generate normally distributed values.
+     * @throws NullPointerException if provided value is null.
+     */
+    public void setMethod(final GaussianSamplingMethod method) {
+        if (method == null) {
+            throw new NullPointerException();
+        }
+        this.method = method;
     }
 
     /**
@@ -168,7 +343,7 @@ public class GaussianRandomizer extends Randomizer {
      * @return Next random boolean value.
      */
     public boolean nextBoolean(final double threshold) {
-        return (standardDeviation * getInternalRandom().nextGaussian() + mean) < threshold;
+        return nextGaussianValue() < threshold;
     }
 
     /**
@@ -216,7 +391,7 @@ public class GaussianRandomizer extends Randomizer {
      */
     @Override
     public int nextInt() {
-        return (int) (standardDeviation * getInternalRandom().nextGaussian() + mean);
+        return (int) nextGaussianValue();
     }
 
     /**
@@ -227,7 +402,7 @@ public class GaussianRandomizer extends Randomizer {
      */
     @Override
     public long nextLong() {
-        return (long) (standardDeviation * getInternalRandom().nextGaussian() + mean);
+        return (long) nextGaussianValue();
     }
 
     /**
@@ -238,7 +413,7 @@ public class GaussianRandomizer extends Randomizer {
      */
     @Override
     public float nextFloat() {
-        return (float) (standardDeviation * getInternalRandom().nextGaussian() + mean);
+        return (float) nextGaussianValue();
     }
 
     /**
@@ -249,7 +424,79 @@ public class GaussianRandomizer extends Randomizer {
      */
     @Override
     public double nextDouble() {
-        return standardDeviation * getInternalRandom().nextGaussian() + mean;
+        return nextGaussianValue();
+    }
+
+    /**
+     * Fills provided array with random Gaussian double precision
+     * floating-point values having provided mean and standard deviation.
+     * This method does not allocate any memory. When the internal generator is
+     * a {@link BulkRandomGenerator} and the method is
+     * {@link GaussianSamplingMethod#ZIGGURAT}, whole blocks of buffered bits
+     * are converted into Gaussian values at once. When values are truncated,
+     * all of them lie within bounds.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final double[] array) {
+        final var generator = getInternalGenerator();
+        final var sampler = truncatedSampler;
+        if (sampler != null) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = truncate(standardDeviation * sampler.next(generator) + mean);
+            }
+            return;
+        }
+        if (isTruncated()) {
+            Arrays.fill(array, collapsedValue);
+            return;
+        }
+
+        switch (method) {
+            case ZIGGURAT:
+                if (generator instanceof BulkRandomGenerator bulk) {
+                    bulk.fillGaussians(array, 0, array.length, mean, standardDeviation);
+                    break;
+                }
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = standardDeviation * ZigguratNormalSampler.nextGaussian(generator) + mean;
+                }
+                break;
+            case INVERSION:
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = standardDeviation * nextInversionGaussian(generator) + mean;
+                }
+                break;
+            case GENERATOR:
+            default:
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = standardDeviation * generator.nextGaussian() + mean;
+                }
+                break;
+        }
+    }
+
+    /**
+     * Returns a sized stream of random Gaussian values having provided mean
+     * and standard deviation, which are generated using the sampling method
+     * and bounds of this instance.
+     * The stream can be efficiently run in parallel and, for a given seed, it
+     * always contains the same values.
+     *
+     * @param size              number of values.
+     * @param mean              mean of generated values.
+     * @param standardDeviation standard deviation of generated values.
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative or if standard
+     *                                  deviation is negative or zero.
+     * @see #doubles(long)
+     */
+    public DoubleStream gaussians(final long size, final double mean, final double standardDeviation) {
+        final var prototype = new GaussianRandomizer(getInternalGenerator(), mean, standardDeviation);
+        prototype.method = method;
+        prototype.setBounds(lowerBound, upperBound);
+        return prototype.doubles(size);
     }
 
     /**
@@ -261,4 +508,109 @@ public class GaussianRandomizer extends Randomizer {
     public RandomizerType getType() {
         return RandomizerType.GAUSSIAN_RANDOMIZER;
     }
+
+    /**
+     * Creates a new Gaussian randomizer having the same mean, standard
+     * deviation, method and bounds as this instance and using provided internal generator.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values for the new instance.
+     * @return a new Gaussian randomizer.
+     */
+    @Override
+    protected GaussianRandomizer newInstance(final RandomGenerator internalGenerator) {
+        final var result = new GaussianRandomizer(internalGenerator, mean, standardDeviation);
+        result.method = method;
+        result.lowerBound = lowerBound;
+        result.upperBound = upperBound;
+        result.truncatedSampler = truncatedSampler;
+        result.collapsedValue = collapsedValue;
+        return result;
+    }
+
+    /**
+     * Returns next Gaussian value having current mean and standard deviation,
+     * which is truncated to current bounds, if any.
+     *
+     * @return next Gaussian value.
+     */
+    private double nextGaussianValue() {
+        final var sampler = truncatedSampler;
+        if (sampler != null) {
+            return truncate(standardDeviation * sampler.next(getInternalGenerator()) + mean);
+        }
+        if (isTruncated()) {
+            return collapsedValue;
+        }
+        return standardDeviation * nextStandardGaussian() + mean;
+    }
+
+    /**
+     * Clamps provided value to current bounds to prevent round-off errors
+     * from producing values out of bounds.
+     *
+     * @param value value to be clamped.
+     * @return clamped value.
+     */
+    private double truncate(final double value) {
+        return Math.min(Math.max(value, lowerBound), upperBound);
+    }
+
+    /**
+     * Updates sampler of truncated standard normal values after a change of
+     * mean, standard deviation or bounds.
+     */
+    private void updateTruncatedSampler() {
+        truncatedSampler = null;
+        collapsedValue = Double.NaN;
+        if (!isTruncated()) {
+            return;
+        }
+
+        final var a = (lowerBound - mean) / standardDeviation;
+        final var b = (upperBound - mean) / standardDeviation;
+        if (a < b) {
+            truncatedSampler = new TruncatedNormalSampler(a, b);
+        } else if (Math.abs(a) < FLAT_DENSITY_THRESHOLD) {
+            // density is flat within bounds
+            collapsedValue = 0.5 * lowerBound + 0.5 * upperBound;
+        } else {
+            // bounds are so far from the mean that all values lie on the bound
+            // closest to it
+            collapsedValue = truncate(mean);
+        }
+    }
+
+    /**
+     * Returns next standard normal value (zero mean and unit standard
+     * deviation) using current method.
+     *
+     * @return next standard normal value.
+     */
+    private double nextStandardGaussian() {
+        switch (method) {
+            case ZIGGURAT:
+                return ZigguratNormalSampler.nextGaussian(getInternalGenerator());
+            case INVERSION:
+                return nextInversionGaussian(getInternalGenerator());
+            case GENERATOR:
+            default:
+                return getInternalGenerator().nextGaussian();
+        }
+    }
+
+    /**
+     * Returns next standard normal value by inverting the normal c.d.f. at a
+     * uniform value obtained from a single 64-bit value of provided
+     * generator.
+     *
+     * @param generator generator of uniform values.
+     * @return next standard normal value.
+     */
+    private static double nextInversionGaussian(final RandomGenerator generator) {
+        // midpoint of one of 2^53 equally sized intervals, which is never 0.0
+        // or 1.0
+        final var u = ((generator.nextLong() >>> 11) + 0.5) * 0x1.0p-53;
+        return NormalDist.invcdf(u, 0.0, 1.0);
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+/**
+ * Indicates method used by a GaussianRandomizer to generate normally
+ * distributed values.
+ */
+public enum GaussianSamplingMethod {
+
+    /**
+     * Delegates generation to the nextGaussian() method of the internal
+     * generator. When the internal generator is a {@link java.util.Random},
+     * this uses its synchronized polar method.
+     */
+    GENERATOR,
+
+    /**
+     * Uses the Ziggurat method, which for most samples only requires one
+     * 64-bit random value, one table lookup and one multiplication.
+     */
+    ZIGGURAT,
+
+    /**
+     * Uses inverse transform sampling, which consumes exactly one uniform
+     * value per generated sample. When used with a counter-based generator,
+     * such as {@link PhiloxRandomGenerator}, sample i of a stream only depends
+     * on position i of such stream.
+     */
+    INVERSION
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates points of a Halton low-discrepancy sequence.
+ * The i-th coordinate of the point having index n is the radical inverse of
+ * n in a base equal to the i-th prime number (i.e. the digits of n in that
+ * base are mirrored around the radix point).
+ * Unlike {@link SobolSequence}, any number of dimensions is supported, but
+ * unscrambled points have poor projections for large bases (i.e. beyond a
+ * few tens of dimensions), where scrambling is advisable.
+ * Points can optionally be scrambled using a nested digit scrambling in the
+ * spirit of Owen's scrambling, where each digit is cyclically shifted by a
+ * random amount that depends on the previous digits. Scrambled points keep
+ * the stratification properties of the sequence while being uniformly
+ * distributed.
+ */
+public class HaltonSequence extends LowDiscrepancySequence {
+
+    /**
+     * Smallest weight of a digit that is scrambled. Scrambling stops once
+     * digits no longer affect a double precision value.
+     */
+    private static final double MIN_WEIGHT = 0x1.0p-53;
+
+    /**
+     * Largest value that can be returned.
+     */
+    private static final double MAX_VALUE = Math.nextDown(1.0);
+
+    /**
+     * Bases of each dimension.
+     */
+    private final int[] bases;
+
+    /**
+     * Seeds used to scramble each dimension, or null if points are not
+     * scrambled.
+     */
+    private final long[] seeds;
+
+    /**
+     * Constructor for an unscrambled sequence.
+     *
+     * @param dimensions number of dimensions of points.
+     * @throws IllegalArgumentException if number of dimensions is zero or
+     *                                  negative.
+     */
+    public HaltonSequence(final int dimensions) {
+        super(dimensions);
+        bases = primes(dimensions);
+        seeds = null;
+    }
+
+    /**
+     * Constructor for a scrambled sequence.
+     *
+     * @param dimensions number of dimensions of points.
+     * @param generator  generator used to obtain the random scrambling of
+     *                   each dimension.
+     * @throws IllegalArgumentException if number of dimensions is zero or
+     *                                  negative.
+     * @throws NullPointerException     if provided generator is null.
+     */
+    public HaltonSequence(final int dimensions, final RandomGenerator generator) {
+        super(dimensions);
+        bases = primes(dimensions);
+        seeds = new long[dimensions];
+        for (int dim = 0; dim < dimensions; dim++) {
+            seeds[dim] = generator.nextLong();
+        }
+    }
+
+    /**
+     * Gets bases of each dimension, which are consecutive prime numbers.
+     *
+     * @return bases of each dimension.
+     */
+    public int[] getBases() {
+        return bases.clone();
+    }
+
+    /**
+     * Indicates whether points are scrambled.
+     *
+     * @return true if points are scrambled, false otherwise.
+     */
+    @Override
+    public boolean isScrambled() {
+        return seeds != null;
+    }
+
+    /**
+     * Generates point having provided index.
+     *
+     * @param index  index of point to be generated.
+     * @param buffer buffer where point coordinates are stored.
+     * @param offset position of first coordinate within buffer.
+     * @throws IllegalStateException if index is negative because the sequence
+     *                               has been exhausted.
+     */
+    @Override
+    protected void generate(final long index, final double[] buffer, final int offset) {
+        if (index < 0) {
+            throw new IllegalStateException("sequence is exhausted");
+        }
+
+        for (int dim = 0; dim < bases.length; dim++) {
+            buffer[offset + dim] = seeds != null
+                    ? scrambledRadicalInverse(index, bases[dim], seeds[dim])
+                    : radicalInverse(index, bases[dim]);
+        }
+    }
+
+    /**
+     * Computes radical inverse of provided index.
+     *
+     * @param index index.
+     * @param base  base.
+     * @return radical inverse.
+     */
+    private static double radicalInverse(final long index, final int base) {
+        final var inverse = 1.0 / base;
+        var weight = inverse;
+        var result = 0.0;
+        for (long n = index; n != 0; n /= base) {
+            result += (n % base) * weight;
+            weight *= inverse;
+        }
+        return Math.min(result, MAX_VALUE);
+    }
+
+    /**
+     * Computes scrambled radical inverse of provided index.
+     * Digits are scrambled until they no longer affect the result, including
+     * the leading zeros of the index, so that scrambled values are uniformly
+     * distributed.
+     *
+     * @param index index.
+     * @param base  base.
+     * @param seed  seed of the dimension.
+     * @return scrambled radical inverse.
+     */
+    private static double scrambledRadicalInverse(final long index, final int base, final long seed) {
+        final var inverse = 1.0 / base;
+        var weight = inverse;
+        var result = 0.0;
+        var hash = seed;
+        var n = index;
+        while (weight >= MIN_WEIGHT) {
+            final var digit = (int) (n % base);
+            n /= base;
+            hash = mix(hash);
+            final var shift = (int) Long.remainderUnsigned(hash, base);
+            result += ((digit + shift) % base) * weight;
+            // append original digit to the hashed prefix
+            hash += digit;
+            weight *= inverse;
+        }
+        return Math.min(result, MAX_VALUE);
+    }
+
+    /**
+     * Returns first prime numbers.
+     *
+     * @param count number of prime numbers.
+     * @return prime numbers.
+     */
+    private static int[] primes(final int count) {
+        final var result = new int[count];
+        var found = 0;
+        for (int candidate = 2; found < count; candidate++) {
+            var prime = true;
+            for (int i = 0; i < found && result[i] * result[i] <= candidate; i++) {
+                if (candidate % result[i] == 0) {
+                    prime = false;
+                    break;
+                }
+            }
+            if (prime) {
+                result[found++] = candidate;
+            }
+        }
+        return result;
+    }
+}
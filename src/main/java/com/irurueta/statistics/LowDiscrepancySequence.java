@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+/**
+ * Base class for generators of low-discrepancy (quasi-random) sequences of
+ * points in the unit hypercube [0, 1)^d.
+ * Unlike pseudo-random values, consecutive points of these sequences are
+ * evenly spread, so that quasi-Monte Carlo integration using N points
+ * typically converges at a rate close to 1/N instead of the 1/sqrt(N) rate
+ * of Monte Carlo integration using pseudo-random values (e.g. those obtained
+ * with a {@link UniformRandomizer}).
+ * Values can be obtained one coordinate at a time (using
+ * {@link #nextDouble()} or {@link #fill(double[])}), in which case consecutive
+ * coordinates of consecutive points are returned, or one point at a time
+ * (using {@link #next(double[])} or {@link #fill(double[], int, int)}).
+ * Points can also be transformed into standard normal points by evaluating
+ * the inverse normal c.d.f. at each coordinate.
+ * Sequences are deterministic: points only depend on their index within the
+ * sequence (and on the scrambling, if any), hence {@link #skip(long)} can be
+ * used to split a sequence among several workers.
+ */
+public abstract class LowDiscrepancySequence {
+
+    /**
+     * Smallest uniform value used to compute normal values, so that points
+     * having a zero coordinate (e.g. the first point of unscrambled sequences)
+     * are mapped to finite values.
+     */
+    private static final double MIN_UNIFORM = 0x1.0p-53;
+
+    /**
+     * Largest uniform value used to compute normal values.
+     */
+    private static final double MAX_UNIFORM = 1.0 - MIN_UNIFORM;
+
+    /**
+     * Number of dimensions of points.
+     */
+    private final int dimensions;
+
+    /**
+     * Last generated point when values are obtained one coordinate at a time.
+     */
+    private final double[] point;
+
+    /**
+     * Position of next coordinate to be returned from last generated point.
+     * When it is equal to the number of dimensions, a new point must be
+     * generated.
+     */
+    private int position;
+
+    /**
+     * Index of next point to be generated.
+     */
+    private long index;
+
+    /**
+     * Constructor.
+     *
+     * @param dimensions number of dimensions of points.
+     * @throws IllegalArgumentException if number of dimensions is zero or
+     *                                  negative.
+     */
+    protected LowDiscrepancySequence(final int dimensions) {
+        if (dimensions <= 0) {
+            throw new IllegalArgumentException("dimensions must be greater than zero");
+        }
+        this.dimensions = dimensions;
+        point = new double[dimensions];
+        position = dimensions;
+    }
+
+    /**
+     * Gets number of dimensions of points.
+     *
+     * @return number of dimensions.
+     */
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Gets index of next point to be generated.
+     *
+     * @return index of next point.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Indicates whether points are scrambled.
+     *
+     * @return true if points are scrambled, false otherwise.
+     */
+    public abstract boolean isScrambled();
+
+    /**
+     * Restarts the sequence from its first point.
+     */
+    public void reset() {
+        index = 0;
+        position = dimensions;
+    }
+
+    /**
+     * Skips provided number of points.
+     * Any remaining coordinates of a partially consumed point are discarded.
+     *
+     * @param count number of points to be skipped.
+     * @throws IllegalArgumentException if provided count is negative.
+     */
+    public void skip(final long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be zero or positive");
+        }
+        index += count;
+        position = dimensions;
+    }
+
+    /**
+     * Returns next coordinate of the sequence.
+     * Calling this method as many times as the number of dimensions returns
+     * the coordinates of a point.
+     *
+     * @return next coordinate, which is in range [0, 1).
+     * @throws IllegalStateException if sequence has been exhausted.
+     */
+    public double nextDouble() {
+        if (position == dimensions) {
+            generate(index, point, 0);
+            index++;
+            position = 0;
+        }
+        return point[position++];
+    }
+
+    /**
+     * Fills provided array with consecutive coordinates of the sequence, so
+     * that calling this method is equivalent to calling {@link #nextDouble()}
+     * for each element.
+     * When no point has been partially consumed and the array length is a
+     * multiple of the number of dimensions, the array contains consecutive
+     * points stored in row-major order.
+     * This method does not allocate any memory.
+     *
+     * @param array array to be filled.
+     * @throws IllegalStateException if sequence is exhausted.
+     */
+    public void fill(final double[] array) {
+        var i = 0;
+        while (i < array.length && position < dimensions) {
+            array[i++] = point[position++];
+        }
+
+        final var count = (array.length - i) / dimensions;
+        generate(array, i, count);
+        i += count * dimensions;
+
+        while (i < array.length) {
+            array[i++] = nextDouble();
+        }
+    }
+
+    /**
+     * Returns array of provided length containing consecutive coordinates of
+     * the sequence.
+     *
+     * @param length length of array to be returned.
+     * @return array of coordinates.
+     * @throws IllegalArgumentException if provided length is zero or negative.
+     * @throws IllegalStateException    if sequence is exhausted.
+     */
+    public double[] nextDoubles(final int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        final var array = new double[length];
+        fill(array);
+        return array;
+    }
+
+    /**
+     * Fills provided array with next point of the sequence.
+     * Any remaining coordinates of a partially consumed point are discarded.
+     *
+     * @param result array to be filled. Must have a length equal to the number
+     *               of dimensions.
+     * @throws IllegalArgumentException if provided array does not have the
+     *                                  expected length.
+     * @throws IllegalStateException    if sequence is exhausted.
+     */
+    public void next(final double[] result) {
+        if (result.length != dimensions) {
+            throw new IllegalArgumentException("result length must be equal to the number of dimensions");
+        }
+        fill(result, 0, 1);
+    }
+
+    /**
+     * Returns next point of the sequence.
+     * Any remaining coordinates of a partially consumed point are discarded.
+     *
+     * @return next point.
+     * @throws IllegalStateException if sequence is exhausted.
+     */
+    public double[] next() {
+        final var result = new double[dimensions];
+        fill(result, 0, 1);
+        return result;
+    }
+
+    /**
+     * Fills provided buffer with consecutive points of the sequence stored in
+     * row-major order, starting at provided position.
+     * Any remaining coordinates of a partially consumed point are discarded.
+     * This method does not allocate any memory.
+     *
+     * @param buffer buffer to be filled.
+     * @param offset position of first coordinate of first point.
+     * @param count  number of points to be generated.
+     * @throws IndexOutOfBoundsException if provided offset or count are
+     *                                   negative or exceed buffer length.
+     * @throws IllegalStateException     if sequence is exhausted.
+     */
+    public void fill(final double[] buffer, final int offset, final int count) {
+        if (offset < 0 || count < 0 || (long) count * dimensions > buffer.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        position = dimensions;
+        generate(buffer, offset, count);
+    }
+
+    /**
+     * Fills provided array with next point of the sequence transformed into a
+     * standard normal point by evaluating the inverse normal c.d.f. at each
+     * coordinate.
+     * Coordinates equal to zero are mapped to a large negative value (about
+     * -8.2), hence when using unscrambled sequences, whose first point is the
+     * origin, it is advisable to skip the first point.
+     *
+     * @param result array to be filled. Must have a length equal to the number
+     *               of dimensions.
+     * @throws IllegalArgumentException if provided array does not have the
+     *                                  expected length.
+     * @throws IllegalStateException    if sequence is exhausted.
+     */
+    public void nextGaussian(final double[] result) {
+        next(result);
+        toGaussian(result, 0, dimensions);
+    }
+
+    /**
+     * Fills provided buffer with consecutive points of the sequence stored in
+     * row-major order and transformed into standard normal points by
+     * evaluating the inverse normal c.d.f. at each coordinate.
+     * Any remaining coordinates of a partially consumed point are discarded.
+     * This method does not allocate any memory.
+     *
+     * @param buffer buffer to be filled. Its length must be a multiple of the
+     *               number of dimensions.
+     * @throws IllegalArgumentException if buffer length is not a multiple of
+     *                                  the number of dimensions.
+     * @throws IllegalStateException    if sequence is exhausted.
+     * @see #nextGaussian(double[])
+     */
+    public void fillGaussian(final double[] buffer) {
+        if (buffer.length % dimensions != 0) {
+            throw new IllegalArgumentException("buffer length must be a multiple of the number of dimensions");
+        }
+        fill(buffer, 0, buffer.length / dimensions);
+        toGaussian(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Generates point having provided index.
+     *
+     * @param index  index of point to be generated.
+     * @param buffer buffer where point coordinates are stored.
+     * @param offset position of first coordinate within buffer.
+     * @throws IllegalStateException if index exceeds the maximum number of
+     *                               points of the sequence.
+     */
+    protected abstract void generate(final long index, final double[] buffer, final int offset);
+
+    /**
+     * Mixes bits of provided value to obtain a pseudo-random value used for
+     * scrambling.
+     * This is the finalizer of the SplitMix64 generator.
+     *
+     * @param z value to be mixed.
+     * @return mixed value.
+     */
+    static long mix(final long z) {
+        var result = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        result = (result ^ (result >>> 27)) * 0x94d049bb133111ebL;
+        return result ^ (result >>> 31);
+    }
+
+    /**
+     * Generates consecutive points starting at current index.
+     *
+     * @param buffer buffer where points are stored.
+     * @param offset position of first coordinate of first point.
+     * @param count  number of points to be generated.
+     */
+    private void generate(final double[] buffer, final int offset, final int count) {
+        for (int i = 0, pos = offset; i < count; i++, pos += dimensions) {
+            generate(index, buffer, pos);
+            index++;
+        }
+    }
+
+    /**
+     * Transforms uniform values into standard normal values.
+     *
+     * @param buffer buffer containing values to be transformed.
+     * @param offset position of first value.
+     * @param length number of values.
+     */
+    private static void toGaussian(final double[] buffer, final int offset, final int length) {
+        for (int i = offset; i < offset + length; i++) {
+            final var u = Math.min(Math.max(buffer[i], MIN_UNIFORM), MAX_UNIFORM);
+            buffer[i] = NormalDist.invcdf(u, 0.0, 1.0);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates pseudo-random vectors following a multivariate Gaussian
+ * distribution having the specified mean vector and covariance matrix.
+ * The covariance matrix is factored once as L * L^T using a Cholesky
+ * decomposition, and each vector is then obtained as mean + L * z, where z
+ * contains independent standard normal values generated with the Ziggurat
+ * method.
+ * Positive semi-definite covariance matrices (e.g. having perfectly
+ * correlated components) are also supported, in which case columns of L
+ * corresponding to zero pivots are set to zero.
+ * Bulk methods fill row-major buffers containing several vectors without
+ * allocating any memory: standard normal values are generated for the whole
+ * buffer first, and then the triangular factor, which is small enough to
+ * stay in cache, is applied in place to each vector.
+ */
+public class MultivariateGaussianRandomizer {
+
+    /**
+     * Relative tolerance to consider pivots of the Cholesky decomposition as
+     * zero.
+     */
+    private static final double PIVOT_TOLERANCE = 1e-12;
+
+    /**
+     * Mean of generated vectors.
+     */
+    private double[] mean;
+
+    /**
+     * Lower triangular factor of covariance matrix, stored by rows in packed
+     * format, so that element (i, j) with j &lt;= i is at position
+     * i * (i + 1) / 2 + j.
+     */
+    private double[] factor;
+
+    /**
+     * Number of dimensions of generated vectors.
+     */
+    private int dimensions;
+
+    /**
+     * Internal generator in charge of generating uniform random values.
+     */
+    private RandomGenerator internalGenerator;
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     *
+     * @param mean       mean of generated vectors.
+     * @param covariance covariance matrix of generated vectors, which must be
+     *                   symmetric and positive semi-definite.
+     * @throws IllegalArgumentException if provided values are not valid.
+     * @throws NullPointerException     if any of provided values is null.
+     */
+    public MultivariateGaussianRandomizer(final double[] mean, final double[][] covariance) {
+        this(mean, covariance, new Random());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param mean              mean of generated vectors.
+     * @param covariance        covariance matrix of generated vectors, which
+     *                          must be symmetric and positive semi-definite.
+     * @param internalGenerator generator in charge of generating uniform
+     *                          random values.
+     * @throws IllegalArgumentException if provided values are not valid.
+     * @throws NullPointerException     if any of provided values is null.
+     */
+    public MultivariateGaussianRandomizer(final double[] mean, final double[][] covariance,
+                                          final RandomGenerator internalGenerator) {
+        setInternalGenerator(internalGenerator);
+        setParameters(mean, covariance);
+    }
+
+    /**
+     * Gets internal generator in charge of generating uniform random values.
+     *
+     * @return internal generator.
+     */
+    public RandomGenerator getInternalGenerator() {
+        return internalGenerator;
+    }
+
+    /**
+     * Sets internal generator in charge of generating uniform random values.
+     *
+     * @param internalGenerator internal generator.
+     * @throws NullPointerException if provided value is null.
+     */
+    public final void setInternalGenerator(final RandomGenerator internalGenerator) {
+        if (internalGenerator == null) {
+            throw new NullPointerException();
+        }
+        this.internalGenerator = internalGenerator;
+    }
+
+    /**
+     * Gets number of dimensions of generated vectors.
+     *
+     * @return number of dimensions.
+     */
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Gets a copy of the mean of generated vectors.
+     *
+     * @return mean of generated vectors.
+     */
+    public double[] getMean() {
+        return mean.clone();
+    }
+
+    /**
+     * Gets lower triangular factor L of covariance matrix, so that
+     * covariance = L * L^T.
+     *
+     * @return lower triangular factor of covariance matrix.
+     */
+    public double[][] getCholeskyFactor() {
+        final var result = new double[dimensions][dimensions];
+        for (int i = 0, pos = 0; i < dimensions; i++) {
+            for (int j = 0; j <= i; j++) {
+                result[i][j] = factor[pos++];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sets mean and covariance matrix of generated vectors, and factors the
+     * covariance matrix.
+     *
+     * @param mean       mean of generated vectors.
+     * @param covariance covariance matrix of generated vectors, which must be
+     *                   symmetric and positive semi-definite.
+     * @throws IllegalArgumentException if mean is empty, if covariance matrix
+     *                                  is not square, its size does not match the
+     *                                  length of the mean, or it is not
+     *                                  symmetric and positive semi-definite.
+     * @throws NullPointerException     if any of provided values is null.
+     */
+    public final void setParameters(final double[] mean, final double[][] covariance) {
+        final var n = mean.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("mean must have at least one dimension");
+        }
+        if (covariance.length != n) {
+            throw new IllegalArgumentException("covariance size must match mean length");
+        }
+        for (final var row : covariance) {
+            if (row.length != n) {
+                throw new IllegalArgumentException("covariance must be square");
+            }
+        }
+
+        final var l = new double[n * (n + 1) / 2];
+        factor(covariance, l);
+
+        this.mean = mean.clone();
+        this.factor = l;
+        this.dimensions = n;
+    }
+
+    /**
+     * Fills provided array with a random vector.
+     *
+     * @param result array to be filled. Must have a length equal to the number
+     *               of dimensions.
+     * @throws IllegalArgumentException if provided array does not have the
+     *                                  expected length.
+     */
+    public void next(final double[] result) {
+        if (result.length != dimensions) {
+            throw new IllegalArgumentException("result length must be equal to the number of dimensions");
+        }
+        fill(result, 0, 1);
+    }
+
+    /**
+     * Returns a new random vector.
+     *
+     * @return a random vector.
+     */
+    public double[] next() {
+        final var result = new double[dimensions];
+        fill(result, 0, 1);
+        return result;
+    }
+
+    /**
+     * Fills provided buffer with consecutive random vectors stored in
+     * row-major order.
+     * This method does not allocate any memory.
+     *
+     * @param buffer buffer to be filled. Its length must be a multiple of the
+     *               number of dimensions.
+     * @throws IllegalArgumentException if buffer length is not a multiple of
+     *                                  the number of dimensions.
+     */
+    public void fill(final double[] buffer) {
+        if (buffer.length % dimensions != 0) {
+            throw new IllegalArgumentException("buffer length must be a multiple of the number of dimensions");
+        }
+        fill(buffer, 0, buffer.length / dimensions);
+    }
+
+    /**
+     * Fills provided buffer with consecutive random vectors stored in
+     * row-major order, starting at provided position.
+     * This method does not allocate any memory.
+     *
+     * @param buffer buffer to be filled.
+     * @param offset position of first element of first vector.
+     * @param count  number of vectors to be generated.
+     * @throws IndexOutOfBoundsException if provided offset or count are
+     *                                   negative or exceed buffer length.
+     */
+    public void fill(final double[] buffer, final int offset, final int count) {
+        if (offset < 0 || count < 0 || (long) count * dimensions > buffer.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        final var n = dimensions;
+        final var end = offset + count * n;
+        final var generator = internalGenerator;
+        for (int i = offset; i < end; i++) {
+            buffer[i] = ZigguratNormalSampler.nextGaussian(generator);
+        }
+
+        final var l = factor;
+        final var mu = mean;
+        for (int start = offset; start < end; start += n) {
+            // x_i only depends on z_k for k <= i, hence the product can be
+            // computed in place from the last component to the first one
+            for (int i = n - 1; i >= 0; i--) {
+                final var row = i * (i + 1) / 2;
+                var sum = mu[i];
+                for (int k = 0; k <= i; k++) {
+                    sum += l[row + k] * buffer[start + k];
+                }
+                buffer[start + i] = sum;
+            }
+        }
+    }
+
+    /**
+     * Computes Cholesky decomposition of a symmetric positive semi-definite
+     * matrix.
+     * Pivots that are zero up to round-off error are set to zero along with
+     * the rest of their column.
+     *
+     * @param a matrix to be factored.
+     * @param l array where the lower triangular factor is stored by rows in
+     *          packed format.
+     * @throws IllegalArgumentException if matrix is not symmetric and positive
+     *                                  semi-definite.
+     */
+    private static void factor(final double[][] a, final double[] l) {
+        final var n = a.length;
+        var maxDiagonal = 0.0;
+        for (int i = 0; i < n; i++) {
+            final var diagonal = a[i][i];
+            if (!(diagonal >= 0.0) || Double.isInfinite(diagonal)) {
+                throw new IllegalArgumentException("covariance diagonal must be non-negative and finite");
+            }
+            maxDiagonal = Math.max(maxDiagonal, diagonal);
+        }
+        final var tolerance = PIVOT_TOLERANCE * n * maxDiagonal;
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                if (Math.abs(a[i][j] - a[j][i]) > tolerance) {
+                    throw new IllegalArgumentException("covariance must be symmetric");
+                }
+            }
+        }
+
+        for (int j = 0; j < n; j++) {
+            final var rowJ = j * (j + 1) / 2;
+            var pivot = a[j][j];
+            for (int k = 0; k < j; k++) {
+                pivot -= l[rowJ + k] * l[rowJ + k];
+            }
+
+            if (pivot <= tolerance) {
+                if (pivot < -tolerance) {
+                    throw new IllegalArgumentException("covariance must be positive semi-definite");
+                }
+                // zero pivot: column is zero for semi-definite matrices
+                for (int i = j + 1; i < n; i++) {
+                    final var rowI = i * (i + 1) / 2;
+                    var sum = a[i][j];
+                    for (int k = 0; k < j; k++) {
+                        sum -= l[rowI + k] * l[rowJ + k];
+                    }
+                    if (Math.abs(sum) > Math.sqrt(tolerance * Math.max(a[i][i], tolerance))) {
+                        throw new IllegalArgumentException("covariance must be positive semi-definite");
+                    }
+                }
+                continue;
+            }
+
+            final var diagonal = Math.sqrt(pivot);
+            l[rowJ + j] = diagonal;
+            for (int i = j + 1; i < n; i++) {
+                final var rowI = i * (i + 1) / 2;
+                var sum = a[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[rowI + k] * l[rowJ + k];
+                }
+                l[rowI + j] = sum / diagonal;
+            }
+        }
+    }
+}
@@ -15,10 +15,17 @@
  */
 package com.irurueta.statistics;
 
+import java.util.Objects;
+
 /**
  * Contains methods to work with normal (i.e. Gaussian) distributions.
  * Methods of this class use methods of the Erf class.
  * This class is based in code of Numerical Recipes 3rd ed. section 6.14.1.
+ * The inverse c.d.f. is computed using algorithm AS241 (PPND16) by M. J.
+ * Wichura, "The Percentage Points of the Normal Distribution", Applied
+ * Statistics, 37(3), 1988, which is accurate to about 1 part in 10^16.
+ * Cheaper approximations can be used when full double precision is not
+ * needed by means of an {@link AccuracyMode}.
  */
 public class NormalDist {
     /**
@@ -36,6 +43,117 @@ public class NormalDist {
      */
     private static final double GAUSSIAN_NORM = 1.0 / Math.sqrt(2.0 * Math.PI);
 
+    /**
+     * Distance to 0.5 of probability values handled by the central region
+     * approximation of AS241.
+     */
+    private static final double PPND_SPLIT1 = 0.425;
+
+    /**
+     * Boundary between intermediate and far tail regions of AS241.
+     */
+    private static final double PPND_SPLIT2 = 5.0;
+
+    /**
+     * Square of PPND_SPLIT1.
+     */
+    private static final double PPND_CONST1 = 0.180625;
+
+    /**
+     * Offset of intermediate tail region of AS241.
+     */
+    private static final double PPND_CONST2 = 1.6;
+
+    /**
+     * Numerator coefficients of AS241 central region, in increasing degree.
+     */
+    private static final double[] PPND_A = {
+            3.3871328727963666080e0, 1.3314166789178437745e2, 1.9715909503065514427e3,
+            1.3731693765509461125e4, 4.5921953931549871457e4, 6.7265770927008700853e4,
+            3.3430575583588128105e4, 2.5090809287301226727e3};
+
+    /**
+     * Denominator coefficients of AS241 central region, in increasing degree.
+     */
+    private static final double[] PPND_B = {
+            1.0, 4.2313330701600911252e1, 6.8718700749205790830e2, 5.3941960214247511077e3,
+            2.1213794301586595867e4, 3.9307895800092710610e4, 2.8729085735721942674e4,
+            5.2264952788528545610e3};
+
+    /**
+     * Numerator coefficients of AS241 intermediate tail region, in increasing
+     * degree.
+     */
+    private static final double[] PPND_C = {
+            1.42343711074968357734e0, 4.63033784615654529590e0, 5.76949722146069140550e0,
+            3.64784832476320460504e0, 1.27045825245236838258e0, 2.41780725177450611770e-1,
+            2.27238449892691845833e-2, 7.74545014278341407640e-4};
+
+    /**
+     * Denominator coefficients of AS241 intermediate tail region, in
+     * increasing degree.
+     */
+    private static final double[] PPND_D = {
+            1.0, 2.05319162663775882187e0, 1.67638483018380384940e0, 6.89767334985100004550e-1,
+            1.48103976427480074590e-1, 1.51986665636164571966e-2, 5.47593808499534494600e-4,
+            1.05075007164441684324e-9};
+
+    /**
+     * Numerator coefficients of AS241 far tail region, in increasing degree.
+     */
+    private static final double[] PPND_E = {
+            6.65790464350110377720e0, 5.46378491116411436990e0, 1.78482653991729133580e0,
+            2.96560571828504891230e-1, 2.65321895265761230930e-2, 1.24266094738807843860e-3,
+            2.71155556874348757815e-5, 2.01033439929228813265e-7};
+
+    /**
+     * Denominator coefficients of AS241 far tail region, in increasing degree.
+     */
+    private static final double[] PPND_F = {
+            1.0, 5.99832206555887937690e-1, 1.36929880922735805310e-1, 1.48753612908506148525e-2,
+            7.86869131145613259100e-4, 1.84631831751005468180e-5, 1.42151175831644588870e-7,
+            2.04426310338993978564e-15};
+
+    /**
+     * Numerator coefficients of AS241 (PPND7) central region, in increasing
+     * degree.
+     */
+    private static final double[] PPND7_A = {
+            3.3871327179e0, 5.0434271938e1, 1.5929113202e2, 5.9109374720e1};
+
+    /**
+     * Denominator coefficients of AS241 (PPND7) central region, in increasing
+     * degree.
+     */
+    private static final double[] PPND7_B = {
+            1.0, 1.7895169469e1, 7.8757757664e1, 6.7187563600e1};
+
+    /**
+     * Numerator coefficients of AS241 (PPND7) intermediate tail region, in
+     * increasing degree.
+     */
+    private static final double[] PPND7_C = {
+            1.4234372777e0, 2.7568153900e0, 1.3067284816e0, 1.7023821103e-1};
+
+    /**
+     * Denominator coefficients of AS241 (PPND7) intermediate tail region, in
+     * increasing degree.
+     */
+    private static final double[] PPND7_D = {1.0, 7.3700164250e-1, 1.2021132975e-1};
+
+    /**
+     * Numerator coefficients of AS241 (PPND7) far tail region, in increasing
+     * degree.
+     */
+    private static final double[] PPND7_E = {
+            6.6579051150e0, 3.0812263860e0, 4.2868294337e-1, 1.7337203997e-2};
+
+    /**
+     * Denominator coefficients of AS241 (PPND7) far tail region, in
+     * increasing degree.
+     */
+    private static final double[] PPND7_F = {1.0, 2.4197894225e-1, 1.2258202635e-2};
+
     /**
      * Mean value of Gaussian distribution.
      */
@@ -46,6 +164,11 @@ public class NormalDist {
      */
     private double sig;
 
+    /**
+     * Accuracy used to evaluate the c.d.f. and its inverse.
+     */
+    private AccuracyMode accuracyMode = AccuracyMode.FULL;
+
     /**
      * Constructor. Initializes a Gaussian distribution with zero mean and
      * unitary standard deviation (i.e. N(0,1)).
@@ -133,6 +256,32 @@ public class NormalDist {
         sig = Math.sqrt(variance);
     }
 
+    /**
+     * Gets accuracy used to evaluate the c.d.f. and its inverse.
+     * By default, full double precision is used.
+     *
+     * @return accuracy mode.
+     */
+    public AccuracyMode getAccuracyMode() {
+        return accuracyMode;
+    }
+
+    /**
+     * Sets accuracy used to evaluate the c.d.f. and its inverse.
+     * See {@link #cdf(double, double, double, AccuracyMode)} and
+     * {@link #invcdf(double, double, double, AccuracyMode)} for the maximum
+     * error of each accuracy mode.
+     *
+     * @param accuracyMode accuracy mode.
+     * @throws NullPointerException if provided value is null.
+     */
+    public void setAccuracyMode(final AccuracyMode accuracyMode) {
+        if (accuracyMode == null) {
+            throw new NullPointerException();
+        }
+        this.accuracyMode = accuracyMode;
+    }
+
     /**
      * Evaluates the probability density function (p.d.f.) of a Gaussian
      * distribution having mean mu and standard deviation sig at provided point
@@ -188,6 +337,36 @@ public class NormalDist {
         return internalCdf(x, mu, sig);
     }
 
+    /**
+     * Evaluates the cumulative distribution function (c.d.f.) of a Gaussian
+     * distribution having mean mu and standard deviation sig at provided point
+     * x using provided accuracy mode.
+     * When accuracy mode is not {@link AccuracyMode#FULL}, the complementary
+     * error function is evaluated using
+     * {@link Erf#erfc(double, AccuracyMode)}, hence the absolute error of the
+     * c.d.f. is less than 7.5e-8 for {@link AccuracyMode#MEDIUM} and less than
+     * 1.25e-5 for {@link AccuracyMode#LOW}.
+     *
+     * @param x    point where c.d.f. is evaluated.
+     * @param mu   mean of Gaussian distribution.
+     * @param sig  standard deviation of Gaussian distribution.
+     * @param mode accuracy mode.
+     * @return evaluation of c.d.f.
+     * @throws IllegalArgumentException if provided standard deviation is zero
+     *                                  or negative.
+     * @throws NullPointerException     if provided accuracy mode is null.
+     */
+    public static double cdf(final double x, final double mu, final double sig, final AccuracyMode mode) {
+        if (sig <= 0.0) {
+            throw new IllegalArgumentException();
+        }
+        if (mode == null) {
+            throw new NullPointerException();
+        }
+
+        return internalCdf(x, mu, sig, mode);
+    }
+
     /**
      * Evaluates the cumulative distribution function (c.d.f.) of a Gaussian
      * distribution having the mean and standard deviation of this instance at
@@ -198,11 +377,13 @@ public class NormalDist {
      * Because the c.d.f is a probability, it always returns values between 0.0
      * and 1.0.
      *
+     * The accuracy mode of this instance is used.
+     *
      * @param x point where c.d.f. is evaluated.
      * @return evaluation of c.d.f.
      */
     public double cdf(final double x) {
-        return internalCdf(x, mu, sig);
+        return internalCdf(x, mu, sig, accuracyMode);
     }
 
     /**
@@ -229,6 +410,37 @@ public class NormalDist {
         return internalInvcdf(p, mu, sig);
     }
 
+    /**
+     * Evaluates the inverse cumulative distribution function of a Gaussian
+     * distribution having mean mu and standard deviation sig at provided point
+     * p using provided accuracy mode.
+     * When accuracy mode is not {@link AccuracyMode#FULL}, algorithm AS241
+     * (PPND7) is used, which uses rational functions of lower degree and is
+     * accurate to about 1 part in 10^7 for standard normal quantiles.
+     *
+     * @param p    value to evaluate the inverse c.d.f. at. This value is
+     *             equivalent to a probability and must be between 0.0 and
+     *             1.0.
+     * @param mu   mean of Gaussian distribution.
+     * @param sig  standard deviation of Gaussian distribution.
+     * @param mode accuracy mode.
+     * @return the value x for which the c.d.f. has value p.
+     * @throws IllegalArgumentException if provided standard deviation is zero
+     *                                  or negative, or if provided probability
+     *                                  value is not between 0.0 and 1.0.
+     * @throws NullPointerException     if provided accuracy mode is null.
+     */
+    public static double invcdf(final double p, final double mu, final double sig, final AccuracyMode mode) {
+        if (sig <= 0.0) {
+            throw new IllegalArgumentException("standard deviation must be greater than zero");
+        }
+        if (mode == null) {
+            throw new NullPointerException();
+        }
+
+        return internalInvcdf(p, mu, sig, mode);
+    }
+
     /**
      * Evaluates the inverse cumulative distribution function of a Gaussian
      * distribution having the mean and standard deviation of this instance at
@@ -237,6 +449,8 @@ public class NormalDist {
      * between 0.0 and 1.0, its inverse is uniquely defined between such range
      * of values.
      *
+     * The accuracy mode of this instance is used.
+     *
      * @param p value to evaluate the inverse c.d.f. at. This value is
      *          equivalent to a probability and must be between 0.0 and 1.0.
      * @return the value x for which the c.d.f. has value p.
@@ -244,7 +458,7 @@ public class NormalDist {
      *                                  between 0.0 and 1.0.
      */
     public double invcdf(final double p) {
-        return internalInvcdf(p, mu, sig);
+        return internalInvcdf(p, mu, sig, accuracyMode);
     }
 
     /**
@@ -277,6 +491,523 @@ public class NormalDist {
         return internalMahalanobisDistance(x, mu, sig);
     }
 
+    /**
+     * Evaluates the probability density function (p.d.f.) of a Gaussian
+     * distribution having the mean and standard deviation of this instance at
+     * each of provided points.
+     *
+     * @param x      points where p.d.f. is evaluated.
+     * @param result instance where evaluations of p.d.f. are stored.
+     * @throws IndexOutOfBoundsException if result array is shorter than x
+     *                                   array.
+     */
+    public void p(final double[] x, final double[] result) {
+        p(x, result, 0, x.length);
+    }
+
+    /**
+     * Evaluates the probability density function (p.d.f.) of a Gaussian
+     * distribution having the mean and standard deviation of this instance at
+     * each of provided points.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      points where p.d.f. is evaluated.
+     * @param result instance where evaluations of p.d.f. are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public void p(final double[] x, final double[] result, final int offset, final int length) {
+        checkRange(x, result, offset, length);
+        internalP(x, mu, sig, result, offset, offset + length);
+    }
+
+    /**
+     * Evaluates the probability density function (p.d.f.) of a Gaussian
+     * distribution having mean mu and standard deviation sig at each of
+     * provided points.
+     *
+     * @param x      points where p.d.f. is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where evaluations of p.d.f. are stored.
+     * @throws IllegalArgumentException  if provided standard deviation is zero
+     *                                   or negative.
+     * @throws IndexOutOfBoundsException if result array is shorter than x
+     *                                   array.
+     */
+    public static void p(final double[] x, final double mu, final double sig, final double[] result) {
+        p(x, mu, sig, result, 0, x.length);
+    }
+
+    /**
+     * Evaluates the probability density function (p.d.f.) of a Gaussian
+     * distribution having mean mu and standard deviation sig at each of
+     * provided points.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      points where p.d.f. is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where evaluations of p.d.f. are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IllegalArgumentException  if provided standard deviation is zero
+     *                                   or negative.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void p(
+            final double[] x, final double mu, final double sig, final double[] result, final int offset,
+            final int length) {
+        if (sig <= 0.0) {
+            throw new IllegalArgumentException("standard deviation must be greater than zero");
+        }
+        checkRange(x, result, offset, length);
+        internalP(x, mu, sig, result, offset, offset + length);
+    }
+
+    /**
+     * Evaluates the probability density function (p.d.f.) of a Gaussian
+     * distribution having the mean and standard deviation at the same position
+     * of provided arrays at each of provided points.
+     *
+     * @param x      points where p.d.f. is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where evaluations of p.d.f. are stored.
+     * @throws IllegalArgumentException  if any standard deviation is zero or
+     *                                   negative.
+     * @throws IndexOutOfBoundsException if any array is shorter than x array.
+     */
+    public static void p(final double[] x, final double[] mu, final double[] sig, final double[] result) {
+        p(x, mu, sig, result, 0, x.length);
+    }
+
+    /**
+     * Evaluates the probability density function (p.d.f.) of a Gaussian
+     * distribution having the mean and standard deviation at the same position
+     * of provided arrays at each of provided points.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      points where p.d.f. is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where evaluations of p.d.f. are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IllegalArgumentException  if any standard deviation is zero or
+     *                                   negative.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void p(
+            final double[] x, final double[] mu, final double[] sig, final double[] result, final int offset,
+            final int length) {
+        checkRange(x, mu, sig, result, offset, length);
+        checkStandardDeviations(sig, offset, length);
+        internalP(x, mu, sig, result, offset, offset + length);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function (c.d.f.) of a Gaussian
+     * distribution having the mean and standard deviation of this instance at
+     * each of provided points.
+     * The accuracy mode of this instance is used.
+     *
+     * @param x      points where c.d.f. is evaluated.
+     * @param result instance where evaluations of c.d.f. are stored.
+     * @throws IndexOutOfBoundsException if result array is shorter than x
+     *                                   array.
+     */
+    public void cdf(final double[] x, final double[] result) {
+        cdf(x, result, 0, x.length);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function (c.d.f.) of a Gaussian
+     * distribution having the mean and standard deviation of this instance at
+     * each of provided points.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     * The accuracy mode of this instance is used.
+     *
+     * @param x      points where c.d.f. is evaluated.
+     * @param result instance where evaluations of c.d.f. are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public void cdf(final double[] x, final double[] result, final int offset, final int length) {
+        checkRange(x, result, offset, length);
+        internalCdf(x, mu, sig, accuracyMode, result, offset, offset + length);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function (c.d.f.) of a Gaussian
+     * distribution having mean mu and standard deviation sig at each of
+     * provided points.
+     *
+     * @param x      points where c.d.f. is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where evaluations of c.d.f. are stored.
+     * @throws IllegalArgumentException  if provided standard deviation is zero
+     *                                   or negative.
+     * @throws IndexOutOfBoundsException if result array is shorter than x
+     *                                   array.
+     */
+    public static void cdf(final double[] x, final double mu, final double sig, final double[] result) {
+        cdf(x, mu, sig, result, 0, x.length);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function (c.d.f.) of a Gaussian
+     * distribution having mean mu and standard deviation sig at each of
+     * provided points.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      points where c.d.f. is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where evaluations of c.d.f. are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IllegalArgumentException  if provided standard deviation is zero
+     *                                   or negative.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void cdf(
+            final double[] x, final double mu, final double sig, final double[] result, final int offset,
+            final int length) {
+        if (sig <= 0.0) {
+            throw new IllegalArgumentException("standard deviation must be greater than zero");
+        }
+        checkRange(x, result, offset, length);
+        internalCdf(x, mu, sig, AccuracyMode.FULL, result, offset, offset + length);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function (c.d.f.) of a Gaussian
+     * distribution having the mean and standard deviation at the same position
+     * of provided arrays at each of provided points.
+     *
+     * @param x      points where c.d.f. is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where evaluations of c.d.f. are stored.
+     * @throws IllegalArgumentException  if any standard deviation is zero or
+     *                                   negative.
+     * @throws IndexOutOfBoundsException if any array is shorter than x array.
+     */
+    public static void cdf(final double[] x, final double[] mu, final double[] sig, final double[] result) {
+        cdf(x, mu, sig, result, 0, x.length);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function (c.d.f.) of a Gaussian
+     * distribution having the mean and standard deviation at the same position
+     * of provided arrays at each of provided points.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      points where c.d.f. is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where evaluations of c.d.f. are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IllegalArgumentException  if any standard deviation is zero or
+     *                                   negative.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void cdf(
+            final double[] x, final double[] mu, final double[] sig, final double[] result, final int offset,
+            final int length) {
+        checkRange(x, mu, sig, result, offset, length);
+        checkStandardDeviations(sig, offset, length);
+        internalCdf(x, mu, sig, result, offset, offset + length);
+    }
+
+    /**
+     * Evaluates the inverse cumulative distribution function of a Gaussian
+     * distribution having the mean and standard deviation of this instance at
+     * each of provided probability values.
+     * The accuracy mode of this instance is used.
+     *
+     * @param p      values to evaluate the inverse c.d.f. at. These values are
+     *               equivalent to probabilities and must be between 0.0 and
+     *               1.0.
+     * @param result instance where values for which the c.d.f. has provided
+     *               probabilities are stored.
+     * @throws IndexOutOfBoundsException if result array is shorter than p
+     *                                   array.
+     * @throws IllegalArgumentException  if any probability value is not between
+     *                                   0.0 and 1.0, in which case result
+     *                                   array is left unchanged.
+     */
+    public void invcdf(final double[] p, final double[] result) {
+        invcdf(p, result, 0, p.length);
+    }
+
+    /**
+     * Evaluates the inverse cumulative distribution function of a Gaussian
+     * distribution having the mean and standard deviation of this instance at
+     * each of provided probability values.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     * The accuracy mode of this instance is used.
+     *
+     * @param p      values to evaluate the inverse c.d.f. at. These values are
+     *               equivalent to probabilities and must be between 0.0 and
+     *               1.0.
+     * @param result instance where values for which the c.d.f. has provided
+     *               probabilities are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     * @throws IllegalArgumentException  if any probability value is not between
+     *                                   0.0 and 1.0, in which case result
+     *                                   array is left unchanged.
+     */
+    public void invcdf(final double[] p, final double[] result, final int offset, final int length) {
+        checkRange(p, result, offset, length);
+        checkProbabilities(p, offset, length);
+        internalInvcdf(p, mu, sig, accuracyMode, result, offset, offset + length);
+    }
+
+    /**
+     * Evaluates the inverse cumulative distribution function of a Gaussian
+     * distribution having mean mu and standard deviation sig at each of
+     * provided probability values.
+     *
+     * @param p      values to evaluate the inverse c.d.f. at. These values are
+     *               equivalent to probabilities and must be between 0.0 and
+     *               1.0.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where values for which the c.d.f. has provided
+     *               probabilities are stored.
+     * @throws IllegalArgumentException  if provided standard deviation is zero
+     *                                   or negative, or if any probability
+     *                                   value is not between 0.0 and 1.0, in
+     *                                   which case result array is left
+     *                                   unchanged.
+     * @throws IndexOutOfBoundsException if result array is shorter than p
+     *                                   array.
+     */
+    public static void invcdf(final double[] p, final double mu, final double sig, final double[] result) {
+        invcdf(p, mu, sig, result, 0, p.length);
+    }
+
+    /**
+     * Evaluates the inverse cumulative distribution function of a Gaussian
+     * distribution having mean mu and standard deviation sig at each of
+     * provided probability values.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param p      values to evaluate the inverse c.d.f. at. These values are
+     *               equivalent to probabilities and must be between 0.0 and
+     *               1.0.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where values for which the c.d.f. has provided
+     *               probabilities are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IllegalArgumentException  if provided standard deviation is zero
+     *                                   or negative, or if any probability
+     *                                   value is not between 0.0 and 1.0, in
+     *                                   which case result array is left
+     *                                   unchanged.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void invcdf(
+            final double[] p, final double mu, final double sig, final double[] result, final int offset,
+            final int length) {
+        if (sig <= 0.0) {
+            throw new IllegalArgumentException("standard deviation must be greater than zero");
+        }
+        checkRange(p, result, offset, length);
+        checkProbabilities(p, offset, length);
+        internalInvcdf(p, mu, sig, AccuracyMode.FULL, result, offset, offset + length);
+    }
+
+    /**
+     * Evaluates the inverse cumulative distribution function of a Gaussian
+     * distribution having the mean and standard deviation at the same position
+     * of provided arrays at each of provided probability values.
+     *
+     * @param p      values to evaluate the inverse c.d.f. at. These values are
+     *               equivalent to probabilities and must be between 0.0 and
+     *               1.0.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where values for which the c.d.f. has provided
+     *               probabilities are stored.
+     * @throws IllegalArgumentException  if any standard deviation is zero or
+     *                                   negative, or if any probability value
+     *                                   is not between 0.0 and 1.0, in which
+     *                                   case result array is left unchanged.
+     * @throws IndexOutOfBoundsException if any array is shorter than p array.
+     */
+    public static void invcdf(final double[] p, final double[] mu, final double[] sig, final double[] result) {
+        invcdf(p, mu, sig, result, 0, p.length);
+    }
+
+    /**
+     * Evaluates the inverse cumulative distribution function of a Gaussian
+     * distribution having the mean and standard deviation at the same position
+     * of provided arrays at each of provided probability values.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param p      values to evaluate the inverse c.d.f. at. These values are
+     *               equivalent to probabilities and must be between 0.0 and
+     *               1.0.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where values for which the c.d.f. has provided
+     *               probabilities are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IllegalArgumentException  if any standard deviation is zero or
+     *                                   negative, or if any probability value
+     *                                   is not between 0.0 and 1.0, in which
+     *                                   case result array is left unchanged.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void invcdf(
+            final double[] p, final double[] mu, final double[] sig, final double[] result, final int offset,
+            final int length) {
+        checkRange(p, mu, sig, result, offset, length);
+        checkStandardDeviations(sig, offset, length);
+        checkProbabilities(p, offset, length);
+        internalInvcdf(p, mu, sig, result, offset, offset + length);
+    }
+
+    /**
+     * Computes the Mahalanobis distance of each of provided points for a
+     * Gaussian distribution having the mean and standard deviation of this
+     * instance.
+     *
+     * @param x      points where Mahalanobis distance is evaluated.
+     * @param result instance where Mahalanobis distances are stored.
+     * @throws IndexOutOfBoundsException if result array is shorter than x
+     *                                   array.
+     */
+    public void mahalanobisDistance(final double[] x, final double[] result) {
+        mahalanobisDistance(x, result, 0, x.length);
+    }
+
+    /**
+     * Computes the Mahalanobis distance of each of provided points for a
+     * Gaussian distribution having the mean and standard deviation of this
+     * instance.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      points where Mahalanobis distance is evaluated.
+     * @param result instance where Mahalanobis distances are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public void mahalanobisDistance(final double[] x, final double[] result, final int offset, final int length) {
+        checkRange(x, result, offset, length);
+        internalMahalanobisDistance(x, mu, sig, result, offset, offset + length);
+    }
+
+    /**
+     * Computes the Mahalanobis distance of each of provided points for a
+     * Gaussian distribution having mean mu and standard deviation sig.
+     *
+     * @param x      points where Mahalanobis distance is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where Mahalanobis distances are stored.
+     * @throws IllegalArgumentException  if provided standard deviation is zero
+     *                                   or negative.
+     * @throws IndexOutOfBoundsException if result array is shorter than x
+     *                                   array.
+     */
+    public static void mahalanobisDistance(
+            final double[] x, final double mu, final double sig, final double[] result) {
+        mahalanobisDistance(x, mu, sig, result, 0, x.length);
+    }
+
+    /**
+     * Computes the Mahalanobis distance of each of provided points for a
+     * Gaussian distribution having mean mu and standard deviation sig.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      points where Mahalanobis distance is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where Mahalanobis distances are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IllegalArgumentException  if provided standard deviation is zero
+     *                                   or negative.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void mahalanobisDistance(
+            final double[] x, final double mu, final double sig, final double[] result, final int offset,
+            final int length) {
+        if (sig <= 0.0) {
+            throw new IllegalArgumentException("standard deviation must be greater than zero");
+        }
+        checkRange(x, result, offset, length);
+        internalMahalanobisDistance(x, mu, sig, result, offset, offset + length);
+    }
+
+    /**
+     * Computes the Mahalanobis distance of each of provided points for a
+     * Gaussian distribution having the mean and standard deviation at the same
+     * position of provided arrays.
+     *
+     * @param x      points where Mahalanobis distance is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where Mahalanobis distances are stored.
+     * @throws IllegalArgumentException  if any standard deviation is zero or
+     *                                   negative.
+     * @throws IndexOutOfBoundsException if any array is shorter than x array.
+     */
+    public static void mahalanobisDistance(
+            final double[] x, final double[] mu, final double[] sig, final double[] result) {
+        mahalanobisDistance(x, mu, sig, result, 0, x.length);
+    }
+
+    /**
+     * Computes the Mahalanobis distance of each of provided points for a
+     * Gaussian distribution having the mean and standard deviation at the same
+     * position of provided arrays.
+     * Values at positions offset to offset + length - 1 of provided array are
+     * evaluated and stored at the same positions of result array.
+     *
+     * @param x      points where Mahalanobis distance is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where Mahalanobis distances are stored.
+     * @param offset position of first value to be evaluated.
+     * @param length number of values to be evaluated.
+     * @throws IllegalArgumentException  if any standard deviation is zero or
+     *                                   negative.
+     * @throws IndexOutOfBoundsException if range is not within provided arrays.
+     */
+    public static void mahalanobisDistance(
+            final double[] x, final double[] mu, final double[] sig, final double[] result, final int offset,
+            final int length) {
+        checkRange(x, mu, sig, result, offset, length);
+        checkStandardDeviations(sig, offset, length);
+        internalMahalanobisDistance(x, mu, sig, result, offset, offset + length);
+    }
+
     /**
      * Evaluates the probability density function (p.d.f.) of a Gaussian
      * distribution having mean mu and standard deviation sig at provided point
@@ -291,7 +1022,8 @@ public class NormalDist {
      *                                  or negative.
      */
     private static double internalP(final double x, final double mu, final double sig) {
-        return (GAUSSIAN_NORM / sig) * Math.exp(-0.5 * Math.pow((x - mu) / sig, 2.0));
+        final var z = (x - mu) / sig;
+        return (GAUSSIAN_NORM / sig) * Math.exp(-0.5 * z * z);
     }
 
     /**
@@ -314,6 +1046,24 @@ public class NormalDist {
         return 0.5 * Erf.erfc(-HALF_SQRT2 * (x - mu) / sig);
     }
 
+    /**
+     * Evaluates the c.d.f. of a Gaussian distribution at provided point x
+     * using provided accuracy mode.
+     * This method is used internally.
+     *
+     * @param x    point where c.d.f. is evaluated.
+     * @param mu   mean of Gaussian distribution.
+     * @param sig  standard deviation of Gaussian distribution.
+     * @param mode accuracy mode.
+     * @return evaluation of c.d.f.
+     */
+    private static double internalCdf(final double x, final double mu, final double sig, final AccuracyMode mode) {
+        if (mode == AccuracyMode.FULL) {
+            return internalCdf(x, mu, sig);
+        }
+        return 0.5 * Erf.erfc(-HALF_SQRT2 * (x - mu) / sig, mode);
+    }
+
     /**
      * Evaluates the inverse cumulative distribution function of a Gaussian
      * distribution having mean mu and standard deviation sig at provided point
@@ -336,7 +1086,100 @@ public class NormalDist {
         if (p <= 0.0 || p >= 1.0) {
             throw new IllegalArgumentException("probability value must be between 0.0 and 1.0");
         }
-        return -SQRT2 * sig * Erf.inverfc(2.0 * p) + mu;
+        return sig * ppnd16(p) + mu;
+    }
+
+    /**
+     * Evaluates the inverse c.d.f. of a Gaussian distribution at provided
+     * point p using provided accuracy mode.
+     * This method is used internally.
+     *
+     * @param p    value to evaluate the inverse c.d.f. at.
+     * @param mu   mean of Gaussian distribution.
+     * @param sig  standard deviation of Gaussian distribution.
+     * @param mode accuracy mode.
+     * @return the value x for which the c.d.f. has value p.
+     * @throws IllegalArgumentException if provided probability value is not
+     *                                  between 0.0 and 1.0.
+     */
+    private static double internalInvcdf(final double p, final double mu, final double sig, final AccuracyMode mode) {
+        if (mode == AccuracyMode.FULL) {
+            return internalInvcdf(p, mu, sig);
+        }
+        if (p <= 0.0 || p >= 1.0) {
+            throw new IllegalArgumentException("probability value must be between 0.0 and 1.0");
+        }
+        return sig * ppnd7(p) + mu;
+    }
+
+    /**
+     * Evaluates the inverse c.d.f. of the standard normal distribution using
+     * algorithm AS241 (PPND16), which uses rational approximations on a
+     * central region and on two tail regions, and hence requires no
+     * iterations. For tail regions, only one logarithm and one square root
+     * are computed.
+     *
+     * @param p probability value between 0.0 and 1.0 (exclusive).
+     * @return the value z for which the standard normal c.d.f. has value p.
+     */
+    private static double ppnd16(final double p) {
+        final var q = p - 0.5;
+        if (Math.abs(q) <= PPND_SPLIT1) {
+            final var r = PPND_CONST1 - q * q;
+            return q * polynomial(PPND_A, r) / polynomial(PPND_B, r);
+        }
+
+        var r = Math.sqrt(-Math.log(q < 0.0 ? p : 1.0 - p));
+        final double result;
+        if (r <= PPND_SPLIT2) {
+            r -= PPND_CONST2;
+            result = polynomial(PPND_C, r) / polynomial(PPND_D, r);
+        } else {
+            r -= PPND_SPLIT2;
+            result = polynomial(PPND_E, r) / polynomial(PPND_F, r);
+        }
+        return q < 0.0 ? -result : result;
+    }
+
+    /**
+     * Evaluates the inverse c.d.f. of the standard normal distribution using
+     * algorithm AS241 (PPND7), which is accurate to about 1 part in 10^7.
+     *
+     * @param p probability value between 0.0 and 1.0 (exclusive).
+     * @return the value z for which the standard normal c.d.f. has value p.
+     */
+    private static double ppnd7(final double p) {
+        final var q = p - 0.5;
+        if (Math.abs(q) <= PPND_SPLIT1) {
+            final var r = PPND_CONST1 - q * q;
+            return q * polynomial(PPND7_A, r) / polynomial(PPND7_B, r);
+        }
+
+        var r = Math.sqrt(-Math.log(q < 0.0 ? p : 1.0 - p));
+        final double result;
+        if (r <= PPND_SPLIT2) {
+            r -= PPND_CONST2;
+            result = polynomial(PPND7_C, r) / polynomial(PPND7_D, r);
+        } else {
+            r -= PPND_SPLIT2;
+            result = polynomial(PPND7_E, r) / polynomial(PPND7_F, r);
+        }
+        return q < 0.0 ? -result : result;
+    }
+
+    /**
+     * Evaluates a polynomial using Horner's method.
+     *
+     * @param coefficients polynomial coefficients in increasing degree.
+     * @param x            point where polynomial is evaluated.
+     * @return value of polynomial.
+     */
+    private static double polynomial(final double[] coefficients, final double x) {
+        var result = coefficients[coefficients.length - 1];
+        for (int i = coefficients.length - 2; i >= 0; i--) {
+            result = result * x + coefficients[i];
+        }
+        return result;
     }
 
     /**
@@ -352,6 +1195,252 @@ public class NormalDist {
         return Math.abs(x - mu) / sig;
     }
 
+    /**
+     * Evaluates the p.d.f. of a Gaussian distribution at a range of points.
+     *
+     * @param x      points where p.d.f. is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where evaluations are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     */
+    private static void internalP(
+            final double[] x, final double mu, final double sig, final double[] result, final int from,
+            final int to) {
+        final var norm = GAUSSIAN_NORM / sig;
+        final var invSig = 1.0 / sig;
+        for (int i = from; i < to; i++) {
+            final var z = (x[i] - mu) * invSig;
+            result[i] = norm * Math.exp(-0.5 * z * z);
+        }
+    }
+
+    /**
+     * Evaluates the p.d.f. of Gaussian distributions at a range of points.
+     *
+     * @param x      points where p.d.f. is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where evaluations are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     */
+    private static void internalP(
+            final double[] x, final double[] mu, final double[] sig, final double[] result, final int from,
+            final int to) {
+        for (int i = from; i < to; i++) {
+            final var z = (x[i] - mu[i]) / sig[i];
+            result[i] = GAUSSIAN_NORM / sig[i] * Math.exp(-0.5 * z * z);
+        }
+    }
+
+    /**
+     * Evaluates the c.d.f. of a Gaussian distribution at a range of points.
+     * The complementary error function is evaluated for all points at once.
+     *
+     * @param x      points where c.d.f. is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param mode   accuracy mode.
+     * @param result instance where evaluations are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     */
+    private static void internalCdf(
+            final double[] x, final double mu, final double sig, final AccuracyMode mode, final double[] result,
+            final int from, final int to) {
+        if (mode != AccuracyMode.FULL) {
+            for (int i = from; i < to; i++) {
+                result[i] = internalCdf(x[i], mu, sig, mode);
+            }
+            return;
+        }
+
+        for (int i = from; i < to; i++) {
+            result[i] = -HALF_SQRT2 * (x[i] - mu) / sig;
+        }
+        Erf.erfc(result, result, from, to - from);
+        for (int i = from; i < to; i++) {
+            result[i] *= 0.5;
+        }
+    }
+
+    /**
+     * Evaluates the c.d.f. of Gaussian distributions at a range of points.
+     * The complementary error function is evaluated for all points at once.
+     *
+     * @param x      points where c.d.f. is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where evaluations are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     */
+    private static void internalCdf(
+            final double[] x, final double[] mu, final double[] sig, final double[] result, final int from,
+            final int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = -HALF_SQRT2 * (x[i] - mu[i]) / sig[i];
+        }
+        Erf.erfc(result, result, from, to - from);
+        for (int i = from; i < to; i++) {
+            result[i] *= 0.5;
+        }
+    }
+
+    /**
+     * Evaluates the inverse c.d.f. of a Gaussian distribution at a range of
+     * probability values.
+     *
+     * @param p      probability values.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param mode   accuracy mode.
+     * @param result instance where evaluations are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     * @throws IllegalArgumentException if any probability value is not between
+     *                                  0.0 and 1.0.
+     */
+    private static void internalInvcdf(
+            final double[] p, final double mu, final double sig, final AccuracyMode mode, final double[] result,
+            final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = internalInvcdf(p[i], mu, sig, mode);
+        }
+    }
+
+    /**
+     * Evaluates the inverse c.d.f. of Gaussian distributions at a range of
+     * probability values.
+     *
+     * @param p      probability values.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where evaluations are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     * @throws IllegalArgumentException if any probability value is not between
+     *                                  0.0 and 1.0.
+     */
+    private static void internalInvcdf(
+            final double[] p, final double[] mu, final double[] sig, final double[] result, final int from,
+            final int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = internalInvcdf(p[i], mu[i], sig[i]);
+        }
+    }
+
+    /**
+     * Computes the Mahalanobis distance of a range of points.
+     *
+     * @param x      points where Mahalanobis distance is evaluated.
+     * @param mu     mean of Gaussian distribution.
+     * @param sig    standard deviation of Gaussian distribution.
+     * @param result instance where distances are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     */
+    private static void internalMahalanobisDistance(
+            final double[] x, final double mu, final double sig, final double[] result, final int from,
+            final int to) {
+        final var invSig = 1.0 / sig;
+        for (int i = from; i < to; i++) {
+            result[i] = Math.abs(x[i] - mu) * invSig;
+        }
+    }
+
+    /**
+     * Computes the Mahalanobis distance of a range of points.
+     *
+     * @param x      points where Mahalanobis distance is evaluated.
+     * @param mu     means of Gaussian distributions.
+     * @param sig    standard deviations of Gaussian distributions.
+     * @param result instance where distances are stored.
+     * @param from   first position to be evaluated (inclusive).
+     * @param to     last position to be evaluated (exclusive).
+     */
+    private static void internalMahalanobisDistance(
+            final double[] x, final double[] mu, final double[] sig, final double[] result, final int from,
+            final int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = Math.abs(x[i] - mu[i]) / sig[i];
+        }
+    }
+
+    /**
+     * Checks that a range is within provided arrays.
+     *
+     * @param x      array of values to be evaluated.
+     * @param result array where evaluations are stored.
+     * @param offset position of first value.
+     * @param length number of values.
+     * @throws IndexOutOfBoundsException if range is not within provided
+     *                                   arrays.
+     */
+    private static void checkRange(final double[] x, final double[] result, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, x.length);
+        Objects.checkFromIndexSize(offset, length, result.length);
+    }
+
+    /**
+     * Checks that a range is within provided arrays.
+     *
+     * @param x      array of values to be evaluated.
+     * @param mu     array of means.
+     * @param sig    array of standard deviations.
+     * @param result array where evaluations are stored.
+     * @param offset position of first value.
+     * @param length number of values.
+     * @throws IndexOutOfBoundsException if range is not within provided
+     *                                   arrays.
+     */
+    private static void checkRange(
+            final double[] x, final double[] mu, final double[] sig, final double[] result, final int offset,
+            final int length) {
+        checkRange(x, result, offset, length);
+        Objects.checkFromIndexSize(offset, length, mu.length);
+        Objects.checkFromIndexSize(offset, length, sig.length);
+    }
+
+    /**
+     * Checks that standard deviations within a range are positive.
+     *
+     * @param sig    array of standard deviations.
+     * @param offset position of first value.
+     * @param length number of values.
+     * @throws IllegalArgumentException if any standard deviation is zero or
+     *                                  negative.
+     */
+    private static void checkStandardDeviations(final double[] sig, final int offset, final int length) {
+        final var end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (sig[i] <= 0.0) {
+                throw new IllegalArgumentException("standard deviation must be greater than zero");
+            }
+        }
+    }
+
+    /**
+     * Checks that probability values within a range are between 0.0 and 1.0,
+     * so that no result is written when any of them is not valid.
+     *
+     * @param p      array of probability values.
+     * @param offset position of first value.
+     * @param length number of values.
+     * @throws IllegalArgumentException if any probability value is not between
+     *                                  0.0 and 1.0.
+     */
+    private static void checkProbabilities(final double[] p, final int offset, final int length) {
+        final var end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (p[i] <= 0.0 || p[i] >= 1.0) {
+                throw new IllegalArgumentException("probability value must be between 0.0 and 1.0");
+            }
+        }
+    }
+
     /**
      * Evaluates the derivative and a 1D function at a certain mean point and
      * computes the non-linear propagation of Gaussian uncertainty through such
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Counter-based generator using the Philox4x32-10 algorithm.
+ * Unlike sequential generators, the value at position i of stream s is a pure
+ * function of (key, s, i), hence any slice of a sequence can be generated on
+ * any thread or node without coordination just by setting the position where
+ * generation starts.
+ * Each position contains one 64-bit value, and each primitive value
+ * generated by the default methods of {@link RandomGenerator} (nextLong,
+ * nextInt, nextDouble, nextFloat and nextBoolean) consumes exactly one
+ * position.
+ * This class is based on: J. K. Salmon, M. A. Moraes, R. O. Dror and D. E.
+ * Shaw, "Parallel Random Numbers: As Easy as 1, 2, 3", SC11, 2011.
+ */
+public class PhiloxRandomGenerator implements RandomGenerator.JumpableGenerator {
+
+    /**
+     * Number of positions skipped by {@link #jump()}.
+     */
+    public static final long JUMP_DISTANCE = 1L << 48;
+
+    /**
+     * Number of rounds.
+     */
+    private static final int ROUNDS = 10;
+
+    /**
+     * First multiplier.
+     */
+    private static final long M0 = 0xD2511F53L;
+
+    /**
+     * Second multiplier.
+     */
+    private static final long M1 = 0xCD9E8D57L;
+
+    /**
+     * First Weyl increment of key.
+     */
+    private static final int W0 = 0x9E3779B9;
+
+    /**
+     * Second Weyl increment of key.
+     */
+    private static final int W1 = 0xBB67AE85;
+
+    /**
+     * Mask to obtain the lowest 32 bits.
+     */
+    private static final long MASK = 0xFFFFFFFFL;
+
+    /**
+     * Words of last computed block.
+     */
+    private final int[] words = new int[4];
+
+    /**
+     * Key.
+     */
+    private long key;
+
+    /**
+     * Stream index.
+     */
+    private long stream;
+
+    /**
+     * Position of next value to be generated.
+     */
+    private long position;
+
+    /**
+     * Index of cached block. Each block contains two positions.
+     */
+    private long cachedBlock;
+
+    /**
+     * Indicates whether cached block is valid.
+     */
+    private boolean cacheValid;
+
+    /**
+     * First value of cached block.
+     */
+    private long cachedValue0;
+
+    /**
+     * Second value of cached block.
+     */
+    private long cachedValue1;
+
+    /**
+     * Constructor.
+     * Uses stream 0.
+     *
+     * @param key key of generator.
+     */
+    public PhiloxRandomGenerator(final long key) {
+        this(key, 0L);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param key    key of generator.
+     * @param stream index of stream.
+     */
+    public PhiloxRandomGenerator(final long key, final long stream) {
+        this.key = key;
+        this.stream = stream;
+    }
+
+    /**
+     * Gets key of generator.
+     *
+     * @return key of generator.
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Sets key of generator.
+     *
+     * @param key key of generator.
+     */
+    public void setKey(final long key) {
+        this.key = key;
+        cacheValid = false;
+    }
+
+    /**
+     * Gets index of stream.
+     *
+     * @return index of stream.
+     */
+    public long getStream() {
+        return stream;
+    }
+
+    /**
+     * Sets index of stream.
+     *
+     * @param stream index of stream.
+     */
+    public void setStream(final long stream) {
+        this.stream = stream;
+        cacheValid = false;
+    }
+
+    /**
+     * Gets position of next value to be generated.
+     * Positions are treated as unsigned values, hence each stream contains
+     * 2^64 values.
+     *
+     * @return position of next value.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Sets position of next value to be generated.
+     *
+     * @param position position of next value.
+     */
+    public void setPosition(final long position) {
+        this.position = position;
+    }
+
+    /**
+     * Returns next 64-bit value and advances position by one.
+     *
+     * @return next 64-bit value.
+     */
+    @Override
+    public long nextLong() {
+        final var block = position >>> 1;
+        if (!cacheValid || block != cachedBlock) {
+            computeBlock(key, stream, block, words);
+            cachedValue0 = (words[0] & MASK) | ((long) words[1] << 32);
+            cachedValue1 = (words[2] & MASK) | ((long) words[3] << 32);
+            cachedBlock = block;
+            cacheValid = true;
+        }
+        final var result = (position & 1L) == 0L ? cachedValue0 : cachedValue1;
+        position++;
+        return result;
+    }
+
+    /**
+     * Returns a copy of this generator having the same key, stream and
+     * position.
+     *
+     * @return a copy of this generator.
+     */
+    @Override
+    public PhiloxRandomGenerator copy() {
+        final var result = new PhiloxRandomGenerator(key, stream);
+        result.position = position;
+        return result;
+    }
+
+    /**
+     * Advances position by {@link #JUMP_DISTANCE}.
+     */
+    @Override
+    public void jump() {
+        position += JUMP_DISTANCE;
+    }
+
+    /**
+     * Returns number of positions skipped by {@link #jump()}.
+     *
+     * @return jump distance.
+     */
+    @Override
+    public double jumpDistance() {
+        return JUMP_DISTANCE;
+    }
+
+    /**
+     * Returns the 64-bit value at provided position of provided stream and
+     * key.
+     *
+     * @param key      key of generator.
+     * @param stream   index of stream.
+     * @param position position of value.
+     * @return 64-bit value.
+     */
+    public static long valueAt(final long key, final long stream, final long position) {
+        final var words = new int[4];
+        computeBlock(key, stream, position >>> 1, words);
+        if ((position & 1L) == 0L) {
+            return (words[0] & MASK) | ((long) words[1] << 32);
+        } else {
+            return (words[2] & MASK) | ((long) words[3] << 32);
+        }
+    }
+
+    /**
+     * Computes the Philox4x32-10 bijection of a 128-bit counter made of
+     * provided block (lowest words) and stream (highest words).
+     *
+     * @param key    64-bit key.
+     * @param stream index of stream.
+     * @param block  index of block.
+     * @param result array of length 4 where resulting 32-bit words are
+     *               stored.
+     */
+    static void computeBlock(final long key, final long stream, final long block, final int[] result) {
+        var c0 = (int) block;
+        var c1 = (int) (block >>> 32);
+        var c2 = (int) stream;
+        var c3 = (int) (stream >>> 32);
+        var k0 = (int) key;
+        var k1 = (int) (key >>> 32);
+
+        for (int r = 0; r < ROUNDS; r++) {
+            if (r > 0) {
+                k0 += W0;
+                k1 += W1;
+            }
+            final var product0 = M0 * (c0 & MASK);
+            final var product1 = M1 * (c2 & MASK);
+            final var hi0 = (int) (product0 >>> 32);
+            final var lo0 = (int) product0;
+            final var hi1 = (int) (product1 >>> 32);
+            final var lo1 = (int) product1;
+
+            c0 = hi1 ^ c1 ^ k0;
+            c1 = lo1;
+            c2 = hi0 ^ c3 ^ k1;
+            c3 = lo0;
+        }
+
+        result[0] = c0;
+        result[1] = c1;
+        result[2] = c2;
+        result[3] = c3;
+    }
+}
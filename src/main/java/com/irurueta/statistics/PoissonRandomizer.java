@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates pseudo-random integer values following a Poisson distribution
+ * having the specified mean, such as the number of events of a Poisson
+ * process within a time interval. By default, mean is equal to DEFAULT_MEAN.
+ * Each value is generated at a constant expected cost regardless of the mean,
+ * except for small means, where inversion is cheaper.
+ */
+public class PoissonRandomizer extends Randomizer {
+
+    /**
+     * Specifies mean to be used for random value generation if none is
+     * provided.
+     */
+    public static final double DEFAULT_MEAN = 1.0;
+
+    /**
+     * Largest supported mean.
+     */
+    public static final double MAX_MEAN = PoissonSampler.MAX_MEAN;
+
+    /**
+     * Sampler of values having the mean of this randomizer.
+     */
+    private PoissonSampler sampler;
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     */
+    public PoissonRandomizer() {
+        this(new Random());
+    }
+
+    /**
+     * Constructor.
+     * Uses default {@link Random} implementation.
+     *
+     * @param mean mean of generated values.
+     * @throws IllegalArgumentException if provided mean is not positive or
+     *                                  exceeds MAX_MEAN.
+     */
+    public PoissonRandomizer(final double mean) {
+        this(new Random(), mean);
+    }
+
+    /**
+     * Constructor.
+     * Because mean is not provided, DEFAULT_MEAN will be used instead.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @throws NullPointerException if provided internal random is null.
+     */
+    public PoissonRandomizer(final Random internalRandom) {
+        this((RandomGenerator) internalRandom);
+    }
+
+    /**
+     * Constructor.
+     * Because mean is not provided, DEFAULT_MEAN will be used instead.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @throws NullPointerException if provided internal generator is null.
+     */
+    public PoissonRandomizer(final RandomGenerator internalGenerator) {
+        this(internalGenerator, DEFAULT_MEAN);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalRandom Internal Random instance in charge of generating
+     *                       pseudo-random values.
+     * @param mean           mean of generated values.
+     * @throws IllegalArgumentException if provided mean is not positive or
+     *                                  exceeds MAX_MEAN.
+     * @throws NullPointerException     if provided internal random is null.
+     */
+    public PoissonRandomizer(final Random internalRandom, final double mean) {
+        this((RandomGenerator) internalRandom, mean);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @param mean              mean of generated values.
+     * @throws IllegalArgumentException if provided mean is not positive or
+     *                                  exceeds MAX_MEAN.
+     * @throws NullPointerException     if provided internal generator is null.
+     */
+    public PoissonRandomizer(final RandomGenerator internalGenerator, final double mean) {
+        super(internalGenerator);
+        setMean(mean);
+    }
+
+    /**
+     * Returns mean of generated values.
+     *
+     * @return mean of generated values.
+     */
+    public double getMean() {
+        return sampler.getMean();
+    }
+
+    /**
+     * Sets mean of generated values.
+     *
+     * @param mean mean of generated values.
+     * @throws IllegalArgumentException if provided mean is not positive or
+     *                                  exceeds MAX_MEAN.
+     */
+    public final void setMean(final double mean) {
+        sampler = new PoissonSampler(mean);
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the mean.
+     *
+     * @return Next boolean value.
+     */
+    @Override
+    public boolean nextBoolean() {
+        return nextBoolean(sampler.getMean());
+    }
+
+    /**
+     * Returns next random boolean value. The probability of returning true
+     * is equal to obtaining a value below the provided threshold, which is
+     * equal to the Poisson c.d.f. at such threshold.
+     *
+     * @param threshold Threshold to determine whether returned values will be
+     *                  true or false.
+     * @return Next random boolean value.
+     */
+    public boolean nextBoolean(final double threshold) {
+        return nextInt() < threshold;
+    }
+
+    /**
+     * Returns next random Poisson value.
+     *
+     * @return Next random integer value.
+     */
+    @Override
+    public int nextInt() {
+        return sampler.next(getInternalGenerator());
+    }
+
+    /**
+     * Fills provided array with random Poisson values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final int[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sampler.next(generator);
+        }
+    }
+
+    /**
+     * Returns next random Poisson value as a long.
+     *
+     * @return Next random long value.
+     */
+    @Override
+    public long nextLong() {
+        return nextInt();
+    }
+
+    /**
+     * Fills provided array with random Poisson values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final long[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sampler.next(generator);
+        }
+    }
+
+    /**
+     * Returns next random Poisson value as a floating-point value.
+     *
+     * @return Next random floating-point value.
+     */
+    @Override
+    public float nextFloat() {
+        return nextInt();
+    }
+
+    /**
+     * Returns next random Poisson value as a double precision floating-point
+     * value.
+     *
+     * @return Next random double precision floating-point value.
+     */
+    @Override
+    public double nextDouble() {
+        return nextInt();
+    }
+
+    /**
+     * Fills provided array with random Poisson values.
+     * This method does not allocate any memory.
+     *
+     * @param array Array to be filled.
+     */
+    @Override
+    public void fill(final double[] array) {
+        final var generator = getInternalGenerator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sampler.next(generator);
+        }
+    }
+
+    /**
+     * Returns the randomizer type of this instance.
+     *
+     * @return Randomizer type.
+     */
+    @Override
+    public RandomizerType getType() {
+        return RandomizerType.POISSON_RANDOMIZER;
+    }
+
+    /**
+     * Creates a new Poisson randomizer having the same mean as this instance
+     * and using provided internal generator.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values for the new instance.
+     * @return a new Poisson randomizer.
+     */
+    @Override
+    protected PoissonRandomizer newInstance(final RandomGenerator internalGenerator) {
+        return new PoissonRandomizer(internalGenerator, sampler.getMean());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates values following a Poisson distribution having a given mean.
+ * Small means are handled by sequential inversion of the c.d.f., whose
+ * expected cost is proportional to the mean, whereas means equal or greater
+ * than INVERSION_LIMIT are handled by the transformed rejection with squeeze
+ * method (PTRS), which has a constant expected cost regardless of the mean.
+ * Constants depending on the mean are computed once on construction, and
+ * instances are immutable, so they can be safely shared among threads.
+ * This class is based on: W. Hormann, "The transformed rejection method for
+ * generating Poisson random variables", Insurance: Mathematics and
+ * Economics, 1993.
+ */
+final class PoissonSampler {
+
+    /**
+     * Smallest mean handled by transformed rejection instead of inversion.
+     */
+    static final double INVERSION_LIMIT = 10.0;
+
+    /**
+     * Largest supported mean, so that generated values can be represented as
+     * integers.
+     */
+    static final double MAX_MEAN = 1e9;
+
+    /**
+     * Mean of generated values.
+     */
+    private final double mean;
+
+    /**
+     * Probability of value 0, used for inversion.
+     */
+    private final double p0;
+
+    /**
+     * Logarithm of mean.
+     */
+    private final double logMean;
+
+    /**
+     * Constant a of transformed rejection.
+     */
+    private final double a;
+
+    /**
+     * Constant b of transformed rejection.
+     */
+    private final double b;
+
+    /**
+     * Logarithm of inverse of alpha constant of transformed rejection.
+     */
+    private final double logInvAlpha;
+
+    /**
+     * Constant vr of transformed rejection, below which values are accepted
+     * without evaluating the probability mass function.
+     */
+    private final double vr;
+
+    /**
+     * Constructor.
+     *
+     * @param mean mean of generated values.
+     * @throws IllegalArgumentException if provided mean is not positive or
+     *                                  exceeds MAX_MEAN.
+     */
+    PoissonSampler(final double mean) {
+        if (!(mean > 0.0 && mean <= MAX_MEAN)) {
+            throw new IllegalArgumentException("mean must be greater than 0.0 and less or equal than "
+                    + MAX_MEAN);
+        }
+
+        this.mean = mean;
+        p0 = Math.exp(-mean);
+        logMean = Math.log(mean);
+        b = 0.931 + 2.53 * Math.sqrt(mean);
+        a = -0.059 + 0.02483 * b;
+        logInvAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+        vr = 0.9277 - 3.6224 / (b - 2.0);
+    }
+
+    /**
+     * Gets mean of generated values.
+     *
+     * @return mean of generated values.
+     */
+    double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns next value following a Poisson distribution having the mean of
+     * this instance.
+     *
+     * @param generator generator of uniform values.
+     * @return next Poisson value.
+     */
+    int next(final RandomGenerator generator) {
+        return mean < INVERSION_LIMIT ? nextInversion(generator) : nextTransformedRejection(generator);
+    }
+
+    /**
+     * Returns next value by sequential inversion of the c.d.f.
+     *
+     * @param generator generator of uniform values.
+     * @return next Poisson value.
+     */
+    private int nextInversion(final RandomGenerator generator) {
+        for (; ; ) {
+            var u = generator.nextDouble();
+            var p = p0;
+            var k = 0;
+            while (u > p) {
+                u -= p;
+                k++;
+                p *= mean / k;
+                if (p == 0.0) {
+                    // round-off error exhausted the c.d.f., try again
+                    break;
+                }
+            }
+            if (u <= p) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * Returns next value using transformed rejection with squeeze.
+     *
+     * @param generator generator of uniform values.
+     * @return next Poisson value.
+     */
+    private int nextTransformedRejection(final RandomGenerator generator) {
+        for (; ; ) {
+            final var u = generator.nextDouble() - 0.5;
+            final var v = generator.nextDouble();
+            final var us = 0.5 - Math.abs(u);
+            final var k = Math.floor((2.0 * a / us + b) * u + mean + 0.43);
+            if (us >= 0.07 && v <= vr) {
+                return (int) k;
+            }
+            if (k < 0.0 || (us < 0.013 && v > us)) {
+                continue;
+            }
+            final var ki = (int) k;
+            if (Math.log(v) + logInvAlpha - Math.log(a / (us * us) + b) <= -mean + k * logMean - Gamma.factln(ki)) {
+                return ki;
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded cache of values of functions of two arguments, such as
+ * quantiles depending on a probability and a distribution parameter, which
+ * are indexed by the exact value of both arguments and by the evaluator of
+ * the function. Because evaluators are compared by identity, the same cache
+ * can be safely shared among several functions, and evaluators should be
+ * kept in constants (e.g. a static final method reference) so that values
+ * are found on later lookups.
+ * This cache is intended to avoid recomputing expensive values that are
+ * requested repeatedly with the same arguments, such as thresholds computed
+ * for the same confidence and degrees of freedom on every iteration of a
+ * robust estimator.
+ * Lookups are lock-free. When the cache is full, an entry is evicted using
+ * the CLOCK algorithm, which approximates LRU by giving a second chance to
+ * entries accessed since the last time the clock hand passed over them.
+ * Instances of this class are thread safe.
+ */
+public class QuantileCache {
+
+    /**
+     * Maximum number of cached values.
+     */
+    private final int capacity;
+
+    /**
+     * Cached entries indexed by their arguments.
+     */
+    private final Map<Key, Entry> entries;
+
+    /**
+     * Circular buffer of cached entries traversed by the clock hand.
+     */
+    private final Entry[] clock;
+
+    /**
+     * Position of the clock hand.
+     */
+    private int hand;
+
+    /**
+     * Number of lookups found in the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of lookups not found in the cache.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param capacity maximum number of cached values.
+     * @throws IllegalArgumentException if provided capacity is zero or
+     *                                  negative.
+     */
+    public QuantileCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than zero");
+        }
+        this.capacity = capacity;
+        entries = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+        clock = new Entry[capacity];
+    }
+
+    /**
+     * Gets maximum number of cached values.
+     *
+     * @return maximum number of cached values.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets number of cached values.
+     *
+     * @return number of cached values.
+     */
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Gets number of lookups that were found in the cache.
+     *
+     * @return number of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets number of lookups that were not found in the cache and had to be
+     * computed.
+     *
+     * @return number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes all cached values and resets hit and miss counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        Arrays.fill(clock, null);
+        hand = 0;
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Returns the cached value for provided arguments and evaluator, or
+     * computes and caches it if not found.
+     * Values are only cached when computed without exceptions.
+     *
+     * @param first     first argument (e.g. a probability).
+     * @param second    second argument (e.g. a distribution parameter).
+     * @param evaluator computes the value for provided arguments when not
+     *                  cached. Values computed by other evaluators are never
+     *                  returned.
+     * @return value for provided arguments.
+     * @throws MaxIterationsExceededException if value is not cached and
+     *                                        evaluator throws it.
+     */
+    public double get(final double first, final double second, final Evaluator evaluator)
+            throws MaxIterationsExceededException {
+        final var key = new Key(first, second, evaluator);
+        final var entry = entries.get(key);
+        if (entry != null) {
+            // avoid writing the shared flag (and invalidating other cores'
+            // cache lines) on every hit
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        final var value = evaluator.evaluate(first, second);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Caches a value, evicting another one using the CLOCK algorithm if the
+     * cache is full.
+     *
+     * @param key   arguments of value.
+     * @param value value to be cached.
+     */
+    private synchronized void put(final Key key, final double value) {
+        if (entries.containsKey(key)) {
+            // computed concurrently by another thread
+            return;
+        }
+
+        while (true) {
+            final var current = clock[hand];
+            if (current == null) {
+                break;
+            }
+            if (current.referenced) {
+                current.referenced = false;
+                hand = (hand + 1) % capacity;
+            } else {
+                entries.remove(current.key);
+                break;
+            }
+        }
+
+        final var entry = new Entry(key, value);
+        clock[hand] = entry;
+        hand = (hand + 1) % capacity;
+        entries.put(key, entry);
+    }
+
+    /**
+     * Computes values of a function of two arguments.
+     */
+    @FunctionalInterface
+    public interface Evaluator {
+
+        /**
+         * Evaluates the function.
+         *
+         * @param first  first argument.
+         * @param second second argument.
+         * @return function value.
+         * @throws MaxIterationsExceededException if evaluation does not
+         *                                        converge.
+         */
+        double evaluate(final double first, final double second) throws MaxIterationsExceededException;
+    }
+
+    /**
+     * Arguments of a cached value, compared by their exact bit patterns, and
+     * evaluator of the value, compared by identity.
+     */
+    private static final class Key {
+
+        /**
+         * Bits of first argument.
+         */
+        private final long first;
+
+        /**
+         * Bits of second argument.
+         */
+        private final long second;
+
+        /**
+         * Evaluator of value.
+         */
+        private final Evaluator evaluator;
+
+        /**
+         * Constructor.
+         *
+         * @param first     first argument.
+         * @param second    second argument.
+         * @param evaluator evaluator of value.
+         */
+        Key(final double first, final double second, final Evaluator evaluator) {
+            this.first = Double.doubleToLongBits(first);
+            this.second = Double.doubleToLongBits(second);
+            this.evaluator = evaluator;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final var other = (Key) obj;
+            return first == other.first && second == other.second && evaluator == other.evaluator;
+        }
+
+        @Override
+        public int hashCode() {
+            return (Long.hashCode(first) * 31 + Long.hashCode(second)) * 31 + System.identityHashCode(evaluator);
+        }
+    }
+
+    /**
+     * Cached value.
+     */
+    private static final class Entry {
+
+        /**
+         * Arguments of cached value.
+         */
+        private final Key key;
+
+        /**
+         * Cached value.
+         */
+        private final double value;
+
+        /**
+         * Indicates whether value has been accessed since the clock hand last
+         * passed over it.
+         */
+        private volatile boolean referenced;
+
+        /**
+         * Constructor.
+         *
+         * @param key   arguments of cached value.
+         * @param value cached value.
+         */
+        Entry(final Key key, final double value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -15,13 +15,30 @@
  */
 package com.irurueta.statistics;
 
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.security.SecureRandom;
+import java.util.Objects;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Parent class of all Randomizers. Specific subclasses exist for different
- * distribution types (currently only uniform and gaussian distributions are
- * implemented).
+ * distribution types (uniform, gaussian, exponential, gamma, chi square,
+ * Poisson and binomial distributions).
  * This class provides static methods to ease the instantiation of a Randomizer.
  * For instance, a UniformRandomizer can be created like this:
  * <pre>
@@ -35,6 +52,14 @@ import java.util.Random;
  * Randomizer.create(RandomizerType.GAUSSIAN_RANDOMIZER);
  * }
  * </pre>
+ * Randomizers can be backed by any {@link RandomGenerator}, such as the LXM
+ * or xoshiro generators provided by the JDK, which avoid the synchronization
+ * cost of {@link Random}:
+ * <pre>
+ * {@code
+ * Randomizer.createWithAlgorithm(RandomizerType.UNIFORM_RANDOMIZER, "L64X128MixRandom");
+ * }
+ * </pre>
  */
 public abstract class Randomizer {
 
@@ -50,12 +75,40 @@ public abstract class Randomizer {
      */
     public static final RandomizerType DEFAULT_RANDOMIZER_TYPE = RandomizerType.UNIFORM_RANDOMIZER;
 
+    /**
+     * Number of consecutive array positions filled by each independent
+     * stream on parallel fill methods. Because this size does not depend on
+     * the number of available threads, parallel fills generate the same values
+     * for a given seed regardless of the pool being used.
+     */
+    public static final int PARALLEL_CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Indicates, for each randomizer class, whether it overrides
+     * {@link #newInstance(RandomGenerator)} and hence can create new
+     * instances, which is checked without creating any instance.
+     */
+    private static final ClassValue<Boolean> CREATES_NEW_INSTANCES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (var c = type; c != Randomizer.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("newInstance", RandomGenerator.class);
+                    return true;
+                } catch (final NoSuchMethodException ignore) {
+                    // continue with superclass
+                }
+            }
+            return false;
+        }
+    };
+
     /**
      * Instance in charge of generating pseudo-random values. Secure instances
      * can be used if the generated values need to be ensured to be "more"
      * random at the expense of higher computational cost.
      */
-    private Random internalRandom;
+    private RandomGenerator internalRandom;
 
     /**
      * Constructor.
@@ -73,20 +126,34 @@ public abstract class Randomizer {
      * @throws NullPointerException if provided value is null.
      */
     protected Randomizer(final Random internalRandom) {
+        this((RandomGenerator) internalRandom);
+    }
 
-        if (internalRandom == null) {
+    /**
+     * Constructor.
+     *
+     * @param internalGenerator Instance in charge of generating pseudo-random
+     *                          values.
+     * @throws NullPointerException if provided value is null.
+     */
+    protected Randomizer(final RandomGenerator internalGenerator) {
+        if (internalGenerator == null) {
             throw new NullPointerException();
         }
-        this.internalRandom = internalRandom;
+        this.internalRandom = internalGenerator;
     }
 
     /**
-     * Returns internal instance in charge of generating pseudo-random values.
+     * Returns internal instance in charge of generating pseudo-random values
+     * when it is a {@link Random} instance.
      *
-     * @return instance in charge of generating pseudo-random values.
+     * @return instance in charge of generating pseudo-random values, or null
+     * if this randomizer is backed by a {@link RandomGenerator} that is not a
+     * {@link Random}.
+     * @see #getInternalGenerator()
      */
     public Random getInternalRandom() {
-        return internalRandom;
+        return internalRandom instanceof Random random ? random : null;
     }
 
     /**
@@ -97,10 +164,34 @@ public abstract class Randomizer {
      * @throws NullPointerException if provided value is null.
      */
     public void setInternalRandom(final Random internalRandom) {
-        if (internalRandom == null) {
+        setInternalGenerator(internalRandom);
+    }
+
+    /**
+     * Returns internal generator in charge of generating pseudo-random values.
+     *
+     * @return generator in charge of generating pseudo-random values.
+     */
+    public RandomGenerator getInternalGenerator() {
+        return internalRandom;
+    }
+
+    /**
+     * Sets internal generator in charge of generating pseudo-random values.
+     * Any {@link RandomGenerator} can be used, such as the ones provided by
+     * {@link RandomGeneratorFactory} (e.g. L64X128MixRandom or
+     * Xoshiro256PlusPlus), which are faster than {@link Random} because they
+     * are not synchronized.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values.
+     * @throws NullPointerException if provided value is null.
+     */
+    public void setInternalGenerator(final RandomGenerator internalGenerator) {
+        if (internalGenerator == null) {
             throw new NullPointerException();
         }
-        this.internalRandom = internalRandom;
+        this.internalRandom = internalGenerator;
     }
 
     /**
@@ -121,11 +212,36 @@ public abstract class Randomizer {
      * random values. If a secure solution is required (i.e. for encryption
      * purposes, then a SecureRandom instance must be provided as the internal
      * random instance)
+     * Because {@link RandomGenerator} instances cannot be re-seeded, when the
+     * internal generator is not a {@link Random}, it is replaced by a new
+     * generator of the same algorithm initialized with provided seed, if such
+     * algorithm is provided by {@link RandomGeneratorFactory}. Hence, the
+     * instance previously returned by {@link #getInternalGenerator()} is no
+     * longer used by this randomizer.
+     * When the internal generator is a {@link PhiloxRandomGenerator}, provided
+     * seed is used as its key and its position is reset to zero, and when it
+     * is a {@link BulkRandomGenerator}, it is re-seeded.
      *
      * @param seed Value to be used as seed
+     * @throws UnsupportedOperationException if internal generator cannot be
+     *                                       re-seeded because it is not a
+     *                                       {@link Random} and it is not
+     *                                       provided by any
+     *                                       {@link RandomGeneratorFactory}, in
+     *                                       which case internal generator is
+     *                                       left unchanged.
      */
     public void setSeed(final long seed) {
-        internalRandom.setSeed(seed);
+        if (internalRandom instanceof Random random) {
+            random.setSeed(seed);
+        } else if (internalRandom instanceof PhiloxRandomGenerator philox) {
+            philox.setKey(seed);
+            philox.setPosition(0L);
+        } else if (internalRandom instanceof BulkRandomGenerator bulk) {
+            bulk.setSeed(seed);
+        } else {
+            internalRandom = createGenerator(internalRandom, seed);
+        }
     }
 
     /**
@@ -182,6 +298,39 @@ public abstract class Randomizer {
         }
     }
 
+    /**
+     * Fills provided array with random integer values in parallel using the
+     * common fork-join pool.
+     *
+     * @param array Array to be filled.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final int[] array) {
+        parallelFill(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Fills provided array with random integer values in parallel using
+     * provided fork-join pool.
+     *
+     * @param array Array to be filled.
+     * @param pool  pool where chunks of the array are filled.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final int[] array, final ForkJoinPool pool) {
+        final var children = splitChunks(array.length);
+        if (children == null) {
+            fill(array);
+            return;
+        }
+        forEachChunk(pool, array.length, (chunk, from, to) -> {
+            final var child = children[chunk];
+            for (int i = from; i < to; i++) {
+                array[i] = child.nextInt();
+            }
+        });
+    }
+
     /**
      * Returns array of random integers.
      *
@@ -217,6 +366,39 @@ public abstract class Randomizer {
         }
     }
 
+    /**
+     * Fills provided array with random long values in parallel using the
+     * common fork-join pool.
+     *
+     * @param array Array to be filled.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final long[] array) {
+        parallelFill(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Fills provided array with random long values in parallel using provided
+     * fork-join pool.
+     *
+     * @param array Array to be filled.
+     * @param pool  pool where chunks of the array are filled.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final long[] array, final ForkJoinPool pool) {
+        final var children = splitChunks(array.length);
+        if (children == null) {
+            fill(array);
+            return;
+        }
+        forEachChunk(pool, array.length, (chunk, from, to) -> {
+            final var child = children[chunk];
+            for (int i = from; i < to; i++) {
+                array[i] = child.nextLong();
+            }
+        });
+    }
+
     /**
      * Returns array of random long values.
      *
@@ -252,6 +434,39 @@ public abstract class Randomizer {
         }
     }
 
+    /**
+     * Fills provided array with random floating point values in parallel
+     * using the common fork-join pool.
+     *
+     * @param array Array to be filled.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final float[] array) {
+        parallelFill(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Fills provided array with random floating point values in parallel
+     * using provided fork-join pool.
+     *
+     * @param array Array to be filled.
+     * @param pool  pool where chunks of the array are filled.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final float[] array, final ForkJoinPool pool) {
+        final var children = splitChunks(array.length);
+        if (children == null) {
+            fill(array);
+            return;
+        }
+        forEachChunk(pool, array.length, (chunk, from, to) -> {
+            final var child = children[chunk];
+            for (int i = from; i < to; i++) {
+                array[i] = child.nextFloat();
+            }
+        });
+    }
+
     /**
      * Returns array of floating point values.
      *
@@ -287,6 +502,128 @@ public abstract class Randomizer {
         }
     }
 
+    /**
+     * Fills provided array with random double precision floating point values
+     * in parallel using the common fork-join pool.
+     *
+     * @param array Array to be filled.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final double[] array) {
+        parallelFill(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Fills provided array with random double precision floating point values
+     * in parallel using provided fork-join pool.
+     * The array is split into chunks of {@link #PARALLEL_CHUNK_SIZE} positions
+     * and each chunk is filled with an independent stream derived in order
+     * from the internal generator (by splitting it when it is a
+     * {@link RandomGenerator.SplittableGenerator}, by jumping it when it is a
+     * {@link RandomGenerator.JumpableGenerator} or by seeding a new
+     * {@link SplittableRandom} otherwise). Hence, generated values are
+     * deterministic for a given seed regardless of the number of threads
+     * being used, although they differ from the ones generated by
+     * {@link #fill(double[])}.
+     *
+     * @param array Array to be filled.
+     * @param pool  pool where chunks of the array are filled.
+     */
+    public void parallelFill(final double[] array, final ForkJoinPool pool) {
+        final var children = splitChunks(array.length);
+        if (children == null) {
+            fill(array);
+            return;
+        }
+        forEachChunk(pool, array.length, (chunk, from, to) -> {
+            final var child = children[chunk];
+            for (int i = from; i < to; i++) {
+                array[i] = child.nextDouble();
+            }
+        });
+    }
+
+    /**
+     * Fills the remaining positions of provided buffer with random double
+     * precision floating point values.
+     * Values are written starting at the current position of the buffer,
+     * which is advanced up to its limit. Direct buffers are filled in place
+     * without intermediate arrays.
+     *
+     * @param buffer Buffer to be filled.
+     * @throws java.nio.ReadOnlyBufferException if buffer is read-only.
+     */
+    public void fill(final DoubleBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            buffer.put(nextDouble());
+        }
+    }
+
+    /**
+     * Fills a range of provided buffer with random double precision floating
+     * point values.
+     * Values are written at absolute positions, so the position of the buffer
+     * is not modified.
+     *
+     * @param buffer Buffer to be filled.
+     * @param index  Position of first value to be written.
+     * @param length Number of values to be written.
+     * @throws IndexOutOfBoundsException        if range is not within the
+     *                                          limit of the buffer.
+     * @throws java.nio.ReadOnlyBufferException if buffer is read-only.
+     */
+    public void fill(final DoubleBuffer buffer, final int index, final int length) {
+        Objects.checkFromIndexSize(index, length, buffer.limit());
+        final var end = index + length;
+        for (int i = index; i < end; i++) {
+            buffer.put(i, nextDouble());
+        }
+    }
+
+    /**
+     * Fills the remaining bytes of provided buffer with random double
+     * precision floating point values using the byte order of the buffer.
+     * Values are written starting at the current position of the buffer,
+     * which is advanced by {@link Double#BYTES} bytes per value. If the number
+     * of remaining bytes is not a multiple of {@link Double#BYTES}, trailing
+     * bytes are left untouched.
+     * This method can be used to fill memory shared with native code or
+     * written to file channels without intermediate copies.
+     *
+     * @param buffer Buffer to be filled.
+     * @throws java.nio.ReadOnlyBufferException if buffer is read-only.
+     */
+    public void fillDoubles(final ByteBuffer buffer) {
+        while (buffer.remaining() >= Double.BYTES) {
+            buffer.putDouble(nextDouble());
+        }
+    }
+
+    /**
+     * Fills a range of provided buffer with random double precision floating
+     * point values using the byte order of the buffer.
+     * Values are written at absolute positions, so the position of the buffer
+     * is not modified.
+     *
+     * @param buffer Buffer to be filled.
+     * @param index  Byte position where first value is written.
+     * @param length Number of values to be written.
+     * @throws IndexOutOfBoundsException        if range is not within the
+     *                                          limit of the buffer.
+     * @throws java.nio.ReadOnlyBufferException if buffer is read-only.
+     */
+    public void fillDoubles(final ByteBuffer buffer, final int index, final int length) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        Objects.checkFromIndexSize(index, (long) length * Double.BYTES, buffer.limit());
+        var position = index;
+        for (int i = 0; i < length; i++) {
+            buffer.putDouble(position, nextDouble());
+            position += Double.BYTES;
+        }
+    }
+
     /**
      * Returns array of double precision floating point values.
      *
@@ -303,6 +640,55 @@ public abstract class Randomizer {
         return array;
     }
 
+    /**
+     * Returns a sized stream of random integer values following the
+     * distribution of this randomizer.
+     * The stream can be efficiently run in parallel, since it is split into
+     * chunks that are generated by independent generators seeded from a
+     * single value taken from the internal generator when this method is
+     * called. Hence, for a given seed the stream always contains the same
+     * values, regardless of whether it is run sequentially or in parallel.
+     * Changes on the configuration of this randomizer after calling this
+     * method do not affect the returned stream.
+     *
+     * @param size number of values.
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative.
+     */
+    public IntStream ints(final long size) {
+        return intStream(size, Randomizer::nextInt);
+    }
+
+    /**
+     * Returns a sized stream of random long values following the distribution
+     * of this randomizer.
+     * The stream can be efficiently run in parallel and, for a given seed, it
+     * always contains the same values.
+     *
+     * @param size number of values.
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative.
+     * @see #ints(long)
+     */
+    public LongStream longs(final long size) {
+        return longStream(size, Randomizer::nextLong);
+    }
+
+    /**
+     * Returns a sized stream of random double precision floating point values
+     * following the distribution of this randomizer.
+     * The stream can be efficiently run in parallel and, for a given seed, it
+     * always contains the same values.
+     *
+     * @param size number of values.
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative.
+     * @see #ints(long)
+     */
+    public DoubleStream doubles(final long size) {
+        return doubleStream(size, Randomizer::nextDouble);
+    }
+
     /**
      * Returns the randomizer type of this instance.
      *
@@ -310,6 +696,169 @@ public abstract class Randomizer {
      */
     public abstract RandomizerType getType();
 
+    /**
+     * Returns a sized stream of integer values generated by provided function
+     * on the randomizers of each chunk.
+     *
+     * @param size      number of values.
+     * @param generator generates a value using the randomizer of a chunk.
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative.
+     */
+    IntStream intStream(final long size, final ToIntFunction<Randomizer> generator) {
+        checkStreamSize(size);
+        return StreamSupport.intStream(new RandomizerSpliterator.Ints(chunkFactory(), generator, 0L, size),
+                false);
+    }
+
+    /**
+     * Returns a sized stream of long values generated by provided function on
+     * the randomizers of each chunk.
+     *
+     * @param size      number of values.
+     * @param generator generates a value using the randomizer of a chunk.
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative.
+     */
+    LongStream longStream(final long size, final ToLongFunction<Randomizer> generator) {
+        checkStreamSize(size);
+        return StreamSupport.longStream(new RandomizerSpliterator.Longs(chunkFactory(), generator, 0L, size),
+                false);
+    }
+
+    /**
+     * Returns a sized stream of double values generated by provided function
+     * on the randomizers of each chunk.
+     *
+     * @param size      number of values.
+     * @param generator generates a value using the randomizer of a chunk.
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative.
+     */
+    DoubleStream doubleStream(final long size, final ToDoubleFunction<Randomizer> generator) {
+        checkStreamSize(size);
+        return StreamSupport.doubleStream(new RandomizerSpliterator.Doubles(chunkFactory(), generator, 0L, size),
+                false);
+    }
+
+    /**
+     * Returns a function creating the randomizer of each chunk of a stream.
+     * Randomizers have the configuration of this instance at the moment of
+     * calling this method, and their generators are seeded from a single value
+     * taken from the internal generator of this instance.
+     * When this instance cannot create new instances, all values are generated
+     * sequentially by this instance.
+     *
+     * @return function creating the randomizer of each chunk from its index.
+     */
+    private LongFunction<Randomizer> chunkFactory() {
+        final var prototype = newInstance(internalRandom);
+        if (prototype == null) {
+            return RandomizerSpliterator.sequential(this);
+        }
+        final var baseSeed = internalRandom.nextLong();
+        final var factory = RandomGeneratorFactory.of(RandomizerFactory.DEFAULT_ALGORITHM);
+        return chunk -> prototype.newInstance(factory.create(RandomizerFactory.deriveSeed(baseSeed, chunk)));
+    }
+
+    /**
+     * Checks that provided stream size is valid.
+     *
+     * @param size size to be checked.
+     * @throws IllegalArgumentException if size is negative.
+     */
+    private static void checkStreamSize(final long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be positive or zero");
+        }
+    }
+
+    /**
+     * Creates a new randomizer having the same type and configuration as this
+     * instance, but using provided internal generator.
+     * New instances are used to fill chunks of arrays in parallel and to
+     * generate chunks of streams. Subclasses should override this method, as
+     * by default it returns null, in which case parallel fills and streams
+     * are generated sequentially by this instance. Whether this method is
+     * overridden is checked once per class, so that parallel fills of
+     * randomizers not overriding it do not create any instance.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values for the new instance.
+     * @return a new randomizer, or null if not supported.
+     */
+    protected Randomizer newInstance(final RandomGenerator internalGenerator) {
+        return null;
+    }
+
+    /**
+     * Creates a randomizer for each chunk of an array having provided length.
+     * Each randomizer uses an independent stream derived in order from the
+     * internal generator.
+     *
+     * @param length length of array to be filled.
+     * @return randomizers for each chunk, or null if this instance cannot
+     * create new instances.
+     */
+    Randomizer[] splitChunks(final int length) {
+        if (!CREATES_NEW_INSTANCES.get(getClass())) {
+            // checked before splitting, so that the internal generator is
+            // left untouched
+            return null;
+        }
+
+        final var chunks = chunkCount(length);
+        final var result = new Randomizer[chunks];
+        for (int i = 0; i < chunks; i++) {
+            result[i] = newInstance(splitGenerator());
+            if (result[i] == null) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of chunks of {@link #PARALLEL_CHUNK_SIZE} positions
+     * of an array having provided length.
+     *
+     * @param length length of array.
+     * @return number of chunks.
+     */
+    static int chunkCount(final int length) {
+        return (int) (((long) length + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE);
+    }
+
+    /**
+     * Derives a new independent generator from the internal generator.
+     *
+     * @return a new generator.
+     */
+    RandomGenerator splitGenerator() {
+        if (internalRandom instanceof RandomGenerator.SplittableGenerator splittable) {
+            return splittable.split();
+        } else if (internalRandom instanceof RandomGenerator.JumpableGenerator jumpable) {
+            return jumpable.copyAndJump();
+        } else {
+            return new SplittableRandom(internalRandom.nextLong());
+        }
+    }
+
+    /**
+     * Executes provided action for each chunk of an array having provided
+     * length on provided pool.
+     *
+     * @param pool   pool where actions are executed.
+     * @param length length of array.
+     * @param action action to be executed for each chunk.
+     */
+    static void forEachChunk(final ForkJoinPool pool, final int length, final ChunkAction action) {
+        final var chunks = chunkCount(length);
+        if (chunks > 0) {
+            pool.invoke(new ChunkTask(0, chunks, length, action));
+        }
+    }
+
     /**
      * Creates a new Randomizer instance using DEFAULT_RANDOMIZER_TYPE and
      * USE_SECURE_RANDOM_By_DEFAULT to determine what type of random
@@ -353,6 +902,36 @@ public abstract class Randomizer {
         return create(DEFAULT_RANDOMIZER_TYPE, internalRandomizer);
     }
 
+    /**
+     * Creates a new Randomizer instance using provided internal generator
+     * instance.
+     *
+     * @param internalGenerator Internal generator to be used for generation of
+     *                          pseudo-random values.
+     * @return A Randomizer instance using provided internal generator.
+     * @throws NullPointerException Exception thrown if provided internal
+     *                              generator is null.
+     */
+    public static Randomizer create(final RandomGenerator internalGenerator) {
+        return create(DEFAULT_RANDOMIZER_TYPE, internalGenerator);
+    }
+
+    /**
+     * Creates a new Randomizer instance using DEFAULT_RANDOMIZER_TYPE and a
+     * new generator of provided algorithm (e.g. L64X128MixRandom,
+     * Xoshiro256PlusPlus, etc.).
+     *
+     * @param algorithm name of the {@link RandomGenerator} algorithm to be
+     *                  used.
+     * @return A Randomizer instance using provided generator algorithm.
+     * @throws NullPointerException     if provided algorithm is null.
+     * @throws IllegalArgumentException if provided algorithm is not found.
+     * @see RandomGeneratorFactory#of(String)
+     */
+    public static Randomizer createWithAlgorithm(final String algorithm) {
+        return createWithAlgorithm(DEFAULT_RANDOMIZER_TYPE, algorithm);
+    }
+
     /**
      * Creates a new Randomizer instance using provided randomizer type and
      * the default secure mode specified by USE_SECURE_RANDOM_BY_DEFAULT.
@@ -396,15 +975,186 @@ public abstract class Randomizer {
      * @throws NullPointerException Exception thrown if internal random is null.
      */
     public static Randomizer create(final RandomizerType type, final Random internalRandom) {
+        return create(type, (RandomGenerator) internalRandom);
+    }
+
+    /**
+     * Creates a new Randomizer instance using provided randomizer type and
+     * a new generator of provided algorithm (e.g. L64X128MixRandom,
+     * Xoshiro256PlusPlus, etc.).
+     *
+     * @param type      Randomizer type to be used when creating an instance.
+     * @param algorithm name of the {@link RandomGenerator} algorithm to be
+     *                  used.
+     * @return A Randomizer instance using provided randomizer type and
+     * generator algorithm.
+     * @throws NullPointerException     if provided algorithm is null.
+     * @throws IllegalArgumentException if provided algorithm is not found.
+     * @see RandomGeneratorFactory#of(String)
+     */
+    public static Randomizer createWithAlgorithm(final RandomizerType type, final String algorithm) {
+        return create(type, RandomGeneratorFactory.of(algorithm).create());
+    }
 
-        if (internalRandom == null) {
+    /**
+     * Creates a new Randomizer instance using provided randomizer type and
+     * internal generator.
+     *
+     * @param type              Randomizer type to be used when creating an
+     *                          instance.
+     * @param internalGenerator Internal generator to be used to generate
+     *                          pseudo-random values.
+     * @return A Randomizer instance using provided randomizer type and internal
+     * generator.
+     * @throws NullPointerException Exception thrown if internal generator is
+     *                              null.
+     */
+    public static Randomizer create(final RandomizerType type, final RandomGenerator internalGenerator) {
+
+        if (internalGenerator == null) {
             throw new NullPointerException();
         }
 
         if (type == RandomizerType.GAUSSIAN_RANDOMIZER) {
-            return new GaussianRandomizer(internalRandom);
+            return new GaussianRandomizer(internalGenerator);
+        } else if (type == RandomizerType.EXPONENTIAL_RANDOMIZER) {
+            return new ExponentialRandomizer(internalGenerator);
+        } else if (type == RandomizerType.GAMMA_RANDOMIZER) {
+            return new GammaRandomizer(internalGenerator);
+        } else if (type == RandomizerType.CHI_SQ_RANDOMIZER) {
+            return new ChiSqRandomizer(internalGenerator);
+        } else if (type == RandomizerType.POISSON_RANDOMIZER) {
+            return new PoissonRandomizer(internalGenerator);
+        } else if (type == RandomizerType.BINOMIAL_RANDOMIZER) {
+            return new BinomialRandomizer(internalGenerator);
         } else {
-            return new UniformRandomizer(internalRandom);
+            return new UniformRandomizer(internalGenerator);
+        }
+    }
+
+    /**
+     * Creates a new Randomizer instance using provided randomizer type and a
+     * counter-based {@link PhiloxRandomGenerator} having provided key and
+     * stream.
+     * Values generated by the returned randomizer at position i are a pure
+     * function of (key, stream, i), hence any slice of the sequence can be
+     * regenerated by setting the position of the internal generator.
+     * Gaussian randomizers are configured to use
+     * {@link GaussianSamplingMethod#INVERSION} so that each Gaussian value
+     * consumes exactly one position.
+     *
+     * @param type   Randomizer type to be used when creating an instance.
+     * @param key    key of counter-based generator.
+     * @param stream index of stream of counter-based generator.
+     * @return A Randomizer instance using a counter-based generator.
+     */
+    public static Randomizer createCounterBased(final RandomizerType type, final long key, final long stream) {
+        final var result = create(type, new PhiloxRandomGenerator(key, stream));
+        if (result instanceof GaussianRandomizer gaussian) {
+            gaussian.setMethod(GaussianSamplingMethod.INVERSION);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new generator of the same algorithm as provided one
+     * initialized with provided seed.
+     * The algorithm is found among the factories available in
+     * {@link RandomGeneratorFactory}, and it is only used if it creates
+     * generators of the same class as provided one.
+     *
+     * @param generator generator whose algorithm is used.
+     * @param seed      seed to initialize the generator.
+     * @return a new generator.
+     * @throws UnsupportedOperationException if no factory creates generators
+     *                                       of the same class as provided one.
+     */
+    private static RandomGenerator createGenerator(final RandomGenerator generator, final long seed) {
+        final var type = generator.getClass();
+        final var factory = RandomGeneratorFactory.all()
+                .filter(f -> f.name().equals(type.getSimpleName()))
+                .findFirst();
+        if (factory.isPresent()) {
+            final var result = factory.get().create(seed);
+            if (result.getClass() == type) {
+                return result;
+            }
+        }
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Action executed on a chunk of an array.
+     */
+    interface ChunkAction {
+
+        /**
+         * Executes action on a chunk.
+         *
+         * @param chunk index of chunk.
+         * @param from  first array position of chunk (inclusive).
+         * @param to    last array position of chunk (exclusive).
+         */
+        void run(final int chunk, final int from, final int to);
+    }
+
+    /**
+     * Task to recursively execute an action on a range of chunks.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * First chunk (inclusive).
+         */
+        private final int fromChunk;
+
+        /**
+         * Last chunk (exclusive).
+         */
+        private final int toChunk;
+
+        /**
+         * Length of array.
+         */
+        private final int length;
+
+        /**
+         * Action to be executed for each chunk.
+         */
+        private final transient ChunkAction action;
+
+        /**
+         * Constructor.
+         *
+         * @param fromChunk first chunk (inclusive).
+         * @param toChunk   last chunk (exclusive).
+         * @param length    length of array.
+         * @param action    action to be executed for each chunk.
+         */
+        ChunkTask(final int fromChunk, final int toChunk, final int length, final ChunkAction action) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.length = length;
+            this.action = action;
+        }
+
+        /**
+         * Executes action on chunks, splitting work in halves when there is
+         * more than one chunk.
+         */
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                final var from = fromChunk * PARALLEL_CHUNK_SIZE;
+                action.run(fromChunk, from, from + Math.min(PARALLEL_CHUNK_SIZE, length - from));
+            } else {
+                final var middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new ChunkTask(fromChunk, middle, length, action),
+                        new ChunkTask(middle, toChunk, length, action));
+            }
         }
     }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Creates randomizers whose internal generators are derived deterministically
+ * from a master seed and a stream index.
+ * Randomizers are not thread-safe, hence each thread must use its own
+ * instance. This factory can be shared among threads and provides:
+ * - {@link #create(long)} to obtain a new randomizer for a given stream index.
+ * The same master seed and stream index always generate the same sequence of
+ * values, which allows an exact replay of a run (e.g. by using a request
+ * number as stream index).
+ * - {@link #current()} to obtain a randomizer owned by the calling thread
+ * (either a platform or a virtual thread), which is created the first time
+ * it is requested using the next available stream index.
+ * Example:
+ * <pre>
+ * {@code
+ * RandomizerFactory factory = new RandomizerFactory(1234L);
+ * double value = factory.current().nextDouble();
+ * }
+ * </pre>
+ */
+public class RandomizerFactory {
+
+    /**
+     * Default algorithm of generators being created. LXM generators are used
+     * by default because streams initialized with different seeds are
+     * statistically independent.
+     */
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    /**
+     * Golden ratio increment used to derive seeds.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Master seed from which all generators are derived.
+     */
+    private final long masterSeed;
+
+    /**
+     * Type of randomizers being created.
+     */
+    private final RandomizerType type;
+
+    /**
+     * Algorithm of generators being created.
+     */
+    private final String algorithm;
+
+    /**
+     * Factory of generators.
+     */
+    private final RandomGeneratorFactory<RandomGenerator> generatorFactory;
+
+    /**
+     * Next stream index to be assigned to a thread.
+     */
+    private final AtomicLong nextStreamIndex = new AtomicLong();
+
+    /**
+     * Randomizers owned by each thread.
+     */
+    private final ThreadLocal<Randomizer> threadRandomizer =
+            ThreadLocal.withInitial(() -> create(nextStreamIndex.getAndIncrement()));
+
+    /**
+     * Constructor.
+     * Uses default randomizer type and generator algorithm.
+     *
+     * @param masterSeed master seed from which all generators are derived.
+     */
+    public RandomizerFactory(final long masterSeed) {
+        this(masterSeed, Randomizer.DEFAULT_RANDOMIZER_TYPE);
+    }
+
+    /**
+     * Constructor.
+     * Uses default generator algorithm.
+     *
+     * @param masterSeed master seed from which all generators are derived.
+     * @param type       type of randomizers being created.
+     * @throws NullPointerException if provided type is null.
+     */
+    public RandomizerFactory(final long masterSeed, final RandomizerType type) {
+        this(masterSeed, type, DEFAULT_ALGORITHM);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param masterSeed master seed from which all generators are derived.
+     * @param type       type of randomizers being created.
+     * @param algorithm  name of the {@link RandomGenerator} algorithm of
+     *                   generators being created.
+     * @throws NullPointerException     if provided type or algorithm is null.
+     * @throws IllegalArgumentException if provided algorithm is not found.
+     */
+    public RandomizerFactory(final long masterSeed, final RandomizerType type, final String algorithm) {
+        if (type == null) {
+            throw new NullPointerException();
+        }
+        this.generatorFactory = RandomGeneratorFactory.of(algorithm);
+        this.masterSeed = masterSeed;
+        this.type = type;
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Gets master seed from which all generators are derived.
+     *
+     * @return master seed.
+     */
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Gets type of randomizers being created.
+     *
+     * @return type of randomizers.
+     */
+    public RandomizerType getType() {
+        return type;
+    }
+
+    /**
+     * Gets algorithm of generators being created.
+     *
+     * @return name of the {@link RandomGenerator} algorithm.
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Creates a new randomizer for provided stream index.
+     * Randomizers created for the same master seed and stream index generate
+     * the same sequence of values.
+     *
+     * @param streamIndex index of stream.
+     * @return a new randomizer.
+     */
+    public Randomizer create(final long streamIndex) {
+        return Randomizer.create(type, generatorFactory.create(deriveSeed(masterSeed, streamIndex)));
+    }
+
+    /**
+     * Returns randomizer owned by the calling thread.
+     * The randomizer is created the first time a thread calls this method,
+     * using the next available stream index. Because the order in which
+     * threads call this method for the first time is not deterministic,
+     * {@link #create(long)} must be used when an exact replay is required.
+     *
+     * @return randomizer owned by the calling thread.
+     */
+    public Randomizer current() {
+        return threadRandomizer.get();
+    }
+
+    /**
+     * Derives a seed from a master seed and a stream index.
+     * Seeds are obtained as the output of the SplitMix64 generator at
+     * position streamIndex + 1 of a sequence starting at masterSeed, hence
+     * different stream indices always produce different seeds.
+     *
+     * @param masterSeed  master seed.
+     * @param streamIndex index of stream.
+     * @return derived seed.
+     */
+    static long deriveSeed(final long masterSeed, final long streamIndex) {
+        var z = masterSeed + GOLDEN_GAMMA * (streamIndex + 1);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
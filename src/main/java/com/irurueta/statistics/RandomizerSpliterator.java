@@ -0,0 +1,338 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Base class of sized spliterators over the output of a randomizer.
+ * Positions are grouped into chunks of {@link #CHUNK_SIZE} values, and each
+ * chunk is generated by its own randomizer, which is created from the chunk
+ * index. Spliterators are only split at chunk boundaries, hence generated
+ * values only depend on their position and not on how the spliterator is
+ * split, which makes parallel streams reproducible.
+ * Randomizers that cannot create new instances generate all values
+ * themselves using a {@link #sequential(Randomizer)} factory, in which case
+ * spliterators are never split.
+ */
+abstract class RandomizerSpliterator {
+
+    /**
+     * Number of consecutive values generated by the same randomizer.
+     */
+    static final int CHUNK_SIZE = 1 << 12;
+
+    /**
+     * Characteristics of all spliterators.
+     */
+    private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+            | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    /**
+     * Creates the randomizer of each chunk from its index.
+     */
+    final LongFunction<Randomizer> chunkFactory;
+
+    /**
+     * Position of next value to be generated.
+     */
+    long index;
+
+    /**
+     * Position after last value to be generated.
+     */
+    final long fence;
+
+    /**
+     * Randomizer of current chunk.
+     */
+    private Randomizer current;
+
+    /**
+     * Index of current chunk, or -1 if no chunk has been started.
+     */
+    private long currentChunk = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param chunkFactory creates the randomizer of each chunk from its index.
+     * @param index        position of first value to be generated.
+     * @param fence        position after last value to be generated.
+     */
+    RandomizerSpliterator(final LongFunction<Randomizer> chunkFactory, final long index, final long fence) {
+        this.chunkFactory = chunkFactory;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Returns the number of remaining values.
+     *
+     * @return number of remaining values.
+     */
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    /**
+     * Returns characteristics of this spliterator.
+     *
+     * @return characteristics of this spliterator.
+     */
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Returns the randomizer generating the value at current position.
+     *
+     * @return randomizer of current chunk.
+     */
+    Randomizer randomizer() {
+        final var chunk = index / CHUNK_SIZE;
+        if (chunk != currentChunk) {
+            current = chunkFactory.apply(chunk);
+            currentChunk = chunk;
+        }
+        return current;
+    }
+
+    /**
+     * Computes the chunk boundary closest to the middle of remaining values.
+     *
+     * @return split position or -1 if remaining values cannot be split.
+     */
+    long splitPosition() {
+        if (chunkFactory instanceof Sequential) {
+            return -1;
+        }
+        final var firstChunk = index / CHUNK_SIZE;
+        final var lastChunk = (fence + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (lastChunk - firstChunk < 2) {
+            return -1;
+        }
+        return ((firstChunk + lastChunk) >>> 1) * CHUNK_SIZE;
+    }
+
+    /**
+     * Moves current position to provided split position, handing the chunk in
+     * progress over to provided prefix.
+     *
+     * @param prefix   spliterator generating values before split position.
+     * @param position split position.
+     */
+    void handOver(final RandomizerSpliterator prefix, final long position) {
+        prefix.current = current;
+        prefix.currentChunk = currentChunk;
+        current = null;
+        currentChunk = -1;
+        index = position;
+    }
+
+    /**
+     * Returns a chunk factory that always returns provided randomizer, which
+     * prevents spliterators from being split.
+     *
+     * @param randomizer randomizer generating all values.
+     * @return a chunk factory.
+     */
+    static LongFunction<Randomizer> sequential(final Randomizer randomizer) {
+        return new Sequential(randomizer);
+    }
+
+    /**
+     * Chunk factory generating all values using the same randomizer.
+     *
+     * @param randomizer randomizer generating all values.
+     */
+    private record Sequential(Randomizer randomizer) implements LongFunction<Randomizer> {
+
+        @Override
+        public Randomizer apply(final long chunk) {
+            return randomizer;
+        }
+    }
+
+    /**
+     * Spliterator of double values.
+     */
+    static final class Doubles extends RandomizerSpliterator implements Spliterator.OfDouble {
+
+        /**
+         * Generates a value using a randomizer.
+         */
+        private final ToDoubleFunction<Randomizer> generator;
+
+        /**
+         * Constructor.
+         *
+         * @param chunkFactory creates the randomizer of each chunk.
+         * @param generator    generates a value using a randomizer.
+         * @param index        position of first value to be generated.
+         * @param fence        position after last value to be generated.
+         */
+        Doubles(final LongFunction<Randomizer> chunkFactory, final ToDoubleFunction<Randomizer> generator,
+                final long index, final long fence) {
+            super(chunkFactory, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        public Doubles trySplit() {
+            final var position = splitPosition();
+            if (position < 0) {
+                return null;
+            }
+            final var prefix = new Doubles(chunkFactory, generator, index, position);
+            handOver(prefix, position);
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(final DoubleConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(generator.applyAsDouble(randomizer()));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final DoubleConsumer action) {
+            while (index < fence) {
+                action.accept(generator.applyAsDouble(randomizer()));
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Spliterator of integer values.
+     */
+    static final class Ints extends RandomizerSpliterator implements Spliterator.OfInt {
+
+        /**
+         * Generates a value using a randomizer.
+         */
+        private final ToIntFunction<Randomizer> generator;
+
+        /**
+         * Constructor.
+         *
+         * @param chunkFactory creates the randomizer of each chunk.
+         * @param generator    generates a value using a randomizer.
+         * @param index        position of first value to be generated.
+         * @param fence        position after last value to be generated.
+         */
+        Ints(final LongFunction<Randomizer> chunkFactory, final ToIntFunction<Randomizer> generator,
+             final long index, final long fence) {
+            super(chunkFactory, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        public Ints trySplit() {
+            final var position = splitPosition();
+            if (position < 0) {
+                return null;
+            }
+            final var prefix = new Ints(chunkFactory, generator, index, position);
+            handOver(prefix, position);
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(generator.applyAsInt(randomizer()));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            while (index < fence) {
+                action.accept(generator.applyAsInt(randomizer()));
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Spliterator of long values.
+     */
+    static final class Longs extends RandomizerSpliterator implements Spliterator.OfLong {
+
+        /**
+         * Generates a value using a randomizer.
+         */
+        private final ToLongFunction<Randomizer> generator;
+
+        /**
+         * Constructor.
+         *
+         * @param chunkFactory creates the randomizer of each chunk.
+         * @param generator    generates a value using a randomizer.
+         * @param index        position of first value to be generated.
+         * @param fence        position after last value to be generated.
+         */
+        Longs(final LongFunction<Randomizer> chunkFactory, final ToLongFunction<Randomizer> generator,
+              final long index, final long fence) {
+            super(chunkFactory, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        public Longs trySplit() {
+            final var position = splitPosition();
+            if (position < 0) {
+                return null;
+            }
+            final var prefix = new Longs(chunkFactory, generator, index, position);
+            handOver(prefix, position);
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(final LongConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(generator.applyAsLong(randomizer()));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final LongConsumer action) {
+            while (index < fence) {
+                action.accept(generator.applyAsLong(randomizer()));
+                index++;
+            }
+        }
+    }
+}
@@ -30,5 +30,35 @@ public enum RandomizerType {
      * Type used for Gaussian randomizers where generated values are distributed
      * following a Gaussian distribution.
      */
-    GAUSSIAN_RANDOMIZER
+    GAUSSIAN_RANDOMIZER,
+
+    /**
+     * Type used for exponential randomizers where generated values are
+     * distributed following an exponential distribution.
+     */
+    EXPONENTIAL_RANDOMIZER,
+
+    /**
+     * Type used for Gamma randomizers where generated values are distributed
+     * following a Gamma distribution.
+     */
+    GAMMA_RANDOMIZER,
+
+    /**
+     * Type used for chi square randomizers where generated values are
+     * distributed following a chi square distribution.
+     */
+    CHI_SQ_RANDOMIZER,
+
+    /**
+     * Type used for Poisson randomizers where generated integer values are
+     * distributed following a Poisson distribution.
+     */
+    POISSON_RANDOMIZER,
+
+    /**
+     * Type used for binomial randomizers where generated integer values are
+     * distributed following a binomial distribution.
+     */
+    BINOMIAL_RANDOMIZER
 }
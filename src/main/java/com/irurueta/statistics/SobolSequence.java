@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates points of a Sobol low-discrepancy sequence.
+ * Each coordinate is a base 2 digital sequence defined by a primitive
+ * polynomial and a set of initial direction numbers. The first dimension is
+ * the van der Corput sequence in base 2, and the rest of dimensions use the
+ * primitive polynomials and initial direction numbers found by Joe and Kuo,
+ * which have good two-dimensional projections.
+ * Points are generated in Gray code order, so that consecutive points only
+ * require one XOR operation per coordinate, and any point can be directly
+ * obtained from its index. Coordinates have 52 bits of resolution, so that up
+ * to 2^52 points can be generated.
+ * Points can optionally be scrambled using Owen's nested uniform scrambling,
+ * where each bit of each coordinate is flipped depending on a random value
+ * associated to the previous bits. Scrambled points keep the stratification
+ * properties of the sequence while being uniformly distributed, which
+ * enables error estimation using several independent scramblings.
+ * This class is based on: S. Joe and F. Y. Kuo, "Constructing Sobol
+ * sequences with better two-dimensional projections", SIAM Journal on
+ * Scientific Computing, 2008.
+ */
+public class SobolSequence extends LowDiscrepancySequence {
+
+    /**
+     * Maximum number of supported dimensions.
+     */
+    public static final int MAX_DIMENSIONS = 21;
+
+    /**
+     * Number of bits of resolution of coordinates.
+     */
+    private static final int BITS = 52;
+
+    /**
+     * Maximum number of points that can be generated.
+     */
+    private static final long MAX_POINTS = 1L << BITS;
+
+    /**
+     * Scale to convert coordinates into values in range [0, 1).
+     */
+    private static final double SCALE = 0x1.0p-52;
+
+    /**
+     * Degree s, coefficients a and initial direction numbers m_1, ..., m_s
+     * of dimensions 2 and above.
+     */
+    private static final int[][] DIRECTION_DATA = {
+            {1, 0, 1},
+            {2, 1, 1, 3},
+            {3, 1, 1, 3, 1},
+            {3, 2, 1, 1, 1},
+            {4, 1, 1, 1, 3, 3},
+            {4, 4, 1, 3, 5, 13},
+            {5, 2, 1, 1, 5, 5, 17},
+            {5, 4, 1, 1, 5, 5, 5},
+            {5, 7, 1, 1, 7, 11, 19},
+            {5, 11, 1, 1, 5, 1, 1},
+            {5, 13, 1, 1, 1, 3, 11},
+            {5, 14, 1, 3, 5, 5, 31},
+            {6, 1, 1, 3, 3, 9, 7, 49},
+            {6, 13, 1, 1, 1, 15, 21, 21},
+            {6, 16, 1, 3, 1, 13, 27, 49},
+            {6, 19, 1, 1, 1, 15, 7, 5},
+            {6, 22, 1, 3, 1, 15, 13, 25},
+            {6, 25, 1, 1, 5, 5, 19, 61},
+            {7, 1, 1, 3, 7, 11, 23, 15, 103},
+            {7, 4, 1, 3, 7, 13, 13, 15, 69}
+    };
+
+    /**
+     * Direction numbers of each dimension.
+     */
+    private final long[][] directions;
+
+    /**
+     * Seeds used to scramble each dimension, or null if points are not
+     * scrambled.
+     */
+    private final long[] seeds;
+
+    /**
+     * Unscrambled coordinates of last generated point as integers.
+     */
+    private final long[] state;
+
+    /**
+     * Index of last generated point, or -1 if no point has been generated.
+     */
+    private long stateIndex = -1;
+
+    /**
+     * Constructor for an unscrambled sequence.
+     *
+     * @param dimensions number of dimensions of points.
+     * @throws IllegalArgumentException if number of dimensions is zero,
+     *                                  negative or greater than
+     *                                  {@link #MAX_DIMENSIONS}.
+     */
+    public SobolSequence(final int dimensions) {
+        super(dimensions);
+        if (dimensions > MAX_DIMENSIONS) {
+            throw new IllegalArgumentException("dimensions must be at most " + MAX_DIMENSIONS);
+        }
+
+        directions = new long[dimensions][BITS];
+        for (int k = 0; k < BITS; k++) {
+            directions[0][k] = 1L << (BITS - 1 - k);
+        }
+        for (int dim = 1; dim < dimensions; dim++) {
+            computeDirections(DIRECTION_DATA[dim - 1], directions[dim]);
+        }
+
+        seeds = null;
+        state = new long[dimensions];
+    }
+
+    /**
+     * Constructor for a sequence scrambled using Owen's nested uniform
+     * scrambling.
+     *
+     * @param dimensions number of dimensions of points.
+     * @param generator  generator used to obtain the random scrambling of
+     *                   each dimension.
+     * @throws IllegalArgumentException if number of dimensions is zero,
+     *                                  negative or greater than
+     *                                  {@link #MAX_DIMENSIONS}.
+     * @throws NullPointerException     if provided generator is null.
+     */
+    public SobolSequence(final int dimensions, final RandomGenerator generator) {
+        super(dimensions);
+        if (dimensions > MAX_DIMENSIONS) {
+            throw new IllegalArgumentException("dimensions must be at most " + MAX_DIMENSIONS);
+        }
+
+        directions = new SobolSequence(dimensions).directions;
+        seeds = new long[dimensions];
+        for (int dim = 0; dim < dimensions; dim++) {
+            seeds[dim] = generator.nextLong();
+        }
+        state = new long[dimensions];
+    }
+
+    /**
+     * Indicates whether points are scrambled.
+     *
+     * @return true if points are scrambled, false otherwise.
+     */
+    @Override
+    public boolean isScrambled() {
+        return seeds != null;
+    }
+
+    /**
+     * Generates point having provided index.
+     *
+     * @param index  index of point to be generated.
+     * @param buffer buffer where point coordinates are stored.
+     * @param offset position of first coordinate within buffer.
+     * @throws IllegalStateException if index exceeds the maximum number of
+     *                               points of the sequence.
+     */
+    @Override
+    protected void generate(final long index, final double[] buffer, final int offset) {
+        if (index >= MAX_POINTS) {
+            throw new IllegalStateException("sequence is exhausted");
+        }
+
+        final var dimensions = state.length;
+        if (stateIndex >= 0 && index == stateIndex + 1) {
+            // Gray codes of consecutive indices differ in the bit position
+            // given by the number of trailing zeros of the index
+            final var bit = Long.numberOfTrailingZeros(index);
+            for (int dim = 0; dim < dimensions; dim++) {
+                state[dim] ^= directions[dim][bit];
+            }
+        } else {
+            final var gray = index ^ (index >>> 1);
+            for (int dim = 0; dim < dimensions; dim++) {
+                final var v = directions[dim];
+                var x = 0L;
+                for (long g = gray; g != 0; g &= g - 1) {
+                    x ^= v[Long.numberOfTrailingZeros(g)];
+                }
+                state[dim] = x;
+            }
+        }
+        stateIndex = index;
+
+        for (int dim = 0; dim < dimensions; dim++) {
+            final var x = seeds != null ? scramble(state[dim], seeds[dim]) : state[dim];
+            buffer[offset + dim] = x * SCALE;
+        }
+    }
+
+    /**
+     * Computes direction numbers of a dimension using the recurrence defined
+     * by its primitive polynomial.
+     *
+     * @param data       degree, coefficients and initial direction numbers.
+     * @param directions array where direction numbers are stored.
+     */
+    private static void computeDirections(final int[] data, final long[] directions) {
+        final var s = data[0];
+        final var a = data[1];
+        for (int k = 0; k < s; k++) {
+            directions[k] = (long) data[k + 2] << (BITS - 1 - k);
+        }
+        for (int k = s; k < BITS; k++) {
+            var v = directions[k - s] ^ (directions[k - s] >>> s);
+            for (int i = 1; i < s; i++) {
+                if (((a >>> (s - 1 - i)) & 1) != 0) {
+                    v ^= directions[k - i];
+                }
+            }
+            directions[k] = v;
+        }
+    }
+
+    /**
+     * Scrambles provided coordinate using Owen's nested uniform scrambling.
+     * Each bit, starting at the most significant one, is flipped using a
+     * random bit obtained from the seed and the previous bits of the
+     * coordinate.
+     *
+     * @param x    coordinate to be scrambled.
+     * @param seed seed of the dimension.
+     * @return scrambled coordinate.
+     */
+    private static long scramble(final long x, final long seed) {
+        var result = x;
+        var hash = seed;
+        for (int bit = BITS - 1; bit >= 0; bit--) {
+            hash = mix(hash);
+            result ^= (hash >>> 63) << bit;
+            // append bit of original coordinate to the hashed prefix
+            hash += (x >>> bit) & 1L;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates standard normal values truncated to a given interval [a, b].
+ * Instead of drawing normal values until one falls inside the interval,
+ * which becomes extremely slow when the interval lies in a tail, one of the
+ * following proposals is chosen on construction depending on the interval,
+ * so that the expected acceptance rate is bounded away from zero:
+ * - normal (or half-normal) values when the interval contains (or is close to)
+ * the origin and is wide.
+ * - uniform values within the interval when the interval is narrow.
+ * - translated exponential values with an optimal rate when the interval lies
+ * in a tail.
+ * Intervals entirely located at the negative side are handled by symmetry.
+ * Instances are immutable, so they can be safely shared among threads.
+ * This class is based on: C. P. Robert, "Simulation of truncated normal
+ * variables", Statistics and Computing, 1995.
+ */
+final class TruncatedNormalSampler {
+
+    /**
+     * Threshold of the lower bound of the interval (once mapped to the
+     * positive side) from which exponential proposals are more efficient than
+     * half-normal ones.
+     */
+    private static final double EXPONENTIAL_THRESHOLD = 0.45;
+
+    /**
+     * Square root of 2 * PI.
+     */
+    private static final double SQRT_TWO_PI = Math.sqrt(2.0 * Math.PI);
+
+    /**
+     * Scale to convert 53 random bits into a value in range [0, 1).
+     */
+    private static final double UNIT_SCALE = 0x1.0p-53;
+
+    /**
+     * Available proposals.
+     */
+    private enum Proposal {
+        /**
+         * Normal values.
+         */
+        NORMAL,
+
+        /**
+         * Absolute value of normal values.
+         */
+        HALF_NORMAL,
+
+        /**
+         * Uniform values within the interval.
+         */
+        UNIFORM,
+
+        /**
+         * Translated exponential values.
+         */
+        EXPONENTIAL
+    }
+
+    /**
+     * Lower bound of truncation interval.
+     */
+    private final double lower;
+
+    /**
+     * Upper bound of truncation interval.
+     */
+    private final double upper;
+
+    /**
+     * Lower bound of interval where values are actually generated, which is
+     * mapped to the positive side when the truncation interval is negative.
+     */
+    private final double a;
+
+    /**
+     * Upper bound of interval where values are actually generated.
+     */
+    private final double b;
+
+    /**
+     * Indicates whether generated values must be negated.
+     */
+    private final boolean negate;
+
+    /**
+     * Proposal used to generate values.
+     */
+    private final Proposal proposal;
+
+    /**
+     * Rate of exponential proposals.
+     */
+    private final double rate;
+
+    /**
+     * Constructor.
+     *
+     * @param lower lower bound of truncation interval.
+     * @param upper upper bound of truncation interval.
+     * @throws IllegalArgumentException if lower bound is not smaller than upper
+     *                                  bound or if any bound is NaN.
+     */
+    TruncatedNormalSampler(final double lower, final double upper) {
+        if (!(lower < upper)) {
+            throw new IllegalArgumentException("lower bound must be smaller than upper bound");
+        }
+
+        this.lower = lower;
+        this.upper = upper;
+
+        negate = upper <= 0.0;
+        a = negate ? -upper : lower;
+        b = negate ? -lower : upper;
+
+        // optimal rate (a + sqrt(a^2 + 4)) / 2, computed without overflowing
+        // for lower bounds far in the tail
+        rate = 0.5 * a + 0.5 * Math.hypot(a, 2.0);
+
+        if (a < 0.0) {
+            // interval contains the origin
+            proposal = b - a < SQRT_TWO_PI ? Proposal.UNIFORM : Proposal.NORMAL;
+        } else if (a < EXPONENTIAL_THRESHOLD) {
+            proposal = b - a < Math.sqrt(0.5 * Math.PI) * Math.exp(0.5 * a * a)
+                    ? Proposal.UNIFORM : Proposal.HALF_NORMAL;
+        } else {
+            // equivalent to 2 * sqrt(e) / (a + root) * exp((a^2 - a * root) / 4)
+            // with root = sqrt(a^2 + 4), without overflowing
+            final var width = Math.sqrt(Math.E) / rate * Math.exp(-0.5 * a / rate);
+            proposal = b - a <= width ? Proposal.UNIFORM : Proposal.EXPONENTIAL;
+        }
+    }
+
+    /**
+     * Gets lower bound of truncation interval.
+     *
+     * @return lower bound.
+     */
+    double getLower() {
+        return lower;
+    }
+
+    /**
+     * Gets upper bound of truncation interval.
+     *
+     * @return upper bound.
+     */
+    double getUpper() {
+        return upper;
+    }
+
+    /**
+     * Returns next standard normal value within the truncation interval.
+     *
+     * @param generator generator of uniform values.
+     * @return next truncated standard normal value.
+     */
+    double next(final RandomGenerator generator) {
+        final var value = negate ? -nextPositive(generator) : nextPositive(generator);
+        // prevent round-off errors from exceeding bounds
+        return Math.min(Math.max(value, lower), upper);
+    }
+
+    /**
+     * Returns next value within interval [a, b].
+     *
+     * @param generator generator of uniform values.
+     * @return next value.
+     */
+    private double nextPositive(final RandomGenerator generator) {
+        switch (proposal) {
+            case NORMAL:
+                for (; ; ) {
+                    final var x = ZigguratNormalSampler.nextGaussian(generator);
+                    if (x >= a && x <= b) {
+                        return x;
+                    }
+                }
+            case HALF_NORMAL:
+                for (; ; ) {
+                    final var x = Math.abs(ZigguratNormalSampler.nextGaussian(generator));
+                    if (x >= a && x <= b) {
+                        return x;
+                    }
+                }
+            case UNIFORM:
+                // accept with probability exp(-(x^2 - m^2) / 2), where m is
+                // the point of the interval closest to the origin
+                final var m = a > 0.0 ? a : 0.0;
+                for (; ; ) {
+                    final var x = a + (b - a) * nextUniform(generator);
+                    if (2.0 * generator.nextExponential() >= (x - m) * (x + m)) {
+                        return x;
+                    }
+                }
+            case EXPONENTIAL:
+            default:
+                // accept with probability exp(-(x - rate)^2 / 2), where
+                // x - rate = (e - 1) / rate because a - rate = -1 / rate,
+                // which avoids cancellation when a is large
+                for (; ; ) {
+                    final var e = generator.nextExponential();
+                    final var x = a + e / rate;
+                    final var diff = (e - 1.0) / rate;
+                    if (x <= b && 2.0 * generator.nextExponential() >= diff * diff) {
+                        return x;
+                    }
+                }
+        }
+    }
+
+    /**
+     * Returns next uniform value in range [0, 1).
+     *
+     * @param generator generator of uniform values.
+     * @return next uniform value.
+     */
+    private static double nextUniform(final RandomGenerator generator) {
+        return (generator.nextLong() >>> 11) * UNIT_SCALE;
+    }
+}
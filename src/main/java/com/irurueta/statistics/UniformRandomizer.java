@@ -16,6 +16,10 @@
 package com.irurueta.statistics;
 
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 /**
  * Generates pseudo-random values following a uniform distribution.
@@ -41,6 +45,18 @@ public class UniformRandomizer extends Randomizer {
         super(internalRandom);
     }
 
+    /**
+     * Constructor.
+     *
+     * @param internalGenerator Internal generator in charge of generating
+     *                          pseudo-random values.
+     * @throws NullPointerException thrown if provided internal generator is
+     *                              null.
+     */
+    public UniformRandomizer(final RandomGenerator internalGenerator) {
+        super(internalGenerator);
+    }
+
     /**
      * Returns next boolean value following a uniform distribution (e.g. the
      * probability of returning either true or false is 50%).
@@ -49,7 +65,7 @@ public class UniformRandomizer extends Randomizer {
      */
     @Override
     public boolean nextBoolean() {
-        return getInternalRandom().nextBoolean();
+        return getInternalGenerator().nextBoolean();
     }
 
     /**
@@ -61,7 +77,7 @@ public class UniformRandomizer extends Randomizer {
      */
     @Override
     public int nextInt() {
-        return getInternalRandom().nextInt();
+        return getInternalGenerator().nextInt();
     }
 
     /**
@@ -74,7 +90,7 @@ public class UniformRandomizer extends Randomizer {
      * @throws IllegalArgumentException if provided values is negative.
      */
     public int nextInt(final int maxValue) {
-        return getInternalRandom().nextInt(maxValue);
+        return getInternalGenerator().nextInt(maxValue);
     }
 
     /**
@@ -125,8 +141,8 @@ public class UniformRandomizer extends Randomizer {
             throw new IllegalArgumentException();
         }
 
-        final var diff = maxValue - minValue;
-        return getInternalRandom().nextInt(diff) + minValue;
+        final var range = (long) maxValue - minValue;
+        return minValue + nextBoundedInt(getInternalGenerator(), range);
     }
 
     /**
@@ -144,10 +160,12 @@ public class UniformRandomizer extends Randomizer {
         if (maxValue <= minValue) {
             throw new IllegalArgumentException();
         }
-        final var diff = maxValue - minValue;
+        final var range = (long) maxValue - minValue;
+        final var threshold = boundedIntThreshold(range);
+        final var generator = getInternalGenerator();
 
         for (int i = 0; i < array.length; i++) {
-            array[i] = getInternalRandom().nextInt(diff) + minValue;
+            array[i] = minValue + nextBoundedInt(generator, range, threshold);
         }
     }
 
@@ -176,7 +194,7 @@ public class UniformRandomizer extends Randomizer {
      */
     @Override
     public long nextLong() {
-        return getInternalRandom().nextLong();
+        return getInternalGenerator().nextLong();
     }
 
     /**
@@ -237,9 +255,8 @@ public class UniformRandomizer extends Randomizer {
             throw new IllegalArgumentException();
         }
 
-        final var diff = maxValue - minValue;
-        final var next = Math.max(getInternalRandom().nextLong(), Long.MIN_VALUE + 1);
-        return (Math.abs(next) % diff) + minValue;
+        final var range = maxValue - minValue;
+        return minValue + nextBoundedLong(getInternalGenerator(), range);
     }
 
     /**
@@ -254,8 +271,15 @@ public class UniformRandomizer extends Randomizer {
      *                                  minValue.
      */
     public void fill(final long[] array, final long minValue, final long maxValue) {
+        if (maxValue <= minValue) {
+            throw new IllegalArgumentException();
+        }
+        final var range = maxValue - minValue;
+        final var threshold = boundedLongThreshold(range);
+        final var generator = getInternalGenerator();
+
         for (int i = 0; i < array.length; i++) {
-            array[i] = nextLong(minValue, maxValue);
+            array[i] = minValue + nextBoundedLong(generator, range, threshold);
         }
     }
 
@@ -285,7 +309,7 @@ public class UniformRandomizer extends Randomizer {
      */
     @Override
     public float nextFloat() {
-        return getInternalRandom().nextFloat();
+        return getInternalGenerator().nextFloat();
     }
 
     /**
@@ -347,13 +371,15 @@ public class UniformRandomizer extends Randomizer {
         }
 
         final var diff = maxValue - minValue;
-        return getInternalRandom().nextFloat() * diff + minValue;
+        return getInternalGenerator().nextFloat() * diff + minValue;
     }
 
     /**
      * Fills provided array with uniform floating point values within provided
      * minValue (inclusive) and maxValue (exclusive) following a uniform
      * distribution.
+     * When the internal generator is a {@link BulkRandomGenerator}, values are
+     * generated in blocks.
      *
      * @param array    Array to be filled.
      * @param minValue Minimum value to be returned (inclusive).
@@ -362,8 +388,16 @@ public class UniformRandomizer extends Randomizer {
      *                                  minValue.
      */
     public void fill(final float[] array, final float minValue, final float maxValue) {
-        for (int i = 0; i < array.length; i++) {
-            array[i] = nextFloat(minValue, maxValue);
+        if (maxValue <= minValue) {
+            throw new IllegalArgumentException();
+        }
+
+        if (getInternalGenerator() instanceof BulkRandomGenerator bulk) {
+            bulk.fillFloats(array, 0, array.length, minValue, maxValue);
+        } else {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = nextFloat(minValue, maxValue);
+            }
         }
     }
 
@@ -393,7 +427,7 @@ public class UniformRandomizer extends Randomizer {
      */
     @Override
     public double nextDouble() {
-        return getInternalRandom().nextDouble();
+        return getInternalGenerator().nextDouble();
     }
 
     /**
@@ -455,13 +489,15 @@ public class UniformRandomizer extends Randomizer {
         }
 
         final var diff = maxValue - minValue;
-        return getInternalRandom().nextDouble() * diff + minValue;
+        return getInternalGenerator().nextDouble() * diff + minValue;
     }
 
     /**
      * Fills provided array with uniform double precision floating point values
      * within provided minValue (inclusive) and maxValue (exclusive) following
      * a uniform distribution.
+     * When the internal generator is a {@link BulkRandomGenerator}, values are
+     * generated in blocks.
      *
      * @param array    Array to be filled.
      * @param minValue Minimum value to be returned (inclusive).
@@ -470,11 +506,63 @@ public class UniformRandomizer extends Randomizer {
      *                                  minValue.
      */
     public void fill(final double[] array, final double minValue, final double maxValue) {
-        for (int i = 0; i < array.length; i++) {
-            array[i] = nextDouble(minValue, maxValue);
+        if (maxValue <= minValue) {
+            throw new IllegalArgumentException();
+        }
+
+        if (getInternalGenerator() instanceof BulkRandomGenerator bulk) {
+            bulk.fillDoubles(array, 0, array.length, minValue, maxValue);
+        } else {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = nextDouble(minValue, maxValue);
+            }
         }
     }
 
+    /**
+     * Fills provided array in parallel using the common fork-join pool with
+     * uniform double precision floating point values within provided minValue
+     * (inclusive) and maxValue (exclusive).
+     *
+     * @param array    Array to be filled.
+     * @param minValue Minimum value to be returned (inclusive).
+     * @param maxValue Maximum value to be returned (exclusive).
+     * @throws IllegalArgumentException if maxValue is smaller or equal than
+     *                                  minValue.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final double[] array, final double minValue, final double maxValue) {
+        parallelFill(array, minValue, maxValue, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Fills provided array in parallel using provided fork-join pool with
+     * uniform double precision floating point values within provided minValue
+     * (inclusive) and maxValue (exclusive).
+     *
+     * @param array    Array to be filled.
+     * @param minValue Minimum value to be returned (inclusive).
+     * @param maxValue Maximum value to be returned (exclusive).
+     * @param pool     pool where chunks of the array are filled.
+     * @throws IllegalArgumentException if maxValue is smaller or equal than
+     *                                  minValue.
+     * @see #parallelFill(double[], ForkJoinPool)
+     */
+    public void parallelFill(final double[] array, final double minValue, final double maxValue,
+                             final ForkJoinPool pool) {
+        if (maxValue <= minValue) {
+            throw new IllegalArgumentException();
+        }
+
+        final var children = splitChunks(array.length);
+        forEachChunk(pool, array.length, (chunk, from, to) -> {
+            final var child = (UniformRandomizer) children[chunk];
+            for (int i = from; i < to; i++) {
+                array[i] = child.nextDouble(minValue, maxValue);
+            }
+        });
+    }
+
     /**
      * Returns array of random uniform floating point values within provided
      * minValue and maxValue.
@@ -491,6 +579,48 @@ public class UniformRandomizer extends Randomizer {
         return array;
     }
 
+    /**
+     * Returns a sized stream of random uniform integer values within provided
+     * minValue (inclusive) and maxValue (exclusive).
+     * The stream can be efficiently run in parallel and, for a given seed, it
+     * always contains the same values.
+     *
+     * @param size     number of values.
+     * @param minValue Minimum value to be returned (inclusive).
+     * @param maxValue Maximum value to be returned (exclusive).
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative or if maxValue is
+     *                                  smaller or equal than minValue.
+     * @see #ints(long)
+     */
+    public IntStream ints(final long size, final int minValue, final int maxValue) {
+        if (maxValue <= minValue) {
+            throw new IllegalArgumentException();
+        }
+        return intStream(size, r -> ((UniformRandomizer) r).nextInt(minValue, maxValue));
+    }
+
+    /**
+     * Returns a sized stream of random uniform double precision floating point
+     * values within provided minValue (inclusive) and maxValue (exclusive).
+     * The stream can be efficiently run in parallel and, for a given seed, it
+     * always contains the same values.
+     *
+     * @param size     number of values.
+     * @param minValue Minimum value to be returned (inclusive).
+     * @param maxValue Maximum value to be returned (exclusive).
+     * @return a stream of random values.
+     * @throws IllegalArgumentException if size is negative or if maxValue is
+     *                                  smaller or equal than minValue.
+     * @see #ints(long)
+     */
+    public DoubleStream doubles(final long size, final double minValue, final double maxValue) {
+        if (maxValue <= minValue) {
+            throw new IllegalArgumentException();
+        }
+        return doubleStream(size, r -> ((UniformRandomizer) r).nextDouble(minValue, maxValue));
+    }
+
     /**
      * Returns the randomizer type of this instance.
      *
@@ -500,4 +630,138 @@ public class UniformRandomizer extends Randomizer {
     public RandomizerType getType() {
         return RandomizerType.UNIFORM_RANDOMIZER;
     }
+
+    /**
+     * Computes the rejection threshold for bounded integer generation.
+     * Products whose low 32 bits are below this threshold must be rejected to
+     * keep all values of the range equally likely.
+     *
+     * @param range number of values in the range (between 1 and 2^32).
+     * @return rejection threshold, which is (2^32 - range) mod range.
+     */
+    static long boundedIntThreshold(final long range) {
+        return (0x100000000L - range) % range;
+    }
+
+    /**
+     * Returns an unbiased uniform value between 0 (inclusive) and provided
+     * range (exclusive) using the multiply-shift method of Lemire.
+     * The rejection threshold, which requires a division, is only computed
+     * when the low 32 bits of the product are below the range, which rarely
+     * happens for small ranges.
+     *
+     * @param generator generator providing 32-bit random values.
+     * @param range     number of values in the range (between 1 and 2^32).
+     * @return a value between 0 and range - 1, which must be interpreted as
+     * unsigned when range exceeds {@link Integer#MAX_VALUE}.
+     */
+    static int nextBoundedInt(final RandomGenerator generator, final long range) {
+        var m = (generator.nextInt() & 0xffffffffL) * range;
+        if ((m & 0xffffffffL) < range) {
+            final var threshold = boundedIntThreshold(range);
+            while ((m & 0xffffffffL) < threshold) {
+                m = (generator.nextInt() & 0xffffffffL) * range;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    /**
+     * Returns an unbiased uniform value between 0 (inclusive) and provided
+     * range (exclusive) using the multiply-shift method of Lemire, which
+     * replaces the divisions of modulo rejection by a single multiplication
+     * per generated value.
+     *
+     * @param generator generator providing 32-bit random values.
+     * @param range     number of values in the range (between 1 and 2^32).
+     * @param threshold rejection threshold obtained from
+     *                  {@link #boundedIntThreshold(long)}.
+     * @return a value between 0 and range - 1, which must be interpreted as
+     * unsigned when range exceeds {@link Integer#MAX_VALUE}.
+     * @see <a href="https://arxiv.org/abs/1805.10941">Fast Random Integer Generation in an Interval</a>
+     */
+    static int nextBoundedInt(final RandomGenerator generator, final long range, final long threshold) {
+        long m;
+        do {
+            m = (generator.nextInt() & 0xffffffffL) * range;
+        } while ((m & 0xffffffffL) < threshold);
+        return (int) (m >>> 32);
+    }
+
+    /**
+     * Computes the rejection threshold for bounded long generation.
+     *
+     * @param range number of values in the range, interpreted as an unsigned
+     *              value (0 is not allowed).
+     * @return rejection threshold, which is (2^64 - range) mod range.
+     */
+    static long boundedLongThreshold(final long range) {
+        return Long.remainderUnsigned(-range, range);
+    }
+
+    /**
+     * Returns an unbiased uniform value between 0 (inclusive) and provided
+     * range (exclusive) using the multiply-shift method of Lemire on 128-bit
+     * products.
+     * The rejection threshold, which requires a division, is only computed
+     * when the low 64 bits of the product are below the range.
+     *
+     * @param generator generator providing 64-bit random values.
+     * @param range     number of values in the range, interpreted as an
+     *                  unsigned value (0 is not allowed).
+     * @return a value between 0 and range - 1, which must be interpreted as
+     * unsigned when range exceeds {@link Long#MAX_VALUE}.
+     */
+    static long nextBoundedLong(final RandomGenerator generator, final long range) {
+        var x = generator.nextLong();
+        var low = x * range;
+        if (Long.compareUnsigned(low, range) < 0) {
+            final var threshold = boundedLongThreshold(range);
+            while (Long.compareUnsigned(low, threshold) < 0) {
+                x = generator.nextLong();
+                low = x * range;
+            }
+        }
+
+        // unsigned high part of the 128-bit product
+        return Math.multiplyHigh(x, range) + ((x >> 63) & range) + ((range >> 63) & x);
+    }
+
+    /**
+     * Returns an unbiased uniform value between 0 (inclusive) and provided
+     * range (exclusive) using the multiply-shift method of Lemire on 128-bit
+     * products.
+     * This is used by bulk methods, where the threshold is computed once.
+     *
+     * @param generator generator providing 64-bit random values.
+     * @param range     number of values in the range, interpreted as an
+     *                  unsigned value (0 is not allowed).
+     * @param threshold rejection threshold obtained from
+     *                  {@link #boundedLongThreshold(long)}.
+     * @return a value between 0 and range - 1, which must be interpreted as
+     * unsigned when range exceeds {@link Long#MAX_VALUE}.
+     */
+    static long nextBoundedLong(final RandomGenerator generator, final long range, final long threshold) {
+        long x;
+        long low;
+        do {
+            x = generator.nextLong();
+            low = x * range;
+        } while (Long.compareUnsigned(low, threshold) < 0);
+
+        // unsigned high part of the 128-bit product
+        return Math.multiplyHigh(x, range) + ((x >> 63) & range) + ((range >> 63) & x);
+    }
+
+    /**
+     * Creates a new uniform randomizer using provided internal generator.
+     *
+     * @param internalGenerator Generator in charge of generating pseudo-random
+     *                          values for the new instance.
+     * @return a new uniform randomizer.
+     */
+    @Override
+    protected UniformRandomizer newInstance(final RandomGenerator internalGenerator) {
+        return new UniformRandomizer(internalGenerator);
+    }
 }
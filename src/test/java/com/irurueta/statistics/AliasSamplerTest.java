@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasSamplerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+
+    private static final double ABSOLUTE_ERROR = 0.003;
+
+    private static final double[] WEIGHTS = {1.0, 0.0, 3.0, 2.0, 4.0};
+
+    @Test
+    void testConstructor() {
+        var sampler = new AliasSampler(WEIGHTS);
+        assertEquals(WEIGHTS.length, sampler.getNumberOfCategories());
+        assertNotNull(sampler.getInternalGenerator());
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create(0L);
+        sampler = new AliasSampler(WEIGHTS, generator);
+        assertEquals(WEIGHTS.length, sampler.getNumberOfCategories());
+        assertSame(generator, sampler.getInternalGenerator());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new AliasSampler(null));
+        assertThrows(NullPointerException.class, () -> new AliasSampler(WEIGHTS, null));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{1.0, -1.0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{1.0, Double.NaN}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AliasSampler(new double[]{1.0, Double.POSITIVE_INFINITY}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{0.0, 0.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AliasSampler(new double[]{Double.MAX_VALUE, Double.MAX_VALUE}));
+    }
+
+    @Test
+    void testGetSetInternalGenerator() {
+        final var sampler = new AliasSampler(WEIGHTS);
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create(0L);
+        sampler.setInternalGenerator(generator);
+        assertSame(generator, sampler.getInternalGenerator());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> sampler.setInternalGenerator(null));
+    }
+
+    @Test
+    void testNext() {
+        final var sampler = new AliasSampler(WEIGHTS, RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+        final var counts = new int[WEIGHTS.length];
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            counts[sampler.next()]++;
+        }
+        assertFrequencies(WEIGHTS, counts);
+        assertEquals(0, counts[1]);
+    }
+
+    @Test
+    void testFill() {
+        final var sampler1 = new AliasSampler(WEIGHTS, RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+        final var sampler2 = new AliasSampler(WEIGHTS, RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+        final var array = sampler1.next(NUM_SAMPLES);
+        final var counts = new int[WEIGHTS.length];
+        for (final var value : array) {
+            assertEquals(sampler2.next(), value);
+            counts[value]++;
+        }
+        assertFrequencies(WEIGHTS, counts);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> sampler1.next(0));
+    }
+
+    @Test
+    void testSetWeights() {
+        final var sampler = new AliasSampler(WEIGHTS, RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+        // fewer categories
+        final var weights = new double[]{0.0, 1.0, 1.0};
+        sampler.setWeights(weights);
+        assertEquals(weights.length, sampler.getNumberOfCategories());
+        var counts = new int[weights.length];
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            counts[sampler.next()]++;
+        }
+        assertFrequencies(weights, counts);
+
+        // many categories with very different weights
+        final var manyWeights = new double[10000];
+        for (int i = 0; i < manyWeights.length; i++) {
+            manyWeights[i] = i % 100 == 0 ? 1000.0 : 1.0;
+        }
+        sampler.setWeights(manyWeights);
+        assertEquals(manyWeights.length, sampler.getNumberOfCategories());
+        var heavy = 0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = sampler.next();
+            assertTrue(value >= 0 && value < manyWeights.length);
+            if (value % 100 == 0) {
+                heavy++;
+            }
+        }
+        assertEquals(100.0 * 1000.0 / (100.0 * 1000.0 + 9900.0), (double) heavy / NUM_SAMPLES, ABSOLUTE_ERROR);
+
+        // a single category
+        sampler.setWeights(new double[]{2.0});
+        assertEquals(0, sampler.next());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> sampler.setWeights(new double[]{-1.0}));
+    }
+
+    private static void assertFrequencies(final double[] weights, final int[] counts) {
+        var sum = 0.0;
+        for (final var weight : weights) {
+            sum += weight;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / sum, (double) counts[i] / NUM_SAMPLES, ABSOLUTE_ERROR);
+        }
+    }
+}
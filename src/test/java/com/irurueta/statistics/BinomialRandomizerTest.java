@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinomialRandomizerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+    private static final double RELATIVE_ERROR = 0.01;
+
+    private static final int TRIALS = 200;
+    private static final double PROBABILITY = 0.3;
+
+    private static final int LENGTH = 100;
+
+    @Test
+    void testConstructor() {
+        var randomizer = new BinomialRandomizer();
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(BinomialRandomizer.DEFAULT_TRIALS, randomizer.getTrials());
+        assertEquals(BinomialRandomizer.DEFAULT_PROBABILITY, randomizer.getProbability(), 0.0);
+
+        randomizer = new BinomialRandomizer(TRIALS, PROBABILITY);
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(TRIALS, randomizer.getTrials());
+        assertEquals(PROBABILITY, randomizer.getProbability(), 0.0);
+
+        final var random = new SecureRandom();
+        randomizer = new BinomialRandomizer(random);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(BinomialRandomizer.DEFAULT_TRIALS, randomizer.getTrials());
+        assertEquals(BinomialRandomizer.DEFAULT_PROBABILITY, randomizer.getProbability(), 0.0);
+
+        randomizer = new BinomialRandomizer(random, TRIALS, PROBABILITY);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(TRIALS, randomizer.getTrials());
+        assertEquals(PROBABILITY, randomizer.getProbability(), 0.0);
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create();
+        randomizer = new BinomialRandomizer(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(BinomialRandomizer.DEFAULT_TRIALS, randomizer.getTrials());
+        assertEquals(BinomialRandomizer.DEFAULT_PROBABILITY, randomizer.getProbability(), 0.0);
+
+        randomizer = new BinomialRandomizer(generator, TRIALS, PROBABILITY);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(TRIALS, randomizer.getTrials());
+        assertEquals(PROBABILITY, randomizer.getProbability(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new BinomialRandomizer(-1, PROBABILITY));
+        assertThrows(IllegalArgumentException.class, () -> new BinomialRandomizer(generator, TRIALS, 1.5));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new BinomialRandomizer((Random) null));
+        assertThrows(NullPointerException.class, () -> new BinomialRandomizer((RandomGenerator) null, TRIALS,
+                PROBABILITY));
+    }
+
+    @Test
+    void testSetParameters() {
+        final var randomizer = new BinomialRandomizer();
+
+        // set new values
+        randomizer.setParameters(TRIALS, PROBABILITY);
+
+        // check
+        assertEquals(TRIALS, randomizer.getTrials());
+        assertEquals(PROBABILITY, randomizer.getProbability(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setParameters(-1, PROBABILITY));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setParameters(TRIALS, -PROBABILITY));
+    }
+
+    @Test
+    void testNextBoolean() {
+        final var randomizer = new BinomialRandomizer(new Random(0L), 1, PROBABILITY);
+
+        int trueCounter = 0;
+        int thresholdCounter = 0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            if (randomizer.nextBoolean()) {
+                trueCounter++;
+            }
+            if (randomizer.nextBoolean(1.0)) {
+                thresholdCounter++;
+            }
+        }
+
+        // a single trial fails with probability 1 - p
+        assertEquals(1.0 - PROBABILITY, (double) trueCounter / NUM_SAMPLES, 2e-3);
+        assertEquals(1.0 - PROBABILITY, (double) thresholdCounter / NUM_SAMPLES, 2e-3);
+    }
+
+    @Test
+    void testNextInt() {
+        final var trials = new int[]{10, TRIALS, 1000000};
+        final var probabilities = new double[]{0.05, PROBABILITY, 0.8};
+        for (int j = 0; j < trials.length; j++) {
+            final var n = trials[j];
+            final var p = probabilities[j];
+            final var randomizer = new BinomialRandomizer(new Random(0L), n, p);
+
+            double sum = 0.0;
+            double sqrSum = 0.0;
+            for (int i = 0; i < NUM_SAMPLES; i++) {
+                final var value = randomizer.nextInt();
+                assertTrue(value >= 0 && value <= n);
+                sum += value;
+                sqrSum += (double) value * value;
+            }
+            final var mean = sum / NUM_SAMPLES;
+            final var variance = sqrSum / NUM_SAMPLES - mean * mean;
+
+            assertEquals(n * p, mean, RELATIVE_ERROR * Math.sqrt(n * p * (1.0 - p)));
+            assertEquals(n * p * (1.0 - p), variance, 2.0 * RELATIVE_ERROR * n * p * (1.0 - p));
+        }
+    }
+
+    @Test
+    void testNextLongFloatAndDouble() {
+        final var randomizer = new BinomialRandomizer(new Random(0L), TRIALS, PROBABILITY);
+        final var reference = new BinomialRandomizer(new Random(0L), TRIALS, PROBABILITY);
+
+        assertEquals(reference.nextInt(), randomizer.nextLong());
+        assertEquals(reference.nextInt(), randomizer.nextFloat(), 0.0f);
+        assertEquals(reference.nextInt(), randomizer.nextDouble(), 0.0);
+    }
+
+    @Test
+    void testFill() {
+        final var randomizer = new BinomialRandomizer(new Random(0L), TRIALS, PROBABILITY);
+        final var reference = new BinomialRandomizer(new Random(0L), TRIALS, PROBABILITY);
+
+        final var ints = new int[LENGTH];
+        randomizer.fill(ints);
+        for (final var value : ints) {
+            assertEquals(reference.nextInt(), value);
+        }
+
+        final var longs = new long[LENGTH];
+        randomizer.fill(longs);
+        for (final var value : longs) {
+            assertEquals(reference.nextInt(), value);
+        }
+
+        final var doubles = new double[LENGTH];
+        randomizer.fill(doubles);
+        for (final var value : doubles) {
+            assertEquals(reference.nextInt(), value, 0.0);
+        }
+    }
+
+    @Test
+    void testParallelFillWithInts() {
+        final var randomizer = new BinomialRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(),
+                TRIALS, PROBABILITY);
+
+        final var array = new int[NUM_SAMPLES];
+        randomizer.parallelFill(array);
+
+        double sum = 0.0;
+        for (final var value : array) {
+            sum += value;
+        }
+        assertEquals(TRIALS * PROBABILITY, sum / NUM_SAMPLES,
+                RELATIVE_ERROR * Math.sqrt(TRIALS * PROBABILITY * (1.0 - PROBABILITY)));
+    }
+
+    @Test
+    void testGetType() {
+        final var randomizer = new BinomialRandomizer();
+        assertEquals(RandomizerType.BINOMIAL_RANDOMIZER, randomizer.getType());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinomialSamplerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+
+    private static final double ABSOLUTE_ERROR = 2e-3;
+
+    private static final int[] TRIALS = {5, 10, 40, 100, 1000, 1000000};
+
+    private static final double[] PROBABILITIES = {0.9, 0.3, 0.7, 0.05, 0.5, 0.2};
+
+    @Test
+    void testConstructor() {
+        final var sampler = new BinomialSampler(10, 0.3);
+
+        assertEquals(10, sampler.getTrials());
+        assertEquals(0.3, sampler.getProbability(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new BinomialSampler(-1, 0.3));
+        assertThrows(IllegalArgumentException.class, () -> new BinomialSampler(10, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new BinomialSampler(10, 1.1));
+        assertThrows(IllegalArgumentException.class, () -> new BinomialSampler(10, Double.NaN));
+    }
+
+    @Test
+    void testNextWithDegenerateParameters() {
+        final var generator = new SplittableRandom(0L);
+
+        assertEquals(0, new BinomialSampler(0, 0.3).next(generator));
+        assertEquals(0, new BinomialSampler(10, 0.0).next(generator));
+        assertEquals(10, new BinomialSampler(10, 1.0).next(generator));
+    }
+
+    @Test
+    void testNext() {
+        final var generator = new SplittableRandom(0L);
+
+        for (int j = 0; j < TRIALS.length; j++) {
+            final var n = TRIALS[j];
+            final var p = PROBABILITIES[j];
+            final var sampler = new BinomialSampler(n, p);
+
+            // histogram around the mean
+            final var mean = n * p;
+            final var deviation = Math.sqrt(mean * (1.0 - p));
+            final var from = (int) Math.max(0.0, mean - 3.0 * deviation);
+            final var to = (int) Math.min(n, mean + 3.0 * deviation);
+            final var counters = new int[to - from + 1];
+            double sum = 0.0;
+            double sqrSum = 0.0;
+            for (int i = 0; i < NUM_SAMPLES; i++) {
+                final var value = sampler.next(generator);
+                assertTrue(value >= 0 && value <= n);
+                sum += value;
+                sqrSum += (double) value * value;
+                if (value >= from && value <= to) {
+                    counters[value - from]++;
+                }
+            }
+            final var sampleMean = sum / NUM_SAMPLES;
+            final var variance = sqrSum / NUM_SAMPLES - sampleMean * sampleMean;
+
+            assertEquals(mean, sampleMean, 0.01 * deviation);
+            assertEquals(deviation * deviation, variance, 0.02 * deviation * deviation);
+            for (int k = 0; k < counters.length; k++) {
+                final var value = from + k;
+                final var expected = Math.exp(Gamma.factln(n) - Gamma.factln(value) - Gamma.factln(n - value)
+                        + value * Math.log(p) + (n - value) * Math.log1p(-p));
+                assertEquals(expected, (double) counters[k] / NUM_SAMPLES, ABSOLUTE_ERROR);
+            }
+        }
+    }
+}
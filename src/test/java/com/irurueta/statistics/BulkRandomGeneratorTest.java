@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkRandomGeneratorTest {
+
+    private static final long SEED = 1234L;
+
+    private static final int LENGTH = 1000;
+
+    private static final int NUM_SAMPLES = 1000000;
+
+    private static final double RELATIVE_ERROR = 0.01;
+
+    @Test
+    void testNextLongMatchesScalarXoshiro() {
+        final var generator = new BulkRandomGenerator(SEED);
+
+        // scalar xoshiro256++ generators having the state of each lane
+        final var lanes = BulkRandomGenerator.LANES;
+        final var states = new long[lanes][4];
+        for (int i = 0; i < lanes; i++) {
+            for (int j = 0; j < 4; j++) {
+                states[i][j] = RandomizerFactory.deriveSeed(SEED, 4L * i + j);
+            }
+        }
+
+        for (int step = 0; step < 3; step++) {
+            for (int i = 0; i < lanes; i++) {
+                assertEquals(nextXoshiro(states[i]), generator.nextLong());
+            }
+        }
+    }
+
+    @Test
+    void testFillMatchesNextLong() {
+        final var generator1 = new BulkRandomGenerator(SEED);
+        final var generator2 = new BulkRandomGenerator(SEED);
+
+        // start in the middle of a block
+        assertEquals(generator1.nextLong(), generator2.nextLong());
+
+        final var array = new long[LENGTH];
+        generator1.fill(array, 1, LENGTH - 1);
+        assertEquals(0L, array[0]);
+        assertEquals(0L, array[LENGTH - 1]);
+        for (int i = 1; i < LENGTH - 1; i++) {
+            assertEquals(generator2.nextLong(), array[i]);
+        }
+        assertEquals(generator2.nextLong(), generator1.nextLong());
+
+        // Force ArrayIndexOutOfBoundsException
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> generator1.fill(array, -1, LENGTH));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> generator1.fill(array, 2, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> generator1.fill(array, 0, LENGTH + 1));
+    }
+
+    @Test
+    void testFillDoubles() {
+        final var generator1 = new BulkRandomGenerator(SEED);
+        final var generator2 = new BulkRandomGenerator(SEED);
+
+        final var array = new double[LENGTH];
+        generator1.fillDoubles(array, 0, LENGTH, -1.0, 3.0);
+        for (int i = 0; i < LENGTH; i++) {
+            assertTrue(array[i] >= -1.0 && array[i] < 3.0);
+            assertEquals((generator2.nextLong() >>> 11) * 0x1.0p-53 * 4.0 - 1.0, array[i], 1e-15);
+        }
+
+        // Force ArrayIndexOutOfBoundsException
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> generator1.fillDoubles(array, 0, LENGTH + 1, 0.0, 1.0));
+    }
+
+    @Test
+    void testFillFloats() {
+        final var generator = new BulkRandomGenerator(SEED);
+
+        final var array = new float[NUM_SAMPLES];
+        generator.fillFloats(array, 0, NUM_SAMPLES, 1.0f, 3.0f);
+
+        double sum = 0.0;
+        for (final var value : array) {
+            assertTrue(value >= 1.0f && value < 3.0f);
+            sum += value;
+        }
+        assertEquals(2.0, sum / NUM_SAMPLES, 2.0 * RELATIVE_ERROR);
+
+        // Force ArrayIndexOutOfBoundsException
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> generator.fillFloats(array, -1, 0, 0.0f, 1.0f));
+    }
+
+    @Test
+    void testFillDoublesAndFloatsExcludeBound() {
+        final var generator = new BulkRandomGenerator(SEED);
+
+        // range is so small compared to origin that scaled values would often
+        // be rounded up to the bound
+        final var origin = 1e16;
+        final var bound = origin + 4.0;
+        final var doubles = new double[LENGTH];
+        generator.fillDoubles(doubles, 0, LENGTH, origin, bound);
+        for (final var value : doubles) {
+            assertTrue(value >= origin && value < bound);
+        }
+
+        final var floatOrigin = 1e8f;
+        final var floatBound = floatOrigin + 16.0f;
+        final var floats = new float[LENGTH];
+        generator.fillFloats(floats, 0, LENGTH, floatOrigin, floatBound);
+        for (final var value : floats) {
+            assertTrue(value >= floatOrigin && value < floatBound);
+        }
+    }
+
+    @Test
+    void testFillGaussians() {
+        final var generator = new BulkRandomGenerator(SEED);
+
+        final var array = new double[NUM_SAMPLES + 1];
+        generator.fillGaussians(array, 1, NUM_SAMPLES + 1, 2.0, 3.0);
+        assertEquals(0.0, array[0], 0.0);
+
+        double mean = 0.0;
+        double sqrSum = 0.0;
+        double tail = 0.0;
+        for (int i = 1; i <= NUM_SAMPLES; i++) {
+            final var value = array[i];
+            assertTrue(Double.isFinite(value));
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+            if (value > 2.0 + 3.0 * 2.0) {
+                tail += 1.0 / NUM_SAMPLES;
+            }
+        }
+        final var standardDeviation = Math.sqrt(sqrSum - mean * mean);
+
+        assertEquals(2.0, mean, 0.01);
+        assertEquals(3.0, standardDeviation, 3.0 * RELATIVE_ERROR);
+        // probability of exceeding 2 standard deviations
+        assertEquals(0.02275, tail, 0.001);
+
+        // Force ArrayIndexOutOfBoundsException
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> generator.fillGaussians(array, 0, NUM_SAMPLES + 2, 0.0, 1.0));
+    }
+
+    @Test
+    void testSetSeed() {
+        final var generator = new BulkRandomGenerator(SEED);
+        final var first = generator.nextLong();
+        generator.nextLong();
+
+        generator.setSeed(SEED);
+        assertEquals(first, generator.nextLong());
+
+        generator.setSeed(SEED + 1);
+        assertNotEquals(first, generator.nextLong());
+
+        assertNotEquals(new BulkRandomGenerator().nextLong(), new BulkRandomGenerator().nextLong());
+    }
+
+    @Test
+    void testSplit() {
+        final var generator = new BulkRandomGenerator(SEED);
+
+        final var split1 = generator.split();
+        final var split2 = generator.split(new BulkRandomGenerator(SEED + 1));
+        assertNotEquals(split1.nextLong(), split2.nextLong());
+
+        assertEquals(3L, generator.splits(3L).count());
+        assertTrue(generator.splits(3L).allMatch(BulkRandomGenerator.class::isInstance));
+        assertEquals(2L, generator.splits().limit(2L).count());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> generator.splits(-1L));
+    }
+
+    @Test
+    void testNextDouble() {
+        final RandomGenerator generator = new BulkRandomGenerator(SEED);
+
+        double sum = 0.0;
+        double sqrSum = 0.0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = generator.nextDouble();
+            sum += value;
+            sqrSum += value * value;
+        }
+        final var mean = sum / NUM_SAMPLES;
+        final var variance = sqrSum / NUM_SAMPLES - mean * mean;
+
+        assertEquals(0.5, mean, 0.5 * RELATIVE_ERROR);
+        assertEquals(1.0 / 12.0, variance, RELATIVE_ERROR / 12.0);
+    }
+
+    private static long nextXoshiro(final long[] s) {
+        final var result = Long.rotateLeft(s[0] + s[3], 23) + s[0];
+        final var t = s[1] << 17;
+        s[2] ^= s[0];
+        s[3] ^= s[1];
+        s[1] ^= s[2];
+        s[0] ^= s[3];
+        s[2] ^= t;
+        s[3] = Long.rotateLeft(s[3], 45);
+        return result;
+    }
+}
@@ -17,6 +17,8 @@ package com.irurueta.statistics;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ChiSqDistTest {
@@ -131,4 +133,73 @@ class ChiSqDistTest {
         assertThrows(IllegalArgumentException.class, () -> dist.invcdf(-1.0));
         assertThrows(IllegalArgumentException.class, () -> dist.invcdf(1.0));
     }
+
+    @Test
+    void testGetSetConfiguration() {
+        final var dist = new ChiSqDist(3.0);
+
+        // check default value
+        assertSame(GammaConfiguration.DEFAULT, dist.getConfiguration());
+
+        // set new value
+        final var configuration = new GammaConfiguration(10, 1e-6, ConvergencePolicy.RETURN_ESTIMATE);
+        dist.setConfiguration(configuration);
+
+        // check
+        assertSame(configuration, dist.getConfiguration());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> dist.setConfiguration(null));
+    }
+
+    @Test
+    void testCdfAndInvcdfWithConfiguration() throws MaxIterationsExceededException {
+        final var randomizer = new UniformRandomizer();
+        final var nu = randomizer.nextDouble(1.0, MAX_RANDOM_VALUE);
+        final var x2 = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var p = randomizer.nextDouble(); //between 0.0 and 1.0
+
+        assertEquals(ChiSqDist.cdf(x2, nu), ChiSqDist.cdf(x2, nu, GammaConfiguration.DEFAULT), 0.0);
+        assertEquals(ChiSqDist.invcdf(p, nu), ChiSqDist.invcdf(p, nu, GammaConfiguration.DEFAULT), 0.0);
+
+        final var configuration = new GammaConfiguration(GammaConfiguration.DEFAULT_MAX_ITERATIONS, 1e-8,
+                ConvergencePolicy.RETURN_ESTIMATE);
+        final var dist = new ChiSqDist(nu);
+        dist.setConfiguration(configuration);
+
+        assertEquals(ChiSqDist.cdf(x2, nu, configuration), dist.cdf(x2), 0.0);
+        assertEquals(ChiSqDist.invcdf(p, nu, configuration), dist.invcdf(p), 0.0);
+        assertEquals(ChiSqDist.cdf(x2, nu), dist.cdf(x2), 1e-6);
+        assertEquals(p, dist.cdf(dist.invcdf(p)), 1e-6);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> ChiSqDist.cdf(-1.0, nu, configuration));
+        assertThrows(IllegalArgumentException.class, () -> ChiSqDist.cdf(x2, 0.0, configuration));
+        assertThrows(IllegalArgumentException.class, () -> ChiSqDist.invcdf(1.0, nu, configuration));
+        assertThrows(IllegalArgumentException.class, () -> ChiSqDist.invcdf(p, 0.0, configuration));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> ChiSqDist.cdf(x2, nu, null));
+        assertThrows(NullPointerException.class, () -> ChiSqDist.invcdf(p, nu, null));
+    }
+
+    @Test
+    void testSharedInstanceAmongThreads() throws MaxIterationsExceededException {
+        final var dist = new ChiSqDist(3.0);
+
+        final var length = 1000;
+        final var expected = new double[length];
+        for (int i = 0; i < length; i++) {
+            expected[i] = dist.cdf(dist.invcdf((i + 0.5) / length));
+        }
+
+        final var results = IntStream.range(0, length).parallel().mapToDouble(i -> {
+            try {
+                return dist.cdf(dist.invcdf((i + 0.5) / length));
+            } catch (final MaxIterationsExceededException e) {
+                throw new IllegalStateException(e);
+            }
+        }).toArray();
+        assertArrayEquals(expected, results, 0.0);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChiSqQuantileTableTest {
+
+    private static final double RELATIVE_ERROR = 1e-8;
+
+    private static final int TIMES = 1000;
+
+    @Test
+    void testConstructor() throws MaxIterationsExceededException {
+        final var table = new ChiSqQuantileTable(3.0);
+
+        assertEquals(3.0, table.getNu(), 0.0);
+        assertTrue(table.getMaxRelativeError() > 0.0);
+        assertTrue(table.getMaxRelativeError() < RELATIVE_ERROR);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new ChiSqQuantileTable(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ChiSqQuantileTable(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ChiSqQuantileTable(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new ChiSqQuantileTable(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void testInvcdf() throws MaxIterationsExceededException {
+        final var randomizer = new UniformRandomizer();
+        for (final var nu : new double[]{0.5, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.5, 30.0}) {
+            final var table = new ChiSqQuantileTable(nu);
+            assertTrue(table.getMaxRelativeError() < RELATIVE_ERROR);
+
+            for (int t = 0; t < TIMES; t++) {
+                final var p = randomizer.nextDouble();
+                final var expected = ChiSqDist.invcdf(p, nu);
+                assertEquals(expected, table.invcdf(p), RELATIVE_ERROR * expected);
+            }
+
+            // tails outside tabulated range use the exact method
+            assertEquals(0.0, table.invcdf(0.0), 0.0);
+            assertEquals(ChiSqDist.invcdf(1e-10, nu), table.invcdf(1e-10), 0.0);
+            assertEquals(ChiSqDist.invcdf(1.0 - 1e-10, nu), table.invcdf(1.0 - 1e-10), 0.0);
+
+            // usual critical values
+            assertEquals(ChiSqDist.invcdf(0.95, nu), table.invcdf(0.95), RELATIVE_ERROR * table.invcdf(0.95));
+            assertEquals(ChiSqDist.invcdf(0.99, nu), table.invcdf(0.99), RELATIVE_ERROR * table.invcdf(0.99));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> table.invcdf(-0.1));
+            assertThrows(IllegalArgumentException.class, () -> table.invcdf(1.0));
+        }
+    }
+
+    @Test
+    void testGetInstance() throws MaxIterationsExceededException {
+        final var table1 = ChiSqQuantileTable.getInstance(2.0);
+        final var table2 = ChiSqQuantileTable.getInstance(2.0);
+        final var table3 = ChiSqQuantileTable.getInstance(3.0);
+
+        assertSame(table1, table2);
+        assertNotSame(table1, table3);
+        assertEquals(2.0, table1.getNu(), 0.0);
+        assertEquals(3.0, table3.getNu(), 0.0);
+
+        // shared among threads
+        final var tables = IntStream.range(0, 64).parallel().mapToObj(i -> {
+            try {
+                return ChiSqQuantileTable.getInstance(4.0);
+            } catch (final MaxIterationsExceededException e) {
+                throw new IllegalStateException(e);
+            }
+        }).distinct().count();
+        assertEquals(1, tables);
+
+        final var dist = new ChiSqDist(4.0);
+        assertSame(ChiSqQuantileTable.getInstance(4.0), dist.getQuantileTable());
+
+        // only integer nu parameters up to a maximum value are shared
+        final var table4 = ChiSqQuantileTable.getInstance(2.5);
+        assertNotSame(table4, ChiSqQuantileTable.getInstance(2.5));
+        assertEquals(2.5, table4.getNu(), 0.0);
+        final var maxNu = ChiSqQuantileTable.MAX_SHARED_NU;
+        assertSame(ChiSqQuantileTable.getInstance(maxNu), ChiSqQuantileTable.getInstance(maxNu));
+        assertNotSame(ChiSqQuantileTable.getInstance(maxNu + 1.0), ChiSqQuantileTable.getInstance(maxNu + 1.0));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> ChiSqQuantileTable.getInstance(0.0));
+        assertThrows(IllegalArgumentException.class, () -> ChiSqQuantileTable.getInstance(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> ChiSqQuantileTable.getInstance(Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> ChiSqQuantileTable.getInstance(Double.POSITIVE_INFINITY));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChiSqRandomizerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+    private static final double RELATIVE_ERROR = 0.01;
+    private static final double ABSOLUTE_ERROR = 2e-3;
+
+    private static final double NU = 3.0;
+
+    private static final int LENGTH = 100;
+
+    @Test
+    void testConstructor() {
+        var randomizer = new ChiSqRandomizer();
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(ChiSqRandomizer.DEFAULT_NU, randomizer.getNu(), 0.0);
+
+        randomizer = new ChiSqRandomizer(NU);
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(NU, randomizer.getNu(), 0.0);
+
+        final var random = new SecureRandom();
+        randomizer = new ChiSqRandomizer(random);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(ChiSqRandomizer.DEFAULT_NU, randomizer.getNu(), 0.0);
+
+        randomizer = new ChiSqRandomizer(random, NU);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(NU, randomizer.getNu(), 0.0);
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create();
+        randomizer = new ChiSqRandomizer(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(ChiSqRandomizer.DEFAULT_NU, randomizer.getNu(), 0.0);
+
+        randomizer = new ChiSqRandomizer(generator, NU);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(NU, randomizer.getNu(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new ChiSqRandomizer(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ChiSqRandomizer(generator, -NU));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new ChiSqRandomizer((Random) null));
+        assertThrows(NullPointerException.class, () -> new ChiSqRandomizer((RandomGenerator) null, NU));
+    }
+
+    @Test
+    void testGetSetNu() {
+        final var randomizer = new ChiSqRandomizer();
+
+        // check default value
+        assertEquals(ChiSqRandomizer.DEFAULT_NU, randomizer.getNu(), 0.0);
+
+        // set new value
+        randomizer.setNu(NU);
+
+        // check
+        assertEquals(NU, randomizer.getNu(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setNu(0.0));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setNu(-NU));
+    }
+
+    @Test
+    void testNextBoolean() throws MaxIterationsExceededException {
+        final var randomizer = new ChiSqRandomizer(new Random(0L), NU);
+
+        int trueCounter = 0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            if (randomizer.nextBoolean()) {
+                trueCounter++;
+            }
+        }
+
+        // probability of values below mean
+        assertEquals(ChiSqDist.cdf(NU, NU), (double) trueCounter / NUM_SAMPLES, ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testNextDouble() throws MaxIterationsExceededException {
+        for (final var nu : new double[]{1.0, NU, 50.0}) {
+            final var randomizer = new ChiSqRandomizer(new Random(0L), nu);
+            final var threshold = ChiSqDist.invcdf(0.95, nu);
+
+            double mean = 0.0;
+            double sqrSum = 0.0;
+            int aboveCounter = 0;
+            for (int i = 0; i < NUM_SAMPLES; i++) {
+                final var value = randomizer.nextDouble();
+                assertTrue(value >= 0.0);
+                mean += value / NUM_SAMPLES;
+                sqrSum += value * value / NUM_SAMPLES;
+                if (value > threshold) {
+                    aboveCounter++;
+                }
+            }
+            final var variance = sqrSum - mean * mean;
+
+            assertEquals(nu, mean, RELATIVE_ERROR * nu);
+            assertEquals(2.0 * nu, variance, 2.0 * RELATIVE_ERROR * 2.0 * nu);
+            assertEquals(0.05, (double) aboveCounter / NUM_SAMPLES, ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testNextIntLongAndFloat() {
+        final var randomizer = new ChiSqRandomizer(new Random(0L), NU);
+        final var reference = new ChiSqRandomizer(new Random(0L), NU);
+
+        assertEquals((int) reference.nextDouble(), randomizer.nextInt());
+        assertEquals((long) reference.nextDouble(), randomizer.nextLong());
+        assertEquals((float) reference.nextDouble(), randomizer.nextFloat(), 0.0f);
+    }
+
+    @Test
+    void testFillWithDoubles() {
+        final var randomizer = new ChiSqRandomizer(new Random(0L), NU);
+        final var reference = new ChiSqRandomizer(new Random(0L), NU);
+
+        final var array = new double[LENGTH];
+        randomizer.fill(array);
+
+        for (final var value : array) {
+            assertEquals(reference.nextDouble(), value, 0.0);
+        }
+    }
+
+    @Test
+    void testParallelFillWithDoubles() {
+        final var randomizer = new ChiSqRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(), NU);
+
+        final var array = new double[NUM_SAMPLES];
+        randomizer.parallelFill(array);
+
+        double mean = 0.0;
+        for (final var value : array) {
+            mean += value / NUM_SAMPLES;
+        }
+        assertEquals(NU, mean, RELATIVE_ERROR * NU);
+    }
+
+    @Test
+    void testGetType() {
+        final var randomizer = new ChiSqRandomizer();
+        assertEquals(RandomizerType.CHI_SQ_RANDOMIZER, randomizer.getType());
+    }
+}
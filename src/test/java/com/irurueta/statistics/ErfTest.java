@@ -19,7 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class ErfTest {
 
@@ -28,6 +28,8 @@ class ErfTest {
     private static final double MIN_RANDOM_VALUE = -100.0;
     private static final double MAX_RANDOM_VALUE = 100.0;
 
+    private static final int LENGTH = 1000;
+
     @Test
     void testErf() {
         assertEquals(0.0, Erf.erf(0.0), ABSOLUTE_ERROR);
@@ -67,4 +69,129 @@ class ErfTest {
 
         assertEquals(value, Erf.erf(Erf.inverf(value)), ABSOLUTE_ERROR);
     }
+
+    @Test
+    void testErfAndErfcWithAccuracyMode() {
+        for (var x = -6.0; x <= 6.0; x += 0.01) {
+            assertEquals(Erf.erf(x), Erf.erf(x, AccuracyMode.FULL), 0.0);
+            assertEquals(Erf.erfc(x), Erf.erfc(x, AccuracyMode.FULL), 0.0);
+
+            assertEquals(Erf.erf(x), Erf.erf(x, AccuracyMode.MEDIUM), 1.5e-7);
+            assertEquals(Erf.erfc(x), Erf.erfc(x, AccuracyMode.MEDIUM), 1.5e-7);
+
+            assertEquals(Erf.erf(x), Erf.erf(x, AccuracyMode.LOW), 2.5e-5);
+            assertEquals(Erf.erfc(x), Erf.erfc(x, AccuracyMode.LOW), 2.5e-5);
+        }
+
+        assertEquals(1.0, Erf.erf(Double.POSITIVE_INFINITY, AccuracyMode.LOW), 0.0);
+        assertEquals(2.0, Erf.erfc(Double.NEGATIVE_INFINITY, AccuracyMode.MEDIUM), 0.0);
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> Erf.erf(0.0, null));
+        assertThrows(NullPointerException.class, () -> Erf.erfc(0.0, null));
+    }
+
+    @Test
+    void testErfArray() {
+        final var randomizer = new UniformRandomizer();
+        final var x = new double[LENGTH];
+        randomizer.fill(x, MIN_RANDOM_VALUE / 20.0, MAX_RANDOM_VALUE / 20.0);
+        x[0] = 0.0;
+        x[1] = Double.POSITIVE_INFINITY;
+        x[2] = Double.NEGATIVE_INFINITY;
+
+        final var result = new double[LENGTH];
+        Erf.erf(x, result);
+
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(Erf.erf(x[i]), result[i], 0.0);
+        }
+
+        // range
+        final var result2 = new double[LENGTH];
+        Erf.erf(x, result2, 10, 300);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(i >= 10 && i < 310 ? result[i] : 0.0, result2[i], 0.0);
+        }
+
+        // in place
+        final var x2 = x.clone();
+        Erf.erf(x2, x2);
+        assertArrayEquals(result, x2, 0.0);
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.erf(x, new double[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.erf(x, result, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.erf(x, result, 0, LENGTH + 1));
+    }
+
+    @Test
+    void testErfcArray() {
+        final var randomizer = new UniformRandomizer();
+        final var x = new double[LENGTH];
+        randomizer.fill(x, MIN_RANDOM_VALUE / 20.0, MAX_RANDOM_VALUE / 20.0);
+        x[0] = 0.0;
+        x[1] = Double.POSITIVE_INFINITY;
+        x[2] = Double.NEGATIVE_INFINITY;
+
+        final var result = new double[LENGTH];
+        Erf.erfc(x, result);
+
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(Erf.erfc(x[i]), result[i], 0.0);
+        }
+
+        // range
+        final var result2 = new double[LENGTH];
+        Erf.erfc(x, result2, 10, 300);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(i >= 10 && i < 310 ? result[i] : 0.0, result2[i], 0.0);
+        }
+
+        // in place
+        final var x2 = x.clone();
+        Erf.erfc(x2, x2);
+        assertArrayEquals(result, x2, 0.0);
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.erfc(x, new double[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.erfc(x, result, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.erfc(x, result, 0, LENGTH + 1));
+    }
+
+    @Test
+    void testInverfcArray() {
+        final var randomizer = new UniformRandomizer();
+        final var p = new double[LENGTH];
+        randomizer.fill(p, 0.0, 2.0);
+        p[0] = 0.0;
+        p[1] = 2.0;
+        p[2] = 1.0;
+        p[3] = -1.0;
+        p[4] = 3.0;
+
+        final var result = new double[LENGTH];
+        Erf.inverfc(p, result);
+
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(Erf.inverfc(p[i]), result[i], 0.0);
+        }
+
+        // range
+        final var result2 = new double[LENGTH];
+        Erf.inverfc(p, result2, 10, 300);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(i >= 10 && i < 310 ? result[i] : 0.0, result2[i], 0.0);
+        }
+
+        // in place
+        final var p2 = p.clone();
+        Erf.inverfc(p2, p2);
+        assertArrayEquals(result, p2, 0.0);
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.inverfc(p, new double[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.inverfc(p, result, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Erf.inverfc(p, result, 0, LENGTH + 1));
+    }
 }
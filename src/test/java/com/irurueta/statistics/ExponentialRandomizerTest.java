@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExponentialRandomizerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+    private static final double RELATIVE_ERROR = 0.01;
+    private static final double ABSOLUTE_ERROR = 0.01;
+
+    private static final double RATE = 0.25;
+
+    private static final int LENGTH = 100;
+
+    @Test
+    void testConstructor() {
+        var randomizer = new ExponentialRandomizer();
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(ExponentialRandomizer.DEFAULT_RATE, randomizer.getRate(), 0.0);
+
+        randomizer = new ExponentialRandomizer(RATE);
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(RATE, randomizer.getRate(), 0.0);
+
+        final var random = new SecureRandom();
+        randomizer = new ExponentialRandomizer(random);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(ExponentialRandomizer.DEFAULT_RATE, randomizer.getRate(), 0.0);
+
+        randomizer = new ExponentialRandomizer(random, RATE);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(RATE, randomizer.getRate(), 0.0);
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create();
+        randomizer = new ExponentialRandomizer(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(ExponentialRandomizer.DEFAULT_RATE, randomizer.getRate(), 0.0);
+
+        randomizer = new ExponentialRandomizer(generator, RATE);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(RATE, randomizer.getRate(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialRandomizer(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialRandomizer(generator, -RATE));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new ExponentialRandomizer((Random) null));
+        assertThrows(NullPointerException.class, () -> new ExponentialRandomizer((RandomGenerator) null, RATE));
+    }
+
+    @Test
+    void testGetSetRate() {
+        final var randomizer = new ExponentialRandomizer();
+
+        // check default value
+        assertEquals(ExponentialRandomizer.DEFAULT_RATE, randomizer.getRate(), 0.0);
+
+        // set new value
+        randomizer.setRate(RATE);
+
+        // check
+        assertEquals(RATE, randomizer.getRate(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setRate(0.0));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setRate(Double.NaN));
+    }
+
+    @Test
+    void testNextBoolean() {
+        final var randomizer = new ExponentialRandomizer(new Random(0L), RATE);
+
+        int trueCounter = 0;
+        int thresholdCounter = 0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            if (randomizer.nextBoolean()) {
+                trueCounter++;
+            }
+            if (randomizer.nextBoolean(Math.log(2.0) / RATE)) {
+                thresholdCounter++;
+            }
+        }
+
+        // values below mean and median respectively
+        assertEquals(1.0 - Math.exp(-1.0), (double) trueCounter / NUM_SAMPLES, ABSOLUTE_ERROR);
+        assertEquals(0.5, (double) thresholdCounter / NUM_SAMPLES, ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testNextDouble() {
+        final var randomizer = new ExponentialRandomizer(new Random(0L), RATE);
+
+        double mean = 0.0;
+        double sqrSum = 0.0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = randomizer.nextDouble();
+            assertTrue(value >= 0.0);
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+        }
+        final var standardDeviation = Math.sqrt(sqrSum - mean * mean);
+
+        assertEquals(1.0 / RATE, mean, RELATIVE_ERROR / RATE);
+        assertEquals(1.0 / RATE, standardDeviation, RELATIVE_ERROR / RATE);
+    }
+
+    @Test
+    void testNextIntLongAndFloat() {
+        final var randomizer = new ExponentialRandomizer(new Random(0L), RATE);
+        final var reference = new ExponentialRandomizer(new Random(0L), RATE);
+
+        assertEquals((int) reference.nextDouble(), randomizer.nextInt());
+        assertEquals((long) reference.nextDouble(), randomizer.nextLong());
+        assertEquals((float) reference.nextDouble(), randomizer.nextFloat(), 0.0f);
+    }
+
+    @Test
+    void testFillWithDoubles() {
+        final var randomizer = new ExponentialRandomizer(new Random(0L), RATE);
+        final var reference = new ExponentialRandomizer(new Random(0L), RATE);
+
+        final var array = new double[LENGTH];
+        randomizer.fill(array);
+
+        for (final var value : array) {
+            assertEquals(reference.nextDouble(), value, 0.0);
+        }
+    }
+
+    @Test
+    void testParallelFillWithDoubles() {
+        final var randomizer = new ExponentialRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(),
+                RATE);
+
+        final var array = new double[NUM_SAMPLES];
+        randomizer.parallelFill(array);
+
+        double mean = 0.0;
+        for (final var value : array) {
+            mean += value / NUM_SAMPLES;
+        }
+        assertEquals(1.0 / RATE, mean, RELATIVE_ERROR / RATE);
+    }
+
+    @Test
+    void testGetType() {
+        final var randomizer = new ExponentialRandomizer();
+        assertEquals(RandomizerType.EXPONENTIAL_RANDOMIZER, randomizer.getType());
+    }
+}
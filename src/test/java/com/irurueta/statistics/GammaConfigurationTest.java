@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GammaConfigurationTest {
+
+    @Test
+    void testConstants() {
+        assertEquals(100, GammaConfiguration.DEFAULT_MAX_ITERATIONS);
+        assertEquals(Math.ulp(1.0), GammaConfiguration.DEFAULT_RELATIVE_TOLERANCE, 0.0);
+        assertEquals(ConvergencePolicy.THROW, GammaConfiguration.DEFAULT_CONVERGENCE_POLICY);
+
+        final var configuration = GammaConfiguration.DEFAULT;
+        assertEquals(GammaConfiguration.DEFAULT_MAX_ITERATIONS, configuration.getMaxIterations());
+        assertEquals(GammaConfiguration.DEFAULT_RELATIVE_TOLERANCE, configuration.getRelativeTolerance(), 0.0);
+        assertEquals(GammaConfiguration.DEFAULT_CONVERGENCE_POLICY, configuration.getConvergencePolicy());
+    }
+
+    @Test
+    void testConstructor() {
+        var configuration = new GammaConfiguration();
+
+        assertEquals(GammaConfiguration.DEFAULT_MAX_ITERATIONS, configuration.getMaxIterations());
+        assertEquals(GammaConfiguration.DEFAULT_RELATIVE_TOLERANCE, configuration.getRelativeTolerance(), 0.0);
+        assertEquals(GammaConfiguration.DEFAULT_CONVERGENCE_POLICY, configuration.getConvergencePolicy());
+
+        configuration = new GammaConfiguration(10, 1e-6, ConvergencePolicy.RETURN_ESTIMATE);
+
+        assertEquals(10, configuration.getMaxIterations());
+        assertEquals(1e-6, configuration.getRelativeTolerance(), 0.0);
+        assertEquals(ConvergencePolicy.RETURN_ESTIMATE, configuration.getConvergencePolicy());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new GammaConfiguration(0, 1e-6, ConvergencePolicy.THROW));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GammaConfiguration(10, 0.0, ConvergencePolicy.THROW));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GammaConfiguration(10, Double.NaN, ConvergencePolicy.THROW));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new GammaConfiguration(10, 1e-6, null));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final var configuration1 = new GammaConfiguration();
+        final var configuration2 = new GammaConfiguration(GammaConfiguration.DEFAULT_MAX_ITERATIONS,
+                GammaConfiguration.DEFAULT_RELATIVE_TOLERANCE, GammaConfiguration.DEFAULT_CONVERGENCE_POLICY);
+        final var configuration3 = new GammaConfiguration(10, 1e-6, ConvergencePolicy.RETURN_ESTIMATE);
+
+        assertEquals(GammaConfiguration.DEFAULT, configuration1);
+        assertEquals(configuration1, configuration2);
+        assertEquals(configuration1.hashCode(), configuration2.hashCode());
+        assertNotEquals(configuration1, configuration3);
+        assertNotEquals(configuration3, new GammaConfiguration(10, 1e-6, ConvergencePolicy.THROW));
+        assertNotEquals(configuration3, new GammaConfiguration(11, 1e-6, ConvergencePolicy.RETURN_ESTIMATE));
+        assertNotEquals(configuration3, new GammaConfiguration(10, 1e-7, ConvergencePolicy.RETURN_ESTIMATE));
+        assertNotEquals(null, configuration1);
+    }
+}
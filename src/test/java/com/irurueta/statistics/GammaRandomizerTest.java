@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GammaRandomizerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+    private static final double RELATIVE_ERROR = 0.01;
+    private static final double ABSOLUTE_ERROR = 0.01;
+
+    private static final double SHAPE = 2.5;
+    private static final double SCALE = 3.0;
+
+    private static final int LENGTH = 100;
+
+    @Test
+    void testConstructor() {
+        var randomizer = new GammaRandomizer();
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(GammaRandomizer.DEFAULT_SHAPE, randomizer.getShape(), 0.0);
+        assertEquals(GammaRandomizer.DEFAULT_SCALE, randomizer.getScale(), 0.0);
+
+        randomizer = new GammaRandomizer(SHAPE, SCALE);
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(SHAPE, randomizer.getShape(), 0.0);
+        assertEquals(SCALE, randomizer.getScale(), 0.0);
+
+        final var random = new SecureRandom();
+        randomizer = new GammaRandomizer(random);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(GammaRandomizer.DEFAULT_SHAPE, randomizer.getShape(), 0.0);
+        assertEquals(GammaRandomizer.DEFAULT_SCALE, randomizer.getScale(), 0.0);
+
+        randomizer = new GammaRandomizer(random, SHAPE, SCALE);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(SHAPE, randomizer.getShape(), 0.0);
+        assertEquals(SCALE, randomizer.getScale(), 0.0);
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create();
+        randomizer = new GammaRandomizer(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(GammaRandomizer.DEFAULT_SHAPE, randomizer.getShape(), 0.0);
+        assertEquals(GammaRandomizer.DEFAULT_SCALE, randomizer.getScale(), 0.0);
+
+        randomizer = new GammaRandomizer(generator, SHAPE, SCALE);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(SHAPE, randomizer.getShape(), 0.0);
+        assertEquals(SCALE, randomizer.getScale(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new GammaRandomizer(0.0, SCALE));
+        assertThrows(IllegalArgumentException.class, () -> new GammaRandomizer(generator, SHAPE, -SCALE));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new GammaRandomizer((Random) null));
+        assertThrows(NullPointerException.class, () -> new GammaRandomizer((RandomGenerator) null, SHAPE,
+                SCALE));
+    }
+
+    @Test
+    void testGetSetShape() {
+        final var randomizer = new GammaRandomizer();
+
+        // check default value
+        assertEquals(GammaRandomizer.DEFAULT_SHAPE, randomizer.getShape(), 0.0);
+
+        // set new value
+        randomizer.setShape(SHAPE);
+
+        // check
+        assertEquals(SHAPE, randomizer.getShape(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setShape(0.0));
+    }
+
+    @Test
+    void testGetSetScale() {
+        final var randomizer = new GammaRandomizer();
+
+        // check default value
+        assertEquals(GammaRandomizer.DEFAULT_SCALE, randomizer.getScale(), 0.0);
+
+        // set new value
+        randomizer.setScale(SCALE);
+
+        // check
+        assertEquals(SCALE, randomizer.getScale(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setScale(0.0));
+    }
+
+    @Test
+    void testNextBoolean() throws MaxIterationsExceededException {
+        final var randomizer = new GammaRandomizer(new Random(0L), SHAPE, SCALE);
+
+        int trueCounter = 0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            if (randomizer.nextBoolean()) {
+                trueCounter++;
+            }
+        }
+
+        // probability of values below mean
+        assertEquals(Gamma.regularizedGammaP(SHAPE, SHAPE), (double) trueCounter / NUM_SAMPLES, ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testNextDouble() {
+        for (final var shape : new double[]{0.5, SHAPE, 20.0}) {
+            final var randomizer = new GammaRandomizer(new Random(0L), shape, SCALE);
+
+            double mean = 0.0;
+            double sqrSum = 0.0;
+            for (int i = 0; i < NUM_SAMPLES; i++) {
+                final var value = randomizer.nextDouble();
+                assertTrue(value >= 0.0);
+                mean += value / NUM_SAMPLES;
+                sqrSum += value * value / NUM_SAMPLES;
+            }
+            final var variance = sqrSum - mean * mean;
+
+            assertEquals(shape * SCALE, mean, RELATIVE_ERROR * shape * SCALE);
+            assertEquals(shape * SCALE * SCALE, variance, 2.0 * RELATIVE_ERROR * shape * SCALE * SCALE);
+        }
+    }
+
+    @Test
+    void testNextIntLongAndFloat() {
+        final var randomizer = new GammaRandomizer(new Random(0L), SHAPE, SCALE);
+        final var reference = new GammaRandomizer(new Random(0L), SHAPE, SCALE);
+
+        assertEquals((int) reference.nextDouble(), randomizer.nextInt());
+        assertEquals((long) reference.nextDouble(), randomizer.nextLong());
+        assertEquals((float) reference.nextDouble(), randomizer.nextFloat(), 0.0f);
+    }
+
+    @Test
+    void testFillWithDoubles() {
+        final var randomizer = new GammaRandomizer(new Random(0L), SHAPE, SCALE);
+        final var reference = new GammaRandomizer(new Random(0L), SHAPE, SCALE);
+
+        final var array = new double[LENGTH];
+        randomizer.fill(array);
+
+        for (final var value : array) {
+            assertEquals(reference.nextDouble(), value, 0.0);
+        }
+    }
+
+    @Test
+    void testParallelFillWithDoubles() {
+        final var randomizer = new GammaRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(),
+                SHAPE, SCALE);
+
+        final var array = new double[NUM_SAMPLES];
+        randomizer.parallelFill(array);
+
+        double mean = 0.0;
+        for (final var value : array) {
+            mean += value / NUM_SAMPLES;
+        }
+        assertEquals(SHAPE * SCALE, mean, RELATIVE_ERROR * SHAPE * SCALE);
+    }
+
+    @Test
+    void testGetType() {
+        final var randomizer = new GammaRandomizer();
+        assertEquals(RandomizerType.GAMMA_RANDOMIZER, randomizer.getType());
+    }
+}
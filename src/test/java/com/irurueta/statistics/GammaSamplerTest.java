@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GammaSamplerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+
+    private static final double ABSOLUTE_ERROR = 2e-3;
+
+    private static final double[] SHAPES = {0.1, 0.5, 1.0, 2.5, 10.0, 150.0};
+
+    private static final double[] PROBABILITIES = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+
+    @Test
+    void testConstructor() {
+        final var sampler = new GammaSampler(2.5);
+
+        assertEquals(2.5, sampler.getShape(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new GammaSampler(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new GammaSampler(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> new GammaSampler(Double.NaN));
+    }
+
+    @Test
+    void testNext() throws MaxIterationsExceededException {
+        final var generator = new SplittableRandom(0L);
+
+        for (final var shape : SHAPES) {
+            final var sampler = new GammaSampler(shape);
+
+            // empirical c.d.f. must match Gamma c.d.f.
+            final var thresholds = new double[PROBABILITIES.length];
+            for (int j = 0; j < PROBABILITIES.length; j++) {
+                thresholds[j] = Gamma.inverseRegularizedGammaP(PROBABILITIES[j], shape);
+            }
+            final var counters = new int[PROBABILITIES.length];
+            double mean = 0.0;
+            for (int i = 0; i < NUM_SAMPLES; i++) {
+                final var value = sampler.next(generator);
+                assertTrue(value >= 0.0);
+                mean += value / NUM_SAMPLES;
+                for (int j = 0; j < thresholds.length; j++) {
+                    if (value < thresholds[j]) {
+                        counters[j]++;
+                    }
+                }
+            }
+
+            for (int j = 0; j < PROBABILITIES.length; j++) {
+                assertEquals(PROBABILITIES[j], (double) counters[j] / NUM_SAMPLES, ABSOLUTE_ERROR);
+            }
+            assertEquals(shape, mean, 0.01 * Math.max(1.0, shape));
+        }
+    }
+}
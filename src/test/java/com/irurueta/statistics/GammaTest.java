@@ -17,6 +17,8 @@ package com.irurueta.statistics;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GammaTest {
@@ -46,6 +48,22 @@ class GammaTest {
         assertThrows(IllegalArgumentException.class, () -> Gamma.gammln(0.0));
     }
 
+    @Test
+    void testGammlnWithAccuracyMode() {
+        for (var x = 0.01; x < 200.0; x *= 1.1) {
+            final var expected = Gamma.gammln(x);
+            assertEquals(expected, Gamma.gammln(x, AccuracyMode.FULL), 0.0);
+            assertEquals(expected, Gamma.gammln(x, AccuracyMode.MEDIUM), 2e-10 * Math.max(1.0, Math.abs(expected)));
+            assertEquals(expected, Gamma.gammln(x, AccuracyMode.LOW), 2e-10 * Math.max(1.0, Math.abs(expected)));
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Gamma.gammln(0.0, AccuracyMode.LOW));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> Gamma.gammln(1.0, null));
+    }
+
     @Test
     void testFactrl() {
         assertEquals(1.0, Gamma.factrl(0), 0.0);
@@ -74,6 +92,37 @@ class GammaTest {
         assertThrows(IllegalArgumentException.class, () -> Gamma.factln(-1));
     }
 
+    @Test
+    void testGetSetMaxCachedLogFactorials() {
+        assertEquals(Gamma.MAX_CACHED_LOG_FACTORIALS, Gamma.getMaxCachedLogFactorials());
+
+        try {
+            Gamma.setMaxCachedLogFactorials(10 * Gamma.MAX_CACHED_LOG_FACTORIALS);
+            assertEquals(10 * Gamma.MAX_CACHED_LOG_FACTORIALS, Gamma.getMaxCachedLogFactorials());
+
+            final var n = 5 * Gamma.MAX_CACHED_LOG_FACTORIALS;
+            assertEquals(Gamma.gammln(n + 1.0), Gamma.factln(n), 0.0);
+            assertEquals(Gamma.gammln(n), Gamma.factln(n - 1), 0.0);
+            assertEquals(Gamma.gammln(21.0 * Gamma.MAX_CACHED_LOG_FACTORIALS),
+                    Gamma.factln(21 * Gamma.MAX_CACHED_LOG_FACTORIALS - 1), 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> Gamma.setMaxCachedLogFactorials(-1));
+        } finally {
+            Gamma.setMaxCachedLogFactorials(Gamma.MAX_CACHED_LOG_FACTORIALS);
+        }
+    }
+
+    @Test
+    void testConcurrentFactorials() {
+        final var results = IntStream.range(0, 3 * Gamma.MAX_CACHED_LOG_FACTORIALS).parallel()
+                .mapToDouble(i -> Gamma.factln(i) - Gamma.factrl(i % 171) + Gamma.bico(i, i / 2))
+                .toArray();
+        for (int i = 0; i < results.length; i++) {
+            assertEquals(Gamma.factln(i) - Gamma.factrl(i % 171) + Gamma.bico(i, i / 2), results[i], 0.0);
+        }
+    }
+
     @Test
     void testBico() {
 
@@ -126,4 +175,178 @@ class GammaTest {
         assertEquals(3.0, g.invgammp(g.gammp(2.0, 3.0), 2.0), ABSOLUTE_ERROR);
         assertEquals(4.0, g.invgammp(g.gammp(3.0, 4.0), 3.0), ABSOLUTE_ERROR);
     }
+
+    @Test
+    void testRegularizedGammaPAndQ() throws MaxIterationsExceededException {
+        final var g = new Gamma();
+
+        final var as = new double[]{0.5, 1.0, 2.5, 10.0, 150.0};
+        final var xs = new double[]{0.0, 0.1, 1.0, 3.0, 12.0};
+        for (final var a : as) {
+            for (final var xi : xs) {
+                // quadrature is used for large a values, which is accurate
+                // around the mean of the distribution
+                final var x = a < 100.0 ? xi : a + 10.0 * xi;
+                assertEquals(g.gammp(a, x), Gamma.regularizedGammaP(a, x), 0.0);
+                assertEquals(Gamma.gammln(a), g.getGln(), 0.0);
+                assertEquals(g.gammq(a, x), Gamma.regularizedGammaQ(a, x), 0.0);
+                assertEquals(1.0, Gamma.regularizedGammaP(a, x) + Gamma.regularizedGammaQ(a, x),
+                        ABSOLUTE_ERROR);
+            }
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Gamma.regularizedGammaP(0.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> Gamma.regularizedGammaP(1.0, -1.0));
+        assertThrows(IllegalArgumentException.class, () -> Gamma.regularizedGammaQ(0.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> Gamma.regularizedGammaQ(1.0, -1.0));
+        assertThrows(IllegalArgumentException.class, () -> g.gammq(1.0, -1.0));
+
+        // Force MaxIterationsExceededException
+        assertThrows(MaxIterationsExceededException.class,
+                () -> Gamma.regularizedGammaP(1.0, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void testInverseRegularizedGammaP() throws MaxIterationsExceededException {
+        final var g = new Gamma();
+
+        final var as = new double[]{0.5, 1.0, 2.5, 10.0, 150.0};
+        final var ps = new double[]{0.0, 0.01, 0.5, 0.99, 1.0};
+        for (final var a : as) {
+            for (final var p : ps) {
+                assertEquals(g.invgammp(p, a), Gamma.inverseRegularizedGammaP(p, a), 0.0);
+                assertEquals(Gamma.gammln(a), g.getGln(), 0.0);
+            }
+            final var x = Gamma.inverseRegularizedGammaP(0.3, a);
+            assertEquals(0.3, Gamma.regularizedGammaP(a, x), ABSOLUTE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Gamma.inverseRegularizedGammaP(0.5, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> g.invgammp(0.5, 0.0));
+    }
+
+    @Test
+    void testGetSetConfiguration() {
+        final var g = new Gamma();
+
+        // check default value
+        assertSame(GammaConfiguration.DEFAULT, g.getConfiguration());
+
+        // set new value
+        final var configuration = new GammaConfiguration(10, 1e-6, ConvergencePolicy.RETURN_ESTIMATE);
+        g.setConfiguration(configuration);
+
+        // check
+        assertSame(configuration, g.getConfiguration());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> g.setConfiguration(null));
+    }
+
+    @Test
+    void testRegularizedGammaPAndQWithConfiguration() throws MaxIterationsExceededException {
+        final var g = new Gamma();
+
+        final var as = new double[]{0.5, 1.0, 2.5, 10.0, 150.0};
+        final var xs = new double[]{0.0, 0.1, 1.0, 3.0, 12.0};
+        for (final var a : as) {
+            for (final var xi : xs) {
+                final var x = a < 100.0 ? xi : a + 10.0 * xi;
+                assertEquals(Gamma.regularizedGammaP(a, x),
+                        Gamma.regularizedGammaP(a, x, GammaConfiguration.DEFAULT), 0.0);
+                assertEquals(Gamma.regularizedGammaQ(a, x),
+                        Gamma.regularizedGammaQ(a, x, GammaConfiguration.DEFAULT), 0.0);
+            }
+        }
+
+        // a relaxed tolerance still provides an accurate enough result
+        final var relaxed = new GammaConfiguration(GammaConfiguration.DEFAULT_MAX_ITERATIONS, 1e-6,
+                ConvergencePolicy.THROW);
+        assertEquals(Gamma.regularizedGammaP(5.0, 4.0), Gamma.regularizedGammaP(5.0, 4.0, relaxed), 1e-5);
+        assertEquals(Gamma.regularizedGammaQ(5.0, 6.0), Gamma.regularizedGammaQ(5.0, 6.0, relaxed), 1e-5);
+
+        // series and continued fraction cannot converge in 2 iterations
+        final var limited = new GammaConfiguration(2, GammaConfiguration.DEFAULT_RELATIVE_TOLERANCE,
+                ConvergencePolicy.THROW);
+        assertThrows(MaxIterationsExceededException.class, () -> Gamma.regularizedGammaP(5.0, 4.0, limited));
+        assertThrows(MaxIterationsExceededException.class, () -> Gamma.regularizedGammaQ(5.0, 6.0, limited));
+        g.setConfiguration(limited);
+        assertThrows(MaxIterationsExceededException.class, () -> g.gammp(5.0, 4.0));
+        assertThrows(MaxIterationsExceededException.class, () -> g.gammq(5.0, 6.0));
+
+        // an estimation is returned instead
+        final var estimate = new GammaConfiguration(2, GammaConfiguration.DEFAULT_RELATIVE_TOLERANCE,
+                ConvergencePolicy.RETURN_ESTIMATE);
+        final var p = Gamma.regularizedGammaP(5.0, 4.0, estimate);
+        final var q = Gamma.regularizedGammaQ(5.0, 6.0, estimate);
+        assertEquals(Gamma.regularizedGammaP(5.0, 4.0), p, 0.1);
+        assertEquals(Gamma.regularizedGammaQ(5.0, 6.0), q, 0.1);
+        g.setConfiguration(estimate);
+        assertEquals(p, g.gammp(5.0, 4.0), 0.0);
+        assertEquals(q, g.gammq(5.0, 6.0), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> Gamma.regularizedGammaP(0.0, 1.0, GammaConfiguration.DEFAULT));
+        assertThrows(IllegalArgumentException.class,
+                () -> Gamma.regularizedGammaQ(1.0, -1.0, GammaConfiguration.DEFAULT));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> Gamma.regularizedGammaP(1.0, 1.0, null));
+        assertThrows(NullPointerException.class, () -> Gamma.regularizedGammaQ(1.0, 1.0, null));
+    }
+
+    @Test
+    void testInverseRegularizedGammaPWithConfiguration() throws MaxIterationsExceededException {
+        final var g = new Gamma();
+
+        final var as = new double[]{0.5, 1.0, 2.5, 10.0, 150.0};
+        final var ps = new double[]{0.0, 0.01, 0.5, 0.99, 1.0};
+        for (final var a : as) {
+            for (final var p : ps) {
+                assertEquals(Gamma.inverseRegularizedGammaP(p, a),
+                        Gamma.inverseRegularizedGammaP(p, a, GammaConfiguration.DEFAULT), 0.0);
+            }
+        }
+
+        final var relaxed = new GammaConfiguration(GammaConfiguration.DEFAULT_MAX_ITERATIONS, 1e-8,
+                ConvergencePolicy.RETURN_ESTIMATE);
+        for (final var a : as) {
+            final var x = Gamma.inverseRegularizedGammaP(0.3, a, relaxed);
+            assertEquals(Gamma.inverseRegularizedGammaP(0.3, a), x, 1e-6 * Math.max(1.0, x));
+        }
+        g.setConfiguration(relaxed);
+        assertEquals(Gamma.inverseRegularizedGammaP(0.3, 2.5, relaxed), g.invgammp(0.3, 2.5), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> Gamma.inverseRegularizedGammaP(0.5, 0.0, GammaConfiguration.DEFAULT));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> Gamma.inverseRegularizedGammaP(0.5, 1.0, null));
+    }
+
+    @Test
+    void testConcurrentEvaluation() {
+        final var expected = new double[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = evaluate(i);
+        }
+
+        final var results = IntStream.range(0, expected.length).parallel().mapToDouble(GammaTest::evaluate)
+                .toArray();
+        assertArrayEquals(expected, results, 0.0);
+    }
+
+    private static double evaluate(final int i) {
+        try {
+            final var a = 0.5 + (i % 10);
+            final var p = 0.05 + 0.9 * i / 1000.0;
+            return Gamma.regularizedGammaQ(a, Gamma.inverseRegularizedGammaP(p, a));
+        } catch (final MaxIterationsExceededException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,6 +78,27 @@ class GaussianRandomizerTest {
         // Force IllegalArgumentException
         assertThrows(IllegalArgumentException.class, () -> new GaussianRandomizer(new Random(), MEAN,
                 -STANDARD_DEVIATION));
+
+        // test constructors with generator
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create();
+        randomizer = new GaussianRandomizer(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(GaussianRandomizer.DEFAULT_MEAN, randomizer.getMean(), 0.0);
+        assertEquals(GaussianRandomizer.DEFAULT_STANDARD_DEVIATION, randomizer.getStandardDeviation(), 0.0);
+
+        randomizer = new GaussianRandomizer(generator, MEAN, STANDARD_DEVIATION);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(MEAN, randomizer.getMean(), 0.0);
+        assertEquals(STANDARD_DEVIATION, randomizer.getStandardDeviation(), 0.0);
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new GaussianRandomizer((RandomGenerator) null));
+        assertThrows(NullPointerException.class, () -> new GaussianRandomizer((RandomGenerator) null, MEAN,
+                STANDARD_DEVIATION));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new GaussianRandomizer(generator, MEAN,
+                -STANDARD_DEVIATION));
     }
 
     @Test
@@ -109,6 +132,80 @@ class GaussianRandomizerTest {
         assertThrows(IllegalArgumentException.class, () -> randomizer.setStandardDeviation(-STANDARD_DEVIATION));
     }
 
+    @Test
+    void testGetSetBounds() {
+        final var randomizer = new GaussianRandomizer();
+
+        // check default bounds
+        assertEquals(GaussianRandomizer.DEFAULT_LOWER_BOUND, randomizer.getLowerBound(), 0.0);
+        assertEquals(GaussianRandomizer.DEFAULT_UPPER_BOUND, randomizer.getUpperBound(), 0.0);
+        assertFalse(randomizer.isTruncated());
+
+        // set new bounds
+        randomizer.setBounds(-1.0, 2.0);
+
+        // check correctness
+        assertEquals(-1.0, randomizer.getLowerBound(), 0.0);
+        assertEquals(2.0, randomizer.getUpperBound(), 0.0);
+        assertTrue(randomizer.isTruncated());
+
+        randomizer.setBounds(Double.NEGATIVE_INFINITY, 2.0);
+        assertTrue(randomizer.isTruncated());
+
+        randomizer.setBounds(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        assertFalse(randomizer.isTruncated());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setBounds(1.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setBounds(2.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setBounds(Double.NaN, 1.0));
+    }
+
+    @Test
+    void testTruncatedCollapsedBounds() {
+        final var randomizer = new GaussianRandomizer();
+        randomizer.setBounds(0.0, 1.0);
+
+        // standardized bounds collapse with a flat density within bounds
+        randomizer.setMean(1e20);
+        randomizer.setStandardDeviation(1e30);
+        assertTrue(randomizer.isTruncated());
+        assertEquals(0.5, randomizer.nextDouble(), 0.0);
+
+        final var array = new double[LENGTH];
+        randomizer.fill(array);
+        for (final var value : array) {
+            assertEquals(0.5, value, 0.0);
+        }
+
+        // standardized bounds collapse far away from the mean
+        randomizer.setStandardDeviation(1.0);
+        assertEquals(1.0, randomizer.nextDouble(), 0.0);
+
+        randomizer.setMean(-5.0);
+        randomizer.setStandardDeviation(Double.MIN_VALUE);
+        assertEquals(0.0, randomizer.nextDouble(), 0.0);
+
+        // bounds far in the tail without collapsing
+        randomizer.setMean(0.0);
+        randomizer.setStandardDeviation(1e-200);
+        randomizer.setBounds(1.0, 2.0);
+        assertEquals(1.0, randomizer.nextDouble(), 0.0);
+        randomizer.fill(array);
+        for (final var value : array) {
+            assertEquals(1.0, value, 0.0);
+        }
+        randomizer.setBounds(0.0, 1.0);
+
+        // bounds no longer collapse
+        randomizer.setMean(0.5);
+        randomizer.setStandardDeviation(1.0);
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = randomizer.nextDouble();
+            assertTrue(value >= 0.0 && value <= 1.0);
+        }
+    }
+
     @Test
     void testNextBoolean() {
         final var randomizer = new GaussianRandomizer(MEAN, STANDARD_DEVIATION);
@@ -318,6 +415,223 @@ class GaussianRandomizerTest {
         assertThrows(NullPointerException.class, () -> randomizer.setInternalRandom(null));
     }
 
+    @Test
+    void testGetSetMethod() {
+        final var randomizer = new GaussianRandomizer();
+
+        // check default value
+        assertEquals(GaussianRandomizer.DEFAULT_METHOD, randomizer.getMethod());
+        assertEquals(GaussianSamplingMethod.GENERATOR, randomizer.getMethod());
+
+        // set new value
+        randomizer.setMethod(GaussianSamplingMethod.ZIGGURAT);
+
+        // check correctness
+        assertEquals(GaussianSamplingMethod.ZIGGURAT, randomizer.getMethod());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> randomizer.setMethod(null));
+    }
+
+    @Test
+    void testZiggurat() {
+        final var randomizer = new GaussianRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(),
+                MEAN, STANDARD_DEVIATION);
+        randomizer.setMethod(GaussianSamplingMethod.ZIGGURAT);
+
+        // scalar path
+        double mean = 0.0;
+        double sqrSum = 0.0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = randomizer.nextDouble();
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+        }
+        var standardDeviation = Math.sqrt(sqrSum - mean * mean);
+
+        assertEquals(MEAN, mean, RELATIVE_ERROR * STANDARD_DEVIATION);
+        assertEquals(STANDARD_DEVIATION, standardDeviation, RELATIVE_ERROR * STANDARD_DEVIATION);
+
+        // bulk path
+        final var array = new double[NUM_SAMPLES];
+        randomizer.fill(array);
+        mean = 0.0;
+        sqrSum = 0.0;
+        for (final var value : array) {
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+        }
+        standardDeviation = Math.sqrt(sqrSum - mean * mean);
+
+        assertEquals(MEAN, mean, RELATIVE_ERROR * STANDARD_DEVIATION);
+        assertEquals(STANDARD_DEVIATION, standardDeviation, RELATIVE_ERROR * STANDARD_DEVIATION);
+
+        // parallel fill keeps method
+        final var parallelArray = new double[LENGTH];
+        randomizer.parallelFill(parallelArray);
+        for (final var value : parallelArray) {
+            assertTrue(Double.isFinite(value));
+        }
+    }
+
+    @Test
+    void testZigguratWithBulkGenerator() {
+        final var randomizer = new GaussianRandomizer(new BulkRandomGenerator(0L), MEAN, STANDARD_DEVIATION);
+        randomizer.setMethod(GaussianSamplingMethod.ZIGGURAT);
+
+        final var array = new double[NUM_SAMPLES];
+        randomizer.fill(array);
+
+        double mean = 0.0;
+        double sqrSum = 0.0;
+        for (final var value : array) {
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+        }
+        final var standardDeviation = Math.sqrt(sqrSum - mean * mean);
+
+        assertEquals(MEAN, mean, RELATIVE_ERROR * STANDARD_DEVIATION);
+        assertEquals(STANDARD_DEVIATION, standardDeviation, RELATIVE_ERROR * STANDARD_DEVIATION);
+    }
+
+    @Test
+    void testInversion() {
+        final var randomizer = new GaussianRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(),
+                MEAN, STANDARD_DEVIATION);
+        randomizer.setMethod(GaussianSamplingMethod.INVERSION);
+
+        final var array = new double[NUM_SAMPLES];
+        randomizer.fill(array);
+
+        double mean = 0.0;
+        double sqrSum = 0.0;
+        for (final var value : array) {
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+        }
+        final var standardDeviation = Math.sqrt(sqrSum - mean * mean);
+
+        assertEquals(MEAN, mean, RELATIVE_ERROR * STANDARD_DEVIATION);
+        assertEquals(STANDARD_DEVIATION, standardDeviation, RELATIVE_ERROR * STANDARD_DEVIATION);
+        assertTrue(Double.isFinite(randomizer.nextDouble()));
+    }
+
+    @Test
+    void testGaussians() {
+        final var randomizer = new GaussianRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+        randomizer.setMethod(GaussianSamplingMethod.ZIGGURAT);
+
+        randomizer.setSeed(0L);
+        final var values = randomizer.gaussians(NUM_SAMPLES, MEAN, STANDARD_DEVIATION).parallel().toArray();
+        randomizer.setSeed(0L);
+        assertArrayEquals(values, randomizer.gaussians(NUM_SAMPLES, MEAN, STANDARD_DEVIATION).toArray(), 0.0);
+
+        double mean = 0.0;
+        double sqrSum = 0.0;
+        for (final var value : values) {
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+        }
+        final var standardDeviation = Math.sqrt(sqrSum - mean * mean);
+
+        assertEquals(MEAN, mean, RELATIVE_ERROR * STANDARD_DEVIATION);
+        assertEquals(STANDARD_DEVIATION, standardDeviation, RELATIVE_ERROR * STANDARD_DEVIATION);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.gaussians(1L, MEAN, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.gaussians(-1L, MEAN, STANDARD_DEVIATION));
+    }
+
+    @Test
+    void testTruncated() {
+        final var randomizer = new GaussianRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(0L),
+                MEAN, STANDARD_DEVIATION);
+        randomizer.setMethod(GaussianSamplingMethod.ZIGGURAT);
+
+        // lower bound far in the upper tail
+        final var lowerBound = MEAN + 6.0 * STANDARD_DEVIATION;
+        final var upperBound = MEAN + 10.0 * STANDARD_DEVIATION;
+        randomizer.setBounds(lowerBound, upperBound);
+
+        // expected mean of truncated distribution
+        final var a = (lowerBound - MEAN) / STANDARD_DEVIATION;
+        final var b = (upperBound - MEAN) / STANDARD_DEVIATION;
+        final var density = Math.exp(-0.5 * a * a) - Math.exp(-0.5 * b * b);
+        final var mass = NormalDist.cdf(-a, 0.0, 1.0) - NormalDist.cdf(-b, 0.0, 1.0);
+        final var expectedMean = MEAN + STANDARD_DEVIATION * density / (Math.sqrt(2.0 * Math.PI) * mass);
+
+        // scalar path
+        double mean = 0.0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = randomizer.nextDouble();
+            assertTrue(value >= lowerBound && value <= upperBound);
+            mean += value / NUM_SAMPLES;
+        }
+        assertEquals(expectedMean, mean, ABSOLUTE_ERROR * STANDARD_DEVIATION);
+
+        // bulk path
+        final var array = new double[NUM_SAMPLES];
+        randomizer.fill(array);
+        mean = 0.0;
+        for (final var value : array) {
+            assertTrue(value >= lowerBound && value <= upperBound);
+            mean += value / NUM_SAMPLES;
+        }
+        assertEquals(expectedMean, mean, ABSOLUTE_ERROR * STANDARD_DEVIATION);
+
+        // other types
+        for (int i = 0; i < LENGTH; i++) {
+            final var intValue = randomizer.nextInt();
+            assertTrue(intValue >= (int) lowerBound && intValue <= (int) upperBound);
+            final var floatValue = randomizer.nextFloat();
+            assertTrue(floatValue >= (float) lowerBound && floatValue <= (float) upperBound);
+            assertFalse(randomizer.nextBoolean(lowerBound));
+        }
+
+        // parallel fill and streams keep bounds
+        final var parallelArray = new double[LENGTH];
+        randomizer.parallelFill(parallelArray);
+        for (final var value : parallelArray) {
+            assertTrue(value >= lowerBound && value <= upperBound);
+        }
+        assertTrue(randomizer.gaussians(LENGTH, MEAN, STANDARD_DEVIATION).allMatch(
+                value -> value >= lowerBound && value <= upperBound));
+
+        // bounds are kept when mean changes
+        randomizer.setMean(lowerBound);
+        randomizer.setStandardDeviation(1.0);
+        randomizer.fill(array);
+        for (final var value : array) {
+            assertTrue(value >= lowerBound && value <= upperBound);
+        }
+
+        // one-sided bound below the mean
+        randomizer.setBounds(Double.NEGATIVE_INFINITY, lowerBound - 30.0);
+        for (int i = 0; i < LENGTH; i++) {
+            assertTrue(randomizer.nextDouble() <= lowerBound - 30.0);
+        }
+    }
+
+    @Test
+    void testParallelFillWithDoubles() {
+        final var randomizer = new GaussianRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(),
+                MEAN, STANDARD_DEVIATION);
+
+        final var array = new double[NUM_SAMPLES];
+        randomizer.parallelFill(array);
+
+        double mean = 0.0;
+        double sqrSum = 0.0;
+        for (final var value : array) {
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+        }
+        final var standardDeviation = Math.sqrt(sqrSum - mean * mean);
+
+        assertEquals(MEAN, mean, RELATIVE_ERROR * STANDARD_DEVIATION);
+        assertEquals(STANDARD_DEVIATION, standardDeviation, RELATIVE_ERROR * STANDARD_DEVIATION);
+    }
+
     @Test
      void testSetSeed() {
         final var randomizer = new GaussianRandomizer();
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HaltonSequenceTest {
+
+    private static final int NUM_POINTS = 4096;
+
+    private static final double INTEGRATION_ERROR = 5e-3;
+
+    private static final double ABSOLUTE_ERROR = 1e-15;
+
+    private static final double ROUND_OFF = 1e-9;
+
+    @Test
+    void testConstructor() {
+        var sequence = new HaltonSequence(5);
+        assertEquals(5, sequence.getDimensions());
+        assertEquals(0L, sequence.getIndex());
+        assertArrayEquals(new int[]{2, 3, 5, 7, 11}, sequence.getBases());
+        assertFalse(sequence.isScrambled());
+
+        sequence = new HaltonSequence(100, RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+        assertEquals(100, sequence.getDimensions());
+        assertEquals(541, sequence.getBases()[99]);
+        assertTrue(sequence.isScrambled());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new HaltonSequence(0));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new HaltonSequence(2, null));
+    }
+
+    @Test
+    void testFirstPoints() {
+        final var sequence = new HaltonSequence(2);
+
+        assertArrayEquals(new double[]{0.0, 0.0}, sequence.next(), ABSOLUTE_ERROR);
+        assertArrayEquals(new double[]{1.0 / 2.0, 1.0 / 3.0}, sequence.next(), ABSOLUTE_ERROR);
+        assertArrayEquals(new double[]{1.0 / 4.0, 2.0 / 3.0}, sequence.next(), ABSOLUTE_ERROR);
+        assertArrayEquals(new double[]{3.0 / 4.0, 1.0 / 9.0}, sequence.next(), ABSOLUTE_ERROR);
+        assertArrayEquals(new double[]{1.0 / 8.0, 4.0 / 9.0}, sequence.next(), ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testStratification() {
+        checkStratification(new HaltonSequence(3));
+        checkStratification(new HaltonSequence(3, RandomGeneratorFactory.of("L64X128MixRandom").create(0L)));
+    }
+
+    @Test
+    void testIntegration() {
+        assertEquals(1.0, integrate(new HaltonSequence(20)), INTEGRATION_ERROR);
+        assertEquals(1.0, integrate(new HaltonSequence(50,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(1L))), INTEGRATION_ERROR);
+    }
+
+    @Test
+    void testScrambled() {
+        final var sequence1 = new HaltonSequence(2, RandomGeneratorFactory.of("L64X128MixRandom").create(2L));
+        final var sequence2 = new HaltonSequence(2, RandomGeneratorFactory.of("L64X128MixRandom").create(2L));
+        final var sequence3 = new HaltonSequence(2, RandomGeneratorFactory.of("L64X128MixRandom").create(3L));
+
+        final var point1 = sequence1.next();
+        assertArrayEquals(point1, sequence2.next(), 0.0);
+        assertFalse(Arrays.equals(point1, sequence3.next()));
+        for (final var value : point1) {
+            assertTrue(value > 0.0 && value < 1.0);
+        }
+    }
+
+    @Test
+    void testSkipAndReset() {
+        final var sequence = new HaltonSequence(4, RandomGeneratorFactory.of("L64X128MixRandom").create(4L));
+
+        final var buffer = new double[100 * 4];
+        sequence.fill(buffer);
+
+        sequence.reset();
+        sequence.skip(50);
+        final var point = new double[4];
+        for (int n = 50; n < 100; n++) {
+            sequence.next(point);
+            for (int i = 0; i < 4; i++) {
+                assertEquals(buffer[n * 4 + i], point[i], 0.0);
+            }
+        }
+
+        // Force IllegalStateException
+        sequence.skip(Long.MAX_VALUE - sequence.getIndex());
+        sequence.next();
+        assertThrows(IllegalStateException.class, sequence::next);
+    }
+
+    @Test
+    void testGaussian() {
+        final var dims = 3;
+        final var sequence = new HaltonSequence(dims);
+        sequence.skip(1);
+
+        final var buffer = new double[NUM_POINTS * dims];
+        sequence.fillGaussian(buffer);
+        for (int i = 0; i < dims; i++) {
+            var mean = 0.0;
+            var sqrSum = 0.0;
+            for (int n = 0; n < NUM_POINTS; n++) {
+                final var value = buffer[n * dims + i];
+                mean += value / NUM_POINTS;
+                sqrSum += value * value / NUM_POINTS;
+            }
+            assertEquals(0.0, mean, 0.02);
+            assertEquals(1.0, Math.sqrt(sqrSum - mean * mean), 0.02);
+        }
+    }
+
+    private static void checkStratification(final HaltonSequence sequence) {
+        final var dims = sequence.getDimensions();
+        final var bases = sequence.getBases();
+
+        // each coordinate of first b^m points falls once in each interval of
+        // length b^-m (up to round-off errors of unscrambled values, which
+        // lie on the lower end of intervals)
+        for (int i = 0; i < dims; i++) {
+            final var base = bases[i];
+            var count = 1;
+            while (count * base <= NUM_POINTS) {
+                count *= base;
+            }
+
+            sequence.reset();
+            final var counters = new int[count];
+            final var point = new double[dims];
+            for (int n = 0; n < count; n++) {
+                sequence.next(point);
+                assertTrue(point[i] >= 0.0 && point[i] < 1.0);
+                counters[(int) (point[i] * count + ROUND_OFF)]++;
+            }
+            for (final var counter : counters) {
+                assertEquals(1, counter);
+            }
+        }
+    }
+
+    private static double integrate(final LowDiscrepancySequence sequence) {
+        // Sobol' g-function, whose integral is 1.0
+        final var dims = sequence.getDimensions();
+        final var point = new double[dims];
+        var result = 0.0;
+        for (int n = 0; n < NUM_POINTS; n++) {
+            sequence.next(point);
+            var value = 1.0;
+            for (int i = 0; i < dims; i++) {
+                value *= (Math.abs(4.0 * point[i] - 2.0) + i) / (1.0 + i);
+            }
+            result += value / NUM_POINTS;
+        }
+        return result;
+    }
+}
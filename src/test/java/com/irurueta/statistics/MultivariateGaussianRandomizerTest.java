@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultivariateGaussianRandomizerTest {
+
+    private static final int NUM_SAMPLES = 200000;
+
+    private static final double ABSOLUTE_ERROR = 0.05;
+
+    private static final double FACTOR_ERROR = 1e-12;
+
+    private static final double[] MEAN = {1.0, -2.0, 3.0};
+
+    private static final double[][] COVARIANCE = {
+            {4.0, 2.0, 0.6},
+            {2.0, 2.0, 0.4},
+            {0.6, 0.4, 1.0}
+    };
+
+    @Test
+    void testConstructor() {
+        var randomizer = new MultivariateGaussianRandomizer(MEAN, COVARIANCE);
+        assertEquals(MEAN.length, randomizer.getDimensions());
+        assertArrayEquals(MEAN, randomizer.getMean(), 0.0);
+        assertNotNull(randomizer.getInternalGenerator());
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create(0L);
+        randomizer = new MultivariateGaussianRandomizer(MEAN, COVARIANCE, generator);
+        assertEquals(MEAN.length, randomizer.getDimensions());
+        assertSame(generator, randomizer.getInternalGenerator());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new MultivariateGaussianRandomizer(null, COVARIANCE));
+        assertThrows(NullPointerException.class, () -> new MultivariateGaussianRandomizer(MEAN, null));
+        assertThrows(NullPointerException.class,
+                () -> new MultivariateGaussianRandomizer(MEAN, COVARIANCE, null));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultivariateGaussianRandomizer(new double[0], new double[0][0]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultivariateGaussianRandomizer(new double[2], COVARIANCE));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultivariateGaussianRandomizer(new double[2], new double[][]{{1.0, 0.0}, {0.0}}));
+        // not symmetric
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultivariateGaussianRandomizer(new double[2], new double[][]{{1.0, 0.5}, {0.0, 1.0}}));
+        // negative variance
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultivariateGaussianRandomizer(new double[2], new double[][]{{-1.0, 0.0}, {0.0, 1.0}}));
+        // indefinite
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultivariateGaussianRandomizer(new double[2], new double[][]{{1.0, 2.0}, {2.0, 1.0}}));
+        // zero variance with non-zero covariance
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultivariateGaussianRandomizer(new double[2], new double[][]{{0.0, 1.0}, {1.0, 1.0}}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultivariateGaussianRandomizer(new double[1], new double[][]{{Double.NaN}}));
+    }
+
+    @Test
+    void testGetSetInternalGenerator() {
+        final var randomizer = new MultivariateGaussianRandomizer(MEAN, COVARIANCE);
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create(0L);
+        randomizer.setInternalGenerator(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> randomizer.setInternalGenerator(null));
+    }
+
+    @Test
+    void testSetParameters() {
+        final var randomizer = new MultivariateGaussianRandomizer(new double[1], new double[][]{{1.0}});
+        assertEquals(1, randomizer.getDimensions());
+
+        final var mean = MEAN.clone();
+        randomizer.setParameters(mean, COVARIANCE);
+        mean[0] = 0.0;
+        assertEquals(MEAN.length, randomizer.getDimensions());
+        assertArrayEquals(MEAN, randomizer.getMean(), 0.0);
+
+        // check L * L^T = covariance
+        final var l = randomizer.getCholeskyFactor();
+        for (int i = 0; i < MEAN.length; i++) {
+            for (int j = 0; j < MEAN.length; j++) {
+                var sum = 0.0;
+                for (int k = 0; k < MEAN.length; k++) {
+                    sum += l[i][k] * l[j][k];
+                }
+                assertEquals(COVARIANCE[i][j], sum, FACTOR_ERROR);
+                if (j > i) {
+                    assertEquals(0.0, l[i][j], 0.0);
+                }
+            }
+        }
+
+        // failed attempts keep previous parameters
+        assertThrows(IllegalArgumentException.class,
+                () -> randomizer.setParameters(new double[2], new double[][]{{1.0, 2.0}, {2.0, 1.0}}));
+        assertEquals(MEAN.length, randomizer.getDimensions());
+        assertArrayEquals(MEAN, randomizer.getMean(), 0.0);
+    }
+
+    @Test
+    void testNext() {
+        final var randomizer = new MultivariateGaussianRandomizer(MEAN, COVARIANCE,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(1L));
+
+        final var sums = new double[MEAN.length];
+        final var products = new double[MEAN.length][MEAN.length];
+        final var sample = new double[MEAN.length];
+        for (int n = 0; n < NUM_SAMPLES; n++) {
+            randomizer.next(sample);
+            accumulate(sample, 0, sums, products);
+        }
+        checkMoments(MEAN, COVARIANCE, sums, products, NUM_SAMPLES);
+
+        assertEquals(MEAN.length, randomizer.next().length);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.next(new double[2]));
+    }
+
+    @Test
+    void testFill() {
+        final var randomizer = new MultivariateGaussianRandomizer(MEAN, COVARIANCE,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(2L));
+
+        final var dims = MEAN.length;
+        final var buffer = new double[NUM_SAMPLES * dims];
+        randomizer.fill(buffer);
+
+        final var sums = new double[dims];
+        final var products = new double[dims][dims];
+        for (int n = 0; n < NUM_SAMPLES; n++) {
+            accumulate(buffer, n * dims, sums, products);
+        }
+        checkMoments(MEAN, COVARIANCE, sums, products, NUM_SAMPLES);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.fill(new double[dims + 1]));
+    }
+
+    @Test
+    void testFillWithOffset() {
+        final var randomizer = new MultivariateGaussianRandomizer(MEAN, COVARIANCE,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(3L));
+
+        final var dims = MEAN.length;
+        final var buffer = new double[4 * dims + 2];
+        randomizer.fill(buffer, 2, 4);
+        assertEquals(0.0, buffer[0], 0.0);
+        assertEquals(0.0, buffer[1], 0.0);
+        for (int i = 2; i < buffer.length; i++) {
+            assertNotEquals(0.0, buffer[i]);
+        }
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fill(buffer, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fill(buffer, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fill(buffer, 3, 4));
+    }
+
+    @Test
+    void testFillMatchesNext() {
+        final var randomizer1 = new MultivariateGaussianRandomizer(MEAN, COVARIANCE,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(4L));
+        final var randomizer2 = new MultivariateGaussianRandomizer(MEAN, COVARIANCE,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(4L));
+
+        final var dims = MEAN.length;
+        final var buffer = new double[10 * dims];
+        randomizer1.fill(buffer);
+
+        for (int n = 0; n < 10; n++) {
+            final var sample = randomizer2.next();
+            for (int i = 0; i < dims; i++) {
+                assertEquals(buffer[n * dims + i], sample[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testSemiDefinite() {
+        // second component is a scaled copy of the first one and third one
+        // is constant
+        final var mean = new double[]{0.0, 1.0, 5.0};
+        final var covariance = new double[][]{
+                {1.0, 2.0, 0.0},
+                {2.0, 4.0, 0.0},
+                {0.0, 0.0, 0.0}
+        };
+        final var randomizer = new MultivariateGaussianRandomizer(mean, covariance,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(5L));
+
+        final var buffer = new double[1000 * 3];
+        randomizer.fill(buffer);
+        for (int n = 0; n < 1000; n++) {
+            final var x = buffer[3 * n];
+            assertEquals(1.0 + 2.0 * x, buffer[3 * n + 1], FACTOR_ERROR);
+            assertEquals(5.0, buffer[3 * n + 2], 0.0);
+        }
+    }
+
+    private static void accumulate(final double[] sample, final int offset, final double[] sums,
+                                   final double[][] products) {
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] += sample[offset + i];
+            for (int j = 0; j < sums.length; j++) {
+                products[i][j] += sample[offset + i] * sample[offset + j];
+            }
+        }
+    }
+
+    private static void checkMoments(final double[] mean, final double[][] covariance, final double[] sums,
+                                     final double[][] products, final int samples) {
+        for (int i = 0; i < mean.length; i++) {
+            assertEquals(mean[i], sums[i] / samples, ABSOLUTE_ERROR);
+        }
+        for (int i = 0; i < mean.length; i++) {
+            for (int j = 0; j < mean.length; j++) {
+                final var cov = products[i][j] / samples - sums[i] * sums[j] / ((double) samples * samples);
+                assertEquals(covariance[i][j], cov, ABSOLUTE_ERROR);
+            }
+        }
+    }
+}
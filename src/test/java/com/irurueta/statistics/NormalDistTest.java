@@ -33,6 +33,8 @@ class NormalDistTest {
 
     private static final int TIMES = 10;
 
+    private static final int LENGTH = 100;
+
     @Test
     void testConstructor() {
         // test empty constructor
@@ -225,6 +227,254 @@ class NormalDistTest {
         assertThrows(IllegalArgumentException.class, () -> NormalDist.mahalanobisDistance(x, mean, 0.0));
     }
 
+    @Test
+    void testBatchP() {
+        final var randomizer = new UniformRandomizer();
+        final var mean = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var std = randomizer.nextDouble(1.0, MAX_RANDOM_VALUE);
+        final var dist = new NormalDist(mean, std);
+
+        final var x = randomizer.nextDoubles(LENGTH, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var mu = randomizer.nextDoubles(LENGTH, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var sig = randomizer.nextDoubles(LENGTH, 1.0, MAX_RANDOM_VALUE);
+        final var result = new double[LENGTH];
+
+        dist.p(x, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(dist.p(x[i]), result[i], ABSOLUTE_ERROR * result[i]);
+        }
+
+        NormalDist.p(x, mean, std, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(NormalDist.p(x[i], mean, std), result[i], ABSOLUTE_ERROR * result[i]);
+        }
+
+        NormalDist.p(x, mu, sig, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(NormalDist.p(x[i], mu[i], sig[i]), result[i], 0.0);
+        }
+
+        // ranges
+        final var partial = new double[LENGTH];
+        dist.p(x, partial, 1, 2);
+        assertEquals(0.0, partial[0], 0.0);
+        assertEquals(dist.p(x[1]), partial[1], ABSOLUTE_ERROR * partial[1]);
+        assertEquals(dist.p(x[2]), partial[2], ABSOLUTE_ERROR * partial[2]);
+        assertEquals(0.0, partial[3], 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.p(x, mean, 0.0, result));
+        final var wrongSig = new double[LENGTH];
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.p(x, mu, wrongSig, result));
+
+        // Force IndexOutOfBoundsException
+        final var shortResult = new double[LENGTH - 1];
+        assertThrows(IndexOutOfBoundsException.class, () -> dist.p(x, shortResult));
+        assertThrows(IndexOutOfBoundsException.class, () -> dist.p(x, result, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> dist.p(x, result, LENGTH - 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> NormalDist.p(x, mean, std, shortResult));
+        assertThrows(IndexOutOfBoundsException.class, () -> NormalDist.p(x, mu, new double[1], result));
+    }
+
+    @Test
+    void testBatchCdf() {
+        final var randomizer = new UniformRandomizer();
+        final var mean = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var std = randomizer.nextDouble(1.0, MAX_RANDOM_VALUE);
+        final var dist = new NormalDist(mean, std);
+
+        final var x = randomizer.nextDoubles(LENGTH, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var mu = randomizer.nextDoubles(LENGTH, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var sig = randomizer.nextDoubles(LENGTH, 1.0, MAX_RANDOM_VALUE);
+        final var result = new double[LENGTH];
+
+        dist.cdf(x, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(dist.cdf(x[i]), result[i], 0.0);
+        }
+
+        NormalDist.cdf(x, mean, std, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(NormalDist.cdf(x[i], mean, std), result[i], 0.0);
+        }
+
+        NormalDist.cdf(x, mu, sig, result, 1, LENGTH - 1);
+        for (int i = 1; i < LENGTH; i++) {
+            assertEquals(NormalDist.cdf(x[i], mu[i], sig[i]), result[i], 0.0);
+        }
+
+        // in place evaluation
+        final var copy = x.clone();
+        NormalDist.cdf(copy, mu, sig, copy);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(NormalDist.cdf(x[i], mu[i], sig[i]), copy[i], 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.cdf(x, mean, 0.0, result, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.cdf(x, mu, new double[LENGTH], result));
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> dist.cdf(x, new double[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> NormalDist.cdf(x, mean, std, result, 0, LENGTH + 1));
+    }
+
+    @Test
+    void testInvcdfAccuracy() {
+        // reference quantiles of the standard normal distribution
+        assertEquals(0.0, NormalDist.invcdf(0.5, 0.0, 1.0), 0.0);
+        assertEquals(1.959963984540054, NormalDist.invcdf(0.975, 0.0, 1.0), 1e-15);
+        assertEquals(-1.959963984540054, NormalDist.invcdf(0.025, 0.0, 1.0), 1e-15);
+        assertEquals(2.3263478740408408, NormalDist.invcdf(0.99, 0.0, 1.0), 1e-15);
+        assertEquals(-3.090232306167814, NormalDist.invcdf(1e-3, 0.0, 1.0), 1e-14);
+        assertEquals(-8.222082216130435, NormalDist.invcdf(1e-16, 0.0, 1.0), 1e-13);
+        assertEquals(-37.0471, NormalDist.invcdf(1e-300, 0.0, 1.0), 1e-4);
+
+        // symmetry and agreement with erfc based inversion
+        final var randomizer = new UniformRandomizer();
+        for (int i = 0; i < 1000; i++) {
+            final var p = randomizer.nextDouble(1e-6, 1.0 - 1e-6);
+            final var z = NormalDist.invcdf(p, 0.0, 1.0);
+
+            assertEquals(-Math.sqrt(2.0) * Erf.inverfc(2.0 * p), z, 1e-9);
+            assertEquals(p, NormalDist.cdf(z, 0.0, 1.0), 1e-14);
+        }
+    }
+
+    @Test
+    void testAccuracyMode() {
+        final var dist = new NormalDist(1.0, 2.0);
+
+        // check default value
+        assertEquals(AccuracyMode.FULL, dist.getAccuracyMode());
+
+        final var randomizer = new UniformRandomizer();
+        final var x = new double[LENGTH];
+        final var p = new double[LENGTH];
+        randomizer.fill(x, -10.0, 10.0);
+        randomizer.fill(p, 1e-12, 1.0 - 1e-12);
+        p[0] = 1e-300;
+        p[1] = 0.5;
+
+        final var cdf = new double[LENGTH];
+        final var invcdf = new double[LENGTH];
+        for (final var mode : AccuracyMode.values()) {
+            final var cdfError = mode == AccuracyMode.LOW ? 1.25e-5 : 7.5e-8;
+            dist.setAccuracyMode(mode);
+            assertEquals(mode, dist.getAccuracyMode());
+
+            dist.cdf(x, cdf);
+            dist.invcdf(p, invcdf);
+            for (int i = 0; i < LENGTH; i++) {
+                final var expectedCdf = NormalDist.cdf(x[i], 1.0, 2.0);
+                assertEquals(expectedCdf, NormalDist.cdf(x[i], 1.0, 2.0, mode), cdfError);
+                assertEquals(NormalDist.cdf(x[i], 1.0, 2.0, mode), dist.cdf(x[i]), 0.0);
+                assertEquals(dist.cdf(x[i]), cdf[i], 0.0);
+
+                final var expectedInvcdf = NormalDist.invcdf(p[i], 1.0, 2.0);
+                assertEquals(expectedInvcdf, NormalDist.invcdf(p[i], 1.0, 2.0, mode),
+                        2e-7 * Math.abs(expectedInvcdf) + 1e-7);
+                assertEquals(NormalDist.invcdf(p[i], 1.0, 2.0, mode), dist.invcdf(p[i]), 0.0);
+                assertEquals(dist.invcdf(p[i]), invcdf[i], 0.0);
+            }
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.cdf(0.0, 0.0, 0.0, AccuracyMode.LOW));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.invcdf(0.5, 0.0, 0.0, AccuracyMode.LOW));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.invcdf(1.0, 0.0, 1.0, AccuracyMode.LOW));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.invcdf(0.0, 0.0, 1.0, AccuracyMode.MEDIUM));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> dist.setAccuracyMode(null));
+        assertThrows(NullPointerException.class, () -> NormalDist.cdf(0.0, 0.0, 1.0, null));
+        assertThrows(NullPointerException.class, () -> NormalDist.invcdf(0.5, 0.0, 1.0, null));
+    }
+
+    @Test
+    void testBatchInvcdf() {
+        final var randomizer = new UniformRandomizer();
+        final var mean = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var std = randomizer.nextDouble(1.0, MAX_RANDOM_VALUE);
+        final var dist = new NormalDist(mean, std);
+
+        final var p = randomizer.nextDoubles(LENGTH, 0.001, 0.999);
+        final var mu = randomizer.nextDoubles(LENGTH, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var sig = randomizer.nextDoubles(LENGTH, 1.0, MAX_RANDOM_VALUE);
+        final var result = new double[LENGTH];
+
+        dist.invcdf(p, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(dist.invcdf(p[i]), result[i], 0.0);
+        }
+
+        NormalDist.invcdf(p, mean, std, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(NormalDist.invcdf(p[i], mean, std), result[i], 0.0);
+        }
+
+        NormalDist.invcdf(p, mu, sig, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(NormalDist.invcdf(p[i], mu[i], sig[i]), result[i], 0.0);
+        }
+
+        // Force IllegalArgumentException
+        final var wrongP = p.clone();
+        wrongP[LENGTH / 2] = 1.0;
+        assertThrows(IllegalArgumentException.class, () -> dist.invcdf(wrongP, result));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.invcdf(wrongP, mean, std, result));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.invcdf(wrongP, mu, sig, result));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.invcdf(p, mean, -1.0, result));
+
+        // check that result is left unchanged when any probability is not valid
+        final var unchanged = new double[LENGTH];
+        assertThrows(IllegalArgumentException.class, () -> dist.invcdf(wrongP, unchanged));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.invcdf(wrongP, mean, std, unchanged));
+        assertThrows(IllegalArgumentException.class, () -> NormalDist.invcdf(wrongP, mu, sig, unchanged));
+        assertArrayEquals(new double[LENGTH], unchanged, 0.0);
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> dist.invcdf(p, result, LENGTH, 1));
+    }
+
+    @Test
+    void testBatchMahalanobisDistance() {
+        final var randomizer = new UniformRandomizer();
+        final var mean = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var std = randomizer.nextDouble(1.0, MAX_RANDOM_VALUE);
+        final var dist = new NormalDist(mean, std);
+
+        final var x = randomizer.nextDoubles(LENGTH, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var mu = randomizer.nextDoubles(LENGTH, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var sig = randomizer.nextDoubles(LENGTH, 1.0, MAX_RANDOM_VALUE);
+        final var result = new double[LENGTH];
+
+        dist.mahalanobisDistance(x, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(dist.mahalanobisDistance(x[i]), result[i], ABSOLUTE_ERROR);
+        }
+
+        NormalDist.mahalanobisDistance(x, mean, std, result, 0, LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(NormalDist.mahalanobisDistance(x[i], mean, std), result[i], ABSOLUTE_ERROR);
+        }
+
+        NormalDist.mahalanobisDistance(x, mu, sig, result);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(NormalDist.mahalanobisDistance(x[i], mu[i], sig[i]), result[i], 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> NormalDist.mahalanobisDistance(x, mean, 0.0, result));
+        assertThrows(IllegalArgumentException.class,
+                () -> NormalDist.mahalanobisDistance(x, mu, new double[LENGTH], result, 0, LENGTH));
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> NormalDist.mahalanobisDistance(x, new double[1], sig, result));
+    }
+
     @Test
     void testPropagateSinusoidal() {
         final var randomizer = new UniformRandomizer();
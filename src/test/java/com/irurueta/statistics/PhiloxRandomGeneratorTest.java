@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhiloxRandomGeneratorTest {
+
+    private static final long KEY = 0x1234567890abcdefL;
+
+    private static final long STREAM = 7L;
+
+    private static final int LENGTH = 1000;
+
+    private static final int NUM_SAMPLES = 1000000;
+
+    private static final double RELATIVE_ERROR = 0.01;
+
+    @Test
+    void testConstructor() {
+        var generator = new PhiloxRandomGenerator(KEY);
+        assertEquals(KEY, generator.getKey());
+        assertEquals(0L, generator.getStream());
+        assertEquals(0L, generator.getPosition());
+
+        generator = new PhiloxRandomGenerator(KEY, STREAM);
+        assertEquals(KEY, generator.getKey());
+        assertEquals(STREAM, generator.getStream());
+        assertEquals(0L, generator.getPosition());
+    }
+
+    @Test
+    void testComputeBlockKnownAnswers() {
+        // known answer tests of Philox4x32-10 reference implementation
+        final var words = new int[4];
+
+        PhiloxRandomGenerator.computeBlock(0L, 0L, 0L, words);
+        assertArrayEquals(new int[]{0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8}, words);
+
+        PhiloxRandomGenerator.computeBlock(-1L, -1L, -1L, words);
+        assertArrayEquals(new int[]{0x408f276d, 0x41c83b0e, 0xa20bc7c6, 0x6d5451fd}, words);
+
+        PhiloxRandomGenerator.computeBlock(0x299f31d0a4093822L, 0x0370734413198a2eL,
+                0x85a308d3243f6a88L, words);
+        assertArrayEquals(new int[]{0xd16cfe09, 0x94fdcceb, 0x5001e420, 0x24126ea1}, words);
+    }
+
+    @Test
+    void testNextLongIsPureFunctionOfPosition() {
+        final var generator = new PhiloxRandomGenerator(KEY, STREAM);
+
+        final var values = new long[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            values[i] = generator.nextLong();
+            assertEquals(PhiloxRandomGenerator.valueAt(KEY, STREAM, i), values[i]);
+        }
+        assertEquals(LENGTH, generator.getPosition());
+
+        // regenerate a slice
+        generator.setPosition(LENGTH / 2 + 1);
+        assertEquals(LENGTH / 2 + 1, generator.getPosition());
+        for (int i = LENGTH / 2 + 1; i < LENGTH; i++) {
+            assertEquals(values[i], generator.nextLong());
+        }
+
+        // other streams and keys generate other values
+        assertNotEquals(values[0], PhiloxRandomGenerator.valueAt(KEY, STREAM + 1, 0L));
+        assertNotEquals(values[0], PhiloxRandomGenerator.valueAt(KEY + 1, STREAM, 0L));
+    }
+
+    @Test
+    void testSetKeyAndStream() {
+        final var generator = new PhiloxRandomGenerator(KEY, STREAM);
+        generator.nextLong();
+
+        generator.setKey(KEY + 1);
+        generator.setStream(STREAM + 1);
+        generator.setPosition(0L);
+
+        assertEquals(KEY + 1, generator.getKey());
+        assertEquals(STREAM + 1, generator.getStream());
+        assertEquals(PhiloxRandomGenerator.valueAt(KEY + 1, STREAM + 1, 0L), generator.nextLong());
+    }
+
+    @Test
+    void testCopyAndJump() {
+        final var generator = new PhiloxRandomGenerator(KEY, STREAM);
+        generator.nextLong();
+
+        final var copy = generator.copy();
+        assertEquals(generator.getKey(), copy.getKey());
+        assertEquals(generator.getStream(), copy.getStream());
+        assertEquals(generator.getPosition(), copy.getPosition());
+        assertEquals(generator.nextLong(), copy.nextLong());
+
+        final var position = generator.getPosition();
+        final var jumped = (PhiloxRandomGenerator) generator.copyAndJump();
+        assertEquals(position, jumped.getPosition());
+        assertEquals(position + PhiloxRandomGenerator.JUMP_DISTANCE, generator.getPosition());
+        assertEquals(PhiloxRandomGenerator.JUMP_DISTANCE, generator.jumpDistance(), 0.0);
+    }
+
+    @Test
+    void testNextDouble() {
+        final var generator = new PhiloxRandomGenerator(KEY, STREAM);
+
+        double sum = 0.0;
+        double sqrSum = 0.0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = generator.nextDouble();
+            assertTrue(value >= 0.0 && value < 1.0);
+            sum += value;
+            sqrSum += value * value;
+        }
+        final var mean = sum / NUM_SAMPLES;
+        final var variance = sqrSum / NUM_SAMPLES - mean * mean;
+
+        assertEquals(0.5, mean, 0.5 * RELATIVE_ERROR);
+        assertEquals(1.0 / 12.0, variance, RELATIVE_ERROR / 12.0);
+
+        // each value consumes one position
+        assertEquals(NUM_SAMPLES, generator.getPosition());
+    }
+}
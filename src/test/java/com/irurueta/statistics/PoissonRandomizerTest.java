@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoissonRandomizerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+    private static final double RELATIVE_ERROR = 0.01;
+
+    private static final double MEAN = 37.5;
+
+    private static final int LENGTH = 100;
+
+    @Test
+    void testConstructor() {
+        var randomizer = new PoissonRandomizer();
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(PoissonRandomizer.DEFAULT_MEAN, randomizer.getMean(), 0.0);
+
+        randomizer = new PoissonRandomizer(MEAN);
+        assertNotNull(randomizer.getInternalRandom());
+        assertEquals(MEAN, randomizer.getMean(), 0.0);
+
+        final var random = new SecureRandom();
+        randomizer = new PoissonRandomizer(random);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(PoissonRandomizer.DEFAULT_MEAN, randomizer.getMean(), 0.0);
+
+        randomizer = new PoissonRandomizer(random, MEAN);
+        assertSame(random, randomizer.getInternalRandom());
+        assertEquals(MEAN, randomizer.getMean(), 0.0);
+
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create();
+        randomizer = new PoissonRandomizer(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(PoissonRandomizer.DEFAULT_MEAN, randomizer.getMean(), 0.0);
+
+        randomizer = new PoissonRandomizer(generator, MEAN);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(MEAN, randomizer.getMean(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new PoissonRandomizer(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new PoissonRandomizer(generator,
+                2.0 * PoissonRandomizer.MAX_MEAN));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new PoissonRandomizer((Random) null));
+        assertThrows(NullPointerException.class, () -> new PoissonRandomizer((RandomGenerator) null, MEAN));
+    }
+
+    @Test
+    void testGetSetMean() {
+        final var randomizer = new PoissonRandomizer();
+
+        // check default value
+        assertEquals(PoissonRandomizer.DEFAULT_MEAN, randomizer.getMean(), 0.0);
+
+        // set new value
+        randomizer.setMean(MEAN);
+
+        // check
+        assertEquals(MEAN, randomizer.getMean(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.setMean(-MEAN));
+    }
+
+    @Test
+    void testNextBoolean() {
+        final var randomizer = new PoissonRandomizer(new Random(0L), MEAN);
+
+        int trueCounter = 0;
+        int thresholdCounter = 0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            if (randomizer.nextBoolean()) {
+                trueCounter++;
+            }
+            if (randomizer.nextBoolean(0.5)) {
+                thresholdCounter++;
+            }
+        }
+
+        // probability of values below the mean and probability of zero
+        var expected = 0.0;
+        for (int k = 0; k < MEAN; k++) {
+            expected += Math.exp(-MEAN + k * Math.log(MEAN) - Gamma.factln(k));
+        }
+        assertEquals(expected, (double) trueCounter / NUM_SAMPLES, 2e-3);
+        assertEquals(0, thresholdCounter);
+    }
+
+    @Test
+    void testNextInt() {
+        for (final var mean : new double[]{0.5, MEAN, 1e6}) {
+            final var randomizer = new PoissonRandomizer(new Random(0L), mean);
+
+            double sum = 0.0;
+            double sqrSum = 0.0;
+            for (int i = 0; i < NUM_SAMPLES; i++) {
+                final var value = randomizer.nextInt();
+                assertTrue(value >= 0);
+                sum += value;
+                sqrSum += (double) value * value;
+            }
+            final var sampleMean = sum / NUM_SAMPLES;
+            final var variance = sqrSum / NUM_SAMPLES - sampleMean * sampleMean;
+
+            assertEquals(mean, sampleMean, RELATIVE_ERROR * Math.sqrt(mean));
+            assertEquals(mean, variance, RELATIVE_ERROR * mean);
+        }
+    }
+
+    @Test
+    void testNextLongFloatAndDouble() {
+        final var randomizer = new PoissonRandomizer(new Random(0L), MEAN);
+        final var reference = new PoissonRandomizer(new Random(0L), MEAN);
+
+        assertEquals(reference.nextInt(), randomizer.nextLong());
+        assertEquals(reference.nextInt(), randomizer.nextFloat(), 0.0f);
+        assertEquals(reference.nextInt(), randomizer.nextDouble(), 0.0);
+    }
+
+    @Test
+    void testFill() {
+        final var randomizer = new PoissonRandomizer(new Random(0L), MEAN);
+        final var reference = new PoissonRandomizer(new Random(0L), MEAN);
+
+        final var ints = new int[LENGTH];
+        randomizer.fill(ints);
+        for (final var value : ints) {
+            assertEquals(reference.nextInt(), value);
+        }
+
+        final var longs = new long[LENGTH];
+        randomizer.fill(longs);
+        for (final var value : longs) {
+            assertEquals(reference.nextInt(), value);
+        }
+
+        final var doubles = new double[LENGTH];
+        randomizer.fill(doubles);
+        for (final var value : doubles) {
+            assertEquals(reference.nextInt(), value, 0.0);
+        }
+    }
+
+    @Test
+    void testParallelFillWithInts() {
+        final var randomizer = new PoissonRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(), MEAN);
+
+        final var array = new int[NUM_SAMPLES];
+        randomizer.parallelFill(array);
+
+        double sum = 0.0;
+        for (final var value : array) {
+            sum += value;
+        }
+        assertEquals(MEAN, sum / NUM_SAMPLES, RELATIVE_ERROR * Math.sqrt(MEAN));
+    }
+
+    @Test
+    void testGetType() {
+        final var randomizer = new PoissonRandomizer();
+        assertEquals(RandomizerType.POISSON_RANDOMIZER, randomizer.getType());
+    }
+}
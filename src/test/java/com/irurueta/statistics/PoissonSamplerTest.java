@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoissonSamplerTest {
+
+    private static final int NUM_SAMPLES = 1000000;
+
+    private static final double ABSOLUTE_ERROR = 2e-3;
+
+    private static final double[] MEANS = {0.5, 3.0, 9.9, 10.0, 37.5, 1000.0, 1e6};
+
+    @Test
+    void testConstructor() {
+        final var sampler = new PoissonSampler(3.0);
+
+        assertEquals(3.0, sampler.getMean(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new PoissonSampler(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new PoissonSampler(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> new PoissonSampler(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new PoissonSampler(2.0 * PoissonSampler.MAX_MEAN));
+    }
+
+    @Test
+    void testNext() {
+        final var generator = new SplittableRandom(0L);
+
+        for (final var mean : MEANS) {
+            final var sampler = new PoissonSampler(mean);
+
+            // histogram around the mean
+            final var deviation = Math.sqrt(mean);
+            final var from = (int) Math.max(0.0, mean - 3.0 * deviation);
+            final var counters = new int[(int) (6.0 * deviation) + 2];
+            double sum = 0.0;
+            double sqrSum = 0.0;
+            for (int i = 0; i < NUM_SAMPLES; i++) {
+                final var value = sampler.next(generator);
+                assertTrue(value >= 0);
+                sum += value;
+                sqrSum += (double) value * value;
+                if (value >= from && value - from < counters.length) {
+                    counters[value - from]++;
+                }
+            }
+            final var sampleMean = sum / NUM_SAMPLES;
+            final var variance = sqrSum / NUM_SAMPLES - sampleMean * sampleMean;
+
+            assertEquals(mean, sampleMean, 0.01 * deviation);
+            assertEquals(mean, variance, 0.01 * mean);
+            for (int k = 0; k < counters.length; k++) {
+                final var value = from + k;
+                final var expected = Math.exp(-mean + value * Math.log(mean) - Gamma.factln(value));
+                assertEquals(expected, (double) counters[k] / NUM_SAMPLES, ABSOLUTE_ERROR);
+            }
+        }
+    }
+}
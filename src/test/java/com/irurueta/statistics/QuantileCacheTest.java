@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileCacheTest {
+
+    @Test
+    void testConstructor() {
+        final var cache = new QuantileCache(10);
+
+        assertEquals(10, cache.getCapacity());
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new QuantileCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileCache(-1));
+    }
+
+    @Test
+    void testGet() throws MaxIterationsExceededException {
+        final var cache = new QuantileCache(10);
+        final var evaluations = new AtomicInteger();
+        final QuantileCache.Evaluator evaluator = (first, second) -> {
+            evaluations.incrementAndGet();
+            return first + second;
+        };
+
+        assertEquals(3.0, cache.get(1.0, 2.0, evaluator), 0.0);
+        assertEquals(1, evaluations.get());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getSize());
+
+        assertEquals(3.0, cache.get(1.0, 2.0, evaluator), 0.0);
+        assertEquals(1, evaluations.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // arguments are compared exactly and in order
+        assertEquals(3.0, cache.get(2.0, 1.0, evaluator), 0.0);
+        assertEquals(2, evaluations.get());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getSize());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(3.0, cache.get(1.0, 2.0, evaluator), 0.0);
+        assertEquals(3, evaluations.get());
+
+        // values of other evaluators are never returned
+        final QuantileCache.Evaluator other = (first, second) -> first * second;
+        assertEquals(2.0, cache.get(1.0, 2.0, other), 0.0);
+        assertEquals(3.0, cache.get(1.0, 2.0, evaluator), 0.0);
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    void testExceptionsAreNotCached() {
+        final var cache = new QuantileCache(10);
+        final QuantileCache.Evaluator evaluator = (first, second) -> {
+            throw new MaxIterationsExceededException();
+        };
+
+        assertThrows(MaxIterationsExceededException.class, () -> cache.get(1.0, 2.0, evaluator));
+        assertEquals(0, cache.getSize());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void testClockEviction() throws MaxIterationsExceededException {
+        final var cache = new QuantileCache(3);
+        final var evaluations = new AtomicInteger();
+        final QuantileCache.Evaluator evaluator = (first, second) -> {
+            evaluations.incrementAndGet();
+            return first * second;
+        };
+
+        cache.get(1.0, 1.0, evaluator);
+        cache.get(2.0, 1.0, evaluator);
+        cache.get(3.0, 1.0, evaluator);
+        assertEquals(3, cache.getSize());
+
+        // access first value so that it gets a second chance
+        cache.get(1.0, 1.0, evaluator);
+        assertEquals(3, evaluations.get());
+
+        // inserting a new value evicts the second one
+        cache.get(4.0, 1.0, evaluator);
+        assertEquals(3, cache.getSize());
+        assertEquals(4, evaluations.get());
+
+        cache.get(1.0, 1.0, evaluator);
+        cache.get(3.0, 1.0, evaluator);
+        cache.get(4.0, 1.0, evaluator);
+        assertEquals(4, evaluations.get());
+
+        cache.get(2.0, 1.0, evaluator);
+        assertEquals(5, evaluations.get());
+        assertEquals(3, cache.getSize());
+    }
+
+    @Test
+    void testConcurrentAccess() {
+        final var cache = new QuantileCache(16);
+        final QuantileCache.Evaluator evaluator = (first, second) -> first * second;
+
+        final var mismatches = IntStream.range(0, 100000).parallel().filter(i -> {
+            final var first = i % 32;
+            try {
+                return cache.get(first, 2.0, evaluator) != first * 2.0;
+            } catch (final MaxIterationsExceededException e) {
+                return true;
+            }
+        }).count();
+
+        assertEquals(0, mismatches);
+        assertTrue(cache.getSize() <= cache.getCapacity());
+        assertEquals(100000, cache.getHits() + cache.getMisses());
+    }
+
+    @Test
+    void testChiSqDistCache() throws MaxIterationsExceededException {
+        assertNull(ChiSqDist.getInvcdfCache());
+
+        final var expected = ChiSqDist.invcdf(0.95, 3.0);
+        final var cache = new QuantileCache(10);
+        ChiSqDist.setInvcdfCache(cache);
+        try {
+            assertSame(cache, ChiSqDist.getInvcdfCache());
+
+            assertEquals(expected, ChiSqDist.invcdf(0.95, 3.0), 0.0);
+            assertEquals(expected, new ChiSqDist(3.0).invcdf(0.95), 0.0);
+            assertEquals(1, cache.getMisses());
+            assertEquals(1, cache.getHits());
+
+            // invalid arguments are still rejected
+            assertThrows(IllegalArgumentException.class, () -> ChiSqDist.invcdf(1.0, 3.0));
+            assertEquals(1, cache.getMisses());
+
+            // configurations are compared by value
+            assertEquals(expected, ChiSqDist.invcdf(0.95, 3.0, new GammaConfiguration()), 0.0);
+            assertEquals(2, cache.getHits());
+        } finally {
+            ChiSqDist.setInvcdfCache(null);
+        }
+    }
+
+    @Test
+    void testGammaCache() throws MaxIterationsExceededException {
+        assertNull(Gamma.getInvgammpCache());
+
+        final var expected = Gamma.inverseRegularizedGammaP(0.3, 2.5);
+        final var cache = new QuantileCache(10);
+        Gamma.setInvgammpCache(cache);
+        try {
+            assertSame(cache, Gamma.getInvgammpCache());
+
+            assertEquals(expected, Gamma.inverseRegularizedGammaP(0.3, 2.5), 0.0);
+            final var gamma = new Gamma();
+            assertEquals(expected, gamma.invgammp(0.3, 2.5), 0.0);
+            assertEquals(Gamma.gammln(2.5), gamma.getGln(), 0.0);
+            gamma.invgammp(0.3, 2.5);
+            gamma.gammp(3.0, 1.0);
+            assertEquals(Gamma.gammln(3.0), gamma.getGln(), 0.0);
+            assertEquals(1, cache.getMisses());
+            assertEquals(2, cache.getHits());
+        } finally {
+            Gamma.setInvgammpCache(null);
+        }
+    }
+
+    @Test
+    void testSharedCache() throws MaxIterationsExceededException {
+        final var expectedGamma = Gamma.inverseRegularizedGammaP(0.5, 4.0);
+        final var expectedChiSq = ChiSqDist.invcdf(0.5, 4.0);
+        assertNotEquals(expectedGamma, expectedChiSq, 0.1);
+
+        final var cache = new QuantileCache(10);
+        Gamma.setInvgammpCache(cache);
+        ChiSqDist.setInvcdfCache(cache);
+        try {
+            // same arguments of different functions are cached separately
+            assertEquals(expectedGamma, Gamma.inverseRegularizedGammaP(0.5, 4.0), 0.0);
+            assertEquals(expectedChiSq, ChiSqDist.invcdf(0.5, 4.0), 0.0);
+            assertEquals(expectedGamma, Gamma.inverseRegularizedGammaP(0.5, 4.0), 0.0);
+            assertEquals(expectedChiSq, ChiSqDist.invcdf(0.5, 4.0), 0.0);
+            assertEquals(2, cache.getHits());
+        } finally {
+            Gamma.setInvgammpCache(null);
+            ChiSqDist.setInvcdfCache(null);
+        }
+    }
+}
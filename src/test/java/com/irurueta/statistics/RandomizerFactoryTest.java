@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomizerFactoryTest {
+
+    private static final long SEED = 1234L;
+
+    private static final int LENGTH = 100;
+
+    @Test
+    void testConstructor() {
+        var factory = new RandomizerFactory(SEED);
+        assertEquals(SEED, factory.getMasterSeed());
+        assertEquals(Randomizer.DEFAULT_RANDOMIZER_TYPE, factory.getType());
+        assertEquals(RandomizerFactory.DEFAULT_ALGORITHM, factory.getAlgorithm());
+
+        factory = new RandomizerFactory(SEED, RandomizerType.GAUSSIAN_RANDOMIZER);
+        assertEquals(SEED, factory.getMasterSeed());
+        assertEquals(RandomizerType.GAUSSIAN_RANDOMIZER, factory.getType());
+        assertEquals(RandomizerFactory.DEFAULT_ALGORITHM, factory.getAlgorithm());
+
+        factory = new RandomizerFactory(SEED, RandomizerType.UNIFORM_RANDOMIZER, "Xoshiro256PlusPlus");
+        assertEquals(SEED, factory.getMasterSeed());
+        assertEquals(RandomizerType.UNIFORM_RANDOMIZER, factory.getType());
+        assertEquals("Xoshiro256PlusPlus", factory.getAlgorithm());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new RandomizerFactory(SEED, null));
+        assertThrows(NullPointerException.class, () -> new RandomizerFactory(SEED,
+                RandomizerType.UNIFORM_RANDOMIZER, null));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new RandomizerFactory(SEED,
+                RandomizerType.UNIFORM_RANDOMIZER, "unknown"));
+    }
+
+    @Test
+    void testCreate() {
+        final var factory1 = new RandomizerFactory(SEED, RandomizerType.GAUSSIAN_RANDOMIZER);
+        final var factory2 = new RandomizerFactory(SEED, RandomizerType.GAUSSIAN_RANDOMIZER);
+
+        final var randomizer1 = factory1.create(5L);
+        final var randomizer2 = factory2.create(5L);
+        final var randomizer3 = factory1.create(6L);
+
+        assertEquals(RandomizerType.GAUSSIAN_RANDOMIZER, randomizer1.getType());
+        assertEquals(RandomizerFactory.DEFAULT_ALGORITHM,
+                randomizer1.getInternalGenerator().getClass().getSimpleName());
+
+        // same master seed and stream index generate the same values
+        final var values1 = randomizer1.nextDoubles(LENGTH);
+        final var values2 = randomizer2.nextDoubles(LENGTH);
+        final var values3 = randomizer3.nextDoubles(LENGTH);
+        assertArrayEquals(values1, values2, 0.0);
+        assertFalse(Arrays.equals(values1, values3));
+
+        // a different master seed generates different values
+        final var values4 = new RandomizerFactory(SEED + 1, RandomizerType.GAUSSIAN_RANDOMIZER).create(5L)
+                .nextDoubles(LENGTH);
+        assertFalse(Arrays.equals(values1, values4));
+    }
+
+    @Test
+    void testCurrent() throws ExecutionException, InterruptedException {
+        final var factory = new RandomizerFactory(SEED);
+
+        final var randomizer = factory.current();
+        assertSame(randomizer, factory.current());
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var other = executor.submit(factory::current).get();
+            assertNotSame(randomizer, other);
+            assertSame(other, executor.submit(factory::current).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testDeriveSeed() {
+        assertEquals(RandomizerFactory.deriveSeed(SEED, 0L), RandomizerFactory.deriveSeed(SEED, 0L));
+        assertNotEquals(RandomizerFactory.deriveSeed(SEED, 0L), RandomizerFactory.deriveSeed(SEED, 1L));
+        assertNotEquals(RandomizerFactory.deriveSeed(SEED, 0L), RandomizerFactory.deriveSeed(SEED + 1, 0L));
+    }
+}
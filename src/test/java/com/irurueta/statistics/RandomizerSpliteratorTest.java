@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomizerSpliteratorTest {
+
+    private static final int CHUNK_SIZE = RandomizerSpliterator.CHUNK_SIZE;
+
+    private static final long SIZE = 5L * CHUNK_SIZE + 3;
+
+    @Test
+    void testCharacteristicsAndSize() {
+        final var spliterator = new RandomizerSpliterator.Doubles(chunkFactory(new AtomicInteger()),
+                Randomizer::nextDouble, 0L, SIZE);
+
+        assertEquals(SIZE, spliterator.estimateSize());
+        assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+    }
+
+    @Test
+    void testSplitsAtChunkBoundaries() {
+        final var spliterator = new RandomizerSpliterator.Longs(chunkFactory(new AtomicInteger()),
+                Randomizer::nextLong, 0L, SIZE);
+
+        final var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(3L * CHUNK_SIZE, prefix.estimateSize());
+        assertEquals(SIZE - 3L * CHUNK_SIZE, spliterator.estimateSize());
+
+        // a single chunk cannot be split
+        final var last = new RandomizerSpliterator.Ints(chunkFactory(new AtomicInteger()),
+                Randomizer::nextInt, 1L, CHUNK_SIZE);
+        assertNull(last.trySplit());
+    }
+
+    @Test
+    void testValuesDoNotDependOnSplits() {
+        final var created = new AtomicInteger();
+        final var sequential = new long[(int) SIZE];
+        final var whole = new RandomizerSpliterator.Longs(chunkFactory(created), Randomizer::nextLong, 0L, SIZE);
+        final var position = new AtomicInteger();
+        whole.forEachRemaining((long value) -> sequential[position.getAndIncrement()] = value);
+        assertEquals(SIZE, position.get());
+        assertEquals(6, created.get());
+
+        // consume part of first chunk, then split repeatedly
+        final var split = new RandomizerSpliterator.Longs(chunkFactory(new AtomicInteger()),
+                Randomizer::nextLong, 0L, SIZE);
+        final var values = new long[(int) SIZE];
+        position.set(0);
+        assertTrue(split.tryAdvance((long value) -> values[position.getAndIncrement()] = value));
+
+        final var prefix = split.trySplit();
+        assertNotNull(prefix);
+        final var prefixOfPrefix = prefix.trySplit();
+        assertNotNull(prefixOfPrefix);
+        prefixOfPrefix.forEachRemaining((long value) -> values[position.getAndIncrement()] = value);
+        prefix.forEachRemaining((long value) -> values[position.getAndIncrement()] = value);
+        while (split.tryAdvance((long value) -> values[position.getAndIncrement()] = value)) {
+            assertTrue(position.get() <= SIZE);
+        }
+        assertEquals(SIZE, position.get());
+        assertFalse(split.tryAdvance((long value) -> fail()));
+
+        assertArrayEquals(sequential, values);
+    }
+
+    private static LongFunction<Randomizer> chunkFactory(final AtomicInteger created) {
+        final var factory = RandomGeneratorFactory.of(RandomizerFactory.DEFAULT_ALGORITHM);
+        return chunk -> {
+            created.incrementAndGet();
+            return new UniformRandomizer(factory.create(RandomizerFactory.deriveSeed(0L, chunk)));
+        };
+    }
+}
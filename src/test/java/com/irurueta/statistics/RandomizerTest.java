@@ -18,7 +18,17 @@ package com.irurueta.statistics;
 import org.junit.jupiter.api.Test;
 
 import java.security.SecureRandom;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +40,8 @@ class RandomizerTest {
 
     private static final int LENGTH = 100;
 
+    private static final long SEED = 1234L;
+
     @Test
     void testCreate() {
 
@@ -113,6 +125,207 @@ class RandomizerTest {
                 null));
     }
 
+    @Test
+    void testCreateWithGenerator() {
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create();
+
+        // test create with generator
+        var randomizer = Randomizer.create(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertNull(randomizer.getInternalRandom());
+        assertEquals(Randomizer.DEFAULT_RANDOMIZER_TYPE, randomizer.getType());
+
+        // test create with RandomizerType and generator
+        randomizer = Randomizer.create(RandomizerType.GAUSSIAN_RANDOMIZER, generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(RandomizerType.GAUSSIAN_RANDOMIZER, randomizer.getType());
+
+        randomizer = Randomizer.create(RandomizerType.UNIFORM_RANDOMIZER, generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(RandomizerType.UNIFORM_RANDOMIZER, randomizer.getType());
+
+        randomizer = Randomizer.create(RandomizerType.EXPONENTIAL_RANDOMIZER, generator);
+        assertInstanceOf(ExponentialRandomizer.class, randomizer);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(RandomizerType.EXPONENTIAL_RANDOMIZER, randomizer.getType());
+
+        randomizer = Randomizer.create(RandomizerType.GAMMA_RANDOMIZER, generator);
+        assertInstanceOf(GammaRandomizer.class, randomizer);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(RandomizerType.GAMMA_RANDOMIZER, randomizer.getType());
+
+        randomizer = Randomizer.create(RandomizerType.CHI_SQ_RANDOMIZER, generator);
+        assertInstanceOf(ChiSqRandomizer.class, randomizer);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(RandomizerType.CHI_SQ_RANDOMIZER, randomizer.getType());
+
+        randomizer = Randomizer.create(RandomizerType.POISSON_RANDOMIZER, generator);
+        assertInstanceOf(PoissonRandomizer.class, randomizer);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(RandomizerType.POISSON_RANDOMIZER, randomizer.getType());
+
+        randomizer = Randomizer.create(RandomizerType.BINOMIAL_RANDOMIZER, generator);
+        assertInstanceOf(BinomialRandomizer.class, randomizer);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertEquals(RandomizerType.BINOMIAL_RANDOMIZER, randomizer.getType());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> Randomizer.create((RandomGenerator) null));
+        assertThrows(NullPointerException.class, () -> Randomizer.create(RandomizerType.UNIFORM_RANDOMIZER,
+                (RandomGenerator) null));
+    }
+
+    @Test
+    void testCreateWithAlgorithm() {
+        var randomizer = Randomizer.createWithAlgorithm("Xoshiro256PlusPlus");
+        assertEquals("Xoshiro256PlusPlus", randomizer.getInternalGenerator().getClass().getSimpleName());
+        assertEquals(Randomizer.DEFAULT_RANDOMIZER_TYPE, randomizer.getType());
+
+        randomizer = Randomizer.createWithAlgorithm(RandomizerType.GAUSSIAN_RANDOMIZER, "L64X128MixRandom");
+        assertEquals("L64X128MixRandom", randomizer.getInternalGenerator().getClass().getSimpleName());
+        assertEquals(RandomizerType.GAUSSIAN_RANDOMIZER, randomizer.getType());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Randomizer.createWithAlgorithm("unknown"));
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> Randomizer.createWithAlgorithm(null));
+    }
+
+    @Test
+    void testFillDoubleBuffer() {
+        for (final var type : RandomizerType.values()) {
+            final var randomizer = Randomizer.create(type, RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+            final var reference = Randomizer.create(type, RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+            final var buffer = ByteBuffer.allocateDirect(LENGTH * Double.BYTES).asDoubleBuffer();
+            buffer.position(1);
+            randomizer.fill(buffer);
+            assertEquals(LENGTH, buffer.position());
+            assertEquals(0.0, buffer.get(0), 0.0);
+            for (int i = 1; i < LENGTH; i++) {
+                assertEquals(reference.nextDouble(), buffer.get(i), 0.0);
+            }
+
+            buffer.position(0);
+            randomizer.fill(buffer, 2, 3);
+            assertEquals(0, buffer.position());
+            for (int i = 2; i < 5; i++) {
+                assertEquals(reference.nextDouble(), buffer.get(i), 0.0);
+            }
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fill(buffer, -1, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fill(buffer, LENGTH - 1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fill(buffer, 0, -1));
+
+            // Force ReadOnlyBufferException
+            assertThrows(ReadOnlyBufferException.class, () -> randomizer.fill(DoubleBuffer.allocate(1)
+                    .asReadOnlyBuffer()));
+        }
+    }
+
+    @Test
+    void testFillDoublesByteBuffer() {
+        final var randomizer = Randomizer.create(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+        final var reference = Randomizer.create(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+        // trailing bytes that do not fit a double are left untouched
+        final var buffer = ByteBuffer.allocateDirect(LENGTH * Double.BYTES + 3).order(ByteOrder.LITTLE_ENDIAN);
+        randomizer.fillDoubles(buffer);
+        assertEquals(LENGTH * Double.BYTES, buffer.position());
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(reference.nextDouble(), buffer.getDouble(i * Double.BYTES), 0.0);
+        }
+
+        buffer.position(0);
+        randomizer.fillDoubles(buffer, 3, 2);
+        assertEquals(0, buffer.position());
+        assertEquals(reference.nextDouble(), buffer.getDouble(3), 0.0);
+        assertEquals(reference.nextDouble(), buffer.getDouble(3 + Double.BYTES), 0.0);
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fillDoubles(buffer, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fillDoubles(buffer, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> randomizer.fillDoubles(buffer, 0, LENGTH + 1));
+    }
+
+    @Test
+    void testStreams() {
+        for (final var type : RandomizerType.values()) {
+            final var randomizer = Randomizer.create(type, RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+            final var size = 10L * RandomizerSpliterator.CHUNK_SIZE + 1;
+
+            randomizer.setSeed(SEED);
+            final var sequentialDoubles = randomizer.doubles(size).toArray();
+            randomizer.setSeed(SEED);
+            final var parallelDoubles = randomizer.doubles(size).parallel().toArray();
+            assertEquals(size, sequentialDoubles.length);
+            assertArrayEquals(sequentialDoubles, parallelDoubles, 0.0);
+
+            randomizer.setSeed(SEED);
+            final var sequentialInts = randomizer.ints(size).toArray();
+            randomizer.setSeed(SEED);
+            assertArrayEquals(sequentialInts, randomizer.ints(size).parallel().toArray());
+
+            randomizer.setSeed(SEED);
+            final var sequentialLongs = randomizer.longs(size).toArray();
+            randomizer.setSeed(SEED);
+            assertArrayEquals(sequentialLongs, randomizer.longs(size).parallel().toArray());
+
+            // each stream uses different values
+            assertFalse(Arrays.equals(randomizer.longs(size).toArray(), randomizer.longs(size).toArray()));
+
+            assertEquals(0L, randomizer.doubles(0L).count());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> randomizer.doubles(-1L));
+            assertThrows(IllegalArgumentException.class, () -> randomizer.ints(-1L));
+            assertThrows(IllegalArgumentException.class, () -> randomizer.longs(-1L));
+        }
+    }
+
+    @Test
+    void testSetSeedWithBulkGenerator() {
+        final var randomizer = Randomizer.create(new BulkRandomGenerator());
+        final var generator = randomizer.getInternalGenerator();
+
+        randomizer.setSeed(SEED);
+        final var values = randomizer.nextDoubles(LENGTH);
+        randomizer.setSeed(SEED);
+
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertArrayEquals(values, randomizer.nextDoubles(LENGTH), 0.0);
+    }
+
+    @Test
+    void testCreateCounterBased() {
+        final var uniform = Randomizer.createCounterBased(RandomizerType.UNIFORM_RANDOMIZER, SEED, 3L);
+        assertInstanceOf(UniformRandomizer.class, uniform);
+        final var uniformGenerator = (PhiloxRandomGenerator) uniform.getInternalGenerator();
+        assertEquals(SEED, uniformGenerator.getKey());
+        assertEquals(3L, uniformGenerator.getStream());
+
+        final var gaussian = Randomizer.createCounterBased(RandomizerType.GAUSSIAN_RANDOMIZER, SEED, 3L);
+        assertInstanceOf(GaussianRandomizer.class, gaussian);
+        assertEquals(GaussianSamplingMethod.INVERSION, ((GaussianRandomizer) gaussian).getMethod());
+
+        // any slice can be regenerated by setting the position
+        for (final var randomizer : new Randomizer[]{uniform, gaussian}) {
+            final var values = randomizer.nextDoubles(LENGTH);
+
+            final var generator = (PhiloxRandomGenerator) randomizer.getInternalGenerator();
+            assertEquals(LENGTH, generator.getPosition());
+            generator.setPosition(LENGTH / 2);
+            for (int i = LENGTH / 2; i < LENGTH; i++) {
+                assertEquals(values[i], randomizer.nextDouble(), 0.0);
+            }
+
+            // setting the seed restarts the sequence
+            randomizer.setSeed(SEED);
+            assertEquals(values[0], randomizer.nextDouble(), 0.0);
+        }
+    }
+
     @Test
     void testGetSetInternalRandomizer() {
         Random random = new Random();
@@ -131,6 +344,57 @@ class RandomizerTest {
         assertThrows(NullPointerException.class, () -> randomizer.setInternalRandom(null));
     }
 
+    @Test
+    void testGetSetInternalGenerator() {
+        final var random = new Random();
+        final var randomizer = Randomizer.create(random);
+
+        assertSame(random, randomizer.getInternalGenerator());
+
+        // set new generator
+        final var generator = RandomGeneratorFactory.of("Xoshiro256PlusPlus").create();
+        randomizer.setInternalGenerator(generator);
+
+        // check correctness
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertNull(randomizer.getInternalRandom());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> randomizer.setInternalGenerator(null));
+    }
+
+    @Test
+    void testSetSeedWithGenerator() {
+        final var randomizer = Randomizer.createWithAlgorithm("L64X128MixRandom");
+        final var generator = randomizer.getInternalGenerator();
+
+        randomizer.setSeed(1234L);
+        final var values1 = randomizer.nextDoubles(LENGTH);
+
+        // generator is replaced by a new one of the same algorithm
+        assertNotSame(generator, randomizer.getInternalGenerator());
+        assertSame(generator.getClass(), randomizer.getInternalGenerator().getClass());
+
+        randomizer.setSeed(1234L);
+        final var values2 = randomizer.nextDoubles(LENGTH);
+
+        // same seed generates same sequence
+        assertArrayEquals(values1, values2, 0.0);
+        assertEquals("L64X128MixRandom", randomizer.getInternalGenerator().getClass().getSimpleName());
+
+        // Force UnsupportedOperationException
+        final var custom = Randomizer.create((RandomGenerator) () -> 0L);
+        final var customGenerator = custom.getInternalGenerator();
+        assertThrows(UnsupportedOperationException.class, () -> custom.setSeed(1234L));
+        assertSame(customGenerator, custom.getInternalGenerator());
+
+        // user-defined generators are not replaced even if their name matches
+        // an available algorithm
+        final var namesake = Randomizer.create(new L64X128MixRandom());
+        assertThrows(UnsupportedOperationException.class, () -> namesake.setSeed(1234L));
+        assertInstanceOf(L64X128MixRandom.class, namesake.getInternalGenerator());
+    }
+
     @Test
     void testSetSeed() {
         final var randomizer = Randomizer.create();
@@ -503,4 +767,169 @@ class RandomizerTest {
         // Force IllegalArgumentException
         assertThrows(IllegalArgumentException.class, () -> randomizer.nextDoubles(-1));
     }
+
+    @Test
+    void testParallelFillIsDeterministic() {
+        final var length = 5 * Randomizer.PARALLEL_CHUNK_SIZE / 2;
+        final var singleThreadPool = new ForkJoinPool(1);
+        try {
+            for (final var algorithm : new String[]{"L64X128MixRandom", "Xoshiro256PlusPlus", "Random"}) {
+                final var randomizer1 = Randomizer.createWithAlgorithm(algorithm);
+                final var randomizer2 = Randomizer.createWithAlgorithm(algorithm);
+
+                randomizer1.setSeed(1234L);
+                randomizer2.setSeed(1234L);
+
+                final var doubles1 = new double[length];
+                final var doubles2 = new double[length];
+                randomizer1.parallelFill(doubles1);
+                randomizer2.parallelFill(doubles2, singleThreadPool);
+                assertArrayEquals(doubles1, doubles2, 0.0);
+
+                final var ints1 = new int[length];
+                final var ints2 = new int[length];
+                randomizer1.parallelFill(ints1);
+                randomizer2.parallelFill(ints2, singleThreadPool);
+                assertArrayEquals(ints1, ints2);
+
+                final var longs1 = new long[length];
+                final var longs2 = new long[length];
+                randomizer1.parallelFill(longs1);
+                randomizer2.parallelFill(longs2, singleThreadPool);
+                assertArrayEquals(longs1, longs2);
+
+                final var floats1 = new float[length];
+                final var floats2 = new float[length];
+                randomizer1.parallelFill(floats1);
+                randomizer2.parallelFill(floats2, singleThreadPool);
+                assertArrayEquals(floats1, floats2, 0.0f);
+            }
+        } finally {
+            singleThreadPool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelFillWithDoubles() {
+        final var randomizer = Randomizer.createWithAlgorithm("L64X128MixRandom");
+
+        final var meanValue = 0.5;
+        final var variance = 1.0 / 12.0;
+
+        final var array = new double[NUM_SAMPLES];
+        randomizer.parallelFill(array);
+
+        double sum = 0.0;
+        double sqrSum = 0.0;
+        for (final var value : array) {
+            assertTrue(value >= 0.0);
+            assertTrue(value < 1.0);
+
+            sum += value;
+            sqrSum += value * value;
+        }
+
+        final var estimatedMeanValue = sum / NUM_SAMPLES;
+        final var estimatedVariance = (sqrSum - NUM_SAMPLES * estimatedMeanValue * estimatedMeanValue)
+                / (NUM_SAMPLES - 1.0);
+
+        assertEquals(meanValue, estimatedMeanValue, meanValue * RELATIVE_ERROR);
+        assertEquals(variance, estimatedVariance, variance * RELATIVE_ERROR);
+
+        // empty arrays are supported
+        randomizer.parallelFill(new double[0]);
+    }
+
+    @Test
+    void testSubclassWithoutNewInstance() {
+        // subclasses not overriding newInstance fill arrays and streams
+        // sequentially
+        final var randomizer1 = new FixedRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+        final var randomizer2 = new FixedRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+        final var length = 3 * Randomizer.PARALLEL_CHUNK_SIZE + 1;
+        final var array1 = new double[length];
+        final var array2 = new double[length];
+        randomizer1.parallelFill(array1);
+        randomizer2.fill(array2);
+        assertArrayEquals(array2, array1, 0.0);
+
+        final var ints1 = new int[length];
+        final var ints2 = new int[length];
+        randomizer1.parallelFill(ints1);
+        randomizer2.fill(ints2);
+        assertArrayEquals(ints2, ints1);
+
+        final var values1 = randomizer1.doubles(length).parallel().toArray();
+        final var values2 = randomizer2.doubles(length).toArray();
+        assertArrayEquals(values2, values1, 0.0);
+
+        assertNull(randomizer1.splitChunks(length));
+        assertNotNull(Randomizer.create().splitChunks(length));
+    }
+
+    @Test
+    void testChunksOfLargestArrays() {
+        final var length = Integer.MAX_VALUE;
+        final var chunks = Randomizer.chunkCount(length);
+        assertEquals(Integer.MAX_VALUE / Randomizer.PARALLEL_CHUNK_SIZE + 1, chunks);
+        assertEquals(chunks, new UniformRandomizer().splitChunks(length).length);
+
+        // all positions are covered once without overflowing
+        final var total = new AtomicLong();
+        final var last = new AtomicInteger();
+        Randomizer.forEachChunk(ForkJoinPool.commonPool(), length, (chunk, from, to) -> {
+            assertEquals((long) chunk * Randomizer.PARALLEL_CHUNK_SIZE, from);
+            assertTrue(from < to);
+            total.addAndGet(to - from);
+            last.accumulateAndGet(to, Math::max);
+        });
+        assertEquals(length, total.get());
+        assertEquals(length, last.get());
+    }
+
+    private static class FixedRandomizer extends Randomizer {
+
+        FixedRandomizer(final RandomGenerator internalGenerator) {
+            super(internalGenerator);
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return getInternalGenerator().nextBoolean();
+        }
+
+        @Override
+        public int nextInt() {
+            return getInternalGenerator().nextInt();
+        }
+
+        @Override
+        public long nextLong() {
+            return getInternalGenerator().nextLong();
+        }
+
+        @Override
+        public float nextFloat() {
+            return getInternalGenerator().nextFloat();
+        }
+
+        @Override
+        public double nextDouble() {
+            return getInternalGenerator().nextDouble();
+        }
+
+        @Override
+        public RandomizerType getType() {
+            return RandomizerType.UNIFORM_RANDOMIZER;
+        }
+    }
+
+    private static final class L64X128MixRandom implements RandomGenerator {
+
+        @Override
+        public long nextLong() {
+            return 0L;
+        }
+    }
 }
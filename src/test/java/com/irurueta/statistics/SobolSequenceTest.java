@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SobolSequenceTest {
+
+    private static final int LOG_POINTS = 12;
+
+    private static final int NUM_POINTS = 1 << LOG_POINTS;
+
+    private static final double INTEGRATION_ERROR = 5e-3;
+
+    private static final double ABSOLUTE_ERROR = 0.02;
+
+    @Test
+    void testConstructor() {
+        var sequence = new SobolSequence(3);
+        assertEquals(3, sequence.getDimensions());
+        assertEquals(0L, sequence.getIndex());
+        assertFalse(sequence.isScrambled());
+
+        sequence = new SobolSequence(SobolSequence.MAX_DIMENSIONS,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+        assertEquals(SobolSequence.MAX_DIMENSIONS, sequence.getDimensions());
+        assertTrue(sequence.isScrambled());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new SobolSequence(0));
+        assertThrows(IllegalArgumentException.class, () -> new SobolSequence(SobolSequence.MAX_DIMENSIONS + 1));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new SobolSequence(2, null));
+    }
+
+    @Test
+    void testFirstPoints() {
+        final var sequence = new SobolSequence(3);
+
+        assertArrayEquals(new double[]{0.0, 0.0, 0.0}, sequence.next(), 0.0);
+        assertArrayEquals(new double[]{0.5, 0.5, 0.5}, sequence.next(), 0.0);
+        assertArrayEquals(new double[]{0.75, 0.25, 0.25}, sequence.next(), 0.0);
+        assertArrayEquals(new double[]{0.25, 0.75, 0.75}, sequence.next(), 0.0);
+        assertEquals(4L, sequence.getIndex());
+    }
+
+    @Test
+    void testStratification() {
+        checkStratification(new SobolSequence(SobolSequence.MAX_DIMENSIONS));
+        checkStratification(new SobolSequence(SobolSequence.MAX_DIMENSIONS,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(0L)));
+    }
+
+    @Test
+    void testIntegration() {
+        final var dims = SobolSequence.MAX_DIMENSIONS;
+        assertEquals(1.0, integrate(new SobolSequence(dims)), INTEGRATION_ERROR);
+        assertEquals(1.0, integrate(new SobolSequence(dims,
+                RandomGeneratorFactory.of("L64X128MixRandom").create(1L))), INTEGRATION_ERROR);
+    }
+
+    @Test
+    void testScrambled() {
+        final var sequence1 = new SobolSequence(2, RandomGeneratorFactory.of("L64X128MixRandom").create(2L));
+        final var sequence2 = new SobolSequence(2, RandomGeneratorFactory.of("L64X128MixRandom").create(2L));
+        final var sequence3 = new SobolSequence(2, RandomGeneratorFactory.of("L64X128MixRandom").create(3L));
+
+        final var point1 = sequence1.next();
+        assertArrayEquals(point1, sequence2.next(), 0.0);
+        assertFalse(Arrays.equals(point1, sequence3.next()));
+        for (final var value : point1) {
+            assertTrue(value > 0.0 && value < 1.0);
+        }
+    }
+
+    @Test
+    void testSkipAndReset() {
+        final var sequence = new SobolSequence(5, RandomGeneratorFactory.of("L64X128MixRandom").create(4L));
+
+        final var buffer = new double[100 * 5];
+        sequence.fill(buffer);
+        assertEquals(100L, sequence.getIndex());
+
+        // points obtained directly from their index must match consecutive
+        // ones
+        sequence.reset();
+        sequence.skip(37);
+        assertEquals(37L, sequence.getIndex());
+        final var point = new double[5];
+        for (int n = 37; n < 100; n++) {
+            sequence.next(point);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(buffer[n * 5 + i], point[i], 0.0);
+            }
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> sequence.skip(-1));
+
+        // Force IllegalStateException
+        sequence.reset();
+        sequence.skip(1L << 52);
+        assertThrows(IllegalStateException.class, sequence::next);
+    }
+
+    @Test
+    void testNextDoubleAndFill() {
+        final var dims = 3;
+        final var sequence1 = new SobolSequence(dims);
+        final var sequence2 = new SobolSequence(dims);
+
+        // coordinates are returned consecutively, including partially
+        // consumed points
+        final var values = new double[10 * dims + 2];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sequence1.nextDouble();
+        }
+
+        assertEquals(1.0 / 2.0, values[3], 0.0);
+        final var first = new double[2];
+        sequence2.fill(first);
+        final var rest = sequence2.nextDoubles(values.length - 2);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], i < 2 ? first[i] : rest[i - 2], 0.0);
+        }
+
+        // next discards remaining coordinates of partially consumed point
+        sequence1.next();
+        assertEquals(12L, sequence1.getIndex());
+
+        final var buffer = new double[3 * dims + 1];
+        sequence1.fill(buffer, 1, 3);
+        assertEquals(0.0, buffer[0], 0.0);
+        assertEquals(15L, sequence1.getIndex());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> sequence1.next(new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> sequence1.nextDoubles(0));
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence1.fill(buffer, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence1.fill(buffer, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence1.fill(buffer, 2, 3));
+    }
+
+    @Test
+    void testGaussian() {
+        final var dims = 4;
+        final var sequence = new SobolSequence(dims, RandomGeneratorFactory.of("L64X128MixRandom").create(5L));
+
+        final var buffer = new double[NUM_POINTS * dims];
+        sequence.fillGaussian(buffer);
+
+        for (int i = 0; i < dims; i++) {
+            var mean = 0.0;
+            var sqrSum = 0.0;
+            for (int n = 0; n < NUM_POINTS; n++) {
+                final var value = buffer[n * dims + i];
+                mean += value / NUM_POINTS;
+                sqrSum += value * value / NUM_POINTS;
+            }
+            assertEquals(0.0, mean, ABSOLUTE_ERROR);
+            assertEquals(1.0, Math.sqrt(sqrSum - mean * mean), ABSOLUTE_ERROR);
+        }
+
+        // origin of unscrambled sequence is mapped to finite values
+        final var point = new double[dims];
+        new SobolSequence(dims).nextGaussian(point);
+        for (final var value : point) {
+            assertTrue(Double.isFinite(value));
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> sequence.fillGaussian(new double[dims + 1]));
+        assertThrows(IllegalArgumentException.class, () -> sequence.nextGaussian(new double[dims + 1]));
+    }
+
+    private static void checkStratification(final SobolSequence sequence) {
+        final var dims = sequence.getDimensions();
+        final var buffer = new double[NUM_POINTS * dims];
+        sequence.fill(buffer);
+
+        // each coordinate of first 2^m points falls once in each interval of
+        // length 2^-m
+        for (int i = 0; i < dims; i++) {
+            final var counters = new int[NUM_POINTS];
+            for (int n = 0; n < NUM_POINTS; n++) {
+                final var value = buffer[n * dims + i];
+                assertTrue(value >= 0.0 && value < 1.0);
+                counters[(int) (value * NUM_POINTS)]++;
+            }
+            for (final var counter : counters) {
+                assertEquals(1, counter);
+            }
+        }
+    }
+
+    private static double integrate(final LowDiscrepancySequence sequence) {
+        // Sobol' g-function, whose integral is 1.0
+        final var dims = sequence.getDimensions();
+        final var point = new double[dims];
+        var result = 0.0;
+        for (int n = 0; n < NUM_POINTS; n++) {
+            sequence.next(point);
+            var value = 1.0;
+            for (int i = 0; i < dims; i++) {
+                value *= (Math.abs(4.0 * point[i] - 2.0) + i) / (1.0 + i);
+            }
+            result += value / NUM_POINTS;
+        }
+        return result;
+    }
+}
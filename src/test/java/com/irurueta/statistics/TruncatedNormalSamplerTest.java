@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TruncatedNormalSamplerTest {
+
+    private static final int NUM_SAMPLES = 200000;
+
+    private static final double ABSOLUTE_ERROR = 5e-3;
+
+    // intervals covering all proposals: uniform and normal proposals for
+    // intervals containing the origin, uniform and half-normal proposals close
+    // to the origin, uniform and exponential proposals in tails and their
+    // negative counterparts
+    private static final double[][] INTERVALS = {
+            {-1.0, 1.0},
+            {-3.0, 4.0},
+            {-0.5, Double.POSITIVE_INFINITY},
+            {0.1, 0.5},
+            {0.1, Double.POSITIVE_INFINITY},
+            {2.0, Double.POSITIVE_INFINITY},
+            {2.0, 3.0},
+            {5.0, 5.1},
+            {8.0, Double.POSITIVE_INFINITY},
+            {Double.NEGATIVE_INFINITY, -6.0},
+            {-2.0, -1.9},
+            {-1.0, 0.0}
+    };
+
+    private static final double[] FRACTIONS = {0.05, 0.25, 0.5, 0.75, 0.95};
+
+    @Test
+    void testConstructor() {
+        final var sampler = new TruncatedNormalSampler(-1.0, 2.0);
+
+        assertEquals(-1.0, sampler.getLower(), 0.0);
+        assertEquals(2.0, sampler.getUpper(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new TruncatedNormalSampler(1.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new TruncatedNormalSampler(2.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new TruncatedNormalSampler(Double.NaN, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new TruncatedNormalSampler(1.0, Double.NaN));
+    }
+
+    @Test
+    void testNext() {
+        final var generator = new SplittableRandom(0L);
+
+        for (final var interval : INTERVALS) {
+            final var a = interval[0];
+            final var b = interval[1];
+            final var sampler = new TruncatedNormalSampler(a, b);
+
+            // empirical c.d.f. must match truncated normal c.d.f. at points
+            // evenly distributed within the interval (or within a unit length
+            // when the interval is not bounded)
+            final var start = Double.isInfinite(a) ? b - 1.0 : a;
+            final var length = Double.isInfinite(a) || Double.isInfinite(b) ? 1.0 : b - a;
+            final var thresholds = new double[FRACTIONS.length];
+            for (int j = 0; j < FRACTIONS.length; j++) {
+                thresholds[j] = start + FRACTIONS[j] * length;
+            }
+            final var counters = new int[FRACTIONS.length];
+            for (int i = 0; i < NUM_SAMPLES; i++) {
+                final var value = sampler.next(generator);
+                assertTrue(value >= a && value <= b);
+                for (int j = 0; j < thresholds.length; j++) {
+                    if (value < thresholds[j]) {
+                        counters[j]++;
+                    }
+                }
+            }
+
+            for (int j = 0; j < FRACTIONS.length; j++) {
+                assertEquals(truncatedCdf(thresholds[j], a, b), (double) counters[j] / NUM_SAMPLES,
+                        ABSOLUTE_ERROR);
+            }
+        }
+    }
+
+    @Test
+    void testNextFarTail() {
+        final var generator = new SplittableRandom(0L);
+
+        // naive rejection would never finish for these intervals
+        final var upperTail = new TruncatedNormalSampler(30.0, Double.POSITIVE_INFINITY);
+        final var narrow = new TruncatedNormalSampler(-40.0, -39.999);
+        double mean = 0.0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = upperTail.next(generator);
+            assertTrue(value >= 30.0);
+            mean += value / NUM_SAMPLES;
+
+            final var value2 = narrow.next(generator);
+            assertTrue(value2 >= -40.0 && value2 <= -39.999);
+        }
+
+        // mean of tail is approximately a + 1 / a
+        assertEquals(30.0 + 1.0 / 30.0, mean, 1e-3);
+    }
+
+    @Test
+    void testNextExtremeTail() {
+        final var generator = new SplittableRandom(0L);
+
+        // squares of bounds overflow, but values are still generated
+        for (final var a : new double[]{1e8, 1e17, 1e155, 1e200, Double.MAX_VALUE / 4.0}) {
+            final var upper = new TruncatedNormalSampler(a, 2.0 * a);
+            final var lower = new TruncatedNormalSampler(-2.0 * a, -a);
+            final var unbounded = new TruncatedNormalSampler(a, Double.POSITIVE_INFINITY);
+            for (int i = 0; i < 1000; i++) {
+                final var value = upper.next(generator);
+                assertTrue(value >= a && value <= 2.0 * a);
+                // all mass is concentrated at the bound closest to the origin
+                assertEquals(a, value, 20.0 / a + Math.ulp(a));
+
+                assertEquals(-a, lower.next(generator), 20.0 / a + Math.ulp(a));
+                assertTrue(unbounded.next(generator) >= a);
+            }
+        }
+    }
+
+    private static double truncatedCdf(final double x, final double a, final double b) {
+        if (a >= 0.0) {
+            // use upper tail to preserve accuracy
+            final var tailA = NormalDist.cdf(-a, 0.0, 1.0);
+            return (tailA - NormalDist.cdf(-x, 0.0, 1.0)) / (tailA - NormalDist.cdf(-b, 0.0, 1.0));
+        } else {
+            final var cdfA = NormalDist.cdf(a, 0.0, 1.0);
+            return (NormalDist.cdf(x, 0.0, 1.0) - cdfA) / (NormalDist.cdf(b, 0.0, 1.0) - cdfA);
+        }
+    }
+}
@@ -19,6 +19,9 @@ import org.junit.jupiter.api.Test;
 
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,6 +54,15 @@ class UniformRandomizerTest {
 
         //Force NullPointerException
         assertThrows(NullPointerException.class, () -> new UniformRandomizer(null));
+
+        // test 3rd constructor
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create();
+        randomizer = new UniformRandomizer(generator);
+        assertSame(generator, randomizer.getInternalGenerator());
+        assertNull(randomizer.getInternalRandom());
+
+        //Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new UniformRandomizer((RandomGenerator) null));
     }
 
     @Test
@@ -1257,6 +1269,236 @@ class UniformRandomizerTest {
         assertThrows(NullPointerException.class, () -> randomizer.setInternalRandom(null));
     }
 
+    @Test
+    void testNextValuesWithGenerator() {
+        final var randomizer = new UniformRandomizer(RandomGeneratorFactory.of("Xoshiro256PlusPlus").create());
+
+        for (int i = 0; i < LENGTH; i++) {
+            final var intValue = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            assertTrue(intValue >= MIN_VALUE && intValue < MAX_VALUE);
+
+            final var longValue = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            assertTrue(longValue >= MIN_VALUE && longValue < MAX_VALUE);
+
+            final var doubleValue = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            assertTrue(doubleValue >= MIN_VALUE && doubleValue < MAX_VALUE);
+
+            final var floatValue = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
+            assertTrue(floatValue >= MIN_VALUE && floatValue < MAX_VALUE);
+        }
+    }
+
+    @Test
+    void testParallelFillWithDoublesAndRange() {
+        final var randomizer = new UniformRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+        final var array = new double[NUM_SAMPLES];
+        randomizer.parallelFill(array, MIN_VALUE, MAX_VALUE);
+
+        final var meanValue = 0.5 * (MIN_VALUE + MAX_VALUE);
+        double sum = 0.0;
+        for (final var value : array) {
+            assertTrue(value >= MIN_VALUE);
+            assertTrue(value < MAX_VALUE);
+            sum += value;
+        }
+        assertEquals(meanValue, sum / NUM_SAMPLES, meanValue * RELATIVE_ERROR);
+
+        // same seed generates same values with a different pool
+        final var randomizer2 = new UniformRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+        final var array2 = new double[NUM_SAMPLES];
+        final var pool = new ForkJoinPool(3);
+        try {
+            randomizer2.parallelFill(array2, MIN_VALUE, MAX_VALUE, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(array, array2, 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.parallelFill(array, MAX_VALUE, MIN_VALUE));
+    }
+
+    @Test
+    void testNextIntAndLongWithFullRange() {
+        final var randomizer = new UniformRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+        var negativeInts = 0;
+        var negativeLongs = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            final var intValue = randomizer.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            assertTrue(intValue < Integer.MAX_VALUE);
+            if (intValue < 0) {
+                negativeInts++;
+            }
+
+            final var longValue = randomizer.nextLong(Long.MIN_VALUE, Long.MAX_VALUE);
+            assertTrue(longValue < Long.MAX_VALUE);
+            if (longValue < 0) {
+                negativeLongs++;
+            }
+
+            // ranges wider than the positive values of the type
+            final var bigIntValue = randomizer.nextInt(-10, Integer.MAX_VALUE);
+            assertTrue(bigIntValue >= -10);
+            final var bigLongValue = randomizer.nextLong(-10, Long.MAX_VALUE);
+            assertTrue(bigLongValue >= -10);
+        }
+
+        // both signs must be generated
+        assertTrue(negativeInts > 0 && negativeInts < LENGTH);
+        assertTrue(negativeLongs > 0 && negativeLongs < LENGTH);
+
+        final var ints = new int[LENGTH];
+        randomizer.fill(ints, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        final var longs = new long[LENGTH];
+        randomizer.fill(longs, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.fill(longs, MAX_VALUE, MIN_VALUE));
+    }
+
+    @Test
+    void testBoundedThresholds() {
+        assertEquals(0L, UniformRandomizer.boundedIntThreshold(1L));
+        assertEquals(1L, UniformRandomizer.boundedIntThreshold(3L));
+        assertEquals(0L, UniformRandomizer.boundedIntThreshold(1L << 32));
+        assertEquals((1L << 32) % 100, UniformRandomizer.boundedIntThreshold(100L));
+
+        assertEquals(0L, UniformRandomizer.boundedLongThreshold(1L));
+        assertEquals(1L, UniformRandomizer.boundedLongThreshold(3L));
+        assertEquals(Long.remainderUnsigned(-100L, 100L), UniformRandomizer.boundedLongThreshold(100L));
+        assertEquals(1L, UniformRandomizer.boundedLongThreshold(-1L));
+    }
+
+    @Test
+    void testNextBoundedRejectsBiasedValues() {
+        // for a range of 3, products whose low part is below 1 are rejected
+        final var ints = new int[]{0, -1};
+        final var intGenerator = new RandomGenerator() {
+            private int position;
+
+            @Override
+            public long nextLong() {
+                return 0L;
+            }
+
+            @Override
+            public int nextInt() {
+                return ints[position++];
+            }
+        };
+        assertEquals(2, UniformRandomizer.nextBoundedInt(intGenerator, 3L,
+                UniformRandomizer.boundedIntThreshold(3L)));
+        assertEquals(2, intGenerator.position);
+
+        final var longs = new long[]{0L, -1L};
+        final var longGenerator = new RandomGenerator() {
+            private int position;
+
+            @Override
+            public long nextLong() {
+                return longs[position++];
+            }
+        };
+        assertEquals(2L, UniformRandomizer.nextBoundedLong(longGenerator, 3L,
+                UniformRandomizer.boundedLongThreshold(3L)));
+        assertEquals(2, longGenerator.position);
+
+        // lazy threshold also rejects biased products
+        intGenerator.position = 0;
+        assertEquals(2, UniformRandomizer.nextBoundedInt(intGenerator, 3L));
+        assertEquals(2, intGenerator.position);
+        longGenerator.position = 0;
+        assertEquals(2L, UniformRandomizer.nextBoundedLong(longGenerator, 3L));
+        assertEquals(2, longGenerator.position);
+    }
+
+    @Test
+    void testNextBoundedIsUniform() {
+        final var generator = RandomGeneratorFactory.of("L64X128MixRandom").create(0L);
+        final var range = 7;
+        final var intCounts = new int[range];
+        final var longCounts = new int[range];
+        final var lazyIntCounts = new int[range];
+        final var lazyLongCounts = new int[range];
+        final var intThreshold = UniformRandomizer.boundedIntThreshold(range);
+        final var longThreshold = UniformRandomizer.boundedLongThreshold(range);
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            intCounts[UniformRandomizer.nextBoundedInt(generator, range, intThreshold)]++;
+            longCounts[(int) UniformRandomizer.nextBoundedLong(generator, range, longThreshold)]++;
+            lazyIntCounts[UniformRandomizer.nextBoundedInt(generator, range)]++;
+            lazyLongCounts[(int) UniformRandomizer.nextBoundedLong(generator, range)]++;
+        }
+
+        final var expected = (double) NUM_SAMPLES / range;
+        for (int i = 0; i < range; i++) {
+            assertEquals(expected, intCounts[i], expected * ABSOLUTE_ERROR);
+            assertEquals(expected, longCounts[i], expected * ABSOLUTE_ERROR);
+            assertEquals(expected, lazyIntCounts[i], expected * ABSOLUTE_ERROR);
+            assertEquals(expected, lazyLongCounts[i], expected * ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testFillWithBulkGenerator() {
+        final var randomizer = new UniformRandomizer(new BulkRandomGenerator(0L));
+        final var reference = new UniformRandomizer(new BulkRandomGenerator(0L));
+
+        final var doubles = new double[NUM_SAMPLES];
+        randomizer.fill(doubles, MIN_VALUE, MAX_VALUE);
+        final var floats = new float[NUM_SAMPLES];
+        randomizer.fill(floats, MIN_VALUE, MAX_VALUE);
+
+        final var meanValue = 0.5 * (MIN_VALUE + MAX_VALUE);
+        double doubleSum = 0.0;
+        double floatSum = 0.0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            assertTrue(doubles[i] >= MIN_VALUE && doubles[i] < MAX_VALUE);
+            assertTrue(floats[i] >= MIN_VALUE && floats[i] < MAX_VALUE);
+            doubleSum += doubles[i];
+            floatSum += floats[i];
+        }
+        assertEquals(meanValue, doubleSum / NUM_SAMPLES, meanValue * ABSOLUTE_ERROR);
+        assertEquals(meanValue, floatSum / NUM_SAMPLES, meanValue * ABSOLUTE_ERROR);
+
+        // bulk values match values generated one at a time
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(reference.nextDouble(MIN_VALUE, MAX_VALUE), doubles[i], 1e-12);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.fill(doubles, MAX_VALUE, MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.fill(floats, MAX_VALUE, MIN_VALUE));
+    }
+
+    @Test
+    void testStreamsWithRange() {
+        final var randomizer = new UniformRandomizer(RandomGeneratorFactory.of("L64X128MixRandom").create(0L));
+
+        final var ints = randomizer.ints(NUM_SAMPLES, MIN_VALUE, MAX_VALUE).parallel().toArray();
+        final var doubles = randomizer.doubles(NUM_SAMPLES, MIN_VALUE, MAX_VALUE).parallel().toArray();
+        assertEquals(NUM_SAMPLES, ints.length);
+        assertEquals(NUM_SAMPLES, doubles.length);
+
+        final var meanValue = 0.5 * (MIN_VALUE + MAX_VALUE);
+        double intSum = 0.0;
+        double doubleSum = 0.0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            assertTrue(ints[i] >= MIN_VALUE && ints[i] < MAX_VALUE);
+            assertTrue(doubles[i] >= MIN_VALUE && doubles[i] < MAX_VALUE);
+            intSum += ints[i];
+            doubleSum += doubles[i];
+        }
+        assertEquals(meanValue - 0.5, intSum / NUM_SAMPLES, meanValue * ABSOLUTE_ERROR);
+        assertEquals(meanValue, doubleSum / NUM_SAMPLES, meanValue * ABSOLUTE_ERROR);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> randomizer.ints(1L, MAX_VALUE, MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.doubles(1L, MAX_VALUE, MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> randomizer.ints(-1L, MIN_VALUE, MAX_VALUE));
+    }
+
     @Test
     void testSetSeed() {
         final var randomizer = new UniformRandomizer(new Random());
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZigguratNormalSamplerTest {
+
+    private static final int NUM_SAMPLES = 2000000;
+
+    private static final double ABSOLUTE_ERROR = 2e-3;
+
+    private static final double[] THRESHOLDS = {-3.5, -2.0, -1.0, -0.5, 0.0, 0.5, 1.0, 2.0, 3.5};
+
+    @Test
+    void testNextGaussian() {
+        final var generator = new SplittableRandom(0L);
+
+        final var counters = new int[THRESHOLDS.length];
+        double mean = 0.0;
+        double sqrSum = 0.0;
+        int tailCounter = 0;
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            final var value = ZigguratNormalSampler.nextGaussian(generator);
+            assertTrue(Double.isFinite(value));
+
+            mean += value / NUM_SAMPLES;
+            sqrSum += value * value / NUM_SAMPLES;
+            if (Math.abs(value) > 3.442619855899) {
+                tailCounter++;
+            }
+            for (int j = 0; j < THRESHOLDS.length; j++) {
+                if (value < THRESHOLDS[j]) {
+                    counters[j]++;
+                }
+            }
+        }
+
+        assertEquals(0.0, mean, ABSOLUTE_ERROR);
+        assertEquals(1.0, Math.sqrt(sqrSum - mean * mean), ABSOLUTE_ERROR);
+
+        // empirical c.d.f. matches normal c.d.f.
+        for (int j = 0; j < THRESHOLDS.length; j++) {
+            assertEquals(NormalDist.cdf(THRESHOLDS[j], 0.0, 1.0), (double) counters[j] / NUM_SAMPLES,
+                    ABSOLUTE_ERROR);
+        }
+
+        // tails are also sampled with the right probability
+        final var expectedTail = 2.0 * NormalDist.cdf(-3.442619855899, 0.0, 1.0);
+        assertEquals(expectedTail, (double) tailCounter / NUM_SAMPLES, 0.2 * expectedTail);
+    }
+}